@@ -50,4 +50,13 @@ public final class BindingAnnotations {
   @Target({FIELD, PARAMETER, METHOD})
   @Retention(RUNTIME)
   public @interface StartupJobsProviderName {}
+
+  /**
+   * Holds the {@link services.email.EmailSendClient} that sends emails through the configured email
+   * provider, rather than queueing them in the outbox.
+   */
+  @Qualifier
+  @Target({FIELD, PARAMETER, METHOD})
+  @Retention(RUNTIME)
+  public @interface EmailProviderClient {}
 }
@@ -38,6 +38,7 @@ import {
   DEFAULT_MAP_MARKER_TYPE,
   DEFAULT_MAP_STYLE,
   DEFAULT_MAP_ZOOM,
+  getFeaturesRequestUrl,
   getMessages,
   localizeString,
   LOCATIONS_LAYER,
@@ -51,7 +52,7 @@ import {
   CF_SWITCH_TO_MAP_VIEW_BUTTON,
   CF_LOCATION_CHECKBOX,
   hasReachedMaxSelections,
-  calculateMapCenter,
+  isLocationChecked,
   POPUP_LAYER,
   CF_LOCATION_CHECKBOX_INPUT,
 } from '@/mapquestion/map_util'
@@ -63,7 +64,7 @@ export const init = (): void => {
     try {
       const mapElement = renderMap(mapId, mapData as MapData)
       initLocationSelection(mapId)
-      initFilters(mapId, mapElement, mapData as MapData)
+      initFilters(mapId, mapElement)
       initPagination(mapId)
       setupEventListenersForMap(mapId, mapElement)
     } catch (error) {
@@ -84,14 +85,11 @@ export const init = (): void => {
   }
 }
 
-const createMap = (mapId: string, geoJson: FeatureCollection) => {
-  const calculatedCenter = calculateMapCenter(geoJson)
-  const center = calculatedCenter || DEFAULT_MAP_CENTER_POINT
-
+const createMap = (mapId: string, center: LngLatLike | null) => {
   return new MapLibreMap({
     container: mapId,
     style: DEFAULT_MAP_STYLE,
-    center: center,
+    center: center || DEFAULT_MAP_CENTER_POINT,
     zoom: DEFAULT_MAP_ZOOM,
   })
 }
@@ -99,20 +97,8 @@ const createMap = (mapId: string, geoJson: FeatureCollection) => {
 const addLocationsToMap = (
   mapId: string,
   map: MapLibreMap,
-  geoJson: FeatureCollection,
+  featuresUrl: string,
 ): void => {
-  // Convert 'selected' property from string 'true'/'false' to boolean
-  const geoJsonWithSelectedBooleans = {
-    ...geoJson,
-    features: geoJson.features.map((feature) => ({
-      ...feature,
-      properties: {
-        ...feature.properties,
-        selected: feature.properties?.selected === 'true',
-      },
-    })),
-  }
-
   Promise.all([
     map.loadImage(window.app?.data?.iconUrls?.locationIcon),
     map.loadImage(window.app?.data?.iconUrls?.selectedLocationIcon),
@@ -123,7 +109,7 @@ const addLocationsToMap = (
 
       map.addSource(LOCATIONS_SOURCE, {
         type: 'geojson',
-        data: geoJsonWithSelectedBooleans,
+        data: {type: 'FeatureCollection', features: []},
       })
 
       map.addLayer({
@@ -141,12 +127,63 @@ const addLocationsToMap = (
           'icon-allow-overlap': true,
         },
       })
+
+      // Only the locations in view are loaded, so load them again whenever the
+      // map is panned or zoomed.
+      let pendingRequest: AbortController | null = null
+      const loadLocationsInView = () => {
+        pendingRequest?.abort()
+        pendingRequest = new AbortController()
+        void loadLocations(mapId, map, featuresUrl, pendingRequest.signal)
+      }
+      map.on('moveend', loadLocationsInView)
+      loadLocationsInView()
     })
     .catch((error) => {
       console.error(`Error loading marker icons for map ${mapId}:`, error)
     })
 }
 
+const loadLocations = async (
+  mapId: string,
+  map: MapLibreMap,
+  featuresUrl: string,
+  signal: AbortSignal,
+): Promise<void> => {
+  const url = getFeaturesRequestUrl(featuresUrl, map.getBounds())
+
+  let geoJson: FeatureCollection
+  try {
+    const response = await fetch(url, {signal})
+    if (!response.ok) {
+      throw new Error(`Unexpected status ${response.status}`)
+    }
+    geoJson = (await response.json()) as FeatureCollection
+  } catch (error) {
+    if (!signal.aborted) {
+      console.error(`Error loading locations for map ${mapId}:`, error)
+    }
+    return
+  }
+
+  // The checkboxes in the location list hold the selected state, which may
+  // have changed since the page was loaded.
+  const source = map.getSource(LOCATIONS_SOURCE) as GeoJSONSource
+  source.setData({
+    ...geoJson,
+    features: geoJson.features.map((feature) => ({
+      ...feature,
+      properties: {
+        ...feature.properties,
+        selected: isLocationChecked(
+          mapId,
+          feature.properties?.originalId as string,
+        ),
+      },
+    })),
+  })
+}
+
 const createPopupContent = (
   mapId: string,
   templateContent: HTMLCollection,
@@ -290,7 +327,7 @@ const addPopupsToMap = (
     for (let i = 1; i < features.length; i++) {
       const featureCoords = (features[i].geometry as Point).coordinates
       if (
-        !featureMatchesFilters(features[i], getFilters(mapId)) ||
+        !featureMatchesFilters(features[i].properties, getFilters(mapId)) ||
         Math.trunc(featureCoords[0] * 10000) !==
           Math.trunc(clickedCoordinates[0] * 10000) ||
         Math.trunc(featureCoords[1] * 10000) !==
@@ -324,15 +361,14 @@ const addPopupsToMap = (
 }
 
 const renderMap = (mapId: string, mapData: MapData): MapLibreMap => {
-  if (!mapData.settings || !mapData.geoJson) {
+  if (!mapData.settings || !mapData.featuresUrl) {
     throw new Error(
-      `Invalid map data for ${mapId}: missing settings or geoJson`,
+      `Invalid map data for ${mapId}: missing settings or featuresUrl`,
     )
   }
 
   const settings: MapSettings = mapData.settings
-  const geoJson: FeatureCollection = mapData.geoJson
-  const map = createMap(mapId, geoJson)
+  const map = createMap(mapId, mapData.center)
 
   const canvas: HTMLCanvasElement = map.getCanvas()
   canvas.setAttribute('aria-label', getMessages().mapRegionAltText)
@@ -350,7 +386,7 @@ const renderMap = (mapId: string, mapData: MapData): MapLibreMap => {
   }
 
   map.on('load', () => {
-    addLocationsToMap(mapId, map, geoJson)
+    addLocationsToMap(mapId, map, mapData.featuresUrl)
     addPopupsToMap(mapId, map, settings)
 
     map.on('mouseenter', LOCATIONS_LAYER, (): void => {
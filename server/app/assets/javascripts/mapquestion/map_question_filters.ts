@@ -3,40 +3,29 @@ import {
   FilterSpecification,
   Map as MapLibreMap,
 } from 'maplibre-gl'
-import {Feature, Geometry, GeoJsonProperties} from 'geojson'
+import {GeoJsonProperties} from 'geojson'
 import {
   CF_APPLY_FILTERS_BUTTON,
   CF_RESET_FILTERS_BUTTON,
   CF_LOCATION_COUNT,
   LOCATIONS_LAYER,
   MAP_LIBRE_POPUP_CLASS,
-  MapData,
   mapQuerySelector,
   CF_FILTER_HIDDEN,
   DATA_FEATURE_ID,
   DATA_FILTER_KEY,
   DATA_MAP_ID,
+  getListedFeatureProperties,
   queryLocationCheckboxes,
   updateLocationCountForMap,
 } from '@/mapquestion/map_util'
 import {resetPagination} from '@/mapquestion/map_question_pagination'
 
-export const initFilters = (
-  mapId: string,
-  mapElement: MapLibreMap,
-  mapData: MapData,
-): void => {
-  const featureMap = new Map<string, Feature>()
-  mapData.geoJson.features.forEach((feature) => {
-    if (feature.id) {
-      featureMap.set(feature.id.toString(), feature)
-    }
-  })
-
+export const initFilters = (mapId: string, mapElement: MapLibreMap): void => {
   mapQuerySelector(mapId, CF_APPLY_FILTERS_BUTTON)?.addEventListener(
     'click',
     () => {
-      applyLocationFilters(mapId, mapElement, featureMap)
+      applyLocationFilters(mapId, mapElement)
       locationFocus(mapId)
     },
   )
@@ -49,7 +38,7 @@ export const initFilters = (
         if (!selectOptionElement) return
         selectOptionElement.value = ''
       })
-      applyLocationFilters(mapId, mapElement, featureMap, true)
+      applyLocationFilters(mapId, mapElement, true)
       locationFocus(mapId)
     },
   )
@@ -66,7 +55,6 @@ const locationFocus = (mapId: string): void => {
 const applyLocationFilters = (
   mapId: string,
   map: MapLibreMap,
-  featureMap: Map<string, Feature>,
   reset?: boolean,
 ): void => {
   const filters = reset ? {} : getFilters(mapId)
@@ -88,8 +76,10 @@ const applyLocationFilters = (
     const featureId = containerElement.getAttribute(DATA_FEATURE_ID)
     if (!featureId) return
 
-    const matchingFeature = featureMap.get(featureId)
-    const matchesFilter = featureMatchesFilters(matchingFeature, filters)
+    const matchesFilter = featureMatchesFilters(
+      getListedFeatureProperties(containerElement),
+      filters,
+    )
 
     if (matchesFilter) {
       containerElement.classList.remove(CF_FILTER_HIDDEN)
@@ -104,13 +94,13 @@ const applyLocationFilters = (
 }
 
 export const featureMatchesFilters = (
-  feature: Feature<Geometry, GeoJsonProperties> | undefined,
+  properties: GeoJsonProperties | undefined,
   filters: {[key: string]: string},
 ): boolean => {
   // if no properties or no filters, consider it a match
-  if (!feature?.properties || Object.keys(filters).length === 0) return true
+  if (!properties || Object.keys(filters).length === 0) return true
   return Object.entries(filters).every(
-    ([key, value]) => feature.properties && feature.properties[key] === value,
+    ([key, value]) => properties[key] === value,
   )
 }
 
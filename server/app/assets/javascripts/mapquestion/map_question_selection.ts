@@ -11,6 +11,7 @@ import {
   CF_SELECTED_LOCATIONS_CONTAINER,
   DATA_FEATURE_ID,
   DATA_MAP_ID,
+  getListedFeatureProperties,
   getMessages,
   hasReachedMaxSelections,
   localizeString,
@@ -252,17 +253,12 @@ const updateAlertVisibility = (mapId: string): void => {
     ) as HTMLInputElement
 
     if (input && input.checked) {
-      const featureId = checkbox.getAttribute(DATA_FEATURE_ID)
-      if (featureId) {
-        const feature = mapData.geoJson.features.find(
-          (feature) => String(feature.id) === featureId,
-        )
-        if (feature && feature.properties) {
-          const propertyValue = feature.properties[tagGeoJsonKey] as string
-          if (propertyValue === tagGeoJsonValue) {
-            hasTaggedLocation = true
-            break
-          }
+      const properties = getListedFeatureProperties(checkbox)
+      if (properties) {
+        const propertyValue = properties[tagGeoJsonKey] as string
+        if (propertyValue === tagGeoJsonValue) {
+          hasTaggedLocation = true
+          break
         }
       }
     }
@@ -1,5 +1,5 @@
-import {FeatureCollection} from 'geojson'
-import {LngLatLike, StyleSpecification} from 'maplibre-gl'
+import {GeoJsonProperties} from 'geojson'
+import {LngLatBounds, LngLatLike, StyleSpecification} from 'maplibre-gl'
 
 export interface MapSettings {
   readonly nameGeoJsonKey: string
@@ -25,12 +25,17 @@ export interface MapMessages {
 }
 
 export interface MapData {
-  geoJson: FeatureCollection
+  // Returns the features within the bbox query parameter, so that only the
+  // locations in view are loaded.
+  featuresUrl: string
+  // The centroid of all locations as [longitude, latitude].
+  center: LngLatLike | null
   settings: MapSettings
 }
 
 // DATA ATTRIBUTES
 export const DATA_FEATURE_ID = 'data-feature-id'
+export const DATA_FEATURE_PROPERTIES = 'data-feature-properties'
 export const DATA_FILTER_KEY = 'data-filter-key'
 export const DATA_MAP_ID = 'data-map-id'
 
@@ -118,55 +123,6 @@ export const localizeString = (message: string, params: string[] = []) => {
   return message
 }
 
-/**
- * Calculates the center point of a GeoJSON FeatureCollection by finding
- * the geographic centroid (average position) of all Point features.
- *
- * Uses centroid calculation instead of bounding box to provide better
- * resistance to outlier data points. A single erroneous location will
- * have less impact on the center than with min/max bounding box approach.
- *
- * @param geoJson - The FeatureCollection containing Point features
- * @returns The center point as [longitude, latitude], or null if no valid points exist
- */
-export const calculateMapCenter = (
-  geoJson: FeatureCollection,
-): LngLatLike | null => {
-  if (!geoJson.features || geoJson.features.length === 0) {
-    return null
-  }
-
-  const coordinates: number[][] = []
-
-  // Extract coordinates from all Point features
-  geoJson.features.forEach((feature) => {
-    if (feature.geometry?.type === 'Point') {
-      const coords = feature.geometry.coordinates
-      if (
-        Array.isArray(coords) &&
-        coords.length >= 2 &&
-        typeof coords[0] === 'number' &&
-        typeof coords[1] === 'number'
-      ) {
-        coordinates.push(coords)
-      }
-    }
-  })
-
-  if (coordinates.length === 0) {
-    return null
-  }
-
-  // Calculate centroid (average of all coordinates)
-  const sumLng = coordinates.reduce((sum, [lng]) => sum + lng, 0)
-  // eslint-disable-next-line @typescript-eslint/no-unused-vars
-  const sumLat = coordinates.reduce((sum, [_lang, lat]) => sum + lat, 0)
-  const centerLng = sumLng / coordinates.length
-  const centerLat = sumLat / coordinates.length
-
-  return [centerLng, centerLat]
-}
-
 export const queryLocationCheckboxes = (
   mapId: string,
 ): NodeListOf<HTMLElement> => {
@@ -188,6 +144,49 @@ export const getVisibleCheckboxes = (mapId: string) => {
   })
 }
 
+// Get the properties of a listed location that filters and tags apply to
+export const getListedFeatureProperties = (
+  locationCheckbox: Element,
+): GeoJsonProperties => {
+  const properties = locationCheckbox.getAttribute(DATA_FEATURE_PROPERTIES)
+  return properties ? (JSON.parse(properties) as GeoJsonProperties) : null
+}
+
+export const isLocationChecked = (
+  mapId: string,
+  featureId: string,
+): boolean => {
+  const checkbox = mapQuerySelector(
+    mapId,
+    CF_LOCATIONS_LIST_CONTAINER,
+  )?.querySelector(
+    `[${DATA_FEATURE_ID}="${featureId}"] .${CF_LOCATION_CHECKBOX_INPUT}`,
+  ) as HTMLInputElement | null
+  return checkbox?.checked ?? false
+}
+
+// Returns the URL that loads the features within bounds, the visible area of
+// the map. The bbox parameter is minLng,minLat,maxLng,maxLat and is left out
+// if the whole world is in view.
+export const getFeaturesRequestUrl = (
+  featuresUrl: string,
+  bounds: LngLatBounds,
+): URL => {
+  const url = new URL(featuresUrl, window.location.origin)
+  if (bounds.getEast() - bounds.getWest() >= 360) {
+    return url
+  }
+  // Longitudes are wrapped into [-180, 180]. A box crossing the antimeridian
+  // then has a minimum longitude greater than its maximum.
+  const west = bounds.getSouthWest().wrap()
+  const east = bounds.getNorthEast().wrap()
+  url.searchParams.set(
+    'bbox',
+    [west.lng, west.lat, east.lng, east.lat].join(','),
+  )
+  return url
+}
+
 export const getMessages = (): MapMessages => {
   return window.app?.data?.messages as MapMessages
 }
@@ -13,7 +13,6 @@ import models.TrustedIntermediaryGroupModel;
 import play.libs.concurrent.ClassLoaderExecutionContext;
 import repository.AccountRepository;
 import repository.DatabaseExecutionContext;
-import repository.ProgramRepository;
 import repository.VersionRepository;
 import services.RandomStringUtils;
 import services.apikey.ApiKeyService;
@@ -31,7 +30,6 @@ public final class ProfileFactory {
   private final Clock clock;
   private final ClassLoaderExecutionContext classLoaderExecutionContext;
   private final Provider<VersionRepository> versionRepositoryProvider;
-  private final Provider<ProgramRepository> programRepositoryProvider;
   private final Provider<ApiKeyService> apiKeyService;
   private final Provider<AccountRepository> accountRepositoryProvider;
   private final SettingsManifest settingsManifest;
@@ -42,7 +40,6 @@ public final class ProfileFactory {
       Clock clock,
       ClassLoaderExecutionContext classLoaderExecutionContext,
       Provider<VersionRepository> versionRepositoryProvider,
-      Provider<ProgramRepository> programRepositoryProvider,
       Provider<ApiKeyService> apiKeyService,
       Provider<AccountRepository> accountRepositoryProvider,
       SettingsManifest settingsManifest) {
@@ -50,7 +47,6 @@ public final class ProfileFactory {
     this.clock = Preconditions.checkNotNull(clock);
     this.classLoaderExecutionContext = Preconditions.checkNotNull(classLoaderExecutionContext);
     this.versionRepositoryProvider = Preconditions.checkNotNull(versionRepositoryProvider);
-    this.programRepositoryProvider = Preconditions.checkNotNull(programRepositoryProvider);
     this.apiKeyService = Preconditions.checkNotNull(apiKeyService);
     this.accountRepositoryProvider = Preconditions.checkNotNull(accountRepositoryProvider);
     this.settingsManifest = Preconditions.checkNotNull(settingsManifest);
@@ -176,13 +172,9 @@ public final class ProfileFactory {
             account -> {
               versionRepositoryProvider
                   .get()
-                  .getProgramsForVersion(versionRepositoryProvider.get().getActiveVersion())
-                  .forEach(
-                      program ->
-                          account.addAdministeredProgram(
-                              programRepositoryProvider
-                                  .get()
-                                  .getShallowProgramDefinition(program)));
+                  .getProgramDefinitionsForVersion(
+                      versionRepositoryProvider.get().getActiveVersion())
+                  .forEach(account::addAdministeredProgram);
               account.setEmailAddress(String.format("fake-local-admin-%d@example.com", account.id));
               account.setAuthorityId(generateFakeAdminAuthorityId());
               account.addActiveSession(p.getSessionId(), clock);
@@ -206,13 +198,9 @@ public final class ProfileFactory {
               account.setAuthorityId(generateFakeAdminAuthorityId());
               versionRepositoryProvider
                   .get()
-                  .getProgramsForVersion(versionRepositoryProvider.get().getActiveVersion())
-                  .forEach(
-                      program ->
-                          account.addAdministeredProgram(
-                              programRepositoryProvider
-                                  .get()
-                                  .getShallowProgramDefinition(program)));
+                  .getProgramDefinitionsForVersion(
+                      versionRepositoryProvider.get().getActiveVersion())
+                  .forEach(account::addAdministeredProgram);
               account.setEmailAddress(String.format("fake-local-admin-%d@example.com", account.id));
               account.addActiveSession(p.getSessionId(), clock);
               account.save();
@@ -17,6 +17,7 @@ import play.mvc.Controller;
 import play.mvc.Http;
 import play.mvc.Result;
 import repository.AccountRepository;
+import services.session.SessionValidityCache;
 import services.settings.SettingsManifest;
 
 /**
@@ -31,18 +32,21 @@ public class LogoutAllSessionsController extends Controller {
   private final AccountRepository accountRepository;
   private final ClientIpResolver clientIpResolver;
   private final SettingsManifest settingsManifest;
+  private final SessionValidityCache sessionValidityCache;
 
   @Inject
   public LogoutAllSessionsController(
       ProfileUtils profileUtils,
       AccountRepository accountRepository,
       SettingsManifest settingsManifest,
-      ClientIpResolver clientIpResolver) {
+      ClientIpResolver clientIpResolver,
+      SessionValidityCache sessionValidityCache) {
 
     this.profileUtils = checkNotNull(profileUtils);
     this.accountRepository = checkNotNull(accountRepository);
     this.settingsManifest = checkNotNull(settingsManifest);
     this.clientIpResolver = checkNotNull(clientIpResolver);
+    this.sessionValidityCache = checkNotNull(sessionValidityCache);
   }
 
   public CompletionStage<Result> index(Http.Request request) {
@@ -57,6 +61,7 @@ public class LogoutAllSessionsController extends Controller {
                   logger.debug("Found account for back channel logout: {}", account.id);
                   account.clearActiveSessions();
                   account.save();
+                  sessionValidityCache.invalidateAccount(account.id);
                 })
             .exceptionally(
                 e -> {
@@ -93,6 +98,7 @@ public class LogoutAllSessionsController extends Controller {
         logger.debug("Found account for back channel logout: {}", account.id);
         account.clearActiveSessions();
         account.save();
+        sessionValidityCache.invalidateAccount(account.id);
       } else {
         logger.warn("No account found for back channel logout with authority ID");
       }
@@ -23,7 +23,9 @@ import java.time.format.DateTimeParseException;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import models.ApplicationModel;
 import models.LifecycleStage;
@@ -32,6 +34,7 @@ import play.data.Form;
 import play.data.FormFactory;
 import play.i18n.Messages;
 import play.i18n.MessagesApi;
+import play.libs.concurrent.ClassLoaderExecutionContext;
 import play.mvc.Http;
 import play.mvc.Result;
 import repository.SubmittedApplicationFilter;
@@ -51,9 +54,9 @@ import services.applications.StatusEmailNotFoundException;
 import services.export.CsvExporterService;
 import services.export.JsonExporterService;
 import services.export.PdfExporter;
+import services.export.PdfZipExporterService;
 import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
-import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
@@ -80,12 +83,14 @@ public final class AdminApplicationController extends CiviFormController {
   private final CsvExporterService exporterService;
   private final FormFactory formFactory;
   private final JsonExporterService jsonExporterService;
+  private final PdfZipExporterService pdfZipExporterService;
   private final Provider<LocalDateTime> nowProvider;
   private final MessagesApi messagesApi;
   private final DateConverter dateConverter;
   private final StatusService statusService;
   private final ProgramApplicationTableView tableView;
   private final SettingsManifest settingsManifest;
+  private final ClassLoaderExecutionContext classLoaderExecutionContext;
 
   public enum RelativeTimeOfDay {
     UNKNOWN,
@@ -103,6 +108,7 @@ public final class AdminApplicationController extends CiviFormController {
       FormFactory formFactory,
       JsonExporterService jsonExporterService,
       PdfExporterService pdfExporterService,
+      PdfZipExporterService pdfZipExporterService,
       ProgramApplicationView applicationView,
       ProgramAdminApplicationService programAdminApplicationService,
       ProfileUtils profileUtils,
@@ -112,7 +118,8 @@ public final class AdminApplicationController extends CiviFormController {
       VersionRepository versionRepository,
       StatusService statusService,
       ProgramApplicationTableView tableView,
-      SettingsManifest settingsManifest) {
+      SettingsManifest settingsManifest,
+      ClassLoaderExecutionContext classLoaderExecutionContext) {
     super(profileUtils, versionRepository);
     this.programService = checkNotNull(programService);
     this.applicantService = checkNotNull(applicantService);
@@ -123,11 +130,13 @@ public final class AdminApplicationController extends CiviFormController {
     this.formFactory = checkNotNull(formFactory);
     this.jsonExporterService = checkNotNull(jsonExporterService);
     this.pdfExporterService = checkNotNull(pdfExporterService);
+    this.pdfZipExporterService = checkNotNull(pdfZipExporterService);
     this.messagesApi = checkNotNull(messagesApi);
     this.dateConverter = checkNotNull(dateConverter);
     this.statusService = checkNotNull(statusService);
     this.tableView = checkNotNull(tableView);
     this.settingsManifest = checkNotNull(settingsManifest);
+    this.classLoaderExecutionContext = checkNotNull(classLoaderExecutionContext);
   }
 
   /** Download a JSON file containing all applications to all versions of the specified program. */
@@ -173,12 +182,9 @@ public final class AdminApplicationController extends CiviFormController {
     }
 
     String filename = String.format("%s-%s.json", program.adminName(), nowProvider.get());
-    String json =
-        jsonExporterService.export(
-            program,
-            SubmitTimeSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
-            filters);
-    return ok(json)
+    // Stream the JSON a page at a time so large programs don't need to fit in memory.
+    return ok()
+        .chunked(jsonExporterService.streamExport(program, filters))
         .as(Http.MimeTypes.JSON)
         .withHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
   }
@@ -221,8 +227,9 @@ public final class AdminApplicationController extends CiviFormController {
       ProgramDefinition program = programService.getFullProgramDefinition(programId);
       checkProgramAdminAuthorization(request, program.adminName()).join();
       String filename = String.format("%s-%s.csv", program.adminName(), nowProvider.get());
-      String csv = exporterService.getProgramAllVersionsCsv(programId, filters);
-      return ok(csv)
+      // Stream the CSV a page at a time so large programs don't need to fit in memory.
+      return ok()
+          .chunked(exporterService.streamProgramAllVersionsCsv(programId, filters))
           .as(Http.MimeTypes.BINARY)
           .withHeader(
               "Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
@@ -231,6 +238,59 @@ public final class AdminApplicationController extends CiviFormController {
     }
   }
 
+  /**
+   * Download a ZIP file containing a PDF of each application to all versions of the specified
+   * program.
+   */
+  @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
+  public Result downloadAllPdfs(
+      Http.Request request,
+      long programId,
+      Optional<String> search,
+      Optional<String> fromDate,
+      Optional<String> untilDate,
+      Optional<String> applicationStatus,
+      Optional<String> ignoreFilters)
+      throws ProgramNotFoundException {
+    if (settingsManifest.getRemoveDownloadForProgramAdminsEnabled(request)
+        && profileUtils.currentUserProfile(request).isOnlyProgramAdmin()) {
+      return unauthorized();
+    }
+    final ProgramDefinition program;
+
+    try {
+      program = programService.getFullProgramDefinition(programId);
+      checkProgramAdminAuthorization(request, program.adminName()).join();
+    } catch (CompletionException | MissingOptionalException e) {
+      return unauthorized();
+    }
+
+    boolean shouldApplyFilters = ignoreFilters.orElse("").isEmpty();
+    SubmittedApplicationFilter filters = SubmittedApplicationFilter.EMPTY;
+    if (shouldApplyFilters) {
+      filters =
+          SubmittedApplicationFilter.builder()
+              .setSearchNameFragment(search)
+              .setSubmitTimeFilter(
+                  TimeFilter.builder()
+                      .setFromTime(
+                          parseDateTimeFromQuery(dateConverter, fromDate, RelativeTimeOfDay.START))
+                      .setUntilTime(
+                          parseDateTimeFromQuery(dateConverter, untilDate, RelativeTimeOfDay.END))
+                      .build())
+              .setApplicationStatus(applicationStatus)
+              .setLifecycleStages(ImmutableList.of(LifecycleStage.ACTIVE, LifecycleStage.OBSOLETE))
+              .build();
+    }
+
+    String filename = String.format("%s-%s.zip", program.adminName(), nowProvider.get());
+    // Stream the ZIP a PDF at a time so large programs don't need to fit in memory.
+    return ok()
+        .chunked(pdfZipExporterService.streamExport(program, filters))
+        .as("application/zip")
+        .withHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
+  }
+
   /**
    * Parses a date from a raw query string (e.g. 2022-01-02) and returns an instant representing
    * that date in the UTC time zone.
@@ -534,8 +594,11 @@ public final class AdminApplicationController extends CiviFormController {
             page.orElse(1),
             PageNumberPaginationSpec.OrderByEnum.SUBMIT_TIME);
     PaginationResult<ApplicationModel> applications =
-        programService.getSubmittedProgramApplicationsAllVersions(
-            programId, paginationSpec, filters);
+        settingsManifest.getAdminApplicationTableKeysetPaginationEnabled(request)
+            ? programService.getSubmittedProgramApplicationsPageWithCachedCount(
+                programId, paginationSpec, filters)
+            : programService.getSubmittedProgramApplicationsAllVersions(
+                programId, paginationSpec, filters);
     return ok(
         tableView.render(
             request,
@@ -560,57 +623,109 @@ public final class AdminApplicationController extends CiviFormController {
    * page.
    */
   @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
-  public Result updateStatuses(Http.Request request, long programId)
-      throws ProgramNotFoundException, StatusNotFoundException, StatusEmailNotFoundException {
+  public CompletionStage<Result> updateStatuses(Http.Request request, long programId)
+      throws ProgramNotFoundException {
     ProgramDefinition program = programService.getFullProgramDefinition(programId);
-    String programName = program.adminName();
+    CiviFormProfile profile;
     try {
-      checkProgramAdminAuthorization(request, programName).join();
-    } catch (CompletionException | NoSuchElementException | MissingOptionalException e) {
-      return unauthorized();
+      profile = profileUtils.currentUserProfile(request);
+    } catch (MissingOptionalException e) {
+      return CompletableFuture.completedFuture(unauthorized());
     }
     Form<BulkStatusUpdateForm> form =
         formFactory.form(BulkStatusUpdateForm.class).bindFromRequest(request);
     var applicationIdList =
         form.get().getApplicationsIds().stream().collect(ImmutableList.toImmutableList());
-
-    boolean sendEmail = form.get().getShouldSendEmail();
-    programAdminApplicationService.setStatuses(
-        applicationIdList,
-        program,
+    ApplicationEventDetails.StatusEvent statusEvent =
         ApplicationEventDetails.StatusEvent.builder()
             .setStatusText(form.get().getStatusText())
-            .setEmailSent(sendEmail)
-            .build(),
-        profileUtils.currentUserProfile(request).getAccount().join());
+            .setEmailSent(form.get().getShouldSendEmail())
+            .build();
 
-    if (sendEmail) {
-      return redirect(
-          routes.AdminApplicationController.index(
-                  programId,
-                  /* search= */ Optional.empty(),
-                  /* page= */ Optional.empty(),
-                  /* fromDate= */ Optional.empty(),
-                  /* untilDate= */ Optional.empty(),
-                  /* applicationStatus= */ Optional.empty(),
-                  Optional.empty(),
-                  /* showDownloadModal= */ Optional.empty(),
-                  /* message= */ Optional.of(
-                      "Status updates sent to applicants with contact information on file"))
-              .url());
+    return profile
+        .checkProgramAuthorization(program.adminName(), request)
+        .thenCompose(unused -> profile.getAccount())
+        .thenApplyAsync(
+            admin -> {
+              try {
+                return programAdminApplicationService.setStatuses(
+                    applicationIdList, program, statusEvent, admin);
+              } catch (StatusNotFoundException | StatusEmailNotFoundException e) {
+                throw new CompletionException(e);
+              }
+            },
+            classLoaderExecutionContext.current())
+        .thenApply(
+            bulkStatusUpdateId -> {
+              if (bulkStatusUpdateId.isPresent()) {
+                // The emails are sent in the background, and the applications page shows their
+                // progress.
+                return redirect(
+                        routes.AdminApplicationController.index(
+                                programId,
+                                /* search= */ Optional.empty(),
+                                /* page= */ Optional.empty(),
+                                /* fromDate= */ Optional.empty(),
+                                /* untilDate= */ Optional.empty(),
+                                /* applicationStatus= */ Optional.empty(),
+                                Optional.empty(),
+                                /* showDownloadModal= */ Optional.empty(),
+                                /* message= */ Optional.of(
+                                    "Status update success. Sending status updates to applicants"
+                                        + " with contact information on file."))
+                            .url())
+                    .flashing(FlashKey.BULK_STATUS_UPDATE_ID, bulkStatusUpdateId.get().toString());
+              }
+              return redirect(
+                  routes.AdminApplicationController.index(
+                          programId,
+                          /* search= */ Optional.empty(),
+                          /* page= */ Optional.empty(),
+                          /* fromDate= */ Optional.empty(),
+                          /* untilDate= */ Optional.empty(),
+                          /* applicationStatus= */ Optional.empty(),
+                          Optional.empty(),
+                          /* showDownloadModal= */ Optional.empty(),
+                          /* message= */ Optional.of("Status update success"))
+                      .url());
+            })
+        .exceptionally(
+            ex -> {
+              if (ex instanceof CompletionException) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof SecurityException || cause instanceof NoSuchElementException) {
+                  return unauthorized();
+                }
+                throw new RuntimeException(cause);
+              }
+              throw new RuntimeException(ex);
+            });
+  }
+
+  /**
+   * HTMX partial that renders the progress of sending the emails for a bulk status update. It keeps
+   * polling itself until all of the emails have been queued.
+   */
+  @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
+  public Result hxBulkStatusUpdateProgress(
+      Http.Request request, long programId, long bulkStatusUpdateId)
+      throws ProgramNotFoundException {
+    ProgramDefinition program = programService.getFullProgramDefinition(programId);
+    try {
+      checkProgramAdminAuthorization(request, program.adminName()).join();
+    } catch (CompletionException | NoSuchElementException | MissingOptionalException e) {
+      return unauthorized();
     }
-    return redirect(
-        routes.AdminApplicationController.index(
-                programId,
-                /* search= */ Optional.empty(),
-                /* page= */ Optional.empty(),
-                /* fromDate= */ Optional.empty(),
-                /* untilDate= */ Optional.empty(),
-                /* applicationStatus= */ Optional.empty(),
-                Optional.empty(),
-                /* showDownloadModal= */ Optional.empty(),
-                /* message= */ Optional.of("Status update success"))
-            .url());
+    return programAdminApplicationService
+        .getBulkStatusUpdate(bulkStatusUpdateId, program)
+        .map(
+            update ->
+                ok(tableView.renderBulkStatusUpdateProgress(program, update).render())
+                    .as(Http.MimeTypes.HTML))
+        .orElseGet(
+            () ->
+                notFound(
+                    String.format("Bulk status update %d does not exist.", bulkStatusUpdateId)));
   }
 
   private ImmutableList<String> getAllApplicationStatusesForProgram(long programId)
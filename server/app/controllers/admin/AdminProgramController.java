@@ -27,6 +27,7 @@ import repository.VersionRepository;
 import services.CiviFormError;
 import services.ErrorAnd;
 import services.LocalizedStrings;
+import services.docs.ApiDocsService;
 import services.program.CantPublishProgramWithSharedQuestionsException;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
@@ -51,6 +52,7 @@ public final class AdminProgramController extends CiviFormController {
   private final FormFactory formFactory;
   private final RequestChecker requestChecker;
   private final SettingsManifest settingsManifest;
+  private final ApiDocsService apiDocsService;
 
   @Inject
   public AdminProgramController(
@@ -63,7 +65,8 @@ public final class AdminProgramController extends CiviFormController {
       ProfileUtils profileUtils,
       FormFactory formFactory,
       RequestChecker requestChecker,
-      SettingsManifest settingsManifest) {
+      SettingsManifest settingsManifest,
+      ApiDocsService apiDocsService) {
     super(profileUtils, versionRepository);
     this.programService = checkNotNull(programService);
     this.questionService = checkNotNull(questionService);
@@ -73,6 +76,7 @@ public final class AdminProgramController extends CiviFormController {
     this.formFactory = checkNotNull(formFactory);
     this.requestChecker = checkNotNull(requestChecker);
     this.settingsManifest = checkNotNull(settingsManifest);
+    this.apiDocsService = checkNotNull(apiDocsService);
   }
 
   /**
@@ -199,9 +203,10 @@ public final class AdminProgramController extends CiviFormController {
 
   /** POST endpoint for publishing all programs in the draft version. */
   @Secure(authorizers = Authorizers.Labels.CIVIFORM_ADMIN)
-  public Result publish() {
+  public Result publish(Request request) {
     try {
       versionRepository.publishNewSynchronizedVersion();
+      pregenerateApiDocs(request);
       return redirect(routes.AdminProgramController.index());
     } catch (RuntimeException e) {
       return badRequest(e.toString());
@@ -215,6 +220,7 @@ public final class AdminProgramController extends CiviFormController {
 
     try {
       versionRepository.publishNewSynchronizedVersion(program.adminName());
+      pregenerateApiDocs(request);
       return redirect(routes.AdminProgramController.index());
     } catch (CantPublishProgramWithSharedQuestionsException e) {
       return redirect(routes.AdminProgramController.index())
@@ -222,6 +228,14 @@ public final class AdminProgramController extends CiviFormController {
     }
   }
 
+  /**
+   * Starts generating the API docs of the newly published programs, so that integrations fetching
+   * them after the publish don't each wait for them to be generated.
+   */
+  private void pregenerateApiDocs(Request request) {
+    apiDocsService.pregenerateActiveDocs(apiDocsService.getSchemaSettings(request));
+  }
+
   /** POST endpoint for creating a new draft version of the program. */
   @Secure(authorizers = Authorizers.Labels.CIVIFORM_ADMIN)
   public Result newVersionFrom(Request request, long programId) {
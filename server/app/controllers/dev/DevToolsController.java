@@ -34,7 +34,10 @@ import play.mvc.Http.Request;
 import play.mvc.Result;
 import play.mvc.With;
 import repository.TransactionManager;
+import repository.VersionPointerCache;
 import services.DeploymentType;
+import services.cache.ValueCaches;
+import services.program.ActiveCatalogSnapshotCache;
 import services.question.types.QuestionDefinition;
 import services.settings.SettingsManifest;
 import services.settings.SettingsService;
@@ -53,14 +56,13 @@ public class DevToolsController extends Controller {
   private final SettingsService settingsService;
   private final SettingsManifest settingsManifest;
   private final DeploymentType deploymentType;
-  private final AsyncCacheApi questionsByVersionCache;
-  private final AsyncCacheApi programsByVersionCache;
-  private final AsyncCacheApi programCache;
+  private final ValueCaches valueCaches;
   private final AsyncCacheApi programDefCache;
-  private final AsyncCacheApi versionsByProgramCache;
   private final AsyncCacheApi settingsCache;
   private final AsyncCacheApi apikeysCache;
   private final AsyncCacheApi reportingCache;
+  private final VersionPointerCache versionPointerCache;
+  private final ActiveCatalogSnapshotCache activeCatalogSnapshotCache;
   private final Clock clock;
   private final TransactionManager transactionManager = new TransactionManager();
   private final FormFactory formFactory;
@@ -76,27 +78,25 @@ public class DevToolsController extends Controller {
       Clock clock,
       DeploymentType deploymentType,
       FormFactory formFactory,
-      @NamedCache("version-questions") AsyncCacheApi questionsByVersionCache,
-      @NamedCache("version-programs") AsyncCacheApi programsByVersionCache,
-      @NamedCache("program") AsyncCacheApi programCache,
+      ValueCaches valueCaches,
       @NamedCache("full-program-definition") AsyncCacheApi programDefCache,
-      @NamedCache("program-versions") AsyncCacheApi versionsByProgramCache,
       @NamedCache("civiform-settings") AsyncCacheApi settingsCache,
       @NamedCache("api-keys") AsyncCacheApi apikeysCache,
-      @NamedCache("monthly-reporting-data") AsyncCacheApi reportingCache) {
+      @NamedCache("monthly-reporting-data") AsyncCacheApi reportingCache,
+      VersionPointerCache versionPointerCache,
+      ActiveCatalogSnapshotCache activeCatalogSnapshotCache) {
     this.devDatabaseSeedTask = checkNotNull(devDatabaseSeedTask);
     this.view = checkNotNull(view);
     this.database = DB.getDefault();
     this.settingsService = checkNotNull(settingsService);
     this.settingsManifest = checkNotNull(settingsManifest);
-    this.questionsByVersionCache = checkNotNull(questionsByVersionCache);
-    this.programsByVersionCache = checkNotNull(programsByVersionCache);
-    this.programCache = checkNotNull(programCache);
+    this.valueCaches = checkNotNull(valueCaches);
     this.programDefCache = checkNotNull(programDefCache);
-    this.versionsByProgramCache = checkNotNull(versionsByProgramCache);
     this.settingsCache = checkNotNull(settingsCache);
     this.apikeysCache = checkNotNull(apikeysCache);
     this.reportingCache = checkNotNull(reportingCache);
+    this.versionPointerCache = checkNotNull(versionPointerCache);
+    this.activeCatalogSnapshotCache = checkNotNull(activeCatalogSnapshotCache);
     this.clock = checkNotNull(clock);
     this.deploymentType = checkNotNull(deploymentType);
     this.formFactory = checkNotNull(formFactory);
@@ -300,13 +300,14 @@ public class DevToolsController extends Controller {
    */
   private void clearCacheIfEnabled() {
     if (settingsManifest.getVersionCacheEnabled()) {
-      programsByVersionCache.removeAll().toCompletableFuture().join();
-      questionsByVersionCache.removeAll().toCompletableFuture().join();
+      valueCaches.programsByVersion().removeAll();
+      valueCaches.questionsByVersion().removeAll();
+      versionPointerCache.clear();
+      activeCatalogSnapshotCache.clear();
     }
 
     if (settingsManifest.getProgramCacheEnabled()) {
-      programCache.removeAll().toCompletableFuture().join();
-      versionsByProgramCache.removeAll().toCompletableFuture().join();
+      valueCaches.versionIdsByProgram().removeAll();
     }
 
     if (settingsManifest.getQuestionCacheEnabled()) {
@@ -334,5 +335,6 @@ public class DevToolsController extends Controller {
           newActiveVersion.save();
           settingsService.migrateConfigValuesToSettingsGroup();
         });
+    versionPointerCache.clear();
   }
 }
@@ -73,13 +73,18 @@ public final class ApiDocsController {
     Optional<ProgramDefinition> programDefinition =
         apiDocsService.getProgramDefinition(selectedProgramSlug, lifecycleStage);
 
-    if (settingsManifest.getAdminUiMigrationUxRedesignScEnabled(request)) {
-      String jsonPreview = programDefinition.map(apiDocsService::getSampleJsonPreview).orElse("");
-      ImmutableMap<String, ImmutableList<String>> historicOptionsByQuestionNameKey =
-          programDefinition
-              .map(apiDocsService::getHistoricOptionsByQuestionNameKey)
-              .orElse(ImmutableMap.of());
+    String jsonPreview =
+        programDefinition
+            .map(program -> apiDocsService.getSampleJsonPreview(program, lifecycleStage))
+            .orElse("");
+    ImmutableMap<String, ImmutableList<String>> historicOptionsByQuestionNameKey =
+        programDefinition
+            .map(
+                program ->
+                    apiDocsService.getHistoricOptionsByQuestionNameKey(program, lifecycleStage))
+            .orElse(ImmutableMap.of());
 
+    if (settingsManifest.getAdminUiMigrationUxRedesignScEnabled(request)) {
       return ok(apiDocsPageView.render(
               request,
               new ApiDocsPageMapper()
@@ -95,7 +100,12 @@ public final class ApiDocsController {
     }
     return ok(
         docsView.render(
-            request, selectedProgramSlug, programDefinition, allNonExternalProgramSlugs));
+            request,
+            selectedProgramSlug,
+            programDefinition,
+            allNonExternalProgramSlugs,
+            jsonPreview,
+            historicOptionsByQuestionNameKey));
   }
 
   /** Redirect to the api docs view for the slug/stage combo */
@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static play.mvc.Results.badRequest;
 import static play.mvc.Results.notFound;
 import static play.mvc.Results.ok;
+import static play.mvc.Results.status;
 
 import auth.Authorizers;
 import com.google.common.collect.ImmutableSet;
@@ -18,11 +19,8 @@ import org.slf4j.LoggerFactory;
 import play.i18n.MessagesApi;
 import play.mvc.Http;
 import play.mvc.Result;
-import services.DeploymentType;
 import services.docs.ApiDocsService;
-import services.openapi.OpenApiSchemaGenerator;
-import services.openapi.OpenApiSchemaGeneratorFactory;
-import services.openapi.OpenApiSchemaSettings;
+import services.docs.GeneratedApiDoc;
 import services.openapi.OpenApiVersion;
 import services.program.ProgramDefinition;
 import services.settings.SettingsManifest;
@@ -33,7 +31,6 @@ import views.docs.SchemaView;
 public final class OpenApiSchemaController {
   private final ApiDocsService apiDocsService;
   private final SettingsManifest settingsManifest;
-  private final DeploymentType deploymentType;
   private final SchemaView schemaView;
   private final SchemaPageView schemaPageView;
   private final MessagesApi messagesApi;
@@ -43,13 +40,11 @@ public final class OpenApiSchemaController {
   public OpenApiSchemaController(
       ApiDocsService apiDocsService,
       SettingsManifest settingsManifest,
-      DeploymentType deploymentType,
       SchemaView schemaView,
       SchemaPageView schemaPageView,
       MessagesApi messagesApi) {
     this.apiDocsService = checkNotNull(apiDocsService);
     this.settingsManifest = checkNotNull(settingsManifest);
-    this.deploymentType = checkNotNull(deploymentType);
     this.schemaView = checkNotNull(schemaView);
     this.schemaPageView = checkNotNull(schemaPageView);
     this.messagesApi = checkNotNull(messagesApi);
@@ -76,19 +71,18 @@ public final class OpenApiSchemaController {
     }
 
     try {
-      OpenApiVersion openApiVersionType = OpenApiVersion.fromString(openApiVersion);
-
-      OpenApiSchemaSettings openApiSchemaSettings =
-          new OpenApiSchemaSettings(
-              settingsManifest.getBaseUrl().orElse(""),
-              getEmailAddress(request),
-              deploymentType.isDev());
-
-      OpenApiSchemaGenerator openApiSchemaGenerator =
-          OpenApiSchemaGeneratorFactory.createGenerator(openApiVersionType, openApiSchemaSettings);
-
-      String response = openApiSchemaGenerator.createSchema(optionalProgramDefinition.get());
-      return ok(response).as("text/yaml");
+      GeneratedApiDoc schema =
+          apiDocsService.getSchema(
+              optionalProgramDefinition.get(),
+              lifecycleStage,
+              OpenApiVersion.fromString(openApiVersion),
+              apiDocsService.getSchemaSettings(request));
+
+      // Integrations poll for the schema, so let them skip downloading it when it hasn't changed.
+      if (schema.matchesAnyOf(request.header(Http.HeaderNames.IF_NONE_MATCH))) {
+        return status(Http.Status.NOT_MODIFIED).withHeader(Http.HeaderNames.ETAG, schema.etag());
+      }
+      return ok(schema.content()).as("text/yaml").withHeader(Http.HeaderNames.ETAG, schema.etag());
     } catch (RuntimeException ex) {
       String errorMsg =
           messagesApi
@@ -104,16 +98,6 @@ public final class OpenApiSchemaController {
     }
   }
 
-  /** Get either the IT email address or the support email address */
-  private String getEmailAddress(Http.Request request) {
-    Optional<String> contactEmailAddress =
-        settingsManifest.getItEmailAddress().isPresent()
-                && !settingsManifest.getItEmailAddress().get().isBlank()
-            ? settingsManifest.getItEmailAddress()
-            : settingsManifest.getSupportEmailAddress(request);
-    return contactEmailAddress.orElse("");
-  }
-
   /** Render the swagger ui to view the select swagger/openapi */
   @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
   public Result getSchemaUI(
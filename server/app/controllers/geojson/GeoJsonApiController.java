@@ -1,6 +1,7 @@
 package controllers.geojson;
 
 import static j2html.TagCreator.div;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static play.mvc.Results.badRequest;
 import static play.mvc.Results.forbidden;
 import static play.mvc.Results.internalServerError;
@@ -8,20 +9,33 @@ import static play.mvc.Results.notFound;
 import static play.mvc.Results.ok;
 
 import auth.Authorizers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
 import java.net.MalformedURLException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
+import models.QuestionModel;
 import org.pac4j.play.java.Secure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.data.DynamicForm;
 import play.data.FormFactory;
+import play.libs.concurrent.ClassLoaderExecutionContext;
 import play.mvc.Http;
 import play.mvc.Result;
+import repository.QuestionRepository;
+import services.geojson.Feature;
 import services.geojson.GeoJsonAccessException;
 import services.geojson.GeoJsonClient;
 import services.geojson.GeoJsonNotFoundException;
+import services.geojson.MapFeaturesService;
+import services.geojson.MapFeaturesService.BoundingBox;
+import services.program.ProgramService;
+import services.question.types.MapQuestionDefinition;
+import services.question.types.QuestionDefinition;
 import views.PartialView;
 import views.admin.questions.MapQuestionSettingsPartialViewModel;
 
@@ -31,15 +45,102 @@ public final class GeoJsonApiController {
   private final FormFactory formFactory;
   private final GeoJsonClient geoJsonClient;
   private final PartialView<MapQuestionSettingsPartialViewModel> mapQuestionSettingsPartialView;
+  private final MapFeaturesService mapFeaturesService;
+  private final ProgramService programService;
+  private final QuestionRepository questionRepository;
+  private final ObjectMapper objectMapper;
+  private final ClassLoaderExecutionContext classLoaderExecutionContext;
 
   @Inject
   GeoJsonApiController(
       FormFactory formFactory,
       GeoJsonClient geoJsonClient,
-      PartialView<MapQuestionSettingsPartialViewModel> mapQuestionSettingsPartialView) {
+      PartialView<MapQuestionSettingsPartialViewModel> mapQuestionSettingsPartialView,
+      MapFeaturesService mapFeaturesService,
+      ProgramService programService,
+      QuestionRepository questionRepository,
+      ObjectMapper objectMapper,
+      ClassLoaderExecutionContext classLoaderExecutionContext) {
     this.formFactory = formFactory;
     this.geoJsonClient = geoJsonClient;
     this.mapQuestionSettingsPartialView = mapQuestionSettingsPartialView;
+    this.mapFeaturesService = mapFeaturesService;
+    this.programService = programService;
+    this.questionRepository = questionRepository;
+    this.objectMapper = objectMapper;
+    this.classLoaderExecutionContext = classLoaderExecutionContext;
+  }
+
+  /**
+   * Returns the GeoJSON features of a map question as a FeatureCollection, optionally only those
+   * within the {@code minLongitude,minLatitude,maxLongitude,maxLatitude} bounding box {@code bbox}.
+   *
+   * <p>This lets the map load only the locations in view rather than every location up front. The
+   * features are served from memory and the response is compressed by the gzip filter.
+   */
+  @Secure
+  public CompletionStage<Result> getFeatures(
+      Http.Request request, long questionId, Optional<String> bbox) {
+    Optional<BoundingBox> boundingBox;
+    try {
+      boundingBox = bbox.map(BoundingBox::parse);
+    } catch (IllegalArgumentException e) {
+      return completedFuture(badRequest(e.getMessage()));
+    }
+
+    return lookupQuestionDefinition(questionId)
+        .thenComposeAsync(
+            maybeQuestion -> {
+              if (maybeQuestion.isEmpty()
+                  || !(maybeQuestion.get() instanceof MapQuestionDefinition mapQuestion)) {
+                return completedFuture(
+                    notFound(String.format("No map question found with ID %d", questionId)));
+              }
+
+              String endpoint = mapQuestion.getMapValidationPredicates().geoJsonEndpoint();
+              CompletionStage<Optional<ImmutableList<Feature>>> features =
+                  boundingBox.isPresent()
+                      ? mapFeaturesService.getFeaturesWithin(endpoint, boundingBox.get())
+                      : mapFeaturesService
+                          .getFeatures(endpoint)
+                          .thenApply(
+                              maybeGeoJson ->
+                                  maybeGeoJson.map(
+                                      geoJson -> ImmutableList.copyOf(geoJson.features())));
+              return features.thenApply(
+                  maybeFeatures -> {
+                    if (maybeFeatures.isEmpty()) {
+                      return notFound(
+                          String.format("No GeoJSON data found for question %d", questionId));
+                    }
+
+                    // Built by hand since FeatureCollection doesn't allow an empty list of
+                    // features, which is expected when no locations are in view.
+                    ObjectNode response = objectMapper.createObjectNode();
+                    response.put("type", "FeatureCollection");
+                    response.set("features", objectMapper.valueToTree(maybeFeatures.get()));
+                    return ok(response).as(Http.MimeTypes.JSON);
+                  });
+            },
+            classLoaderExecutionContext.current());
+  }
+
+  /** Looks the question up in the active version first, to avoid a query in the common case. */
+  private CompletionStage<Optional<QuestionDefinition>> lookupQuestionDefinition(
+      long questionId) {
+    return programService
+        .getActiveCatalogSnapshotAsync()
+        .thenCompose(
+            snapshot -> {
+              Optional<QuestionDefinition> activeQuestion = snapshot.getQuestionById(questionId);
+              if (activeQuestion.isPresent()) {
+                return completedFuture(activeQuestion);
+              }
+              return questionRepository
+                  .lookupQuestion(questionId)
+                  .thenApply(
+                      maybeQuestion -> maybeQuestion.map(QuestionModel::getQuestionDefinition));
+            });
   }
 
   @Secure(authorizers = Authorizers.Labels.CIVIFORM_ADMIN)
@@ -50,12 +151,15 @@ public final class GeoJsonApiController {
     return geoJsonClient
         .fetchAndSaveGeoJson(geoJsonEndpoint)
         .thenApplyAsync(
-            geoJsonResponse ->
-                ok(mapQuestionSettingsPartialView.render(
-                        request,
-                        MapQuestionSettingsPartialViewModel.withEmptyDefaults(
-                            geoJsonResponse.getPossibleKeys())))
-                    .as(Http.MimeTypes.HTML))
+            geoJsonResponse -> {
+              // The data may have changed, so applicants should see what was just saved.
+              mapFeaturesService.invalidate(geoJsonEndpoint);
+              return ok(mapQuestionSettingsPartialView.render(
+                      request,
+                      MapQuestionSettingsPartialViewModel.withEmptyDefaults(
+                          geoJsonResponse.getPossibleKeys())))
+                  .as(Http.MimeTypes.HTML);
+            })
         .exceptionally(
             ex -> {
               logger.error("An error occurred trying to retrieve GeoJSON", ex);
@@ -14,7 +14,6 @@ import controllers.BadRequestException;
 import forms.TiClientInfoForm;
 import java.util.Optional;
 import javax.inject.Inject;
-import models.AccountModel;
 import models.TrustedIntermediaryGroupModel;
 import org.pac4j.play.java.Secure;
 import play.data.Form;
@@ -27,7 +26,6 @@ import repository.SearchParameters;
 import services.applicant.ApplicantPersonalInfo;
 import services.applicant.ApplicantPersonalInfo.Representation;
 import services.applicant.exception.ApplicantNotFoundException;
-import services.pagination.PaginationInfo;
 import services.ti.AddNewApplicantReturnObject;
 import services.ti.TrustedIntermediarySearchResult;
 import services.ti.TrustedIntermediaryService;
@@ -98,12 +96,15 @@ public final class TrustedIntermediaryController {
             .setYearQuery(yearQuery)
             .build();
     TrustedIntermediarySearchResult trustedIntermediarySearchResult =
-        tiService.getManagedAccounts(searchParameters, trustedIntermediaryGroup.get());
+        tiService.getManagedAccounts(
+            searchParameters, trustedIntermediaryGroup.get(), PAGE_SIZE, page.get());
     if (!trustedIntermediarySearchResult.isSuccessful()) {
       throw new BadRequestException(trustedIntermediarySearchResult.errorMessage().get());
     }
-    PaginationInfo<AccountModel> pageInfo =
-        PaginationInfo.paginate(trustedIntermediarySearchResult.accounts(), PAGE_SIZE, page.get());
+    // Display 1 page (which is empty) if there are no clients.
+    int totalPageCount =
+        Math.max(
+            1, (int) Math.ceil((double) trustedIntermediarySearchResult.totalCount() / PAGE_SIZE));
 
     Optional<String> applicantName =
         civiformProfile.getApplicant().join().getApplicantDisplayName();
@@ -113,9 +114,10 @@ public final class TrustedIntermediaryController {
             /* tiGroup= */ trustedIntermediaryGroup.get(),
             /* personalInfo= */ ApplicantPersonalInfo.ofLoggedInUser(
                 Representation.builder().setName(applicantName).build()),
-            /* managedAccounts= */ pageInfo.getPageItems(),
-            /* totalPageCount= */ pageInfo.getPageCount(),
-            /* page= */ pageInfo.getPage(),
+            /* managedAccounts= */ trustedIntermediarySearchResult.accounts(),
+            /* totalClientCount= */ trustedIntermediarySearchResult.totalCount(),
+            /* totalPageCount= */ totalPageCount,
+            /* page= */ page.get(),
             /* searchParameters= */ searchParameters,
             /* request= */ request,
             /* messages= */ messagesApi.preferred(request),
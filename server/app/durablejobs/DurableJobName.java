@@ -21,6 +21,8 @@ public enum DurableJobName {
   UPDATE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS_20250825(
       "UPDATE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS_20250825"),
   REFRESH_MAP_DATA("REFRESH_MAP_DATA"),
+  BACKFILL_ANSWERS_CONTENT_HASH("BACKFILL_ANSWERS_CONTENT_HASH"),
+  RECONCILE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS("RECONCILE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS"),
   // job names used for tests
   TEST("TEST");
 
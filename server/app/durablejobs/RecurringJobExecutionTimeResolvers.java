@@ -16,7 +16,10 @@ import java.time.temporal.TemporalAdjusters;
  */
 public final class RecurringJobExecutionTimeResolvers {
 
-  /** Every Sunday at 2am local time. Used for the OLD_JOB_CLEANUP job. */
+  /**
+   * Every Sunday at 2am local time. Used for the OLD_JOB_CLEANUP and
+   * RECONCILE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS jobs.
+   */
   public static final class Sunday2Am implements JobExecutionTimeResolver {
 
     @Override
@@ -72,7 +75,7 @@ public final class RecurringJobExecutionTimeResolvers {
     }
   }
 
-  /** Every 30 minutes. Used for REFRESH_MAP_DATA */
+  /** Every 30 minutes. Used for REFRESH_MAP_DATA and BACKFILL_ANSWERS_CONTENT_HASH. */
   public static final class EveryThirtyMinutes implements JobExecutionTimeResolver {
 
     @Override
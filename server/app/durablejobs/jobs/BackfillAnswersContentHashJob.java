@@ -0,0 +1,115 @@
+package durablejobs.jobs;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import durablejobs.DurableJob;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.SqlRow;
+import io.ebean.SqlUpdate;
+import io.ebean.Transaction;
+import java.util.List;
+import models.PersistedDurableJobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.applicant.ApplicantData;
+
+/**
+ * Stores the answers content hash for active applications submitted before the hash was stored on
+ * submit, so that duplicate submission checks don't need to hash their answers.
+ *
+ * <p>This runs as a recurring background job. Applications are updated in batches, each in its own
+ * transaction, so the job holds row locks only briefly. Each run stops after {@code
+ * MAX_BATCHES_PER_RUN} batches so that it doesn't hold up the other recurring jobs, and the next
+ * run picks up the applications still without a hash. Those are found with a partial index, so
+ * once the backfill is done each run is a single index lookup.
+ */
+public final class BackfillAnswersContentHashJob extends DurableJob {
+  private static final Logger logger = LoggerFactory.getLogger(BackfillAnswersContentHashJob.class);
+  private static final int BATCH_SIZE = 500;
+  private static final int MAX_BATCHES_PER_RUN = 200;
+
+  private final Database database;
+  private final PersistedDurableJobModel persistedDurableJobModel;
+
+  public BackfillAnswersContentHashJob(PersistedDurableJobModel persistedDurableJobModel) {
+    this.persistedDurableJobModel = checkNotNull(persistedDurableJobModel);
+    this.database = DB.getDefault();
+  }
+
+  @Override
+  public PersistedDurableJobModel getPersistedDurableJob() {
+    return persistedDurableJobModel;
+  }
+
+  @Override
+  public void run() {
+    logger.debug("Starting job to backfill application answers content hashes");
+    long lastId = 0;
+    int updatedCount = 0;
+    for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+      List<SqlRow> rows =
+          database
+              .sqlQuery(
+                  """
+                  SELECT id, object::text AS object
+                  FROM applications
+                  WHERE answers_content_hash IS NULL
+                    AND lifecycle_stage = 'active'
+                    AND id > :last_id
+                  ORDER BY id
+                  LIMIT :batch_size
+                  """)
+              .setLabel("ApplicationModel.findWithoutAnswersContentHash")
+              .setParameter("last_id", lastId)
+              .setParameter("batch_size", BATCH_SIZE)
+              .findList();
+      if (rows.isEmpty()) {
+        if (updatedCount > 0) {
+          logger.info("Backfilled answers content hashes for {} applications", updatedCount);
+        }
+        return;
+      }
+      updatedCount += updateBatch(rows);
+      lastId = rows.get(rows.size() - 1).getLong("id");
+    }
+    logger.info(
+        "Backfilled answers content hashes for {} applications, continuing on the next run",
+        updatedCount);
+  }
+
+  /** Stores the hashes for {@code rows} and returns how many were stored. */
+  private int updateBatch(List<SqlRow> rows) {
+    try (Transaction transaction = database.beginTransaction()) {
+      SqlUpdate update =
+          database
+              .sqlUpdate(
+                  """
+                  UPDATE applications
+                  SET answers_content_hash = :answers_content_hash
+                  WHERE id = :id AND answers_content_hash IS NULL
+                  """)
+              .setLabel("ApplicationModel.backfillAnswersContentHash");
+      int batchedCount = 0;
+      for (SqlRow row : rows) {
+        long id = row.getLong("id");
+        String answersContentHash;
+        try {
+          answersContentHash = new ApplicantData(row.getString("object")).computeContentHash();
+        } catch (RuntimeException e) {
+          // Leave the hash empty. It is computed on demand if it's ever needed.
+          logger.error("Unable to hash the answers for application {}", id, e);
+          continue;
+        }
+        update.setParameter("answers_content_hash", answersContentHash).setParameter("id", id);
+        update.addBatch();
+        batchedCount++;
+      }
+      if (batchedCount > 0) {
+        update.executeBatch();
+      }
+      transaction.commit();
+      return batchedCount;
+    }
+  }
+}
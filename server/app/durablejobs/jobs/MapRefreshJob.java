@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import repository.GeoJsonDataRepository;
 import services.geojson.GeoJsonClient;
+import services.geojson.MapFeaturesService;
 
 public class MapRefreshJob extends DurableJob {
   private static final Logger logger = LoggerFactory.getLogger(MapRefreshJob.class);
@@ -13,14 +14,17 @@ public class MapRefreshJob extends DurableJob {
   private final PersistedDurableJobModel persistedDurableJobModel;
   private final GeoJsonDataRepository geoJsonDataRepository;
   private final GeoJsonClient geoJsonClient;
+  private final MapFeaturesService mapFeaturesService;
 
   public MapRefreshJob(
       PersistedDurableJobModel persistedDurableJobModel,
       GeoJsonDataRepository geoJsonDataRepository,
-      GeoJsonClient geoJsonClient) {
+      GeoJsonClient geoJsonClient,
+      MapFeaturesService mapFeaturesService) {
     this.persistedDurableJobModel = persistedDurableJobModel;
     this.geoJsonDataRepository = geoJsonDataRepository;
     this.geoJsonClient = geoJsonClient;
+    this.mapFeaturesService = mapFeaturesService;
   }
 
   @Override
@@ -36,6 +40,9 @@ public class MapRefreshJob extends DurableJob {
       logger.info("Finished refreshing map data.");
     } catch (RuntimeException e) {
       logger.error("Failed to refresh map data: {}", e.getMessage(), e);
+    } finally {
+      // Some endpoints may have been refreshed even if others failed.
+      mapFeaturesService.invalidateAll();
     }
   }
 }
@@ -2,29 +2,70 @@ package durablejobs.jobs;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Provider;
+import com.typesafe.config.Config;
 import durablejobs.DurableJob;
+import io.prometheus.client.Counter;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import models.PersistedDurableJobModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import repository.AccountRepository;
+import repository.AccountRepository.DeletedGuestAccounts;
+import repository.PersistedDurableJobRepository;
+import services.session.SessionValidityCache;
 
-/** Destroys all guest accounts older than a set age that have not started any applications. */
+/**
+ * Destroys all guest accounts older than a set age that have not started any applications.
+ *
+ * <p>Applicants are considered in batches of {@code
+ * durable_jobs.unused_account_cleanup.batch_size} consecutive IDs, each deleted in its own
+ * statement, with a pause of {@code durable_jobs.unused_account_cleanup.pause_between_batches}
+ * between batches so that the cleanup doesn't hold locks or write WAL in one large burst. The next
+ * applicant ID to consider is saved as the job's checkpoint after each batch, so a retry after a
+ * failure, timeout or crash resumes where the previous attempt stopped. If the job is interrupted
+ * while pausing it fails, so that it is retried. A batch size of zero deletes everything in a
+ * single statement.
+ */
 public final class UnusedAccountCleanupJob extends DurableJob {
   private static final Logger logger = LoggerFactory.getLogger(UnusedAccountCleanupJob.class);
   private static final int UNUSED_ACCOUNT_MIN_AGE_IN_DAYS = 90;
 
+  private static final Counter APPLICANTS_DELETED =
+      Counter.build()
+          .name("unused_guest_applicants_deleted_total")
+          .help("Number of unused guest applicants deleted by the unused account cleanup job")
+          .register();
+
+  private static final Counter ACCOUNTS_DELETED =
+      Counter.build()
+          .name("unused_guest_accounts_deleted_total")
+          .help("Number of unused guest accounts deleted by the unused account cleanup job")
+          .register();
+
   private final AccountRepository accountRepository;
+  private final PersistedDurableJobRepository persistedDurableJobRepository;
+  private final SessionValidityCache sessionValidityCache;
   private final Provider<LocalDateTime> nowProvider;
+  private final int batchSize;
+  private final Duration pauseBetweenBatches;
   private final PersistedDurableJobModel persistedDurableJob;
 
   public UnusedAccountCleanupJob(
       AccountRepository accountRepository,
+      PersistedDurableJobRepository persistedDurableJobRepository,
+      SessionValidityCache sessionValidityCache,
       Provider<LocalDateTime> nowProvider,
+      Config config,
       PersistedDurableJobModel persistedDurableJob) {
     this.accountRepository = Preconditions.checkNotNull(accountRepository);
+    this.persistedDurableJobRepository = Preconditions.checkNotNull(persistedDurableJobRepository);
+    this.sessionValidityCache = Preconditions.checkNotNull(sessionValidityCache);
     this.nowProvider = Preconditions.checkNotNull(nowProvider);
+    this.batchSize = config.getInt("durable_jobs.unused_account_cleanup.batch_size");
+    this.pauseBetweenBatches =
+        config.getDuration("durable_jobs.unused_account_cleanup.pause_between_batches");
     this.persistedDurableJob = Preconditions.checkNotNull(persistedDurableJob);
   }
 
@@ -36,8 +77,69 @@ public final class UnusedAccountCleanupJob extends DurableJob {
   @Override
   public void run() {
     LocalDateTime cutoff = nowProvider.get().minus(UNUSED_ACCOUNT_MIN_AGE_IN_DAYS, ChronoUnit.DAYS);
-    int numberDeleted = accountRepository.deleteUnusedGuestAccounts(UNUSED_ACCOUNT_MIN_AGE_IN_DAYS);
+    if (batchSize <= 0) {
+      DeletedGuestAccounts deleted =
+          accountRepository.deleteUnusedGuestAccounts(
+              UNUSED_ACCOUNT_MIN_AGE_IN_DAYS,
+              /* fromApplicantId= */ 0,
+              /* toApplicantId= */ Long.MAX_VALUE);
+      recordDeleted(deleted);
+      logger.info(
+          "Deleted {} applicants and {} accounts created before {}",
+          deleted.applicants(),
+          deleted.accounts(),
+          cutoff);
+      return;
+    }
+
+    long jobId = persistedDurableJob.id;
+    long maxApplicantId = accountRepository.getMaxApplicantId();
+    long fromApplicantId =
+        persistedDurableJobRepository.getCheckpoint(jobId).map(Long::parseLong).orElse(0L);
+    int applicantsDeleted = 0;
+    int accountsDeleted = 0;
+    while (fromApplicantId <= maxApplicantId) {
+      long toApplicantId = fromApplicantId + batchSize;
+      DeletedGuestAccounts deleted =
+          accountRepository.deleteUnusedGuestAccounts(
+              UNUSED_ACCOUNT_MIN_AGE_IN_DAYS, fromApplicantId, toApplicantId);
+      recordDeleted(deleted);
+      applicantsDeleted += deleted.applicants();
+      accountsDeleted += deleted.accounts();
+
+      fromApplicantId = toApplicantId;
+      persistedDurableJobRepository.saveCheckpoint(jobId, Long.toString(fromApplicantId));
+
+      if (fromApplicantId <= maxApplicantId) {
+        pause();
+      }
+    }
+    persistedDurableJobRepository.deleteCheckpoint(jobId);
+
+    logger.info(
+        "Deleted {} applicants and {} accounts created before {}",
+        applicantsDeleted,
+        accountsDeleted,
+        cutoff);
+  }
+
+  private void recordDeleted(DeletedGuestAccounts deleted) {
+    APPLICANTS_DELETED.inc(deleted.applicants());
+    ACCOUNTS_DELETED.inc(deleted.accounts());
+    if (deleted.accounts() > 0) {
+      // The deleted accounts aren't known, so drop every cached session rather than let a deleted
+      // account's session be accepted until it expires.
+      sessionValidityCache.invalidateAll();
+    }
+  }
 
-    logger.info("Deleted {} accounts created before {}", numberDeleted, cutoff);
+  /** Pauses between batches, failing the job if the thread is interrupted. */
+  private void pause() {
+    try {
+      Thread.sleep(pauseBetweenBatches);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while pausing between batches", e);
+    }
   }
 }
@@ -5,15 +5,27 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import durablejobs.DurableJob;
 import io.ebean.DB;
 import io.ebean.Database;
-import io.ebean.Transaction;
-import io.ebean.annotation.TxIsolation;
+import java.util.List;
 import models.PersistedDurableJobModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Fills in the last activity time of accounts that don't have one, from the latest of their
+ * applicants' creation times and their applications' create, submit and status change times.
+ *
+ * <p>Last activity times are kept up to date as applicants use CiviForm, see {@link
+ * services.applicant.AccountActivityRecorder}, so this only needs to reconcile accounts whose time
+ * was never set, for example because a flush failed. It runs once at startup and then weekly as a
+ * recurring job. Those accounts are found through a partial index and updated in batches, each in
+ * its own transaction, so that the job doesn't aggregate over every account or hold locks on a
+ * large part of the table at once.
+ */
 public class UpdateLastActivityTimeForAccounts extends DurableJob {
   private static final Logger logger =
       LoggerFactory.getLogger(UpdateLastActivityTimeForAccounts.class);
+  private static final int BATCH_SIZE = 1000;
+
   private final Database database;
   private final PersistedDurableJobModel persistedDurableJobModel;
 
@@ -30,7 +42,6 @@ public class UpdateLastActivityTimeForAccounts extends DurableJob {
   @Override
   public void run() {
     logger.debug("Starting job to calculate last activity time for accounts");
-    Transaction jobTransaction = database.beginTransaction(TxIsolation.SERIALIZABLE);
     String sqlUpdate =
         """
 UPDATE accounts
@@ -45,11 +56,13 @@ FROM (
           COALESCE(MAX(applications.status_last_modified_time), '1900-01-01 00:00:00'::timestamp)
       ) AS last_activity_time
   FROM
-      accounts
+    accounts
   LEFT JOIN
     applicants ON accounts.id=applicants.account_id
     LEFT JOIN
        applications ON applicants.id = applications.applicant_id
+  WHERE
+    accounts.id IN (:ids)
   GROUP BY
       accounts.id
 ) AS subquery
@@ -57,13 +70,38 @@ WHERE
   accounts.id = subquery.id
   AND accounts.last_activity_time IS NULL;
 """;
-    try (jobTransaction) {
-      database.sqlUpdate(sqlUpdate).execute();
-      jobTransaction.commit();
-      logger.debug("JOB SUCCESSFULLY EXECUTED");
+    int totalUpdated = 0;
+    try {
+      // Walk the accounts without a time in ID order until none are left after the last batch, so
+      // the job finishes even if some accounts in a batch aren't updated.
+      long lastId = 0;
+      while (true) {
+        List<Long> ids =
+            database
+                .sqlQuery(
+                    "SELECT id FROM accounts WHERE last_activity_time IS NULL AND id > :last_id"
+                        + " ORDER BY id LIMIT :batch_size")
+                .setLabel("AccountModel.findWithoutLastActivityTime")
+                .setParameter("last_id", lastId)
+                .setParameter("batch_size", BATCH_SIZE)
+                .mapToScalar(Long.class)
+                .findList();
+        if (ids.isEmpty()) {
+          break;
+        }
+        totalUpdated +=
+            database
+                .sqlUpdate(sqlUpdate)
+                .setLabel("AccountModel.reconcileLastActivityTime")
+                .setParameter("ids", ids)
+                .execute();
+        lastId = ids.get(ids.size() - 1);
+      }
+      if (totalUpdated > 0) {
+        logger.info("Set the last activity time of {} accounts", totalUpdated);
+      }
     } catch (RuntimeException e) {
       logger.error(e.getMessage(), e);
-      jobTransaction.rollback();
     }
   }
 }
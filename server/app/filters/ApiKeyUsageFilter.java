@@ -4,32 +4,28 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import auth.ClientIpResolver;
 import auth.ProfileUtils;
-import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import play.api.libs.concurrent.PekkoSchedulerProvider;
 import play.mvc.EssentialAction;
 import play.mvc.EssentialFilter;
 import play.mvc.Http;
-import scala.concurrent.ExecutionContext;
-import services.apikey.ApiKeyService;
+import services.apikey.ApiKeyUsageRecorder;
 
 /**
  * This filter looks for requests with paths that begin with /api and record the usage data for the
- * relevant API key if it has one. The API key update is scheduled to run in a background thread to
- * reduce latency and to ensure issues with recording the usage do not cause API requests to fail.
- * Note that there is no retry logic, so if updating the key's usage info fails it will be
- * inconsistent. This is acceptable since it's not critical that the call count be perfectly
- * accurate.
+ * relevant API key if it has one. Usage is accumulated in memory by {@link ApiKeyUsageRecorder} and
+ * written to the database in periodic batches to reduce latency and database load, and to ensure
+ * issues with recording the usage do not cause API requests to fail. Usage that hasn't been written
+ * is lost if the server dies, so the call count may be inconsistent. This is acceptable since it's
+ * not critical that the call count be perfectly accurate.
  */
 public class ApiKeyUsageFilter extends EssentialFilter {
 
-  private final PekkoSchedulerProvider pekkoSchedulerProvider;
-  private final Provider<ApiKeyService> apiKeyServiceProvider;
+  private final Provider<ApiKeyUsageRecorder> apiKeyUsageRecorderProvider;
   private final Executor exec;
   private final Provider<ProfileUtils> profileUtilsProvider;
   private final ClientIpResolver clientIpResolver;
@@ -37,13 +33,11 @@ public class ApiKeyUsageFilter extends EssentialFilter {
 
   @Inject
   public ApiKeyUsageFilter(
-      PekkoSchedulerProvider pekkoSchedulerProvider,
-      Provider<ApiKeyService> apiKeyServiceProvider,
+      Provider<ApiKeyUsageRecorder> apiKeyUsageRecorderProvider,
       Executor exec,
       Provider<ProfileUtils> profileUtilsProvider,
       ClientIpResolver clientIpResolver) {
-    this.pekkoSchedulerProvider = checkNotNull(pekkoSchedulerProvider);
-    this.apiKeyServiceProvider = checkNotNull(apiKeyServiceProvider);
+    this.apiKeyUsageRecorderProvider = checkNotNull(apiKeyUsageRecorderProvider);
     this.exec = checkNotNull(exec);
     this.profileUtilsProvider = checkNotNull(profileUtilsProvider);
     this.clientIpResolver = checkNotNull(clientIpResolver);
@@ -65,16 +59,9 @@ public class ApiKeyUsageFilter extends EssentialFilter {
                           // authenticated and does not need to be recorded.
                           if (maybeApiKeyId.isPresent()) {
                             String remoteAddress = clientIpResolver.resolveClientIp(request);
-
-                            pekkoSchedulerProvider
+                            apiKeyUsageRecorderProvider
                                 .get()
-                                .scheduleOnce(
-                                    Duration.ZERO,
-                                    () ->
-                                        apiKeyServiceProvider
-                                            .get()
-                                            .recordApiKeyUsage(maybeApiKeyId.get(), remoteAddress),
-                                    ExecutionContext.fromExecutor(exec));
+                                .record(maybeApiKeyId.get(), remoteAddress);
                           }
                         }
                       } catch (RuntimeException e) {
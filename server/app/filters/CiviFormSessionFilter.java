@@ -7,13 +7,14 @@ import auth.CiviFormProfile;
 import auth.ProfileUtils;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import models.AccountModel;
-import models.SessionDetails;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.util.ByteString;
 import play.libs.streams.Accumulator;
@@ -24,13 +25,16 @@ import play.mvc.Result;
 import play.mvc.Results;
 import repository.DatabaseExecutionContext;
 import services.session.SessionTimeoutService;
+import services.session.SessionValidityCache;
 import services.settings.SettingsManifest;
 
 /**
  * A filter to validate user accounts and manage session timeouts.
  *
  * <p>This filter ensures the account referenced in the browser cookie is valid, checks for session
- * expiration, and sets a cookie for the frontend to show timeout warnings.
+ * expiration, and sets a cookie for the frontend to show timeout warnings. Recently validated
+ * sessions are remembered in the {@link SessionValidityCache}, so most requests don't need to load
+ * the account.
  */
 public class CiviFormSessionFilter extends EssentialFilter {
   private static final String TIMEOUT_COOKIE_NAME = "session_timeout_data";
@@ -42,6 +46,7 @@ public class CiviFormSessionFilter extends EssentialFilter {
   private final Provider<SettingsManifest> settingsManifest;
   private final Provider<SessionTimeoutService> sessionTimeoutService;
   private final Provider<DatabaseExecutionContext> databaseExecutionContext;
+  private final Provider<SessionValidityCache> sessionValidityCache;
 
   @Inject
   public CiviFormSessionFilter(
@@ -50,13 +55,15 @@ public class CiviFormSessionFilter extends EssentialFilter {
       Clock clock,
       Provider<SettingsManifest> settingsManifest,
       Provider<SessionTimeoutService> sessionTimeoutService,
-      Provider<DatabaseExecutionContext> databaseExecutionContext) {
+      Provider<DatabaseExecutionContext> databaseExecutionContext,
+      Provider<SessionValidityCache> sessionValidityCache) {
     this.profileUtils = checkNotNull(profileUtils);
     this.materializer = checkNotNull(materializer);
     this.clock = checkNotNull(clock);
     this.settingsManifest = checkNotNull(settingsManifest);
     this.sessionTimeoutService = checkNotNull(sessionTimeoutService);
     this.databaseExecutionContext = checkNotNull(databaseExecutionContext);
+    this.sessionValidityCache = checkNotNull(sessionValidityCache);
   }
 
   @Override
@@ -90,46 +97,31 @@ public class CiviFormSessionFilter extends EssentialFilter {
           }
 
           CiviFormProfile profile = optionalProfile.get();
+          long accountId = Long.parseLong(profile.getId());
+          String sessionId = profile.getProfileData().getSessionId();
 
           CompletionStage<Accumulator<ByteString, Result>> futureAccumulator =
-              profile
-                  .getAccount()
-                  .thenApplyAsync(Optional::of, databaseExecutionContext.get())
-                  .exceptionally(
-                      ex -> {
-                        Throwable cause = (ex instanceof CompletionException) ? ex.getCause() : ex;
-                        if (cause instanceof AccountNonexistentException) {
-                          return Optional.empty();
-                        }
-                        throw new CompletionException(cause);
-                      })
+              getActiveSession(profile, accountId, sessionId)
                   .thenApplyAsync(
-                      optionalAccount -> {
-                        // Validate account
-                        if (optionalAccount.isEmpty()) {
-                          return redirectToLogout();
-                        }
-
-                        // Validate session
-                        AccountModel account = optionalAccount.get();
-                        Optional<SessionDetails> optionalSession =
-                            account.getActiveSession(profile.getProfileData().getSessionId());
-
+                      optionalSession -> {
+                        // Validate account and session
                         if (optionalSession.isEmpty()) {
                           return redirectToLogout();
                         }
 
                         // Validate session length
-                        if (settingsManifest.get().getSessionTimeoutEnabled()
-                            && optionalSession.isPresent()) {
-                          long sessionStartTimeInMillis =
-                              optionalSession.get().getCreationTime().toEpochMilli();
+                        if (settingsManifest.get().getSessionTimeoutEnabled()) {
+                          ActiveSession session = optionalSession.get();
+                          long sessionStartTimeInMillis = session.startTime().toEpochMilli();
 
                           if (sessionTimeoutService
                               .get()
                               .isSessionTimedOut(profile, sessionStartTimeInMillis)) {
-                            account.removeActiveSession(profile.getProfileData().getSessionId());
+                            AccountModel account =
+                                session.account().orElseGet(() -> profile.getAccount().join());
+                            account.removeActiveSession(sessionId);
                             account.save();
+                            sessionValidityCache.get().invalidateSession(accountId, sessionId);
                             return redirectToLogout();
                           }
 
@@ -160,6 +152,52 @@ public class CiviFormSessionFilter extends EssentialFilter {
         });
   }
 
+  /**
+   * A session that is active. {@code account} is present if it was loaded to check the session,
+   * and empty if the session was found in the {@link SessionValidityCache}.
+   */
+  private record ActiveSession(Instant startTime, Optional<AccountModel> account) {}
+
+  /**
+   * Returns the session if the account exists and the session is active on it, checking the {@link
+   * SessionValidityCache} before loading the account.
+   */
+  private CompletionStage<Optional<ActiveSession>> getActiveSession(
+      CiviFormProfile profile, long accountId, String sessionId) {
+    Optional<Instant> cachedStartTime =
+        sessionValidityCache.get().getSessionStartTime(accountId, sessionId);
+    if (cachedStartTime.isPresent()) {
+      return CompletableFuture.completedFuture(
+          Optional.of(new ActiveSession(cachedStartTime.get(), Optional.empty())));
+    }
+
+    return profile
+        .getAccount()
+        .thenApplyAsync(Optional::of, databaseExecutionContext.get())
+        .exceptionally(
+            ex -> {
+              Throwable cause = (ex instanceof CompletionException) ? ex.getCause() : ex;
+              if (cause instanceof AccountNonexistentException) {
+                return Optional.empty();
+              }
+              throw new CompletionException(cause);
+            })
+        .thenApply(
+            optionalAccount ->
+                optionalAccount.flatMap(
+                    account ->
+                        account
+                            .getActiveSession(sessionId)
+                            .map(
+                                session -> {
+                                  Instant startTime = session.getCreationTime();
+                                  sessionValidityCache
+                                      .get()
+                                      .putSessionStartTime(accountId, sessionId, startTime);
+                                  return new ActiveSession(startTime, Optional.of(account));
+                                })));
+  }
+
   private static Accumulator<ByteString, Result> redirectToLogout() {
     return Accumulator.done(Results.redirect(org.pac4j.play.routes.LogoutController.logout()));
   }
@@ -65,7 +65,11 @@ public class AccountModel extends BaseModel {
   @DbJsonB(name = "active_sessions")
   private Map<String, SessionDetails> activeSessions = new HashMap<>();
 
-  /** Updated automatically on every save via {@code @WhenModified}. */
+  /**
+   * Updated automatically on every save via {@code @WhenModified}, and by {@link
+   * services.applicant.AccountActivityRecorder} for applicant activity that doesn't save the
+   * account.
+   */
   @WhenModified private Instant lastActivityTime;
 
   public Instant getLastActivityTime() {
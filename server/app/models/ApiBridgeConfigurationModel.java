@@ -35,6 +35,23 @@ public class ApiBridgeConfigurationModel extends BaseModel {
     }
   }
 
+  /**
+   * Immutable copy of the parts of a configuration needed to call its bridge, which unlike the
+   * model can be shared between requests.
+   */
+  public record Snapshot(
+      String adminName,
+      String hostUrl,
+      String urlPath,
+      String requestSchema,
+      String responseSchema) {
+
+    /** Gets the formatted url of the hostUrl and urlPath combined */
+    public String getFullHostUrlWithPath() {
+      return "%s%s".formatted(hostUrl, urlPath);
+    }
+  }
+
   private static final Pattern ADMIN_NAME_PATTERN = Pattern.compile("^[a-z][a-z0-9-]*$");
 
   @NotNull private String hostUrl;
@@ -210,4 +227,9 @@ public class ApiBridgeConfigurationModel extends BaseModel {
   public String getFullHostUrlWithPath() {
     return "%s%s".formatted(hostUrl, urlPath);
   }
+
+  /** Gets an immutable copy of the configuration for calling its bridge. */
+  public Snapshot snapshot() {
+    return new Snapshot(adminName, hostUrl, urlPath, requestSchema, responseSchema);
+  }
 }
@@ -52,6 +52,9 @@ public class ApplicationModel extends BaseModel {
   @Constraints.Required private EligibilityDetermination eligibilityDetermination;
 
   @Constraints.Required @DbJson private String object;
+  // Hash of the answers in object, used to detect duplicate submissions without loading and
+  // comparing whole documents. See ApplicantData#computeContentHash.
+  private String answersContentHash;
 
   private Instant submitTime;
   private String preferredLocale;
@@ -143,9 +146,32 @@ public class ApplicationModel extends BaseModel {
     this.preferredLocale =
         data.hasPreferredLocale() ? data.preferredLocale().toLanguageTag() : null;
     this.object = data.asJsonString();
+    // The answers have changed, so any stored hash no longer matches them. The hash is only needed
+    // for submitted applications, so it is set by the caller at submission rather than here.
+    this.answersContentHash = null;
     return this;
   }
 
+  /**
+   * Sets the hash of the answers in this application, which must have been computed by {@link
+   * ApplicantData#computeContentHash()} from the data last passed to {@link #setApplicantData}.
+   */
+  public ApplicationModel setAnswersContentHash(String answersContentHash) {
+    this.answersContentHash = answersContentHash;
+    return this;
+  }
+
+  /**
+   * Returns the hash of the answers in this application, as computed by {@link
+   * ApplicantData#computeContentHash()}.
+   *
+   * <p>This is empty for applications submitted before the hash was stored that haven't been
+   * backfilled yet.
+   */
+  public Optional<String> getAnswersContentHash() {
+    return Optional.ofNullable(answersContentHash);
+  }
+
   public List<ApplicationEventModel> getApplicationEvents() {
     return applicationEvents;
   }
@@ -0,0 +1,122 @@
+package models;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.annotation.DbArray;
+import io.ebean.annotation.WhenCreated;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records a status change an admin made to many applications at once,
+ * and how far the emails notifying applicants of it have been queued.
+ *
+ * <p>The emails are queued in {@code applicationIds} order, and {@code notifiedCount} is the
+ * number of applications whose emails have been queued. Once every application's emails are
+ * queued {@code finishTime} is set.
+ *
+ * <p>When queueing the emails fails the error is recorded in {@code lastError} and {@code
+ * attempts} is incremented. An update that fails too many times is finished without queueing the
+ * rest of its emails.
+ */
+@Entity
+@Table(name = "bulk_status_updates")
+public final class BulkStatusUpdateModel extends BaseModel {
+
+  @Constraints.Required private long programId;
+  @Constraints.Required private String statusText;
+  @DbArray private List<Long> applicationIds = new ArrayList<>();
+  @Constraints.Required private int notifiedCount;
+  @Constraints.Required private int attempts;
+
+  private String lastError;
+
+  @WhenCreated private Instant createTime;
+
+  private Instant finishTime;
+
+  public BulkStatusUpdateModel(
+      long programId, String statusText, ImmutableList<Long> applicationIds) {
+    this.programId = programId;
+    this.statusText = checkNotNull(statusText);
+    this.applicationIds = new ArrayList<>(checkNotNull(applicationIds));
+    this.notifiedCount = 0;
+    this.attempts = 0;
+  }
+
+  public long getProgramId() {
+    return programId;
+  }
+
+  public String getStatusText() {
+    return statusText;
+  }
+
+  public int getApplicationCount() {
+    return applicationIds.size();
+  }
+
+  public int getNotifiedCount() {
+    return notifiedCount;
+  }
+
+  /** Returns the IDs of the next applications, up to {@code max}, whose emails aren't queued. */
+  public ImmutableList<Long> getNextApplicationIdsToNotify(int max) {
+    int end = Math.min(applicationIds.size(), notifiedCount + max);
+    return ImmutableList.copyOf(applicationIds.subList(Math.min(notifiedCount, end), end));
+  }
+
+  /**
+   * Records that the emails for {@code count} more applications have been queued, finishing the
+   * update at {@code now} if that was the last of them.
+   */
+  public BulkStatusUpdateModel recordNotified(int count, Instant now) {
+    this.notifiedCount = Math.min(applicationIds.size(), notifiedCount + count);
+    if (notifiedCount == applicationIds.size()) {
+      this.finishTime = checkNotNull(now);
+    }
+    return this;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public BulkStatusUpdateModel incrementAttempts() {
+    this.attempts++;
+    return this;
+  }
+
+  public Optional<String> getLastError() {
+    return Optional.ofNullable(lastError);
+  }
+
+  public BulkStatusUpdateModel setLastError(String lastError) {
+    this.lastError = lastError;
+    return this;
+  }
+
+  /** Finishes the update at {@code now} without queueing any more emails. */
+  public BulkStatusUpdateModel finish(Instant now) {
+    this.finishTime = checkNotNull(now);
+    return this;
+  }
+
+  public Instant getCreateTime() {
+    return createTime;
+  }
+
+  public Optional<Instant> getFinishTime() {
+    return Optional.ofNullable(finishTime);
+  }
+
+  public boolean isFinished() {
+    return finishTime != null;
+  }
+}
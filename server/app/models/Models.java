@@ -15,7 +15,9 @@ public final class Models {
           ApplicantModel.class,
           ApplicationModel.class,
           ApplicationEventModel.class,
+          BulkStatusUpdateModel.class,
           CategoryModel.class,
+          OutboxEmailModel.class,
           PersistedDurableJobModel.class,
           ProgramModel.class,
           QuestionModel.class,
@@ -30,7 +32,11 @@ public final class Models {
   public static void truncate(Database database) {
     // Truncate the relational tables we don't want to have models for.
     // Do them first just in case something slips in before the second truncate.
-    database.truncate("programs_categories", "versions_programs", "versions_questions");
+    database.truncate(
+        "durable_job_checkpoints",
+        "programs_categories",
+        "versions_programs",
+        "versions_questions");
     database.truncate(MODELS.toArray(new Class[0]));
   }
 }
@@ -0,0 +1,88 @@
+package models;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.annotation.DbArray;
+import io.ebean.annotation.WhenCreated;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records an email waiting in the outbox to be sent.
+ *
+ * <p>An email is sent once its {@code nextAttemptTime} is reached, and deleted once it has been
+ * sent. When sending fails the error is recorded in {@code lastError} and {@code nextAttemptTime}
+ * is moved later.
+ */
+@Entity
+@Table(name = "email_outbox")
+public final class OutboxEmailModel extends BaseModel {
+
+  @DbArray private List<String> toAddresses = new ArrayList<>();
+  @Constraints.Required private String subject;
+  @Constraints.Required private String bodyText;
+  @Constraints.Required private int attempts;
+  @Constraints.Required private Instant nextAttemptTime;
+
+  private String lastError;
+
+  @WhenCreated private Instant createTime;
+
+  public OutboxEmailModel(
+      ImmutableList<String> toAddresses, String subject, String bodyText, Instant nextAttemptTime) {
+    this.toAddresses = new ArrayList<>(checkNotNull(toAddresses));
+    this.subject = checkNotNull(subject);
+    this.bodyText = checkNotNull(bodyText);
+    this.attempts = 0;
+    this.nextAttemptTime = checkNotNull(nextAttemptTime);
+  }
+
+  public ImmutableList<String> getToAddresses() {
+    return ImmutableList.copyOf(toAddresses);
+  }
+
+  public String getSubject() {
+    return subject;
+  }
+
+  public String getBodyText() {
+    return bodyText;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public OutboxEmailModel incrementAttempts() {
+    this.attempts++;
+    return this;
+  }
+
+  public Instant getNextAttemptTime() {
+    return nextAttemptTime;
+  }
+
+  public OutboxEmailModel setNextAttemptTime(Instant nextAttemptTime) {
+    this.nextAttemptTime = checkNotNull(nextAttemptTime);
+    return this;
+  }
+
+  public Optional<String> getLastError() {
+    return Optional.ofNullable(lastError);
+  }
+
+  public OutboxEmailModel setLastError(String lastError) {
+    this.lastError = lastError;
+    return this;
+  }
+
+  public Instant getCreateTime() {
+    return createTime;
+  }
+}
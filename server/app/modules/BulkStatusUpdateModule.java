@@ -0,0 +1,14 @@
+package modules;
+
+import com.google.inject.AbstractModule;
+import services.applications.BulkStatusUpdateNotifier;
+
+/** Configures the background queueing of applicant emails for bulk status updates. */
+public class BulkStatusUpdateModule extends AbstractModule {
+
+  @Override
+  protected void configure() {
+    // Binding the notifier as an eager singleton starts it at server start time.
+    bind(BulkStatusUpdateNotifier.class).asEagerSingleton();
+  }
+}
@@ -9,6 +9,7 @@ import org.pac4j.core.context.FrameworkParameters;
 import org.pac4j.core.engine.DefaultLogoutLogic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import services.session.SessionValidityCache;
 
 /**
  * This class extends the default pac4j logout logic to include removing the active session from the
@@ -17,9 +18,12 @@ import org.slf4j.LoggerFactory;
 class CiviFormLogoutLogic extends DefaultLogoutLogic {
   private static final Logger logger = LoggerFactory.getLogger(CiviFormLogoutLogic.class);
   private final ProfileUtils profileUtils;
+  private final SessionValidityCache sessionValidityCache;
 
-  public CiviFormLogoutLogic(ProfileUtils profileUtils) {
+  public CiviFormLogoutLogic(
+      ProfileUtils profileUtils, SessionValidityCache sessionValidityCache) {
     this.profileUtils = profileUtils;
+    this.sessionValidityCache = sessionValidityCache;
   }
 
   @Override
@@ -54,8 +58,10 @@ class CiviFormLogoutLogic extends DefaultLogoutLogic {
               .getAccount()
               .thenAccept(
                   account -> {
-                    account.removeActiveSession(profile.getProfileData().getSessionId());
+                    String sessionId = profile.getProfileData().getSessionId();
+                    account.removeActiveSession(sessionId);
                     account.save();
+                    sessionValidityCache.invalidateSession(account.id, sessionId);
                   })
               .exceptionally(
                   e -> {
@@ -19,6 +19,7 @@ import durablejobs.RecurringJobScheduler;
 import durablejobs.StartupDurableJobRunner;
 import durablejobs.StartupJobScheduler;
 import durablejobs.jobs.AddCategoryAndTranslationsJob;
+import durablejobs.jobs.BackfillAnswersContentHashJob;
 import durablejobs.jobs.MapRefreshJob;
 import durablejobs.jobs.OldJobCleanupJob;
 import durablejobs.jobs.ReportingDashboardMonthlyRefreshJob;
@@ -42,6 +43,8 @@ import repository.VersionRepository;
 import scala.concurrent.ExecutionContext;
 import services.cloud.PublicStorageClient;
 import services.geojson.GeoJsonClient;
+import services.geojson.MapFeaturesService;
+import services.session.SessionValidityCache;
 
 /**
  * Configures {@link durablejobs.DurableJob}s with their {@link DurableJobName} and, if they are
@@ -123,7 +126,9 @@ public final class DurableJobModule extends AbstractModule {
       VersionRepository versionRepository,
       Config config,
       GeoJsonDataRepository geoJsonDataRepository,
-      GeoJsonClient geoJsonClient) {
+      GeoJsonClient geoJsonClient,
+      MapFeaturesService mapFeaturesService,
+      SessionValidityCache sessionValidityCache) {
     var durableJobRegistry = new DurableJobRegistry();
 
     durableJobRegistry.register(
@@ -133,6 +138,14 @@ public final class DurableJobModule extends AbstractModule {
             new OldJobCleanupJob(persistedDurableJobRepository, persistedDurableJob),
         new RecurringJobExecutionTimeResolvers.Sunday2Am());
 
+    // UPDATE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS_20250825 only runs once, so accounts whose last
+    // activity time is still missing after it has run are reconciled here.
+    durableJobRegistry.register(
+        DurableJobName.RECONCILE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS,
+        JobType.RECURRING,
+        UpdateLastActivityTimeForAccounts::new,
+        new RecurringJobExecutionTimeResolvers.Sunday2Am());
+
     durableJobRegistry.register(
         DurableJobName.REPORTING_DASHBOARD_MONTHLY_REFRESH,
         JobType.RECURRING,
@@ -144,7 +157,13 @@ public final class DurableJobModule extends AbstractModule {
         DurableJobName.UNUSED_ACCOUNT_CLEANUP,
         JobType.RECURRING,
         persistedDurableJob ->
-            new UnusedAccountCleanupJob(accountRepository, nowProvider, persistedDurableJob),
+            new UnusedAccountCleanupJob(
+                accountRepository,
+                persistedDurableJobRepository,
+                sessionValidityCache,
+                nowProvider,
+                config,
+                persistedDurableJob),
         new RecurringJobExecutionTimeResolvers.SecondOfMonth2Am());
 
     durableJobRegistry.register(
@@ -155,6 +174,14 @@ public final class DurableJobModule extends AbstractModule {
                 publicStorageClient, versionRepository, persistedDurableJob),
         new RecurringJobExecutionTimeResolvers.ThirdOfMonth2Am());
 
+    // Runs in the background rather than at startup, since there may be many applications to
+    // backfill. Once they are all done, each run finds nothing to do.
+    durableJobRegistry.register(
+        DurableJobName.BACKFILL_ANSWERS_CONTENT_HASH,
+        JobType.RECURRING,
+        BackfillAnswersContentHashJob::new,
+        new RecurringJobExecutionTimeResolvers.EveryThirtyMinutes());
+
     // TODO(#12749): Re-register CalculateEligibilityDeterminationJob once bugs are fixed
 
     if (config.getBoolean("durable_jobs.map_refresh")) {
@@ -162,7 +189,11 @@ public final class DurableJobModule extends AbstractModule {
           DurableJobName.REFRESH_MAP_DATA,
           JobType.RECURRING,
           persistedDurableJobModel ->
-              new MapRefreshJob(persistedDurableJobModel, geoJsonDataRepository, geoJsonClient),
+              new MapRefreshJob(
+                  persistedDurableJobModel,
+                  geoJsonDataRepository,
+                  geoJsonClient,
+                  mapFeaturesService),
           new RecurringJobExecutionTimeResolvers.EveryThirtyMinutes());
     }
 
@@ -2,12 +2,16 @@ package modules;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import annotations.BindingAnnotations.EmailProviderClient;
 import com.google.inject.AbstractModule;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigException;
 import play.Environment;
+import services.email.EmailOutbox;
+import services.email.EmailOutboxWorker;
 import services.email.EmailSendClient;
 import services.email.EmailSendProvider;
+import services.email.FakeEmailSendClient;
 import services.email.aws.SimpleEmail;
 import services.email.graph.GraphApiEmailClient;
 
@@ -33,8 +37,23 @@ public class EmailSendModule extends AbstractModule {
     }
 
     switch (emailSendProvider) {
-      case AWS_SES -> bind(EmailSendClient.class).to(SimpleEmail.class);
-      case GRAPH_API -> bind(EmailSendClient.class).to(GraphApiEmailClient.class);
+      case AWS_SES ->
+          bind(EmailSendClient.class)
+              .annotatedWith(EmailProviderClient.class)
+              .to(SimpleEmail.class);
+      case GRAPH_API ->
+          bind(EmailSendClient.class)
+              .annotatedWith(EmailProviderClient.class)
+              .to(GraphApiEmailClient.class);
+      case FAKE ->
+          bind(EmailSendClient.class)
+              .annotatedWith(EmailProviderClient.class)
+              .to(FakeEmailSendClient.class);
     }
+
+    // Emails are queued in the outbox, and sent through the provider in the background.
+    bind(EmailSendClient.class).to(EmailOutbox.class);
+    // Binding the worker as an eager singleton starts it at server start time.
+    bind(EmailOutboxWorker.class).asEagerSingleton();
   }
 }
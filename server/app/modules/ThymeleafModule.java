@@ -9,6 +9,8 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.typesafe.config.Config;
 import controllers.AssetsFinder;
 import java.util.Arrays;
 import java.util.Locale;
@@ -39,27 +41,48 @@ import play.api.i18n.Lang;
 import play.i18n.MessagesApi;
 import play.mvc.Http;
 import views.tags.CiviFormProcessorDialect;
+import views.thymeleaf.TemplateCacheManager;
+import views.thymeleaf.TemplateRenderMetricsDialect;
+import views.thymeleaf.TemplateWarmer;
 
 public final class ThymeleafModule extends AbstractModule {
 
+  @Override
+  protected void configure() {
+    // Parse the templates at startup rather than on the first request that uses each one.
+    bind(TemplateWarmer.class).asEagerSingleton();
+  }
+
+  /**
+   * Provides the one engine shared by every view, so that each template is parsed and cached once
+   * per server rather than once per view.
+   */
   @Provides
+  @Singleton
   public TemplateEngine provideTemplateEngine(
       FileTemplateResolver fileTemplateResolver,
       MessagesApi messagesApi,
       AssetsFinder assetsFinder,
       Environment environment,
+      Config config,
       Provider<ObjectMapper> mapperProvider) {
     TemplateEngine templateEngine = new TemplateEngine();
 
     templateEngine.setTemplateResolver(fileTemplateResolver);
+    templateEngine.setCacheManager(
+        new TemplateCacheManager(
+            config.getLong("thymeleaf.template_cache_maximum_size"),
+            config.getLong("thymeleaf.expression_cache_maximum_size")));
     templateEngine.setMessageResolver(new PlayMessageResolver(messagesApi));
     templateEngine.addDialect(new HtmxDialect(mapperProvider.get()));
     templateEngine.addDialect(new CiviFormProcessorDialect(assetsFinder, environment));
+    templateEngine.addDialect(new TemplateRenderMetricsDialect());
 
     return templateEngine;
   }
 
   @Provides
+  @Singleton
   public FileTemplateResolver provideFileTemplateResolver(
       Application application, Environment environment) {
     FileTemplateResolver fileTemplateResolver = new FileTemplateResolver();
@@ -0,0 +1,50 @@
+package modules;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import javax.inject.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.api.db.evolutions.ApplicationEvolutions;
+import repository.VersionCacheMaintainer;
+import services.settings.SettingsManifest;
+
+public class VersionCacheModule extends AbstractModule {
+  private static final Logger logger = LoggerFactory.getLogger(VersionCacheModule.class);
+
+  @Override
+  protected void configure() {
+
+    // asEagerSingleton() makes Guice instantiate VersionCacheMaintainer at startup
+    bind(VersionCacheMaintainerStarter.class).asEagerSingleton();
+  }
+
+  /**
+   * This class injects ApplicationEvolutions and checks the `upToDate` method to prevent this
+   * module from running until after the evolutions are completed. The listener is only started
+   * when the version cache is enabled, since nothing reads the cache otherwise.
+   *
+   * <p>See <a href="https://github.com/civiform/civiform/pull/8253">PR 8253</a> for more extensive
+   * details.
+   */
+  public static final class VersionCacheMaintainerStarter {
+
+    @Inject
+    public VersionCacheMaintainerStarter(
+        ApplicationEvolutions applicationEvolutions,
+        SettingsManifest settingsManifest,
+        Provider<VersionCacheMaintainer> versionCacheMaintainerProvider) {
+      logger.trace("VersionCacheMaintainerStarter - Started");
+
+      if (!settingsManifest.getVersionCacheEnabled()) {
+        logger.trace("Version cache disabled");
+      } else if (applicationEvolutions.upToDate()) {
+        logger.trace("VersionCacheMaintainerStarter - Task Start after evolution");
+        versionCacheMaintainerProvider.get().init();
+        logger.trace("VersionCacheMaintainerStarter - Task End");
+      } else {
+        logger.trace("Evolutions Not Ready");
+      }
+    }
+  }
+}
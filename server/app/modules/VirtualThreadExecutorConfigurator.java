@@ -0,0 +1,154 @@
+package modules;
+
+import com.typesafe.config.Config;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.dispatch.DispatcherPrerequisites;
+import org.apache.pekko.dispatch.ExecutorServiceConfigurator;
+import org.apache.pekko.dispatch.ExecutorServiceFactory;
+import org.apache.pekko.dispatch.ForkJoinExecutorConfigurator;
+import org.apache.pekko.dispatch.ThreadPoolExecutorConfigurator;
+
+/**
+ * A Pekko executor that can run a dispatcher's tasks on virtual threads, configured by the
+ * dispatcher's {@code virtual-thread-executor} block:
+ *
+ * <ul>
+ *   <li>{@code enabled}: whether to use virtual threads. If false, the dispatcher uses its {@code
+ *       fallback-executor} exactly as if it had been configured as its {@code executor}.
+ *   <li>{@code fallback-executor}: either {@code fork-join-executor} or {@code
+ *       thread-pool-executor}.
+ *   <li>{@code max-concurrency}: the most tasks that may run at once, or 0 for no limit.
+ * </ul>
+ *
+ * <p>Each task gets its own virtual thread, so blocking calls don't tie up a pool thread. Tasks
+ * over {@code max-concurrency} wait for a permit on their virtual thread, which is cheap. For the
+ * database dispatcher the limit matches the connection pool, so a burst of requests waits here,
+ * where it is measured, rather than for a connection. The number of waiting and running tasks and
+ * the time spent waiting are exported to Prometheus, labelled by dispatcher.
+ */
+public final class VirtualThreadExecutorConfigurator extends ExecutorServiceConfigurator {
+
+  private static final Gauge WAITING_TASKS =
+      Gauge.build()
+          .name("dispatcher_waiting_tasks")
+          .help("Number of tasks waiting for a virtual thread dispatcher permit")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Gauge RUNNING_TASKS =
+      Gauge.build()
+          .name("dispatcher_running_tasks")
+          .help("Number of tasks running on a virtual thread dispatcher")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Histogram WAIT_TIME =
+      Histogram.build()
+          .name("dispatcher_wait_seconds")
+          .help("Time tasks waited for a virtual thread dispatcher permit")
+          .labelNames("dispatcher")
+          .register();
+
+  private final boolean enabled;
+  private final int maxConcurrency;
+  private final ExecutorServiceConfigurator fallback;
+
+  public VirtualThreadExecutorConfigurator(Config config, DispatcherPrerequisites prerequisites) {
+    super(config, prerequisites);
+    Config settings = config.getConfig("virtual-thread-executor");
+    this.enabled = settings.getBoolean("enabled");
+    this.maxConcurrency = settings.getInt("max-concurrency");
+    String fallbackExecutor = settings.getString("fallback-executor");
+    this.fallback =
+        switch (fallbackExecutor) {
+          case "fork-join-executor" ->
+              new ForkJoinExecutorConfigurator(
+                  config.getConfig("fork-join-executor"), prerequisites);
+          case "thread-pool-executor" ->
+              new ThreadPoolExecutorConfigurator(
+                  config.getConfig("thread-pool-executor"), prerequisites);
+          default ->
+              throw new ConfigurationException(
+                  String.format("Unsupported fallback-executor: %s", fallbackExecutor));
+        };
+  }
+
+  @Override
+  public ExecutorServiceFactory createExecutorServiceFactory(
+      String id, ThreadFactory threadFactory) {
+    if (!enabled) {
+      return fallback.createExecutorServiceFactory(id, threadFactory);
+    }
+    return () -> new BoundedVirtualThreadExecutor(id, maxConcurrency);
+  }
+
+  /** Runs each task on a new virtual thread, at most {@code maxConcurrency} at a time. */
+  static final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final String dispatcherId;
+    private final Optional<Semaphore> permits;
+    private final ExecutorService executor;
+
+    BoundedVirtualThreadExecutor(String dispatcherId, int maxConcurrency) {
+      this.dispatcherId = dispatcherId;
+      this.permits =
+          maxConcurrency > 0 ? Optional.of(new Semaphore(maxConcurrency, true)) : Optional.empty();
+      this.executor =
+          Executors.newThreadPerTaskExecutor(
+              Thread.ofVirtual().name(dispatcherId + "-", 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+      long queuedNanos = System.nanoTime();
+      WAITING_TASKS.labels(dispatcherId).inc();
+      executor.execute(
+          () -> {
+            permits.ifPresent(Semaphore::acquireUninterruptibly);
+            WAITING_TASKS.labels(dispatcherId).dec();
+            WAIT_TIME.labels(dispatcherId).observe((System.nanoTime() - queuedNanos) / 1e9);
+            RUNNING_TASKS.labels(dispatcherId).inc();
+            try {
+              task.run();
+            } finally {
+              RUNNING_TASKS.labels(dispatcherId).dec();
+              permits.ifPresent(Semaphore::release);
+            }
+          });
+    }
+
+    @Override
+    public void shutdown() {
+      executor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return executor.awaitTermination(timeout, unit);
+    }
+  }
+}
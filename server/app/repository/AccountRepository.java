@@ -8,16 +8,24 @@ import auth.CiviFormProfile;
 import auth.oidc.IdTokens;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import forms.TiClientInfoForm;
 import io.ebean.DB;
 import io.ebean.Database;
+import io.ebean.SqlQuery;
+import io.ebean.SqlRow;
 import io.ebean.Transaction;
 import io.ebean.annotation.TxIsolation;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -46,6 +54,31 @@ public final class AccountRepository {
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("AccountRepository");
 
+  /**
+   * The representative (earliest created) applicant of each client account of a trusted
+   * intermediary group. Filters on the applicant's indexed columns are added to the where clause.
+   */
+  private static final String TI_CLIENT_APPLICANTS =
+      """
+      from applicants
+      join accounts on accounts.id = applicants.account_id
+      where accounts.managed_by_group_id = :tiGroupId
+        and not exists (
+          select 1 from applicants earlier
+          where earlier.account_id = applicants.account_id
+            and (earlier.when_created < applicants.when_created
+              or earlier.when_created = applicants.when_created and earlier.id < applicants.id))
+      """;
+
+  /**
+   * The applicant's display name as {@link ApplicantModel#getApplicantDisplayName()} builds it from
+   * the applicant's own columns, sorted case-sensitively. It is indexed by evolution 106, so a page
+   * of clients is read in order from the index.
+   */
+  private static final String TI_CLIENT_SORT_KEY =
+      "coalesce(applicants.last_name || ', ' || applicants.first_name, applicants.first_name,"
+          + " applicants.email_address) collate \"C\"";
+
   private final Database database;
   private final TransactionManager transactionManager;
   private final DatabaseExecutionContext dbExecutionContext;
@@ -385,6 +418,123 @@ public final class AccountRepository {
     return civiformProfile.getAccount().join().getMemberOfGroup();
   }
 
+  /**
+   * Returns one page of the client accounts managed by a trusted intermediary group, sorted by
+   * applicant display name. Clients without an applicant are not returned.
+   *
+   * <p>If {@code nameQuery} or {@code dateOfBirth} is present, only clients whose date of birth
+   * matches or whose name matches the name query are returned. A name matches if the first name,
+   * last name or, for an applicant without a first name, email address contains the query ignoring
+   * case. A query with a comma, such as "Doe, J", matches the end of the last name and the start of
+   * the first name, as in the displayed name. Filtering, sorting and paging are all done by the
+   * database using the applicant indexes, and only the accounts on the requested page are loaded.
+   *
+   * @param page the 1-indexed page number
+   */
+  public ImmutableList<AccountModel> searchTrustedIntermediaryClients(
+      long tiGroupId,
+      Optional<String> nameQuery,
+      Optional<LocalDate> dateOfBirth,
+      int pageSize,
+      int page) {
+    checkArgument(pageSize > 0 && page > 0, "pageSize and page must be positive");
+    String sql =
+        "select applicants.account_id "
+            + TI_CLIENT_APPLICANTS
+            + tiClientsFilter(nameQuery, dateOfBirth)
+            + " order by "
+            + TI_CLIENT_SORT_KEY
+            + ", applicants.account_id limit :limit offset :offset";
+    ImmutableList<Long> accountIds =
+        ImmutableList.copyOf(
+            tiClientsQuery(sql, tiGroupId, nameQuery, dateOfBirth)
+                .setLabel("AccountRepository.searchTrustedIntermediaryClients")
+                .setParameter("limit", pageSize)
+                .setParameter("offset", (long) (page - 1) * pageSize)
+                .mapToScalar(Long.class)
+                .findList());
+    if (accountIds.isEmpty()) {
+      return ImmutableList.of();
+    }
+
+    ImmutableMap<Long, AccountModel> accountsById =
+        database
+            .find(AccountModel.class)
+            .fetch("applicants")
+            .setLabel("AccountModel.findByIds")
+            .setProfileLocation(
+                queryProfileLocationBuilder.create("searchTrustedIntermediaryClients"))
+            .where()
+            .idIn(accountIds)
+            .findList()
+            .stream()
+            .collect(ImmutableMap.toImmutableMap(account -> account.id, account -> account));
+    return accountIds.stream()
+        .map(accountsById::get)
+        .filter(Objects::nonNull)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  /**
+   * Returns the number of client accounts managed by a trusted intermediary group that match the
+   * filters, as described in {@link #searchTrustedIntermediaryClients}.
+   */
+  public int countTrustedIntermediaryClients(
+      long tiGroupId, Optional<String> nameQuery, Optional<LocalDate> dateOfBirth) {
+    String sql =
+        "select count(*) " + TI_CLIENT_APPLICANTS + tiClientsFilter(nameQuery, dateOfBirth);
+    return tiClientsQuery(sql, tiGroupId, nameQuery, dateOfBirth)
+        .setLabel("AccountRepository.countTrustedIntermediaryClients")
+        .mapToScalar(Long.class)
+        .findOne()
+        .intValue();
+  }
+
+  private static String tiClientsFilter(
+      Optional<String> nameQuery, Optional<LocalDate> dateOfBirth) {
+    List<String> conditions = new ArrayList<>();
+    if (dateOfBirth.isPresent()) {
+      conditions.add("applicants.date_of_birth = :dateOfBirth");
+    }
+    if (nameQuery.isPresent()) {
+      // Each condition can be answered by the trigram index on its column.
+      conditions.add("applicants.first_name ilike :namePattern");
+      conditions.add("applicants.last_name ilike :namePattern");
+      conditions.add(
+          "applicants.first_name is null and applicants.email_address ilike :namePattern");
+      if (nameQuery.get().contains(",")) {
+        conditions.add(
+            "applicants.last_name ilike :lastNamePattern"
+                + " and applicants.first_name ilike :firstNamePattern");
+      }
+    }
+    return conditions.isEmpty() ? "" : " and (" + String.join(" or ", conditions) + ")";
+  }
+
+  private SqlQuery tiClientsQuery(
+      String sql, long tiGroupId, Optional<String> nameQuery, Optional<LocalDate> dateOfBirth) {
+    SqlQuery query = database.sqlQuery(sql).setParameter("tiGroupId", tiGroupId);
+    dateOfBirth.ifPresent(dob -> query.setParameter("dateOfBirth", dob));
+    nameQuery.ifPresent(
+        name -> {
+          query.setParameter("namePattern", "%" + escapeLikePattern(name) + "%");
+          if (name.contains(",")) {
+            // "Doe, J" is the end of a last name followed by the start of a first name.
+            int comma = name.indexOf(',');
+            String lastNameEnd = name.substring(0, comma);
+            String firstNameStart = name.substring(comma + 1).stripLeading();
+            query.setParameter("lastNamePattern", "%" + escapeLikePattern(lastNameEnd));
+            query.setParameter("firstNamePattern", escapeLikePattern(firstNameStart) + "%");
+          }
+        });
+    return query;
+  }
+
+  /** Escapes the characters that {@code like} treats as wildcards. */
+  private static String escapeLikePattern(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
   /**
    * Create an applicant and add it to the provided trusted intermediary group. Associate it with an
    * email address if one is provided, but if one is not provided, use an anonymous (guest-style)
@@ -504,37 +654,122 @@ public final class AccountRepository {
             .findSet());
   }
 
+  /** The number of applicants and accounts deleted by a cleanup of unused guest accounts. */
+  public record DeletedGuestAccounts(int applicants, int accounts) {}
+
   /** Delete guest accounts that have no data and were created before the provided maximum age. */
   public int deleteUnusedGuestAccounts(int minAgeInDays) {
+    return deleteUnusedGuestAccounts(
+            minAgeInDays, /* fromApplicantId= */ 0, /* toApplicantId= */ Long.MAX_VALUE)
+        .accounts();
+  }
+
+  /**
+   * Like {@link #deleteUnusedGuestAccounts(int)}, but only considers applicants with IDs from
+   * {@code fromApplicantId} inclusive to {@code toApplicantId} exclusive, so that a large cleanup
+   * can be split into statements that each lock a bounded number of rows.
+   */
+  public DeletedGuestAccounts deleteUnusedGuestAccounts(
+      int minAgeInDays, long fromApplicantId, long toApplicantId) {
     // First, identify all unused guest applicants: those with no applications, on guest accounts
     // (no authority_id), and older than the minimum age. Then delete those applicants. Finally,
     // only delete accounts where ALL applicants have been removed — this handles the case where
     // an Account has multiple Applicants and only some qualify for cleanup.
     String sql =
-        "WITH unused_applicants AS ( "
-            + "  SELECT applicants.account_id AS account_id, applicants.id AS applicant_id "
-            + "  FROM applicants"
-            + "  LEFT JOIN applications ON applicants.id = applications.applicant_id "
-            + "  LEFT JOIN accounts ON accounts.id = applicants.account_id "
-            + "  WHERE applications.applicant_id IS NULL "
-            + "  AND accounts.authority_id IS NULL "
-            + "  AND applicants.when_created < CURRENT_DATE - INTERVAL '"
-            + minAgeInDays
-            + " days' "
-            + "), "
-            + "applicants_deleted AS ("
-            + "  DELETE FROM applicants"
-            + "  WHERE applicants.id IN (SELECT applicant_id FROM unused_applicants) "
-            + ") "
-            + "DELETE FROM accounts "
-            + "WHERE accounts.id IN (SELECT account_id FROM unused_applicants) "
-            + "AND NOT EXISTS ( "
-            + "  SELECT 1 FROM applicants "
-            + "  WHERE applicants.account_id = accounts.id "
-            + "  AND applicants.id NOT IN (SELECT applicant_id FROM unused_applicants) "
-            + ");";
-
-    return database.sqlUpdate(sql).execute();
+        """
+        WITH unused_applicants AS (
+          SELECT applicants.account_id AS account_id, applicants.id AS applicant_id
+          FROM applicants
+          LEFT JOIN applications ON applicants.id = applications.applicant_id
+          LEFT JOIN accounts ON accounts.id = applicants.account_id
+          WHERE applications.applicant_id IS NULL
+          AND accounts.authority_id IS NULL
+          AND applicants.when_created < CURRENT_DATE - make_interval(days => :min_age_in_days)
+          AND applicants.id >= :from_applicant_id
+          AND applicants.id < :to_applicant_id
+        ),
+        deleted_applicants AS (
+          DELETE FROM applicants
+          WHERE applicants.id IN (SELECT applicant_id FROM unused_applicants)
+          RETURNING applicants.id
+        ),
+        deleted_accounts AS (
+          DELETE FROM accounts
+          WHERE accounts.id IN (SELECT account_id FROM unused_applicants)
+          AND NOT EXISTS (
+            SELECT 1 FROM applicants
+            WHERE applicants.account_id = accounts.id
+            AND applicants.id NOT IN (SELECT applicant_id FROM unused_applicants)
+          )
+          RETURNING accounts.id
+        )
+        SELECT
+          (SELECT COUNT(*) FROM deleted_applicants) AS deleted_applicants,
+          (SELECT COUNT(*) FROM deleted_accounts) AS deleted_accounts
+        """;
+
+    // The statement deletes rows, so run it in an explicit transaction rather than the read-only
+    // one Ebean would use for a query.
+    try (Transaction transaction = database.beginTransaction()) {
+      SqlRow row =
+          database
+              .sqlQuery(sql)
+              .setLabel("AccountModel.deleteUnusedGuestAccounts")
+              .setParameter("min_age_in_days", minAgeInDays)
+              .setParameter("from_applicant_id", fromApplicantId)
+              .setParameter("to_applicant_id", toApplicantId)
+              .findOne();
+      transaction.commit();
+      return new DeletedGuestAccounts(
+          row.getInteger("deleted_applicants"), row.getInteger("deleted_accounts"));
+    }
+  }
+
+  /** Returns the highest applicant ID, or zero if there are no applicants. */
+  public long getMaxApplicantId() {
+    return database
+        .sqlQuery("SELECT COALESCE(MAX(id), 0) AS max_id FROM applicants")
+        .setLabel("ApplicantModel.findMaxId")
+        .findOne()
+        .getLong("max_id");
+  }
+
+  /**
+   * Moves each account's last activity time forward to the given time, in a single update. Times
+   * earlier than an account's current last activity time and accounts that don't exist are
+   * ignored.
+   */
+  public void recordLastActivityTimes(ImmutableMap<Long, Instant> lastActivityTimes) {
+    if (lastActivityTimes.isEmpty()) {
+      return;
+    }
+
+    try (Transaction transaction = database.beginTransaction()) {
+      // Other servers record activity for the same accounts, so the rows are locked in ID order
+      // first.
+      ValuesUpdate.lockRows(
+          database,
+          "AccountModel.lockForLastActivityTimes",
+          "accounts",
+          "id",
+          lastActivityTimes.keySet());
+      ValuesUpdate.create(
+              database,
+              "AccountModel.recordLastActivityTimes",
+              """
+              UPDATE accounts AS a
+              SET last_activity_time =
+                  GREATEST(COALESCE(a.last_activity_time, u.activity_time), u.activity_time)
+              FROM (VALUES %s) AS u(account_id, activity_time)
+              WHERE a.id = u.account_id
+              """,
+              ImmutableList.of("BIGINT", "TIMESTAMP"),
+              lastActivityTimes.entrySet().stream()
+                  .map(entry -> ImmutableList.<Object>of(entry.getKey(), entry.getValue()))
+                  .collect(ImmutableList.toImmutableList()))
+          .execute();
+      transaction.commit();
+    }
   }
 
   /**
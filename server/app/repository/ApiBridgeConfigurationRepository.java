@@ -12,6 +12,8 @@ import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import models.ApiBridgeConfigurationModel;
 import services.apibridge.ApiBridgeServiceDto.CompatibilityLevel;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
 
 /**
  * Provides an asynchronous API for persistence and query of {@link
@@ -22,13 +24,30 @@ public final class ApiBridgeConfigurationRepository {
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("ApiBridgeRepository");
 
+  // The enabled configurations are cached together under this key.
+  private static final String ENABLED_CONFIGURATIONS_KEY = "enabled";
+  // Rough heap size of a configuration, excluding its schemas.
+  private static final int CONFIGURATION_BASE_WEIGHT = 1024;
+
   private final Database database;
   private final DatabaseExecutionContext dbExecutionContext;
+  private final ValueCache<ImmutableList<ApiBridgeConfigurationModel.Snapshot>>
+      enabledConfigurationsCache;
 
   @Inject
-  public ApiBridgeConfigurationRepository(DatabaseExecutionContext dbExecutionContext) {
+  public ApiBridgeConfigurationRepository(
+      DatabaseExecutionContext dbExecutionContext, ValueCaches valueCaches) {
     this.database = DB.getDefault();
     this.dbExecutionContext = checkNotNull(dbExecutionContext);
+    this.enabledConfigurationsCache =
+        checkNotNull(valueCaches)
+            .create(
+                "api-bridge-configurations",
+                (key, configurations) ->
+                    key.length()
+                        + configurations.stream()
+                            .mapToInt(ApiBridgeConfigurationRepository::configurationWeight)
+                            .sum());
   }
 
   /** Returns all {@link ApiBridgeConfigurationModel} records asynchronously. */
@@ -46,27 +65,40 @@ public final class ApiBridgeConfigurationRepository {
   }
 
   /**
-   * Returns all {@link ApiBridgeConfigurationModel} records asynchronously that are enabled
-   * filtered on the requested admin names.
+   * Returns snapshots of all {@link ApiBridgeConfigurationModel} records asynchronously that are
+   * enabled filtered on the requested admin names.
+   *
+   * <p>This is called each time an applicant submits a block of a program with bridges, so the
+   * enabled configurations are cached. The cache is cleared when configurations are changed
+   * through this repository, and expires after {@code
+   * value_caches.api-bridge-configurations.expire-after-write} for changes made on other servers.
+   * Immutable snapshots are cached rather than the models, so they can be shared between requests.
    */
-  public CompletionStage<ImmutableList<ApiBridgeConfigurationModel>> findAllEnabledByAdminNames(
-      ImmutableSet<String> adminNames) {
+  public CompletionStage<ImmutableList<ApiBridgeConfigurationModel.Snapshot>>
+      findAllEnabledByAdminNames(ImmutableSet<String> adminNames) {
     return supplyAsync(
         () ->
-            database
-                .find(ApiBridgeConfigurationModel.class)
-                .setLabel("ApiBridgeConfigurationRepository.findAllEnabledByAdminNames")
-                .setProfileLocation(
-                    queryProfileLocationBuilder.create("findAllEnabledByAdminNames"))
-                .where()
-                .in("adminName", adminNames)
-                .eq("enabled", true)
-                .findList()
+            enabledConfigurationsCache
+                .getOrElseUpdate(ENABLED_CONFIGURATIONS_KEY, this::findAllEnabled)
                 .stream()
+                .filter(model -> adminNames.contains(model.adminName()))
                 .collect(ImmutableList.toImmutableList()),
         dbExecutionContext);
   }
 
+  private ImmutableList<ApiBridgeConfigurationModel.Snapshot> findAllEnabled() {
+    return database
+        .find(ApiBridgeConfigurationModel.class)
+        .setLabel("ApiBridgeConfigurationRepository.findAllEnabled")
+        .setProfileLocation(queryProfileLocationBuilder.create("findAllEnabled"))
+        .where()
+        .eq("enabled", true)
+        .findList()
+        .stream()
+        .map(ApiBridgeConfigurationModel::snapshot)
+        .collect(ImmutableList.toImmutableList());
+  }
+
   /** Returns all {@link ApiBridgeConfigurationModel} records matching the hostUrl */
   public CompletionStage<ImmutableList<ApiBridgeConfigurationModel>> findByHostUrl(String hostUrl) {
     return supplyAsync(
@@ -125,6 +157,7 @@ public final class ApiBridgeConfigurationRepository {
     return supplyAsync(
         () -> {
           database.insert(model);
+          enabledConfigurationsCache.remove(ENABLED_CONFIGURATIONS_KEY);
           return model;
         },
         dbExecutionContext);
@@ -135,6 +168,7 @@ public final class ApiBridgeConfigurationRepository {
     return supplyAsync(
         () -> {
           database.update(model);
+          enabledConfigurationsCache.remove(ENABLED_CONFIGURATIONS_KEY);
           return model;
         },
         dbExecutionContext);
@@ -147,6 +181,18 @@ public final class ApiBridgeConfigurationRepository {
    */
   public CompletionStage<Boolean> delete(Long id) {
     return supplyAsync(
-        () -> database.delete(ApiBridgeConfigurationModel.class, id) == 1, dbExecutionContext);
+        () -> {
+          boolean deleted = database.delete(ApiBridgeConfigurationModel.class, id) == 1;
+          enabledConfigurationsCache.remove(ENABLED_CONFIGURATIONS_KEY);
+          return deleted;
+        },
+        dbExecutionContext);
+  }
+
+  private static int configurationWeight(ApiBridgeConfigurationModel.Snapshot configuration) {
+    // The schemas make up most of a configuration's size.
+    return CONFIGURATION_BASE_WEIGHT
+        + configuration.requestSchema().length()
+        + configuration.responseSchema().length();
   }
 }
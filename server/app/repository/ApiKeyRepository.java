@@ -4,15 +4,18 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.PagedList;
 import io.ebean.Query;
+import io.ebean.Transaction;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import models.ApiKeyModel;
+import services.apikey.ApiKeyUsage;
 import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
 
@@ -25,13 +28,11 @@ public final class ApiKeyRepository {
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("ApiKeyRepository");
   private final Database database;
-  private final TransactionManager transactionManager;
   private final DatabaseExecutionContext dbExecutionContext;
 
   @Inject
   public ApiKeyRepository(DatabaseExecutionContext dbExecutionContext) {
     this.database = DB.getDefault();
-    this.transactionManager = new TransactionManager();
     this.dbExecutionContext = checkNotNull(dbExecutionContext);
   }
 
@@ -104,25 +105,47 @@ public final class ApiKeyRepository {
         ImmutableList.copyOf(pagedList.getList()));
   }
 
-  /** Increment an API key's call count and set its last call IP address to the one provided. */
-  public void recordApiKeyUsage(String apiKeyId, String remoteAddress) {
-    transactionManager.executeWithRetry(
-        () -> {
-          Optional<ApiKeyModel> apiKey =
-              database
-                  .find(ApiKeyModel.class)
-                  .where()
-                  .eq("key_id", apiKeyId)
-                  .setLabel("ApiKeyModel.findById")
-                  .setProfileLocation(queryProfileLocationBuilder.create("recordApiKeyUsage"))
-                  .findOneOrEmpty();
-
-          if (apiKey.isEmpty()) {
-            throw new IllegalArgumentException("API key %s not found".formatted(apiKeyId));
-          }
-
-          apiKey.get().incrementCallCount().setLastCallIpAddress(remoteAddress).save();
-        });
+  /**
+   * Adds each usage's call count to its key's call count and sets the key's last call IP address,
+   * in a single update. Usages for keys that don't exist are ignored.
+   */
+  public void recordApiKeyUsage(ImmutableList<ApiKeyUsage> usages) {
+    if (usages.isEmpty()) {
+      return;
+    }
+
+    try (Transaction transaction = database.beginTransaction()) {
+      // Other servers flush usage for the same keys, so the rows are locked in key order first.
+      ValuesUpdate.lockRows(
+          database,
+          "ApiKeyModel.lockForUsage",
+          "api_keys",
+          "key_id",
+          usages.stream().map(ApiKeyUsage::keyId).collect(ImmutableSet.toImmutableSet()));
+      ValuesUpdate.create(
+              database,
+              "ApiKeyModel.recordUsage",
+              """
+              UPDATE api_keys AS k
+              SET call_count = k.call_count + u.call_count,
+                  last_call_ip_address = u.ip_address,
+                  update_time = GREATEST(k.update_time, u.call_time)
+              FROM (VALUES %s) AS u(key_id, call_count, ip_address, call_time)
+              WHERE k.key_id = u.key_id
+              """,
+              ImmutableList.of("VARCHAR", "BIGINT", "VARCHAR", "TIMESTAMP"),
+              usages.stream()
+                  .map(
+                      usage ->
+                          ImmutableList.<Object>of(
+                              usage.keyId(),
+                              usage.callCount(),
+                              usage.lastCallIpAddress(),
+                              usage.lastCallTime()))
+                  .collect(ImmutableList.toImmutableList()))
+          .execute();
+      transaction.commit();
+    }
   }
 
   /** Insert a new {@link ApiKeyModel} record asynchronously. */
@@ -9,6 +9,7 @@ import com.google.common.collect.ImmutableList;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.Transaction;
+import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +19,7 @@ import javax.inject.Inject;
 import models.AccountModel;
 import models.ApplicationEventModel;
 import models.ApplicationModel;
+import services.applicant.AccountActivityRecorder;
 import services.application.ApplicationEventDetails;
 
 /**
@@ -27,15 +29,22 @@ import services.application.ApplicationEventDetails;
 public final class ApplicationEventRepository {
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("ApplicationEventRepository");
+  // Admins commonly update the statuses of hundreds of applications at once.
+  private static final int STATUS_EVENT_INSERT_BATCH_SIZE = 100;
+
   private final Database database;
   private final TransactionManager transactionManager;
   private final DatabaseExecutionContext dbExecutionContext;
+  private final AccountActivityRecorder accountActivityRecorder;
 
   @Inject
-  public ApplicationEventRepository(DatabaseExecutionContext dbExecutionContext) {
+  public ApplicationEventRepository(
+      DatabaseExecutionContext dbExecutionContext,
+      AccountActivityRecorder accountActivityRecorder) {
     this.database = checkNotNull(DB.getDefault());
     this.transactionManager = new TransactionManager();
     this.dbExecutionContext = checkNotNull(dbExecutionContext);
+    this.accountActivityRecorder = checkNotNull(accountActivityRecorder);
   }
 
   /**
@@ -115,7 +124,7 @@ public final class ApplicationEventRepository {
                       .eq("id", application.id)
                       .update();
                   application.save();
-                  application.getApplicant().getAccount().save();
+                  accountActivityRecorder.record(application.getApplicant().getAccount().id);
                   return event;
                 }),
         dbExecutionContext.current());
@@ -127,6 +136,9 @@ public final class ApplicationEventRepository {
    *
    * <p>Note - Application code must change both tables at once as we want to avoid inconsistency
    * between the tables.
+   *
+   * <p>If there is already a transaction in progress the changes are made in it, and only committed
+   * with it.
    */
   public void insertStatusEvents(
       ImmutableList<ApplicationModel> applications,
@@ -145,12 +157,14 @@ public final class ApplicationEventRepository {
         applications.stream()
             .map(app -> new ApplicationEventModel(app, optionalAdmin, details))
             .collect(ImmutableList.toImmutableList());
-    try (Transaction transaction = database.beginTransaction(TxIsolation.SERIALIZABLE)) {
+    try (Transaction transaction =
+        database.beginTransaction(TxScope.required().setIsolation(TxIsolation.SERIALIZABLE))) {
+      // Send the event inserts to the database in JDBC batches, rather than as one insert and
+      // refresh query per application.
       transaction.setBatchMode(true);
-      // Since the Status events models have manyToOne dependency on ApplicationModel,
-      // we can insert them only one at a time. To save on transaction cost, we have enabled Batch
-      // processing.
-      applicationsStatusEvent.forEach(this::insertAndRefreshSync);
+      transaction.setBatchSize(STATUS_EVENT_INSERT_BATCH_SIZE);
+      database.insertAll(applicationsStatusEvent);
+      transaction.flush();
 
       // Update the Applications table too with one update query.
       database
@@ -171,9 +185,9 @@ public final class ApplicationEventRepository {
           .in("id", applicationIds)
           .update();
 
-      // update account's lastActivityTime
-      applications.stream().forEach(app -> app.getApplicant().getAccount().save());
       transaction.commit();
+      applications.forEach(
+          app -> accountActivityRecorder.record(app.getApplicant().getAccount().id));
     }
   }
 
@@ -197,7 +211,7 @@ public final class ApplicationEventRepository {
               .eq("id", application.id)
               .update();
           application.save();
-          application.getApplicant().getAccount().save();
+          accountActivityRecorder.record(application.getApplicant().getAccount().id);
         });
   }
 }
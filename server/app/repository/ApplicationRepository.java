@@ -22,6 +22,8 @@ import models.LifecycleStage;
 import models.ProgramModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import services.applicant.AccountActivityRecorder;
+import services.applicant.ApplicantData;
 import services.applicant.exception.ApplicantNotFoundException;
 import services.applicant.exception.DuplicateApplicationException;
 import services.program.ProgramNotFoundException;
@@ -38,6 +40,7 @@ public final class ApplicationRepository {
   private final TransactionManager transactionManager;
   private final ProgramRepository programRepository;
   private final AccountRepository accountRepository;
+  private final AccountActivityRecorder accountActivityRecorder;
   private final DatabaseExecutionContext dbExecutionContext;
   private static final Logger logger = LoggerFactory.getLogger(ApplicationRepository.class);
 
@@ -45,11 +48,13 @@ public final class ApplicationRepository {
   public ApplicationRepository(
       ProgramRepository programRepository,
       AccountRepository accountRepository,
+      AccountActivityRecorder accountActivityRecorder,
       DatabaseExecutionContext dbExecutionContext) {
     this.database = DB.getDefault();
     this.transactionManager = new TransactionManager();
     this.programRepository = checkNotNull(programRepository);
     this.accountRepository = checkNotNull(accountRepository);
+    this.accountActivityRecorder = checkNotNull(accountActivityRecorder);
     this.dbExecutionContext = checkNotNull(dbExecutionContext);
   }
 
@@ -145,10 +150,16 @@ public final class ApplicationRepository {
                         .collect(ImmutableList.toImmutableList())));
           }
 
+          ApplicantData applicantData = applicant.getApplicantData();
+          String answersContentHash = applicantData.computeContentHash();
           for (ApplicationModel appModel : previousActive) {
-            boolean isDuplicate =
-                applicant.getApplicantData().isDuplicateOf(appModel.getApplicantData());
-            if (isDuplicate) {
+            // Applications submitted before hashes were stored are hashed here until they've been
+            // backfilled.
+            String previousAnswersContentHash =
+                appModel
+                    .getAnswersContentHash()
+                    .orElseGet(() -> appModel.getApplicantData().computeContentHash());
+            if (answersContentHash.equals(previousAnswersContentHash)) {
               logger.info(
                   "Application for applicant {} to program {} {} was detected as a duplicate and"
                       + " was not saved",
@@ -166,12 +177,13 @@ public final class ApplicationRepository {
           }
           application
               .setEligibilityDetermination(eligibilityDetermination)
-              .setApplicantData(applicant.getApplicantData())
+              .setApplicantData(applicantData)
+              .setAnswersContentHash(answersContentHash)
               .setLifecycleStage(LifecycleStage.ACTIVE)
               .setSubmitTimeToNow();
           tiSubmitterEmail.ifPresent(application::setSubmitterEmail);
           application.save();
-          applicant.getAccount().save();
+          accountActivityRecorder.record(applicant.getAccount().id);
           return application;
         });
   }
@@ -268,7 +280,7 @@ public final class ApplicationRepository {
               existingDraft.orElseGet(
                   () -> new ApplicationModel(applicant, program, LifecycleStage.DRAFT));
           application.save();
-          applicant.getAccount().save();
+          accountActivityRecorder.record(applicant.getAccount().id);
           return application;
         });
   }
@@ -309,6 +321,7 @@ public final class ApplicationRepository {
   public List<ApplicationModel> getApplications(ImmutableList<Long> applicationIds) {
     return database
         .find(ApplicationModel.class)
+        .fetch("applicant")
         .setLabel("ApplicationModel.findByIds")
         .setProfileLocation(queryProfileLocationBuilder.create("getApplications"))
         .where()
@@ -0,0 +1,87 @@
+package repository;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import models.BulkStatusUpdateModel;
+
+/** Implements queries related to {@link BulkStatusUpdateModel}. */
+public final class BulkStatusUpdateRepository {
+  private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
+      new QueryProfileLocationBuilder("BulkStatusUpdateRepository");
+
+  private final Database database;
+
+  @Inject
+  public BulkStatusUpdateRepository() {
+    this.database = DB.getDefault();
+  }
+
+  /** Records a bulk status update whose applicant emails haven't been queued yet. */
+  public BulkStatusUpdateModel insert(
+      long programId, String statusText, ImmutableList<Long> applicationIds) {
+    BulkStatusUpdateModel update = new BulkStatusUpdateModel(programId, statusText, applicationIds);
+    database.insert(update);
+    return update;
+  }
+
+  public Optional<BulkStatusUpdateModel> lookup(long id) {
+    return database
+        .find(BulkStatusUpdateModel.class)
+        .setLabel("BulkStatusUpdateModel.findById")
+        .setProfileLocation(queryProfileLocationBuilder.create("lookup"))
+        .where()
+        .idEq(id)
+        .findOneOrEmpty();
+  }
+
+  /**
+   * Locks the oldest unfinished bulk status update and passes it to {@code work}, then saves it.
+   * Whatever {@code work} writes to the database is committed together with the update, so the
+   * emails it queues and the progress it records can't get out of step.
+   *
+   * <p>Updates locked by another server are skipped rather than waited for.
+   *
+   * <p>If {@code work} throws, nothing it wrote is committed. The update is passed to {@code
+   * onFailure} with the exception instead, so it can record the failed attempt, and saved before
+   * the exception is rethrown.
+   *
+   * @return false if there was no unfinished update to work on
+   */
+  public boolean updateNextUnfinished(
+      Consumer<BulkStatusUpdateModel> work,
+      BiConsumer<BulkStatusUpdateModel, RuntimeException> onFailure) {
+    try (Transaction transaction = database.beginTransaction()) {
+      Optional<BulkStatusUpdateModel> update =
+          database
+              .find(BulkStatusUpdateModel.class)
+              .forUpdateSkipLocked()
+              .setLabel("BulkStatusUpdateModel.findUnfinished")
+              .setProfileLocation(queryProfileLocationBuilder.create("updateNextUnfinished"))
+              .where()
+              .isNull("finish_time")
+              .orderBy("id asc")
+              .setMaxRows(1)
+              .findOneOrEmpty();
+      if (update.isEmpty()) {
+        return false;
+      }
+      try {
+        work.accept(update.get());
+      } catch (RuntimeException e) {
+        transaction.rollback();
+        onFailure.accept(update.get(), e);
+        database.update(update.get());
+        throw e;
+      }
+      database.update(update.get());
+      transaction.commit();
+      return true;
+    }
+  }
+}
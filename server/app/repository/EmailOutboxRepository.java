@@ -0,0 +1,107 @@
+package repository;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import java.time.Instant;
+import javax.inject.Inject;
+import models.OutboxEmailModel;
+
+/** Implements queries related to {@link OutboxEmailModel}. */
+public final class EmailOutboxRepository {
+  private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
+      new QueryProfileLocationBuilder("EmailOutboxRepository");
+
+  private final Database database;
+
+  @Inject
+  public EmailOutboxRepository() {
+    this.database = DB.getDefault();
+  }
+
+  /**
+   * Adds an email to the outbox to be sent right away. If there is a transaction in progress the
+   * email is only queued if it commits.
+   */
+  public OutboxEmailModel enqueue(
+      ImmutableList<String> toAddresses, String subject, String bodyText, Instant now) {
+    OutboxEmailModel email = new OutboxEmailModel(toAddresses, subject, bodyText, now);
+    database.insert(email);
+    return email;
+  }
+
+  /**
+   * Claims up to {@code maxEmails} emails that are due to be sent at {@code now}, oldest first, by
+   * moving their next attempt time to {@code leaseExpiry}.
+   *
+   * <p>Emails claimed by another server are skipped rather than waited for. If the claiming server
+   * dies before recording the result of sending an email, it is claimed again once {@code
+   * leaseExpiry} passes.
+   */
+  public ImmutableList<OutboxEmailModel> claimDueEmails(
+      int maxEmails, Instant now, Instant leaseExpiry) {
+    try (Transaction transaction = database.beginTransaction()) {
+      ImmutableList<OutboxEmailModel> emails =
+          ImmutableList.copyOf(
+              database
+                  .find(OutboxEmailModel.class)
+                  .forUpdateSkipLocked()
+                  .setLabel("OutboxEmailModel.findList")
+                  .setProfileLocation(queryProfileLocationBuilder.create("claimDueEmails"))
+                  .where()
+                  .le("next_attempt_time", now)
+                  .orderBy("next_attempt_time asc, id asc")
+                  .setMaxRows(maxEmails)
+                  .findList());
+      emails.forEach(email -> email.setNextAttemptTime(leaseExpiry));
+      database.updateAll(emails);
+      transaction.commit();
+      return emails;
+    }
+  }
+
+  /**
+   * Extends this server's claim on an email to {@code leaseExpiry}, so that another server doesn't
+   * claim it while it is being sent.
+   *
+   * @return false if the claim lapsed and the email may have been claimed by another server, in
+   *     which case it shouldn't be sent
+   */
+  public boolean renewClaim(OutboxEmailModel email, Instant leaseExpiry) {
+    int updated =
+        database
+            .sqlUpdate(
+                "UPDATE email_outbox SET next_attempt_time = :leaseExpiry"
+                    + " WHERE id = :id AND next_attempt_time = :claimedUntil")
+            .setLabel("OutboxEmailModel.renewClaim")
+            .setParameter("leaseExpiry", leaseExpiry)
+            .setParameter("id", email.id)
+            .setParameter("claimedUntil", email.getNextAttemptTime())
+            .execute();
+    if (updated == 0) {
+      return false;
+    }
+    email.setNextAttemptTime(leaseExpiry);
+    return true;
+  }
+
+  /** Removes an email that has been sent, or that won't be tried again, from the outbox. */
+  public void delete(OutboxEmailModel email) {
+    database.delete(email);
+  }
+
+  /** Saves the attempts, error and next attempt time of an email that failed to send. */
+  public void update(OutboxEmailModel email) {
+    database.update(email);
+  }
+
+  /** Returns the number of emails in the outbox. */
+  public int countQueued() {
+    return database
+        .find(OutboxEmailModel.class)
+        .setLabel("OutboxEmailModel.findCount")
+        .setProfileLocation(queryProfileLocationBuilder.create("countQueued"))
+        .findCount();
+  }
+}
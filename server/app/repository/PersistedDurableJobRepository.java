@@ -117,16 +117,67 @@ public final class PersistedDurableJobRepository {
 
   /**
    * Delete all {@link PersistedDurableJobModel}s that have an execution time older than six months
-   * and that are a recurring JobType.
+   * and that are a recurring JobType, along with any checkpoints left by deleted jobs.
    */
   public int deleteJobsOlderThanSixMonths() {
-    return database
+    int deleted =
+        database
+            .sqlUpdate(
+                """
+                DELETE FROM persisted_durable_jobs
+                WHERE job_type = 'RECURRING'
+                AND execution_time < CURRENT_DATE - INTERVAL '6 months'
+                """)
+            .execute();
+    database
         .sqlUpdate(
             """
-            DELETE FROM persisted_durable_jobs
-            WHERE job_type = 'RECURRING'
-            AND execution_time < CURRENT_DATE - INTERVAL '6 months'
+            DELETE FROM durable_job_checkpoints
+            WHERE job_id NOT IN (SELECT id FROM persisted_durable_jobs)
             """)
+        .setLabel("DurableJobCheckpoint.deleteOrphaned")
+        .execute();
+    return deleted;
+  }
+
+  /** Returns how far the job got on an earlier attempt, as saved by {@link #saveCheckpoint}. */
+  public Optional<String> getCheckpoint(long jobId) {
+    return Optional.ofNullable(
+        database
+            .sqlQuery("SELECT checkpoint FROM durable_job_checkpoints WHERE job_id = :job_id")
+            .setLabel("DurableJobCheckpoint.findById")
+            .setParameter("job_id", jobId)
+            .mapToScalar(String.class)
+            .findOne());
+  }
+
+  /**
+   * Saves how far a long running job got, so that a retry after a failure, timeout or crash can
+   * resume from there.
+   *
+   * <p>The checkpoint is committed right away. It is kept apart from the job's row because the job
+   * runner holds that row's lock until the job finishes, so the job can't update it.
+   */
+  public void saveCheckpoint(long jobId, String checkpoint) {
+    database
+        .sqlUpdate(
+            """
+            INSERT INTO durable_job_checkpoints (job_id, checkpoint)
+            VALUES (:job_id, :checkpoint)
+            ON CONFLICT (job_id) DO UPDATE SET checkpoint = EXCLUDED.checkpoint
+            """)
+        .setLabel("DurableJobCheckpoint.save")
+        .setParameter("job_id", jobId)
+        .setParameter("checkpoint", checkpoint)
+        .execute();
+  }
+
+  /** Deletes the job's checkpoint, once the job has finished. */
+  public void deleteCheckpoint(long jobId) {
+    database
+        .sqlUpdate("DELETE FROM durable_job_checkpoints WHERE job_id = :job_id")
+        .setLabel("DurableJobCheckpoint.delete")
+        .setParameter("job_id", jobId)
         .execute();
   }
 }
@@ -0,0 +1,127 @@
+package repository;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.ebean.Database;
+import java.net.SocketException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.util.PSQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.inject.ApplicationLifecycle;
+
+/**
+ * Listens on a Postgres notification channel on a dedicated thread and runs a callback whenever
+ * something is notified on it. This is how servers tell each other to clear their in-memory caches.
+ *
+ * <p>The callback also runs each time the listener connects, since notifications sent while it was
+ * disconnected are lost. If the connection fails the listener reconnects, waiting a second first
+ * unless the connection was simply closed. The thread is stopped when the application stops.
+ */
+final class PostgresNotificationListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostgresNotificationListener.class);
+
+  private static final int NOTIFY_TIMEOUT_MS = 500;
+  private static final long RETRY_DELAY_MS = 1000;
+
+  private final Database database;
+  private final String channel;
+  private final Runnable onNotified;
+
+  private Thread listenerThread;
+  private volatile boolean running = true;
+
+  /**
+   * @param channel the channel to listen on, which must be a valid unquoted identifier
+   * @param onNotified runs when a notification arrives, and whenever the listener connects
+   */
+  PostgresNotificationListener(Database database, String channel, Runnable onNotified) {
+    this.database = checkNotNull(database);
+    this.channel = checkNotNull(channel);
+    this.onNotified = checkNotNull(onNotified);
+  }
+
+  /** Starts listening, and stops when the application stops. */
+  void start(ApplicationLifecycle lifecycle) {
+    listenerThread = new Thread(this::listen, channel + "-Listener");
+    // Make this a daemon thread so it doesn't block the JVM from shutting down
+    // should something go wrong with it.
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+    logger.info("Listener thread for '{}' started", channel);
+
+    // On application shutdown, stop the listener thread
+    lifecycle.addStopHook(
+        () -> {
+          logger.info("Shutting down listener for '{}'", channel);
+          running = false;
+          listenerThread.interrupt();
+          return CompletableFuture.completedFuture(null);
+        });
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection conn = database.dataSource().getConnection();
+          Statement stmt = conn.createStatement()) {
+
+        // Immediately register the listener
+        conn.setAutoCommit(true);
+        stmt.execute("LISTEN " + channel);
+        logger.info("Listening on '{}' (autocommit={})", channel, conn.getAutoCommit());
+
+        // Run the callback each time the listener connects successfully, to ensure consistency in
+        // case of an update while the listener was disconnected.
+        onNotified.run();
+
+        PGConnection pgConn = conn.unwrap(PGConnection.class);
+
+        // Wait for notifications, unblocking every NOTIFY_TIMEOUT_MS to allow
+        // for a prompt shutdown.
+        while (running) {
+          PGNotification[] notifications = pgConn.getNotifications(NOTIFY_TIMEOUT_MS);
+          if (notifications != null && notifications.length > 0) {
+            logger.debug("Received {} notification(s) on '{}'", notifications.length, channel);
+            onNotified.run();
+          }
+        }
+      } catch (PSQLException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof SocketException && cause.getMessage().contains("Socket closed")) {
+          logger.info(
+              "Listener socket for '{}' closed. Will reconnect unless application is shutting"
+                  + " down.",
+              channel);
+        } else {
+          logger.error("Listener for '{}' PSQLException — retrying in 1s", channel, e);
+          if (!waitToRetry()) {
+            break;
+          }
+        }
+      } catch (Throwable t) {
+        // Catch everything so we don't lose the listener
+        logger.error("Listener for '{}' crashed — retrying in 1s", channel, t);
+        if (!waitToRetry()) {
+          break;
+        }
+      }
+    }
+  }
+
+  /** Returns false if the listener was interrupted while waiting, because it is shutting down. */
+  private static boolean waitToRetry() {
+    try {
+      Thread.sleep(RETRY_DELAY_MS);
+      return true;
+    } catch (InterruptedException ie) {
+      // In case we shut down while we're waiting to retry
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package repository;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import com.google.common.base.Preconditions;
@@ -32,8 +33,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.cache.NamedCache;
 import play.cache.SyncCacheApi;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
 import services.pagination.BasePaginationSpec;
+import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
+import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
 import services.program.BlockDefinition;
 import services.program.ProgramDefinition;
 import services.program.ProgramDraftNotFoundException;
@@ -51,14 +56,17 @@ public final class ProgramRepository {
   private static final Logger logger = LoggerFactory.getLogger(ProgramRepository.class);
   private static final QueryProfileLocationBuilder queryProfileLocationBuilder =
       new QueryProfileLocationBuilder("ProgramRepository");
+  // Rough heap size of a pagination spec with its cursor.
+  private static final int PAGE_CURSOR_WEIGHT = 96;
 
   private final Database database;
   private final DatabaseExecutionContext dbExecutionContext;
   private final Provider<VersionRepository> versionRepository;
   private final SettingsManifest settingsManifest;
-  private final SyncCacheApi programCache;
   private final SyncCacheApi programDefCache;
-  private final SyncCacheApi versionsByProgramCache;
+  private final ValueCaches valueCaches;
+  private final ValueCache<Integer> applicationCounts;
+  private final ValueCache<SubmitTimeSequentialAccessPaginationSpec> applicationPageCursors;
   private final TransactionManager transactionManager;
 
   @Inject
@@ -66,27 +74,31 @@ public final class ProgramRepository {
       DatabaseExecutionContext dbExecutionContext,
       Provider<VersionRepository> versionRepository,
       SettingsManifest settingsManifest,
-      @NamedCache("program") SyncCacheApi programCache,
       @NamedCache("full-program-definition") SyncCacheApi programDefCache,
-      @NamedCache("program-versions") SyncCacheApi versionsByProgramCache) {
+      ValueCaches valueCaches) {
     this.database = DB.getDefault();
     this.dbExecutionContext = checkNotNull(dbExecutionContext);
     this.versionRepository = checkNotNull(versionRepository);
     this.settingsManifest = checkNotNull(settingsManifest);
-    this.programCache = checkNotNull(programCache);
     this.programDefCache = checkNotNull(programDefCache);
-    this.versionsByProgramCache = checkNotNull(versionsByProgramCache);
+    this.valueCaches = checkNotNull(valueCaches);
+    this.applicationCounts =
+        valueCaches.create(
+            "application-counts", (key, count) -> ValueCaches.STRING_WEIGHT + key.length());
+    this.applicationPageCursors =
+        valueCaches.create(
+            "application-page-cursors", (key, cursor) -> PAGE_CURSOR_WEIGHT + key.length());
     this.transactionManager = new TransactionManager();
   }
 
+  /**
+   * Looks up the program with the given ID.
+   *
+   * <p>Program models are mutable, so they are never cached. Callers that only read the program
+   * should use {@link services.program.ProgramService#getFullProgramDefinitionAsync(long)}, which
+   * serves published programs from the full program definition cache.
+   */
   public CompletionStage<Optional<ProgramModel>> lookupProgram(long id) {
-    // Use the cache if it is enabled and there isn't a draft version in progress.
-    if (settingsManifest.getProgramCacheEnabled()
-        && versionRepository.get().getDraftVersion().isEmpty()) {
-      return supplyAsync(
-          () -> programCache.getOrElseUpdate(String.valueOf(id), () -> lookupProgramSync(id)),
-          dbExecutionContext);
-    }
     return supplyAsync(() -> lookupProgramSync(id), dbExecutionContext);
   }
 
@@ -123,10 +135,25 @@ public final class ProgramRepository {
     return program;
   }
 
+  /**
+   * Returns the versions the program belongs to.
+   *
+   * <p>If the program cache is enabled, only the version IDs are cached and the versions are
+   * returned as Ebean reference beans, whose other properties are loaded when first accessed.
+   */
   public ImmutableList<VersionModel> getVersionsForProgram(ProgramModel program) {
     if (settingsManifest.getProgramCacheEnabled()) {
-      return versionsByProgramCache.getOrElseUpdate(
-          String.valueOf(program.id), program::getVersions);
+      return valueCaches
+          .versionIdsByProgram()
+          .getOrElseUpdate(
+              String.valueOf(program.id),
+              () ->
+                  program.getVersions().stream()
+                      .map(version -> version.id)
+                      .collect(toImmutableList()))
+          .stream()
+          .map(versionId -> database.reference(VersionModel.class, versionId))
+          .collect(toImmutableList());
     }
     return program.getVersions();
   }
@@ -339,7 +366,7 @@ public final class ProgramRepository {
           ImmutableList<ProgramModel> activePrograms =
               versionRepository
                   .get()
-                  .getProgramsForVersion(versionRepository.get().getActiveVersion());
+                  .getProgramsForVersion(versionRepository.get().getActiveVersionForRead());
           return activePrograms.stream()
               .filter(activeProgram -> activeProgram.getSlug().equals(slug))
               .findFirst()
@@ -456,15 +483,147 @@ public final class ProgramRepository {
   public PaginationResult<ApplicationModel> getApplicationsForAllProgramVersions(
       long programId, BasePaginationSpec paginationSpec, SubmittedApplicationFilter filters) {
     ExpressionList<ApplicationModel> query =
+        filterApplicationsForAllProgramVersions(
+            database
+                .find(ApplicationModel.class)
+                .setLabel("ApplicationModel.findList")
+                .setProfileLocation(
+                    queryProfileLocationBuilder.create("getApplicationsForAllProgramVersions"))
+                .fetch("applicant")
+                .fetch("applicant.account.managedByGroup"),
+            programId,
+            filters);
+
+    // Sort order is dictated by the pagination spec that was specified.
+    PagedList<ApplicationModel> pagedQuery = paginationSpec.apply(query.query()).findPagedList();
+    pagedQuery.loadCount();
+
+    return new PaginationResult<ApplicationModel>(
+        pagedQuery.hasNext(),
+        pagedQuery.getTotalPageCount(),
+        pagedQuery.getList().stream().collect(ImmutableList.toImmutableList()));
+  }
+
+  /**
+   * Get a page of submitted applications for this program and all other versions of it, like {@link
+   * #getApplicationsForAllProgramVersions}, without counting the matching applications on every
+   * call. Used for the admin application table when keyset pagination is enabled.
+   *
+   * <p>The number of matching applications is cached for a short time, so the page count may not
+   * include the most recent submissions. The cursor of the last application on each page served is
+   * also cached, so moving to the next page reads it from the (submit time, id) index with a {@link
+   * SubmitTimeSequentialAccessPaginationSpec} rather than reading every page before it. Pages
+   * without a cached cursor, such as when jumping ahead, are read by offset.
+   */
+  public PaginationResult<ApplicationModel> getApplicationsPageWithCachedCount(
+      long programId, PageNumberPaginationSpec paginationSpec, SubmittedApplicationFilter filters) {
+    String filtersKey = String.format("%d:%s", programId, filters);
+    int page = paginationSpec.getCurrentPage();
+    BasePaginationSpec pageSpec = paginationSpec;
+    if (page > 1) {
+      Optional<SubmitTimeSequentialAccessPaginationSpec> cursor =
+          applicationPageCursors.get(pageCursorKey(filtersKey, page));
+      if (cursor.isPresent()) {
+        pageSpec = cursor.get();
+      }
+    }
+
+    ImmutableList<ApplicationModel> applications =
+        pageSpec
+            .apply(
+                filterApplicationsForAllProgramVersions(
+                        database
+                            .find(ApplicationModel.class)
+                            .setLabel("ApplicationModel.findList")
+                            .setProfileLocation(
+                                queryProfileLocationBuilder.create(
+                                    "getApplicationsPageWithCachedCount"))
+                            .fetch("applicant")
+                            .fetch("applicant.account.managedByGroup"),
+                        programId,
+                        filters)
+                    .query())
+            .findList()
+            .stream()
+            .collect(ImmutableList.toImmutableList());
+    if (!applications.isEmpty()) {
+      ApplicationModel last = applications.get(applications.size() - 1);
+      if (last.getSubmitTime() != null) {
+        applicationPageCursors.set(
+            pageCursorKey(filtersKey, page + 1),
+            new SubmitTimeSequentialAccessPaginationSpec(
+                paginationSpec.getPageSize(), last.getSubmitTime(), last.id));
+      }
+    }
+
+    int count =
+        applicationCounts.getOrElseUpdate(
+            filtersKey,
+            () ->
+                filterApplicationsForAllProgramVersions(
+                        database
+                            .find(ApplicationModel.class)
+                            .setLabel("ApplicationModel.findCount")
+                            .setProfileLocation(
+                                queryProfileLocationBuilder.create(
+                                    "getApplicationsPageWithCachedCount")),
+                        programId,
+                        filters)
+                    .findCount());
+    int pageSize = paginationSpec.getPageSize();
+    // The cached count may be behind, so never report fewer pages than the one being served.
+    int numPages = Math.max((count + pageSize - 1) / pageSize, applications.isEmpty() ? 0 : page);
+    return new PaginationResult<ApplicationModel>(page < numPages, numPages, applications);
+  }
+
+  private static String pageCursorKey(String filtersKey, int page) {
+    return String.format("%s:page %d", filtersKey, page);
+  }
+
+  /**
+   * Get a single page of submitted applications for this program and all other versions of it where
+   * the application matches the specified filters.
+   *
+   * <p>Unlike {@link #getApplicationsForAllProgramVersions}, this never counts the total number of
+   * matching applications, so the cost of fetching a page does not grow with the size of the result
+   * set. It is intended for exports that walk every page in order using the cursor of the last
+   * application returned.
+   *
+   * @param fetchApplicant whether to eagerly load the applicant, account, and TI group of each
+   *     application. Callers that only need the application's own columns should pass false.
+   */
+  public ImmutableList<ApplicationModel> getApplicationsPageForAllProgramVersions(
+      long programId,
+      SubmitTimeSequentialAccessPaginationSpec paginationSpec,
+      SubmittedApplicationFilter filters,
+      boolean fetchApplicant) {
+    Query<ApplicationModel> baseQuery =
         database
             .find(ApplicationModel.class)
-            .setLabel("ApplicationModel.findList")
+            .setLabel("ApplicationModel.findPage")
             .setProfileLocation(
-                queryProfileLocationBuilder.create("getApplicationsForAllProgramVersions"))
-            .fetch("applicant")
-            .fetch("applicant.account.managedByGroup")
+                queryProfileLocationBuilder.create("getApplicationsPageForAllProgramVersions"));
+    if (fetchApplicant) {
+      baseQuery = baseQuery.fetch("applicant").fetch("applicant.account.managedByGroup");
+    }
+
+    return paginationSpec
+        .apply(filterApplicationsForAllProgramVersions(baseQuery, programId, filters).query())
+        .findList()
+        .stream()
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  /**
+   * Adds the where clauses shared by all queries for applications to every version of a program.
+   */
+  private ExpressionList<ApplicationModel> filterApplicationsForAllProgramVersions(
+      Query<ApplicationModel> baseQuery, long programId, SubmittedApplicationFilter filters) {
+    // program_family_id is kept up to date by a trigger, so it isn't mapped on ApplicationModel.
+    ExpressionList<ApplicationModel> query =
+        baseQuery
             .where()
-            .in("program_id", allProgramVersionsQuery(programId))
+            .raw("program_family_id = ?", programFamilyId(programId))
             .in("lifecycle_stage", filters.lifecycleStages());
 
     if (filters.submitTimeFilter().fromTime().isPresent()) {
@@ -489,35 +648,31 @@ public final class ProgramRepository {
       }
     }
 
-    // Sort order is dictated by the pagination spec that was specified.
-    PagedList<ApplicationModel> pagedQuery = paginationSpec.apply(query.query()).findPagedList();
-    pagedQuery.loadCount();
-
-    return new PaginationResult<ApplicationModel>(
-        pagedQuery.hasNext(),
-        pagedQuery.getTotalPageCount(),
-        pagedQuery.getList().stream().collect(ImmutableList.toImmutableList()));
+    return query;
   }
 
-  private Query<ProgramModel> allProgramVersionsQuery(long programId) {
-    Query<ProgramModel> programNameQuery =
+  /**
+   * Returns the ID of the first version of the program, which identifies every version of it in
+   * {@code applications.program_family_id}.
+   *
+   * <p>If there is no program with {@code programId} its ID is returned, which no application has
+   * as its program family.
+   */
+  private long programFamilyId(long programId) {
+    Long programFamilyId =
         database
-            .find(ProgramModel.class)
-            .select("name")
-            .setLabel("ProgramModel.findByName")
-            .setProfileLocation(queryProfileLocationBuilder.create("allProgramVersionsQuery"))
-            .where()
-            .eq("id", programId)
-            .query();
-
-    return database
-        .find(ProgramModel.class)
-        .select("id")
-        .setLabel("ProgramModel.findById")
-        .setProfileLocation(queryProfileLocationBuilder.create("allProgramVersionsQuery"))
-        .where()
-        .in("name", programNameQuery)
-        .query();
+            .sqlQuery(
+                """
+                SELECT MIN(family.id)
+                FROM programs program
+                INNER JOIN programs family ON family.name = program.name
+                WHERE program.id = :programId
+                """)
+            .setLabel("ProgramRepository.programFamilyId")
+            .setParameter("programId", programId)
+            .mapToScalar(Long.class)
+            .findOne();
+    return programFamilyId == null ? programId : programFamilyId;
   }
 
   /**
@@ -318,8 +318,8 @@ public final class QuestionRepository {
   public ImmutableList<QuestionDefinition> getAllQuestionsForTag(QuestionTag tag) {
     VersionModel active = versionRepositoryProvider.get().getActiveVersion();
     ImmutableSet<Long> activeQuestionIds =
-        versionRepositoryProvider.get().getQuestionsForVersion(active).stream()
-            .map(q -> q.id)
+        versionRepositoryProvider.get().getQuestionDefinitionsForVersion(active).stream()
+            .map(QuestionDefinition::getId)
             .collect(ImmutableSet.toImmutableSet());
     return database
         .find(QuestionModel.class)
@@ -9,6 +9,7 @@ import io.ebean.Database;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import models.StoredFileModel;
@@ -110,6 +111,41 @@ public final class StoredFileRepository {
         dbExecutionContext);
   }
 
+  /**
+   * Lets the admins of the program named {@code programName} read each of the files named in {@code
+   * keyNames}, with one UPDATE of their ACLs rather than loading and saving each file.
+   */
+  public CompletionStage<Void> addProgramToReaders(
+      ImmutableList<String> keyNames, String programName) {
+    if (keyNames.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return supplyAsync(
+        () -> {
+          // Files the program can already read are left alone. The @> operator is used to check
+          // that because JDBC would take jsonb's ? operator for a parameter.
+          database
+              .sqlUpdate(
+                  """
+                  UPDATE files
+                  SET acls = jsonb_set(
+                      COALESCE(acls, '{}'::jsonb),
+                      '{programReadAcls}',
+                      COALESCE(acls -> 'programReadAcls', '[]'::jsonb)
+                          || to_jsonb(CAST(:program_name AS VARCHAR)))
+                  WHERE name IN (:names)
+                  AND NOT COALESCE(acls -> 'programReadAcls', '[]'::jsonb)
+                      @> to_jsonb(CAST(:program_name AS VARCHAR))
+                  """)
+              .setLabel("StoredFile.addProgramToReaders")
+              .setParameter("program_name", programName)
+              .setParameter("names", keyNames)
+              .execute();
+          return null;
+        },
+        dbExecutionContext);
+  }
+
   public CompletionStage<StoredFileModel> insert(StoredFileModel file) {
     return supplyAsync(
         () -> {
@@ -0,0 +1,83 @@
+package repository;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.Database;
+import io.ebean.SqlUpdate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Builds an {@code UPDATE ... FROM (VALUES ...)} statement, which updates many rows with their own
+ * values in a single round trip.
+ *
+ * <p>Postgres locks the rows in whatever order the plan reaches them, not the order their values
+ * are given. Callers updating rows that other servers may update concurrently should first lock
+ * them with {@link #lockRows} in the same transaction, so that the updates can't deadlock.
+ */
+final class ValuesUpdate {
+
+  private ValuesUpdate() {}
+
+  /**
+   * Returns an update with the values bound and ready to execute.
+   *
+   * @param sql the statement, with {@code %s} where the {@code VALUES} list goes. It should alias
+   *     the list as {@code u(column, ...)} with one name per column type.
+   * @param columnTypes the SQL type of each column, which the bound values are cast to since
+   *     Postgres can't infer the types of parameters in a {@code VALUES} list
+   * @param rows the values of each row, in the order of {@code columnTypes}
+   */
+  static SqlUpdate create(
+      Database database,
+      String label,
+      String sql,
+      ImmutableList<String> columnTypes,
+      ImmutableList<? extends List<?>> rows) {
+    checkArgument(!rows.isEmpty(), "An update needs at least one row of values");
+    String values =
+        IntStream.range(0, rows.size())
+            .mapToObj(
+                row ->
+                    IntStream.range(0, columnTypes.size())
+                        .mapToObj(
+                            column ->
+                                String.format(
+                                    "CAST(:v%d_%d AS %s)", row, column, columnTypes.get(column)))
+                        .collect(Collectors.joining(", ", "(", ")")))
+            .collect(Collectors.joining(", "));
+    SqlUpdate update = database.sqlUpdate(sql.formatted(values)).setLabel(label);
+    for (int row = 0; row < rows.size(); row++) {
+      List<?> rowValues = rows.get(row);
+      checkArgument(
+          rowValues.size() == columnTypes.size(), "Each row needs a value for every column");
+      for (int column = 0; column < rowValues.size(); column++) {
+        update.setParameter(String.format("v%d_%d", row, column), rowValues.get(column));
+      }
+    }
+    return update;
+  }
+
+  /**
+   * Locks the rows of {@code table} whose {@code keyColumn} is one of {@code keys}, in key order.
+   * This must run in the transaction that updates them.
+   *
+   * @param table the table, which must be a trusted identifier
+   * @param keyColumn the key column, which must be a trusted identifier
+   */
+  static void lockRows(
+      Database database, String label, String table, String keyColumn, Collection<?> keys) {
+    checkArgument(!keys.isEmpty(), "At least one row must be locked");
+    database
+        .sqlQuery(
+            String.format(
+                "SELECT %1$s FROM %2$s WHERE %1$s IN (:keys) ORDER BY %1$s FOR UPDATE",
+                keyColumn, table))
+        .setLabel(label)
+        .setParameter("keys", keys)
+        .findList();
+  }
+}
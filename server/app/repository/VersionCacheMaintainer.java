@@ -0,0 +1,42 @@
+package repository;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.ebean.DB;
+import io.ebean.Database;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import play.inject.ApplicationLifecycle;
+
+/**
+ * Keeps the {@link VersionPointerCache} consistent across servers by clearing it whenever a
+ * Postgres notification reports a change to the versions table.
+ */
+@Singleton
+public final class VersionCacheMaintainer {
+
+  @VisibleForTesting static final String CHANNEL = "versions_update";
+
+  private final VersionPointerCache versionPointerCache;
+  // Need for mocking unit tests, rather than the static DB.getDefault(),
+  private final Database database;
+  private final ApplicationLifecycle lifecycle;
+
+  @Inject
+  public VersionCacheMaintainer(
+      VersionPointerCache versionPointerCache, ApplicationLifecycle lifecycle) {
+    this(versionPointerCache, DB.getDefault(), lifecycle);
+  }
+
+  @VisibleForTesting
+  VersionCacheMaintainer(
+      VersionPointerCache versionPointerCache, Database database, ApplicationLifecycle lifecycle) {
+    this.versionPointerCache = versionPointerCache;
+    this.database = database;
+    this.lifecycle = lifecycle;
+  }
+
+  public void init() {
+    new PostgresNotificationListener(database, CHANNEL, versionPointerCache::clear)
+        .start(lifecycle);
+  }
+}
@@ -0,0 +1,53 @@
+package repository;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.inject.Singleton;
+
+/**
+ * Holds the IDs of the current active and draft versions so that read-only callers don't need to
+ * query the versions table on every request.
+ *
+ * <p>Only IDs are cached, never {@link models.VersionModel} instances, so no Ebean bean is shared
+ * between requests. The cache is cleared by {@link VersionCacheMaintainer} whenever any server
+ * changes the versions table, and is only consulted when the version cache is enabled.
+ */
+@Singleton
+public final class VersionPointerCache {
+
+  /** The ID of the active version and the ID of the draft version, if one exists. */
+  record VersionPointers(long activeVersionId, Optional<Long> draftVersionId) {}
+
+  private final AtomicReference<VersionPointers> pointers = new AtomicReference<>();
+  // Incremented on every clear, so a load that started before a clear isn't stored after it.
+  private long generation = 0;
+
+  /** Returns the cached pointers, loading them with {@code loader} if they are not cached. */
+  VersionPointers get(Supplier<VersionPointers> loader) {
+    VersionPointers cached = pointers.get();
+    if (cached != null) {
+      return cached;
+    }
+
+    long loadGeneration;
+    synchronized (this) {
+      loadGeneration = generation;
+    }
+    VersionPointers loaded = loader.get();
+    synchronized (this) {
+      // The versions may have changed while we were loading, in which case the loaded pointers
+      // may already be stale and must not be cached.
+      if (generation == loadGeneration) {
+        pointers.set(loaded);
+      }
+    }
+    return loaded;
+  }
+
+  /** Removes the cached pointers so that the next read loads them from the database. */
+  public synchronized void clear() {
+    generation++;
+    pointers.set(null);
+  }
+}
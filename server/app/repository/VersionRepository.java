@@ -37,9 +37,8 @@ import models.QuestionModel;
 import models.VersionModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import play.cache.NamedCache;
-import play.cache.SyncCacheApi;
 import services.LocalizedStrings;
+import services.cache.ValueCaches;
 import services.program.BlockDefinition;
 import services.program.CantPublishProgramWithSharedQuestionsException;
 import services.program.EligibilityDefinition;
@@ -74,8 +73,8 @@ public final class VersionRepository {
   private final QuestionRepository questionRepository;
   private final DatabaseExecutionContext databaseExecutionContext;
   private final SettingsManifest settingsManifest;
-  private final SyncCacheApi questionsByVersionCache;
-  private final SyncCacheApi programsByVersionCache;
+  private final ValueCaches valueCaches;
+  private final VersionPointerCache versionPointerCache;
 
   @Inject
   public VersionRepository(
@@ -83,16 +82,16 @@ public final class VersionRepository {
       QuestionRepository questionRepository,
       DatabaseExecutionContext databaseExecutionContext,
       SettingsManifest settingsManifest,
-      @NamedCache("version-questions") SyncCacheApi questionsByVersionCache,
-      @NamedCache("version-programs") SyncCacheApi programsByVersionCache) {
+      ValueCaches valueCaches,
+      VersionPointerCache versionPointerCache) {
     this.database = DB.getDefault();
     this.transactionManager = new TransactionManager();
     this.programRepository = checkNotNull(programRepository);
     this.questionRepository = checkNotNull(questionRepository);
     this.databaseExecutionContext = checkNotNull(databaseExecutionContext);
     this.settingsManifest = checkNotNull(settingsManifest);
-    this.questionsByVersionCache = checkNotNull(questionsByVersionCache);
-    this.programsByVersionCache = checkNotNull(programsByVersionCache);
+    this.valueCaches = checkNotNull(valueCaches);
+    this.versionPointerCache = checkNotNull(versionPointerCache);
   }
 
   /**
@@ -168,8 +167,7 @@ public final class VersionRepository {
       VersionModel draft,
       ImmutableMap<Long, String> questionIdToName,
       Map<String, Set<PublishProgramPreview>> questionToProgramDataMap) {
-    for (ProgramModel program : getProgramsForVersion(draft)) {
-      ProgramDefinition def = programRepository.getShallowProgramDefinition(program);
+    for (ProgramDefinition def : getProgramDefinitionsForVersion(draft)) {
       if (draft.programIsTombstoned(def.adminName())) {
         continue;
       }
@@ -196,8 +194,7 @@ public final class VersionRepository {
       ImmutableMap<Long, String> questionIdToName,
       Map<String, Set<PublishProgramPreview>> questionToProgramDataMap) {
     ImmutableSet<String> draftProgramNames = getProgramNamesForVersion(draft);
-    for (ProgramModel program : getProgramsForVersion(active)) {
-      ProgramDefinition def = programRepository.getShallowProgramDefinition(program);
+    for (ProgramDefinition def : getProgramDefinitionsForVersion(active)) {
       // Skip programs in the Draft.
       if (draftProgramNames.contains(def.adminName())
           // Tombstoning is no longer supported so we can't assume
@@ -315,6 +312,8 @@ public final class VersionRepository {
       validateProgramQuestionState();
       transaction.commit();
     }
+    // Other servers clear their pointers when notified of the change to the versions table.
+    versionPointerCache.clear();
   }
 
   /**
@@ -406,6 +405,7 @@ public final class VersionRepository {
       newDraft.refresh();
       validateProgramQuestionState();
       transaction.commit();
+      versionPointerCache.clear();
     } catch (NonUniqueResultException | SerializableConflictException | RollbackException e) {
       transaction.rollback(e);
       // We must end the transaction here since we are going to recurse and try again.
@@ -469,6 +469,7 @@ public final class VersionRepository {
           .setProfileLocation(profileLocationBuilder.create("getDraftVersionOrCreate"))
           .findOne();
       transaction.commit();
+      versionPointerCache.clear();
       return newDraftVersion;
     } catch (NonUniqueResultException | SerializableConflictException | RollbackException e) {
       // If we are in a nested transaction any serialization exceptions will be thrown when the
@@ -500,8 +501,72 @@ public final class VersionRepository {
         .findOne();
   }
 
+  /** Get the current active version for read-only use. See {@link #getActiveVersionForRead}. */
   public CompletionStage<VersionModel> getActiveVersionAsync() {
-    return CompletableFuture.supplyAsync(this::getActiveVersion, databaseExecutionContext);
+    return CompletableFuture.supplyAsync(this::getActiveVersionForRead, databaseExecutionContext);
+  }
+
+  /**
+   * Get the current active version for read-only use.
+   *
+   * <p>If the version cache is enabled, the active version ID is taken from the {@link
+   * VersionPointerCache} and an Ebean reference bean is returned without querying the database.
+   * Any property other than the ID is lazily loaded when first accessed. Use {@link
+   * #getActiveVersion()} if the version will be modified or is needed within a transaction.
+   */
+  public VersionModel getActiveVersionForRead() {
+    if (settingsManifest.getVersionCacheEnabled()) {
+      return database.reference(VersionModel.class, getVersionPointers().activeVersionId());
+    }
+    return getActiveVersion();
+  }
+
+  /**
+   * Returns true if a draft version exists. If the version cache is enabled, this is answered from
+   * the {@link VersionPointerCache} rather than the database.
+   */
+  public boolean hasDraftVersion() {
+    if (settingsManifest.getVersionCacheEnabled()) {
+      return getVersionPointers().draftVersionId().isPresent();
+    }
+    return getDraftVersion().isPresent();
+  }
+
+  /** Returns the ID of the active version, from the {@link VersionPointerCache} when enabled. */
+  private long getActiveVersionId() {
+    if (settingsManifest.getVersionCacheEnabled()) {
+      return getVersionPointers().activeVersionId();
+    }
+    return getActiveVersion().id;
+  }
+
+  private VersionPointerCache.VersionPointers getVersionPointers() {
+    return versionPointerCache.get(
+        () -> {
+          // Look up both versions with a single query that only selects their IDs.
+          ImmutableList<VersionModel> versions =
+              ImmutableList.copyOf(
+                  database
+                      .find(VersionModel.class)
+                      .select("id, lifecycleStage")
+                      .where()
+                      .in("lifecycle_stage", LifecycleStage.ACTIVE, LifecycleStage.DRAFT)
+                      .setLabel("VersionModel.findActiveAndDraftIds")
+                      .setProfileLocation(profileLocationBuilder.create("getVersionPointers"))
+                      .findList());
+          long activeVersionId =
+              versions.stream()
+                  .filter(v -> v.getLifecycleStage() == LifecycleStage.ACTIVE)
+                  .findAny()
+                  .orElseThrow(() -> new IllegalStateException("No active version found."))
+                  .id;
+          Optional<Long> draftVersionId =
+              versions.stream()
+                  .filter(v -> v.getLifecycleStage() == LifecycleStage.DRAFT)
+                  .findAny()
+                  .map(v -> v.id);
+          return new VersionPointerCache.VersionPointers(activeVersionId, draftVersionId);
+        });
   }
 
   /**
@@ -544,25 +609,41 @@ public final class VersionRepository {
     return version.addTombstoneForQuestion(name);
   }
 
-  /** Returns the definitions of all the questions for a particular version. */
+  /**
+   * Returns the definitions of all the questions for a particular version.
+   *
+   * <p>If the version cache is enabled, the definitions for active and obsolete versions are
+   * cached, since those versions no longer change.
+   */
   public ImmutableList<QuestionDefinition> getQuestionDefinitionsForVersion(VersionModel version) {
-    return getQuestionsForVersion(version).stream()
-        .map(questionRepository::getQuestionDefinition)
-        .collect(ImmutableList.toImmutableList());
+    if (isCacheableVersion(version)) {
+      return valueCaches
+          .questionsByVersion()
+          .getOrElseUpdate(
+              String.valueOf(version.id),
+              () -> getQuestionDefinitionsForVersionWithoutCache(version));
+    }
+    return getQuestionDefinitionsForVersionWithoutCache(version);
   }
 
   /** Returns the definitions of all the questions for an optional version. */
   public ImmutableList<QuestionDefinition> getQuestionDefinitionsForVersion(
       Optional<VersionModel> maybeVersion) {
-    return getQuestionsForVersion(maybeVersion).stream()
+    return maybeVersion.isPresent()
+        ? getQuestionDefinitionsForVersion(maybeVersion.get())
+        : ImmutableList.of();
+  }
+
+  private ImmutableList<QuestionDefinition> getQuestionDefinitionsForVersionWithoutCache(
+      VersionModel version) {
+    return getQuestionsForVersionWithoutCache(version).stream()
         .map(questionRepository::getQuestionDefinition)
         .collect(ImmutableList.toImmutableList());
   }
 
   /** Returns the names of all the questions for a particular version. */
   public ImmutableSet<String> getQuestionNamesForVersion(VersionModel version) {
-    return getQuestionsForVersion(version).stream()
-        .map(questionRepository::getQuestionDefinition)
+    return getQuestionDefinitionsForVersion(version).stream()
         .map(QuestionDefinition::getName)
         .collect(ImmutableSet.toImmutableSet());
   }
@@ -610,15 +691,10 @@ public final class VersionRepository {
   /**
    * Returns the questions for a version.
    *
-   * <p>If the cache is enabled, we will get the data from the cache and set it if it is not
-   * present.
+   * <p>Question models are never cached since they are mutable. Read-only callers should use
+   * {@link #getQuestionDefinitionsForVersion(VersionModel)}, which is cached.
    */
   public ImmutableList<QuestionModel> getQuestionsForVersion(VersionModel version) {
-    // Only set the version cache for active and obsolete versions
-    if (settingsManifest.getVersionCacheEnabled() && version.id <= getActiveVersion().id) {
-      return questionsByVersionCache.getOrElseUpdate(
-          String.valueOf(version.id), version::getQuestions);
-    }
     return getQuestionsForVersionWithoutCache(version);
   }
 
@@ -657,33 +733,62 @@ public final class VersionRepository {
   }
 
   private boolean anyDisabledPrograms(Optional<VersionModel> maybeVersion) {
-    return getProgramsForVersion(maybeVersion).stream()
-        .anyMatch(
-            p ->
-                programRepository.getShallowProgramDefinition(p).displayMode()
-                    == DisplayMode.DISABLED);
+    return getProgramDefinitionsForVersion(maybeVersion).stream()
+        .anyMatch(p -> p.displayMode() == DisplayMode.DISABLED);
   }
 
   /** Returns the names of all the programs. */
   public ImmutableSet<String> getProgramNamesForVersion(VersionModel version) {
-    return getProgramsForVersion(version).stream()
-        .map(programRepository::getShallowProgramDefinition)
+    return getProgramDefinitionsForVersion(version).stream()
         .map(ProgramDefinition::adminName)
         .collect(ImmutableSet.toImmutableSet());
   }
 
+  /**
+   * Returns the shallow definitions of the programs for a version, as given by {@link
+   * ProgramRepository#getShallowProgramDefinition}.
+   *
+   * <p>If the version cache is enabled, the definitions for active and obsolete versions are
+   * cached, since those versions no longer change.
+   */
+  public ImmutableList<ProgramDefinition> getProgramDefinitionsForVersion(VersionModel version) {
+    if (isCacheableVersion(version)) {
+      return valueCaches
+          .programsByVersion()
+          .getOrElseUpdate(
+              String.valueOf(version.id),
+              () -> getProgramDefinitionsForVersionWithoutCache(version));
+    }
+    return getProgramDefinitionsForVersionWithoutCache(version);
+  }
+
+  /** Returns the shallow definitions of the programs for a version if the version is present. */
+  public ImmutableList<ProgramDefinition> getProgramDefinitionsForVersion(
+      Optional<VersionModel> maybeVersion) {
+    return maybeVersion.isPresent()
+        ? getProgramDefinitionsForVersion(maybeVersion.get())
+        : ImmutableList.of();
+  }
+
+  private ImmutableList<ProgramDefinition> getProgramDefinitionsForVersionWithoutCache(
+      VersionModel version) {
+    return getProgramsForVersionWithoutCache(version).stream()
+        .map(programRepository::getShallowProgramDefinition)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  /** Only active and obsolete versions are cached, since a draft version is still changing. */
+  private boolean isCacheableVersion(VersionModel version) {
+    return settingsManifest.getVersionCacheEnabled() && version.id <= getActiveVersionId();
+  }
+
   /**
    * Returns the programs for a version.
    *
-   * <p>If the cache is enabled, we will get the data from the cache and set it if it is not
-   * present.
+   * <p>Program models are never cached since they are mutable. Read-only callers should use
+   * {@link #getProgramDefinitionsForVersion(VersionModel)}, which is cached.
    */
   public ImmutableList<ProgramModel> getProgramsForVersion(VersionModel version) {
-    // Only set the version cache for active and obsolete versions
-    if (settingsManifest.getVersionCacheEnabled() && version.id <= getActiveVersion().id) {
-      return programsByVersionCache.getOrElseUpdate(
-          String.valueOf(version.id), () -> getProgramsForVersionWithoutCache(version));
-    }
     return getProgramsForVersionWithoutCache(version);
   }
 
@@ -774,13 +879,13 @@ public final class VersionRepository {
   }
 
   public boolean isInactive(QuestionModel question) {
-    return getQuestionsForVersion(getActiveVersion()).stream()
-        .noneMatch(activeQuestion -> activeQuestion.id.equals(question.id));
+    return getQuestionDefinitionsForVersion(getActiveVersion()).stream()
+        .noneMatch(activeQuestion -> question.id.equals(activeQuestion.getId()));
   }
 
   public boolean isInactive(ProgramModel program) {
-    return getProgramsForVersion(getActiveVersion()).stream()
-        .noneMatch(activeProgram -> activeProgram.id.equals(program.id));
+    return getProgramDefinitionsForVersion(getActiveVersion()).stream()
+        .noneMatch(activeProgram -> program.id.equals(activeProgram.id()));
   }
 
   public boolean isDraft(QuestionModel question) {
@@ -806,8 +911,8 @@ public final class VersionRepository {
 
   /** Returns true if the program with the provided id is a member of the current active version. */
   public boolean isActiveProgram(Long programId) {
-    return getProgramsForVersion(getActiveVersion()).stream()
-        .anyMatch(activeProgram -> activeProgram.id.equals(programId));
+    return getProgramDefinitionsForVersion(getActiveVersion()).stream()
+        .anyMatch(activeProgram -> programId.equals(activeProgram.id()));
   }
 
   /**
@@ -1020,15 +1125,14 @@ public final class VersionRepository {
         () -> {
           ImmutableMap<Long, String> questionIdToNameLookup = getQuestionIdToNameMap(version);
           Map<String, Set<ProgramDefinition>> result = Maps.newHashMap();
-          for (ProgramModel program : getProgramsForVersion(version)) {
+          for (ProgramDefinition program : getProgramDefinitionsForVersion(version)) {
             ImmutableSet<String> programQuestionNames =
-                getProgramQuestionNames(
-                    programRepository.getShallowProgramDefinition(program), questionIdToNameLookup);
+                getProgramQuestionNames(program, questionIdToNameLookup);
             for (String questionName : programQuestionNames) {
               if (!result.containsKey(questionName)) {
                 result.put(questionName, Sets.newHashSet());
               }
-              result.get(questionName).add(programRepository.getShallowProgramDefinition(program));
+              result.get(questionName).add(program);
             }
           }
           return result.entrySet().stream()
@@ -1065,8 +1169,7 @@ public final class VersionRepository {
    * across versions.
    */
   private ImmutableMap<Long, String> getQuestionIdToNameMap(VersionModel version) {
-    return getQuestionsForVersion(version).stream()
-        .map(questionRepository::getQuestionDefinition)
+    return getQuestionDefinitionsForVersion(version).stream()
         .collect(
             ImmutableMap.toImmutableMap(QuestionDefinition::getId, QuestionDefinition::getName));
   }
@@ -0,0 +1,128 @@
+package services;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Cancellable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.inject.ApplicationLifecycle;
+import repository.DatabaseExecutionContext;
+
+/**
+ * Accumulates values by key in memory and writes them to the database in one batch every flush
+ * interval, and once more when the application stops.
+ *
+ * <p>This is for frequent writes that are cheap to lose, such as usage counters and last activity
+ * times. Values recorded for the same key between flushes are combined, so each key is written at
+ * most once per flush. Values recorded since the last flush are lost if the server dies without
+ * shutting down. A failed write is retried at the next flush. The number of pending and written
+ * keys and the number of failed writes are exported to Prometheus, labelled by recorder name.
+ *
+ * @param <K> the type of the key that values are combined by
+ * @param <V> the type of the recorded values
+ */
+public final class BatchingRecorder<K, V> {
+  private static final Logger logger = LoggerFactory.getLogger(BatchingRecorder.class);
+
+  private static final Gauge PENDING_KEYS =
+      Gauge.build()
+          .name("batching_recorder_pending_keys")
+          .help("Number of keys with values recorded in memory but not yet written")
+          .labelNames("recorder")
+          .register();
+
+  private static final Counter FLUSHED_KEYS =
+      Counter.build()
+          .name("batching_recorder_flushed_keys_total")
+          .help("Number of keys whose values were written to the database")
+          .labelNames("recorder")
+          .register();
+
+  private static final Counter FLUSH_FAILURES =
+      Counter.build()
+          .name("batching_recorder_flush_failures_total")
+          .help("Number of failed attempts to write recorded values to the database")
+          .labelNames("recorder")
+          .register();
+
+  private final String name;
+  private final BinaryOperator<V> combine;
+  private final Consumer<ImmutableMap<K, V>> writer;
+  private final ConcurrentHashMap<K, V> pending = new ConcurrentHashMap<>();
+
+  /**
+   * @param name identifies the recorder in logs and metrics
+   * @param flushInterval how often recorded values are written
+   * @param combine combines a value with one recorded after it for the same key
+   * @param writer writes a batch of values to the database, throwing if it fails
+   */
+  public BatchingRecorder(
+      String name,
+      Duration flushInterval,
+      BinaryOperator<V> combine,
+      Consumer<ImmutableMap<K, V>> writer,
+      ActorSystem actorSystem,
+      DatabaseExecutionContext dbExecutionContext,
+      ApplicationLifecycle lifecycle) {
+    this.name = checkNotNull(name);
+    this.combine = checkNotNull(combine);
+    this.writer = checkNotNull(writer);
+
+    Cancellable scheduledFlush =
+        actorSystem
+            .scheduler()
+            .scheduleAtFixedRate(flushInterval, flushInterval, this::flush, dbExecutionContext);
+
+    lifecycle.addStopHook(
+        () -> {
+          scheduledFlush.cancel();
+          return CompletableFuture.runAsync(this::flush, dbExecutionContext);
+        });
+  }
+
+  /** Records {@code value} for {@code key}, combining it with any value not yet written. */
+  public void record(K key, V value) {
+    pending.merge(key, value, combine);
+    PENDING_KEYS.labels(name).set(pending.size());
+  }
+
+  /** Writes all values recorded since the last flush to the database. */
+  public synchronized void flush() {
+    ImmutableMap.Builder<K, V> drained = ImmutableMap.builder();
+    // Removing keys one at a time is atomic with respect to record(), so a value recorded during
+    // the flush is either included in it or left for the next one.
+    for (K key : pending.keySet()) {
+      V value = pending.remove(key);
+      if (value != null) {
+        drained.put(key, value);
+      }
+    }
+    ImmutableMap<K, V> values = drained.buildOrThrow();
+    if (values.isEmpty()) {
+      return;
+    }
+
+    try {
+      writer.accept(values);
+      FLUSHED_KEYS.labels(name).inc(values.size());
+    } catch (RuntimeException e) {
+      FLUSH_FAILURES.labels(name).inc();
+      logger.error("Error writing {} batch, will retry: {}", name, e.toString());
+      // Put the values back, ahead of anything recorded since, so the next flush writes them.
+      values.forEach(
+          (key, value) ->
+              pending.merge(key, value, (later, earlier) -> combine.apply(earlier, later)));
+    } finally {
+      PENDING_KEYS.labels(name).set(pending.size());
+    }
+  }
+}
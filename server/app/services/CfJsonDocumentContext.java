@@ -71,12 +71,7 @@ public class CfJsonDocumentContext {
    * @return true if path is present; false otherwise
    */
   public boolean hasPath(Path path) {
-    try {
-      jsonData.read(path.toString());
-    } catch (PathNotFoundException e) {
-      return false;
-    }
-    return true;
+    return find(path) != JsonTreeAccessor.NOT_FOUND;
   }
 
   /**
@@ -104,7 +99,11 @@ public class CfJsonDocumentContext {
    * @return true if there is a null value at the given path; false otherwise.
    */
   public boolean hasNullValueAtPath(Path path) {
-    return jsonData.read(path.toString()) == null;
+    Object value = find(path);
+    if (value == JsonTreeAccessor.NOT_FOUND) {
+      throw new PathNotFoundException("No results for path: " + path);
+    }
+    return value == null;
   }
 
   public void putPhoneNumber(Path path, String phoneNumber) {
@@ -264,7 +263,7 @@ public class CfJsonDocumentContext {
   public void putArray(Path path, List list) {
     checkLocked();
     putParentIfMissing(path);
-    jsonData.put(path.parentPath().toString(), path.keyName(), list);
+    putAt(path, list);
   }
 
   /**
@@ -294,18 +293,58 @@ public class CfJsonDocumentContext {
   public void maybeDelete(Path path) {
     checkLocked();
     if (hasPath(path)) {
-      jsonData.delete(path.toString());
+      delete(path);
     }
   }
 
+  @SuppressWarnings("unchecked")
   private void putAt(Path path, Object value) {
     checkLocked();
-    jsonData.put(path.parentPath().toString(), path.keyName(), value);
+    if (find(path.parentPath()) instanceof Map<?, ?> parent) {
+      ((Map<String, Object>) parent).put(path.keyName(), value);
+    } else {
+      // Let JsonPath report why the value can't be put there.
+      jsonData.put(path.parentPath().toString(), path.keyName(), value);
+    }
   }
 
+  @SuppressWarnings("unchecked")
   private void addAt(Path path, Object value) {
     checkLocked();
-    jsonData.add(path.withoutArrayReference().toString(), value);
+    Path arrayPath = path.withoutArrayReference();
+    if (find(arrayPath) instanceof List<?> array) {
+      ((List<Object>) array).add(value);
+    } else {
+      // Let JsonPath report why the value can't be added there.
+      jsonData.add(arrayPath.toString(), value);
+    }
+  }
+
+  private void delete(Path path) {
+    Optional<ImmutableList<Path.JsonTreeStep>> steps = path.jsonTreeSteps();
+    if (steps.isEmpty() || !JsonTreeAccessor.remove(jsonData.json(), steps.get())) {
+      jsonData.delete(path.toString());
+    }
+  }
+
+  /**
+   * Returns the value at the given {@link Path}, or {@link JsonTreeAccessor#NOT_FOUND} if the path
+   * does not exist.
+   *
+   * <p>Paths of plain property names and array indexes, which are nearly all of them, are found by
+   * walking the JSON data directly. Compiling them with JsonPath costs more than reading the value,
+   * and repeated entity paths with many distinct indexes churn its cache of compiled paths.
+   */
+  private Object find(Path path) {
+    Optional<ImmutableList<Path.JsonTreeStep>> steps = path.jsonTreeSteps();
+    if (steps.isPresent()) {
+      return JsonTreeAccessor.find(jsonData.json(), steps.get());
+    }
+    try {
+      return jsonData.read(path.toString());
+    } catch (PathNotFoundException e) {
+      return JsonTreeAccessor.NOT_FOUND;
+    }
   }
 
   /**
@@ -500,10 +539,14 @@ public class CfJsonDocumentContext {
    * @throws JsonPathTypeMismatchException if the scalar at that path is not the expected type
    */
   private <T> Optional<T> read(Path path, Class<T> type) throws JsonPathTypeMismatchException {
-    try {
-      return Optional.ofNullable(jsonData.read(path.toString(), type));
-    } catch (PathNotFoundException e) {
+    Object value = find(path);
+    if (value == JsonTreeAccessor.NOT_FOUND) {
       return Optional.empty();
+    }
+    try {
+      // Convert the value the same way JsonPath does when reading it as a type.
+      return Optional.ofNullable(
+          jsonData.configuration().mappingProvider().map(value, type, jsonData.configuration()));
     } catch (MappingException e) {
       throw new JsonPathTypeMismatchException(path, type, e);
     }
@@ -519,10 +562,13 @@ public class CfJsonDocumentContext {
    * @throws JsonPathTypeMismatchException if the value at that path is not the expected type
    */
   private <T> Optional<T> read(Path path, TypeRef<T> type) throws JsonPathTypeMismatchException {
-    try {
-      return Optional.ofNullable(jsonData.read(path.toString(), type));
-    } catch (PathNotFoundException e) {
+    Object value = find(path);
+    if (value == JsonTreeAccessor.NOT_FOUND) {
       return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(
+          jsonData.configuration().mappingProvider().map(value, type, jsonData.configuration()));
     } catch (MappingException e) {
       throw new JsonPathTypeMismatchException(path, type.getClass(), e);
     }
@@ -572,7 +618,7 @@ public class CfJsonDocumentContext {
     // Delete in reverse sorted order because deletion is index based, and indices would need to be
     // decremented for each deletion if it wasn't reverse sorted.
     for (int index : reverseSortedIndices) {
-      jsonData.delete(path.atIndex(index).toString());
+      delete(path.atIndex(index));
     }
     return true;
   }
@@ -598,6 +644,16 @@ public class CfJsonDocumentContext {
     }
   }
 
+  /**
+   * Returns the value at the given {@link Path} as held by the underlying JSON provider: a {@link
+   * Map} for JSON objects, a {@link List} for JSON arrays, or a boxed scalar. Returns {@code
+   * Optional#empty} if the path does not exist or holds a null value.
+   */
+  public Optional<Object> readRaw(Path path) {
+    Object value = find(path);
+    return value == JsonTreeAccessor.NOT_FOUND ? Optional.empty() : Optional.ofNullable(value);
+  }
+
   public String asJsonString() {
     return jsonData.jsonString();
   }
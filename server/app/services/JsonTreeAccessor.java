@@ -0,0 +1,73 @@
+package services;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
+import services.Path.JsonTreeStep;
+
+/**
+ * Reads and removes values in the JSON data held by a {@link CfJsonDocumentContext} by walking
+ * {@link Path#jsonTreeSteps()} through its maps and lists, instead of compiling and evaluating a
+ * JsonPath expression for each access.
+ *
+ * <p>Values are found the same way JsonPath finds a definite path: a property must be present in a
+ * JSON object, and an array index must be within a JSON array.
+ */
+final class JsonTreeAccessor {
+
+  /** Returned by {@link #find} when there is no value at a path, as opposed to a null value. */
+  static final Object NOT_FOUND = new Object();
+
+  private JsonTreeAccessor() {}
+
+  /** Returns the value reached by taking {@code steps} from {@code root}, or {@link #NOT_FOUND}. */
+  static Object find(Object root, List<JsonTreeStep> steps) {
+    Object value = root;
+    for (JsonTreeStep step : steps) {
+      value = child(value, step);
+      if (value == NOT_FOUND) {
+        return NOT_FOUND;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Removes the value reached by taking {@code steps} from {@code root}. Returns false without
+   * changing anything if there is no value there.
+   */
+  static boolean remove(Object root, ImmutableList<JsonTreeStep> steps) {
+    if (steps.isEmpty()) {
+      return false;
+    }
+    Object container = find(root, steps.subList(0, steps.size() - 1));
+    JsonTreeStep last = steps.get(steps.size() - 1);
+    if (last instanceof JsonTreeStep.Property property
+        && container instanceof Map<?, ?> map
+        && map.containsKey(property.key())) {
+      map.remove(property.key());
+      return true;
+    }
+    if (last instanceof JsonTreeStep.ArrayElement element
+        && container instanceof List<?> list
+        && element.index() < list.size()) {
+      list.remove(element.index());
+      return true;
+    }
+    return false;
+  }
+
+  private static Object child(Object value, JsonTreeStep step) {
+    if (step instanceof JsonTreeStep.Property property) {
+      if (value instanceof Map<?, ?> map && map.containsKey(property.key())) {
+        return map.get(property.key());
+      }
+      return NOT_FOUND;
+    }
+    int index = ((JsonTreeStep.ArrayElement) step).index();
+    if (value instanceof List<?> list && index < list.size()) {
+      return list.get(index);
+    }
+    return NOT_FOUND;
+  }
+}
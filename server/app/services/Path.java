@@ -8,6 +8,7 @@ import com.google.common.base.Ascii;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -29,6 +30,19 @@ public abstract class Path {
   private static final String JSON_PATH_START = JSON_PATH_START_TOKEN + JSON_PATH_DIVIDER;
   private static final Splitter JSON_SPLITTER = Splitter.on(JSON_PATH_DIVIDER);
   private static final Joiner JSON_JOINER = Joiner.on(JSON_PATH_DIVIDER);
+  // A property name with no JsonPath operators, optionally followed by an array index.
+  private static final Pattern JSON_TREE_SEGMENT_REGEX =
+      Pattern.compile("([^.\\[\\]\\s*?@$()'\"]+)(?:\\[(\\d{1,9})])?");
+
+  /**
+   * A step from a JSON value to a value inside it: a property of a JSON object, or an element of a
+   * JSON array.
+   */
+  public sealed interface JsonTreeStep {
+    record Property(String key) implements JsonTreeStep {}
+
+    record ArrayElement(int index) implements JsonTreeStep {}
+  }
 
   public static Path empty() {
     return create(ImmutableList.of());
@@ -74,6 +88,31 @@ public abstract class Path {
     return isEmpty() ? JSON_PATH_START_TOKEN : JSON_JOINER.join(segments());
   }
 
+  /**
+   * Returns the steps to take from the root of the JSON data to the value at this path, so it can
+   * be read without compiling the path with JsonPath. A path {@code applicant.children[2].name}
+   * would return [Property(applicant), Property(children), ArrayElement(2), Property(name)].
+   *
+   * <p>Returns {@link Optional#empty} if a segment is not a plain property name with an optional
+   * array index, such as one with a wildcard or an empty array suffix, in which case the path can
+   * only be evaluated by JsonPath.
+   */
+  @Memoized
+  public Optional<ImmutableList<JsonTreeStep>> jsonTreeSteps() {
+    ImmutableList.Builder<JsonTreeStep> steps = ImmutableList.builder();
+    for (String segment : segments()) {
+      Matcher matcher = JSON_TREE_SEGMENT_REGEX.matcher(segment);
+      if (!matcher.matches()) {
+        return Optional.empty();
+      }
+      steps.add(new JsonTreeStep.Property(matcher.group(1)));
+      if (matcher.group(2) != null) {
+        steps.add(new JsonTreeStep.ArrayElement(Integer.parseInt(matcher.group(2))));
+      }
+    }
+    return Optional.of(steps.build());
+  }
+
   /** Returns this path in JsonPath predicate format, which must start with \$. */
   @Memoized
   public String predicateFormat() {
@@ -0,0 +1,137 @@
+package services.apibridge;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.typesafe.config.Config;
+import io.prometheus.client.Counter;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.pattern.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the calls made to each bridge host, so that a slow or failing partner fails fast instead
+ * of holding up applicants for as long as its calls take.
+ *
+ * <p>Each host gets a bulkhead, which rejects a call right away when {@code
+ * api-bridge.host.max-concurrent-calls} calls to the host are already in flight on this server,
+ * and a circuit breaker. The circuit breaker opens after {@code
+ * api-bridge.host.circuit-breaker.max-failures} consecutive failed or timed out calls, and rejects
+ * calls right away while open. After {@code api-bridge.host.circuit-breaker.reset-timeout} it lets
+ * a single call through to check whether the host has recovered.
+ */
+@Singleton
+public final class ApiBridgeHostGuards {
+  private static final Logger logger = LoggerFactory.getLogger(ApiBridgeHostGuards.class);
+
+  private static final Counter REJECTED_CALLS =
+      Counter.build()
+          .name("api_bridge_host_rejected_calls_total")
+          .help("Number of API bridge calls rejected because the host had too many in flight")
+          .labelNames("host")
+          .register();
+
+  private static final Counter CIRCUIT_BREAKER_OPENINGS =
+      Counter.build()
+          .name("api_bridge_host_circuit_breaker_openings_total")
+          .help("Number of times calls to an API bridge host started failing fast")
+          .labelNames("host")
+          .register();
+
+  private final ActorSystem actorSystem;
+  private final int maxConcurrentCalls;
+  private final int maxFailures;
+  private final Duration callTimeout;
+  private final Duration resetTimeout;
+  private final ConcurrentHashMap<String, HostGuard> guards = new ConcurrentHashMap<>();
+
+  private record HostGuard(Semaphore bulkhead, CircuitBreaker circuitBreaker) {}
+
+  @Inject
+  public ApiBridgeHostGuards(ActorSystem actorSystem, Config config) {
+    this.actorSystem = checkNotNull(actorSystem);
+    Config hostConfig = checkNotNull(config).getConfig("api-bridge.host");
+    this.maxConcurrentCalls = hostConfig.getInt("max-concurrent-calls");
+    this.maxFailures = hostConfig.getInt("circuit-breaker.max-failures");
+    this.callTimeout = hostConfig.getDuration("circuit-breaker.call-timeout");
+    this.resetTimeout = hostConfig.getDuration("circuit-breaker.reset-timeout");
+  }
+
+  /**
+   * Makes {@code call} to the host of {@code url} if the host's bulkhead and circuit breaker allow
+   * it, and otherwise returns a failed stage without calling.
+   *
+   * @param isFailure whether a call that completed normally failed, such as with a server error
+   */
+  public <T> CompletionStage<T> call(
+      String url, Supplier<CompletionStage<T>> call, Predicate<T> isFailure) {
+    String host = host(url);
+    HostGuard guard = guards.computeIfAbsent(host, this::createGuard);
+
+    if (!guard.bulkhead().tryAcquire()) {
+      REJECTED_CALLS.labels(host).inc();
+      return CompletableFuture.failedFuture(
+          new ApiBridgeProcessingException(
+              String.format("Too many calls in flight to API bridge host %s", host)));
+    }
+
+    // The permit is held until the call itself completes rather than until the circuit breaker
+    // completes the result, which happens early when it times the call out. Otherwise calls the
+    // host is still working on wouldn't count towards the limit.
+    AtomicBoolean called = new AtomicBoolean();
+    try {
+      return guard
+          .circuitBreaker()
+          .callWithCircuitBreakerCS(
+              () -> {
+                called.set(true);
+                CompletionStage<T> callResult;
+                try {
+                  callResult = call.get();
+                } catch (RuntimeException e) {
+                  guard.bulkhead().release();
+                  throw e;
+                }
+                return callResult.whenComplete((response, error) -> guard.bulkhead().release());
+              },
+              (response, error) -> error.isPresent() || response.filter(isFailure).isPresent());
+    } finally {
+      // An open circuit breaker rejects the call without making it.
+      if (!called.get()) {
+        guard.bulkhead().release();
+      }
+    }
+  }
+
+  private HostGuard createGuard(String host) {
+    CircuitBreaker circuitBreaker =
+        CircuitBreaker.create(actorSystem.scheduler(), maxFailures, callTimeout, resetTimeout)
+            .addOnOpenListener(
+                () -> {
+                  CIRCUIT_BREAKER_OPENINGS.labels(host).inc();
+                  logger.warn(
+                      "Calls to API bridge host {} are failing, failing fast for {}",
+                      host,
+                      resetTimeout);
+                })
+            .addOnCloseListener(() -> logger.info("Calls to API bridge host {} recovered", host));
+    return new HostGuard(new Semaphore(maxConcurrentCalls), circuitBreaker);
+  }
+
+  /** Returns the scheme, host and port of the URL, which identify the bridge host. */
+  private static String host(String url) {
+    URI uri = URI.create(checkNotNull(url));
+    return String.format("%s://%s", uri.getScheme(), uri.getAuthority());
+  }
+}
@@ -2,18 +2,24 @@ package services.apibridge;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static services.apibridge.ApiBridgeServiceDto.BridgeRequest;
+import static services.apibridge.ApiBridgeServiceDto.BridgeResponse;
 import static services.apibridge.ApiBridgeServiceDto.IProblemDetail;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
 import com.networknt.schema.Error;
 import com.networknt.schema.InputFormat;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SpecificationVersion;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
@@ -24,6 +30,8 @@ import repository.ApiBridgeConfigurationRepository;
 import services.ErrorAnd;
 import services.JsonUtils;
 import services.applicant.ApplicantData;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
 
 /** Processor to call all the api bridge endpoints */
 @Slf4j
@@ -34,6 +42,7 @@ public final class ApiBridgeProcessor {
   private final ObjectMapper mapper;
   private final RequestPayloadMapper requestPayloadMapper;
   private final ResponsePayloadMapper responsePayloadMapper;
+  private final ValueCache<BridgeResponse> responseCache;
   private final SchemaRegistry jsonSchemaFactory =
       SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12);
 
@@ -44,13 +53,17 @@ public final class ApiBridgeProcessor {
       ApiBridgeExecutionContext apiBridgeExecutionContext,
       ObjectMapper mapper,
       RequestPayloadMapper requestPayloadMapper,
-      ResponsePayloadMapper responsePayloadMapper) {
+      ResponsePayloadMapper responsePayloadMapper,
+      ValueCaches valueCaches) {
     this.apiBridgeService = checkNotNull(apiBridgeService);
     this.apiBridgeConfigurationRepository = checkNotNull(apiBridgeConfigurationRepository);
     this.apiBridgeExecutionContext = checkNotNull(apiBridgeExecutionContext);
     this.mapper = checkNotNull(mapper);
     this.requestPayloadMapper = checkNotNull(requestPayloadMapper);
     this.responsePayloadMapper = checkNotNull(responsePayloadMapper);
+    this.responseCache =
+        checkNotNull(valueCaches)
+            .create("api-bridge-responses", valueCaches.serializedSizeWeigher());
   }
 
   /** Calls all configured and enabled api bridge endpoints */
@@ -99,11 +112,17 @@ public final class ApiBridgeProcessor {
             });
   }
 
-  /** Calls a single api bridge and handles the result */
+  /**
+   * Calls a single api bridge and handles the result
+   *
+   * <p>Successful responses are cached by bridge URL and request payload for {@code
+   * value_caches.api-bridge-responses.expire-after-write}, so submitting a block again without
+   * changing the bridge's input fields doesn't call the bridge again.
+   */
   private CompletionStage<ApplicantData> callApiBridgeEndpoint(
       ApplicantData applicantData,
       ApiBridgeDefinition bridgeDefinition,
-      ApiBridgeConfigurationModel bridgeConfig) {
+      ApiBridgeConfigurationModel.Snapshot bridgeConfig) {
 
     ImmutableMap<String, Object> requestPayload =
         requestPayloadMapper.map(
@@ -115,10 +134,23 @@ public final class ApiBridgeProcessor {
       return CompletableFuture.completedFuture(applicantData);
     }
 
+    String cacheKey = responseCacheKey(bridgeConfig, requestPayload);
+    Optional<BridgeResponse> cachedResponse = responseCache.get(cacheKey);
+    if (cachedResponse.isPresent()) {
+      return CompletableFuture.supplyAsync(
+          () -> mapResponse(applicantData, bridgeDefinition, bridgeConfig, cachedResponse.get()),
+          apiBridgeExecutionContext);
+    }
+
     return apiBridgeService
         .bridge(bridgeConfig.getFullHostUrlWithPath(), new BridgeRequest(requestPayload))
         .thenApplyAsync(
-            response -> handleResponse(applicantData, bridgeDefinition, bridgeConfig, response),
+            response -> {
+              ApplicantData result =
+                  handleResponse(applicantData, bridgeDefinition, bridgeConfig, response);
+              responseCache.set(cacheKey, response.getResult());
+              return result;
+            },
             apiBridgeExecutionContext);
   }
 
@@ -126,22 +158,52 @@ public final class ApiBridgeProcessor {
   private ApplicantData handleResponse(
       ApplicantData applicantData,
       ApiBridgeDefinition bridgeDefinition,
-      ApiBridgeConfigurationModel bridgeConfig,
-      ErrorAnd<ApiBridgeServiceDto.BridgeResponse, IProblemDetail> response) {
+      ApiBridgeConfigurationModel.Snapshot bridgeConfig,
+      ErrorAnd<BridgeResponse, IProblemDetail> response) {
 
     validateResponse(bridgeConfig, response);
 
+    return mapResponse(applicantData, bridgeDefinition, bridgeConfig, response.getResult());
+  }
+
+  /** Maps a valid api bridge response onto a copy of the applicant data */
+  private ApplicantData mapResponse(
+      ApplicantData applicantData,
+      ApiBridgeDefinition bridgeDefinition,
+      ApiBridgeConfigurationModel.Snapshot bridgeConfig,
+      BridgeResponse response) {
     var newApplicantData = new ApplicantData();
     newApplicantData.mergeFrom(applicantData);
 
-    newApplicantData =
-        responsePayloadMapper.map(
-            newApplicantData,
-            bridgeConfig.responseSchema(),
-            response.getResult().payload(),
-            bridgeDefinition.outputFields());
+    return responsePayloadMapper.map(
+        newApplicantData,
+        bridgeConfig.responseSchema(),
+        response.payload(),
+        bridgeDefinition.outputFields());
+  }
 
-    return newApplicantData;
+  /**
+   * Returns the response cache key for calling the bridge with the payload. The payload is
+   * serialized with its keys sorted, so that equal payloads have the same key, and hashed to keep
+   * applicant data out of the key.
+   */
+  private String responseCacheKey(
+      ApiBridgeConfigurationModel.Snapshot bridgeConfig,
+      ImmutableMap<String, Object> requestPayload) {
+    String normalizedPayload;
+    try {
+      normalizedPayload =
+          mapper
+              .writer()
+              .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+              .writeValueAsString(requestPayload);
+    } catch (JsonProcessingException e) {
+      throw new ApiBridgeProcessingException("Unable to serialize request payload.", e);
+    }
+    return String.format(
+        "%s#%s",
+        bridgeConfig.getFullHostUrlWithPath(),
+        Hashing.sha256().hashString(normalizedPayload, StandardCharsets.UTF_8));
   }
 
   /** Validate payload against the json schema definition */
@@ -154,8 +216,8 @@ public final class ApiBridgeProcessor {
 
   /** Check response for server errors and data validation errors */
   private void validateResponse(
-      ApiBridgeConfigurationModel bridgeConfig,
-      ErrorAnd<ApiBridgeServiceDto.BridgeResponse, IProblemDetail> response) {
+      ApiBridgeConfigurationModel.Snapshot bridgeConfig,
+      ErrorAnd<BridgeResponse, IProblemDetail> response) {
     if (response.isError()) {
       String errorMessage =
           response.getErrors().stream()
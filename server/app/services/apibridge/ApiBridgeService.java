@@ -32,6 +32,7 @@ public final class ApiBridgeService implements WSBodyReadables {
   private final WSClient wsClient;
   private final ApiBridgeExecutionContext executionContext;
   private final ObjectMapper mapper;
+  private final ApiBridgeHostGuards hostGuards;
 
   private static final String HEALTH_CHECK_PATH = "health-check";
   private static final String DISCOVERY_PATH = "discovery";
@@ -53,10 +54,14 @@ public final class ApiBridgeService implements WSBodyReadables {
 
   @Inject
   public ApiBridgeService(
-      WSClient wsClient, ApiBridgeExecutionContext executionContext, ObjectMapper mapper) {
+      WSClient wsClient,
+      ApiBridgeExecutionContext executionContext,
+      ObjectMapper mapper,
+      ApiBridgeHostGuards hostGuards) {
     this.wsClient = checkNotNull(wsClient);
     this.executionContext = checkNotNull(executionContext);
     this.mapper = checkNotNull(mapper);
+    this.hostGuards = checkNotNull(hostGuards);
   }
 
   /**
@@ -135,6 +140,9 @@ public final class ApiBridgeService implements WSBodyReadables {
   /**
    * Calls the bridge endpoint
    *
+   * <p>Calls are limited by the host's {@link ApiBridgeHostGuards}, so this returns an error right
+   * away while the host is failing or has too many calls in flight.
+   *
    * @param fullBridgeUrl url to the root of a bridge host
    * @param request request body
    * @return Bridge response or problem detail data
@@ -147,10 +155,13 @@ public final class ApiBridgeService implements WSBodyReadables {
       String jsonBody = mapper.writeValueAsString(request);
       logger.debug("URL: {} Body: {}", fullBridgeUrl, jsonBody);
 
-      return wsClient
-          .url(fullBridgeUrl)
-          .setContentType("application/json")
-          .post(jsonBody)
+      return hostGuards
+          .call(
+              fullBridgeUrl,
+              () -> wsClient.url(fullBridgeUrl).setContentType("application/json").post(jsonBody),
+              // Server errors and rate limiting mean the host is struggling, while other errors
+              // are about the request.
+              res -> res.getStatus() >= 500 || res.getStatus() == 429)
           .thenApplyAsync(
               res -> {
                 ErrorAnd<BridgeResponse, IProblemDetail> result =
@@ -0,0 +1,21 @@
+package services.apikey;
+
+import java.time.Instant;
+
+/**
+ * Usage of a single API key that has not yet been written to the database.
+ *
+ * @param keyId the key's string ID
+ * @param callCount the number of calls made with the key
+ * @param lastCallIpAddress the client IP address of the most recent call
+ * @param lastCallTime the time of the most recent call
+ */
+public record ApiKeyUsage(
+    String keyId, long callCount, String lastCallIpAddress, Instant lastCallTime) {
+
+  /** Combines this usage with {@code later}, which was recorded after it. */
+  ApiKeyUsage plus(ApiKeyUsage later) {
+    return new ApiKeyUsage(
+        keyId, callCount + later.callCount(), later.lastCallIpAddress(), later.lastCallTime());
+  }
+}
@@ -0,0 +1,59 @@
+package services.apikey;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.typesafe.config.Config;
+import java.time.Clock;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.inject.ApplicationLifecycle;
+import repository.ApiKeyRepository;
+import repository.DatabaseExecutionContext;
+import services.BatchingRecorder;
+
+/**
+ * Records API key usage and writes it to the database in one batched update every {@code
+ * api_key_usage_flush_interval}.
+ *
+ * <p>Partners polling the API can make many calls a second with the same key, so writing each call
+ * separately would double the database load of those calls and contend on the key's row. Losing
+ * some usage when a server dies is acceptable since the call count is informational.
+ */
+@Singleton
+public final class ApiKeyUsageRecorder {
+  private final Clock clock;
+  private final BatchingRecorder<String, ApiKeyUsage> recorder;
+
+  @Inject
+  public ApiKeyUsageRecorder(
+      ApiKeyRepository repository,
+      Clock clock,
+      Config config,
+      ActorSystem actorSystem,
+      DatabaseExecutionContext dbExecutionContext,
+      ApplicationLifecycle lifecycle) {
+    this.clock = checkNotNull(clock);
+    this.recorder =
+        new BatchingRecorder<>(
+            "api_key_usage",
+            config.getDuration("api_key_usage_flush_interval"),
+            ApiKeyUsage::plus,
+            usages -> repository.recordApiKeyUsage(usages.values().asList()),
+            actorSystem,
+            dbExecutionContext,
+            lifecycle);
+  }
+
+  /** Records a call made with the API key {@code keyId} from {@code remoteAddress}. */
+  public void record(String keyId, String remoteAddress) {
+    recorder.record(keyId, new ApiKeyUsage(keyId, 1, remoteAddress, clock.instant()));
+  }
+
+  /** Writes all usage recorded since the last flush to the database. */
+  @VisibleForTesting
+  void flush() {
+    recorder.flush();
+  }
+}
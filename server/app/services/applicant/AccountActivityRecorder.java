@@ -0,0 +1,65 @@
+package services.applicant;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.typesafe.config.Config;
+import java.time.Clock;
+import java.time.Instant;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.inject.ApplicationLifecycle;
+import repository.AccountRepository;
+import repository.DatabaseExecutionContext;
+import services.BatchingRecorder;
+
+/**
+ * Records applicant activity and writes each account's latest activity time to the database in one
+ * batched update every {@code account_activity_flush_interval}.
+ *
+ * <p>Draft saves, submissions and status changes used to save the whole account just to bump its
+ * last activity time, which took a row lock on the account in every one of those transactions. If
+ * activity is lost because the server dies without shutting down, the account keeps its previous
+ * last activity time until its next activity.
+ */
+@Singleton
+public final class AccountActivityRecorder {
+  private final Clock clock;
+  private final BatchingRecorder<Long, Instant> recorder;
+
+  @Inject
+  public AccountActivityRecorder(
+      AccountRepository accountRepository,
+      Clock clock,
+      Config config,
+      ActorSystem actorSystem,
+      DatabaseExecutionContext dbExecutionContext,
+      ApplicationLifecycle lifecycle) {
+    this.clock = checkNotNull(clock);
+    this.recorder =
+        new BatchingRecorder<>(
+            "account_activity",
+            config.getDuration("account_activity_flush_interval"),
+            AccountActivityRecorder::latest,
+            accountRepository::recordLastActivityTimes,
+            actorSystem,
+            dbExecutionContext,
+            lifecycle);
+  }
+
+  /** Records activity on the account with ID {@code accountId} happening now. */
+  public void record(long accountId) {
+    recorder.record(accountId, clock.instant());
+  }
+
+  /** Writes all activity recorded since the last flush to the database. */
+  @VisibleForTesting
+  public void flush() {
+    recorder.flush();
+  }
+
+  private static Instant latest(Instant first, Instant second) {
+    return first.isAfter(second) ? first : second;
+  }
+}
@@ -1,13 +1,17 @@
 package services.applicant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.jayway.jsonpath.PathNotFoundException;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.jayway.jsonpath.TypeRef;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import services.CfJsonDocumentContext;
 import services.LocalizedStrings;
@@ -31,6 +35,7 @@ public class ApplicantData extends CfJsonDocumentContext {
 
   private static final String APPLICANT = "applicant";
   public static final Path APPLICANT_PATH = Path.create(APPLICANT);
+  private static final String UPDATED_AT_KEY = "updated_at";
   private static final String EMPTY_APPLICANT_DATA_JSON =
       String.format("{ \"%s\": {} }", APPLICANT);
   private Optional<Locale> preferredLocale;
@@ -101,27 +106,61 @@ public class ApplicantData extends CfJsonDocumentContext {
    * `updated_at` timestamps when comparing answers.
    */
   public boolean isDuplicateOf(ApplicantData other) {
-    // Copy data and clear fields not required for comparison.
-    ApplicantData thisApplicantData = new ApplicantData(this.preferredLocale, this.asJsonString());
-    clearFieldsNotRequiredForComparison(thisApplicantData);
-    ApplicantData otherApplicantData =
-        new ApplicantData(other.preferredLocale, other.asJsonString());
-    clearFieldsNotRequiredForComparison(otherApplicantData);
-
-    return thisApplicantData.asJsonString().equals(otherApplicantData.asJsonString());
-  }
-
-  private static void clearFieldsNotRequiredForComparison(ApplicantData applicantData) {
-    // The `updated_at` timestamp for an answer should not be considered when
-    // comparing answers.
-    try {
-      // The ".." in the path scans the entire document.
-      applicantData.getDocumentContext().set("$..updated_at", 0);
-    } catch (PathNotFoundException _) {
-      // Metadata may be missing in unit tests. No harm, no foul.
+    return computeContentHash().equals(other.computeContentHash());
+  }
+
+  /**
+   * Returns a SHA-256 hash of the answers in this object, as a hex string. Objects with the same
+   * hash are duplicates of each other, as defined by {@link #isDuplicateOf}.
+   *
+   * <p>The hash is computed directly from the parsed document with object keys in sorted order, so
+   * it doesn't depend on key order and doesn't require serializing the document. The values of
+   * `updated_at` fields are ignored, but their presence is not.
+   *
+   * <p>Hashes are stored on submitted applications, so changing how they are computed requires
+   * recomputing the stored hashes.
+   */
+  public String computeContentHash() {
+    Hasher hasher = Hashing.sha256().newHasher();
+    putCanonicalValue(hasher, getDocumentContext().json());
+    return hasher.hash().toString();
+  }
+
+  private static void putCanonicalValue(Hasher hasher, Object value) {
+    if (value == null) {
+      hasher.putByte((byte) 'z');
+    } else if (value instanceof Map<?, ?> map) {
+      hasher.putByte((byte) '{').putInt(map.size());
+      ImmutableList<String> keys =
+          map.keySet().stream().map(String::valueOf).sorted().collect(toImmutableList());
+      for (String key : keys) {
+        putString(hasher, key);
+        if (key.equals(UPDATED_AT_KEY)) {
+          hasher.putByte((byte) '_');
+        } else {
+          putCanonicalValue(hasher, map.get(key));
+        }
+      }
+    } else if (value instanceof List<?> list) {
+      hasher.putByte((byte) '[').putInt(list.size());
+      list.forEach(element -> putCanonicalValue(hasher, element));
+    } else if (value instanceof String string) {
+      hasher.putByte((byte) 's');
+      putString(hasher, string);
+    } else if (value instanceof Boolean bool) {
+      hasher.putByte((byte) 'b').putBoolean(bool);
+    } else {
+      // Numbers. Equal Integer and Long values have the same string form.
+      hasher.putByte((byte) 'n');
+      putString(hasher, value.toString());
     }
   }
 
+  private static void putString(Hasher hasher, String value) {
+    // The length prefix keeps adjacent strings from running together.
+    hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+  }
+
   /**
    * Puts an array at a given path, building parent objects as needed.
    *
@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
@@ -42,7 +43,6 @@ import models.EligibilityDetermination;
 import models.LifecycleStage;
 import models.ProgramModel;
 import models.ProgramNotificationPreference;
-import models.StoredFileModel;
 import models.VersionModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -501,6 +501,7 @@ public final class ApplicantService {
                                       ? Optional.empty()
                                       : Optional.of(tiAccount.getEmailAddress()),
                                   eligibilityDetermination,
+                                  Optional.of(ro),
                                   request);
                             },
                             classLoaderExecutionContext.current()));
@@ -519,6 +520,7 @@ public final class ApplicantService {
                                 programId,
                                 /* tiSubmitterEmail= */ Optional.empty(),
                                 eligibilityDetermination,
+                                Optional.of(ro),
                                 request);
                           }));
     } catch (ProgramNotFoundException e) {
@@ -647,6 +649,29 @@ public final class ApplicantService {
       Optional<String> tiSubmitterEmail,
       EligibilityDetermination eligibilityDetermination,
       Request request) {
+    return submitApplication(
+        applicantId,
+        programId,
+        tiSubmitterEmail,
+        eligibilityDetermination,
+        /* roApplicantProgramService= */ Optional.empty(),
+        request);
+  }
+
+  /**
+   * Submits the application, then sets its default status, sends its notifications and lets the
+   * program's admins read its files.
+   *
+   * @param roApplicantProgramService the applicant's answers to the program, if they've already
+   *     been loaded for validating the application
+   */
+  private CompletionStage<ApplicationModel> submitApplication(
+      long applicantId,
+      long programId,
+      Optional<String> tiSubmitterEmail,
+      EligibilityDetermination eligibilityDetermination,
+      Optional<ReadOnlyApplicantProgramService> roApplicantProgramService,
+      Request request) {
     CompletableFuture<Optional<ApplicationModel>> applicationFuture =
         applicationRepository
             .submitApplication(applicantId, programId, tiSubmitterEmail, eligibilityDetermination)
@@ -733,7 +758,8 @@ public final class ApplicantService {
                             notifyProgramAdminsFuture,
                             notifyApplicantFuture,
                             notifyTiSubmitterFuture,
-                            updateStoredFileAclsForSubmit(applicantId, programId)
+                            updateStoredFileAclsForSubmit(
+                                    applicantId, programId, programName, roApplicantProgramService)
                                 .toCompletableFuture())
                         .thenApplyAsync(
                             (ignoreVoid) -> application, classLoaderExecutionContext.current());
@@ -790,36 +816,22 @@ public final class ApplicantService {
    * When an application is submitted, we store the name of its program in the ACLs for each file in
    * the application.
    */
-  private CompletionStage<Void> updateStoredFileAclsForSubmit(long applicantId, long programId) {
-    CompletableFuture<ProgramDefinition> programDefinitionCompletableFuture =
-        programService.getFullProgramDefinitionAsync(programId).toCompletableFuture();
-
-    CompletableFuture<List<StoredFileModel>> storedFilesFuture =
-        getReadOnlyApplicantProgramService(applicantId, programId)
-            .thenApplyAsync(
-                applicantService -> applicantService.getStoredFileKeys(),
-                classLoaderExecutionContext.current())
-            .thenComposeAsync(
-                storedFileRepository::lookupFiles, classLoaderExecutionContext.current())
-            .toCompletableFuture();
-
-    return CompletableFuture.allOf(programDefinitionCompletableFuture, storedFilesFuture)
-        .thenComposeAsync(
-            (ignoreVoid) -> {
-              List<StoredFileModel> storedFiles = storedFilesFuture.join();
-              ProgramDefinition programDefinition = programDefinitionCompletableFuture.join();
-              CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
-
-              for (StoredFileModel file : storedFiles) {
-                file.getAcls().addProgramToReaders(programDefinition);
-                future =
-                    CompletableFuture.allOf(
-                        future, storedFileRepository.update(file).toCompletableFuture());
-              }
-
-              return future;
-            },
-            classLoaderExecutionContext.current());
+  private CompletionStage<Void> updateStoredFileAclsForSubmit(
+      long applicantId,
+      long programId,
+      String programName,
+      Optional<ReadOnlyApplicantProgramService> roApplicantProgramService) {
+    CompletionStage<ImmutableList<String>> storedFileKeysFuture =
+        roApplicantProgramService.isPresent()
+            ? CompletableFuture.completedFuture(roApplicantProgramService.get().getStoredFileKeys())
+            : getReadOnlyApplicantProgramService(applicantId, programId)
+                .thenApplyAsync(
+                    ReadOnlyApplicantProgramService::getStoredFileKeys,
+                    classLoaderExecutionContext.current());
+
+    return storedFileKeysFuture.thenComposeAsync(
+        storedFileKeys -> storedFileRepository.addProgramToReaders(storedFileKeys, programName),
+        classLoaderExecutionContext.current());
   }
 
   /**
@@ -1089,35 +1101,83 @@ public final class ApplicantService {
             .getApplicationsForApplicant(
                 applicantId, ImmutableSet.of(LifecycleStage.DRAFT, LifecycleStage.ACTIVE))
             .toCompletableFuture();
-    ImmutableList<ProgramDefinition> activeProgramDefinitions =
-        versionRepository.getProgramsForVersion(versionRepository.getActiveVersion()).stream()
-            .map(p -> programRepository.getShallowProgramDefinition(p))
-            .filter(
-                pdef ->
-                    pdef.displayMode().equals(DisplayMode.PUBLIC)
-                        || (requesterProfile.isTrustedIntermediary()
-                            && pdef.displayMode().equals(DisplayMode.TI_ONLY))
-                        || (pdef.displayMode().equals(DisplayMode.SELECT_TI)
-                            && pdef.acls().hasProgramViewPermission(requesterProfile)))
-            .collect(ImmutableList.toImmutableList());
 
+    if (!programService.isActiveCatalogSnapshotCached()) {
+      // Without the cache, a snapshot would sync the questions of every active program on each
+      // call. Instead the active programs are read without their questions, and only synced
+      // together with the programs of the applicant's applications.
+      ImmutableList<ProgramDefinition> activeProgramDefinitions =
+          versionRepository.getProgramsForVersion(versionRepository.getActiveVersion()).stream()
+              .map(p -> programRepository.getShallowProgramDefinition(p))
+              .filter(pdef -> isVisibleToRequester(pdef, requesterProfile))
+              .collect(ImmutableList.toImmutableList());
+      return relevantProgramsForApplications(
+          applicationsFuture,
+          activeProgramDefinitions,
+          applications -> {
+            List<ProgramDefinition> programDefinitionsList =
+                applications.stream()
+                    .map(
+                        application ->
+                            programRepository.getShallowProgramDefinition(
+                                application.getProgram()))
+                    .collect(Collectors.toList());
+            programDefinitionsList.addAll(activeProgramDefinitions);
+            return programService.syncQuestionsToProgramDefinitions(
+                programDefinitionsList.stream().collect(ImmutableList.toImmutableList()));
+          });
+    }
+
+    return programService
+        .getActiveCatalogSnapshotAsync()
+        .thenCompose(
+            activeCatalog ->
+                relevantProgramsForApplications(
+                    applicationsFuture,
+                    activeCatalog.getPrograms().stream()
+                        .filter(pdef -> isVisibleToRequester(pdef, requesterProfile))
+                        .collect(ImmutableList.toImmutableList()),
+                    applications -> {
+                      // Programs in the active catalog are already synced, so only the programs
+                      // of applications to other versions need their questions synced.
+                      ImmutableList<ProgramDefinition> otherVersionPrograms =
+                          applications.stream()
+                              .map(
+                                  application ->
+                                      programRepository.getShallowProgramDefinition(
+                                          application.getProgram()))
+                              .filter(pdef -> activeCatalog.getProgramById(pdef.id()).isEmpty())
+                              .collect(ImmutableList.toImmutableList());
+                      return programService
+                          .syncQuestionsToProgramDefinitions(otherVersionPrograms)
+                          .thenApply(
+                              syncedPrograms ->
+                                  ImmutableList.<ProgramDefinition>builder()
+                                      .addAll(syncedPrograms)
+                                      .addAll(activeCatalog.getPrograms())
+                                      .build());
+                    }));
+  }
+
+  /**
+   * Returns the programs relevant to an applicant once their applications are loaded.
+   *
+   * @param activeProgramDefinitions the active programs the requester may see
+   * @param loadAllPrograms returns the synced definitions of the programs of the applications and
+   *     of the active programs. It is only called if there are applications.
+   */
+  private CompletionStage<ApplicationPrograms> relevantProgramsForApplications(
+      CompletableFuture<ImmutableSet<ApplicationModel>> applicationsFuture,
+      ImmutableList<ProgramDefinition> activeProgramDefinitions,
+      Function<ImmutableSet<ApplicationModel>, CompletionStage<ImmutableList<ProgramDefinition>>>
+          loadAllPrograms) {
     return applicationsFuture
         .thenComposeAsync(
-            v -> {
-              ImmutableSet<ApplicationModel> applications = applicationsFuture.join();
+            applications -> {
               if (applications.isEmpty()) {
                 return CompletableFuture.completedFuture(activeProgramDefinitions);
               }
-              List<ProgramDefinition> programDefinitionsList =
-                  applications.stream()
-                      .map(
-                          application ->
-                              programRepository.getShallowProgramDefinition(
-                                  application.getProgram()))
-                      .collect(Collectors.toList());
-              programDefinitionsList.addAll(activeProgramDefinitions);
-              return programService.syncQuestionsToProgramDefinitions(
-                  programDefinitionsList.stream().collect(ImmutableList.toImmutableList()));
+              return loadAllPrograms.apply(applications);
             })
         .thenApplyAsync(
             allPrograms -> {
@@ -1129,6 +1189,15 @@ public final class ApplicantService {
             classLoaderExecutionContext.current());
   }
 
+  private static boolean isVisibleToRequester(
+      ProgramDefinition pdef, CiviFormProfile requesterProfile) {
+    return pdef.displayMode().equals(DisplayMode.PUBLIC)
+        || (requesterProfile.isTrustedIntermediary()
+            && pdef.displayMode().equals(DisplayMode.TI_ONLY))
+        || (pdef.displayMode().equals(DisplayMode.SELECT_TI)
+            && pdef.acls().hasProgramViewPermission(requesterProfile));
+  }
+
   /**
    * Get all active programs that are publicly visible, as if it was a brand new guest account, but
    * without requiring the account to be created yet.
@@ -1136,18 +1205,31 @@ public final class ApplicantService {
    * @return - CompletionStage of the relevant programs
    */
   public CompletionStage<ApplicationPrograms> relevantProgramsWithoutApplicant(Request request) {
-    CompletionStage<VersionModel> versionFuture = versionRepository.getActiveVersionAsync();
-    return versionFuture.thenApplyAsync(
-        version -> {
-          ImmutableList<ProgramDefinition> activeProgramDefinitions =
-              versionRepository.getProgramsForVersion(version).stream()
-                  .map(p -> programRepository.getShallowProgramDefinition(p))
-                  .filter(pdef -> pdef.displayMode().equals(DisplayMode.PUBLIC))
-                  .collect(ImmutableList.toImmutableList());
-          return relevantProgramsForApplicantInternal(
-              activeProgramDefinitions, ImmutableSet.of(), activeProgramDefinitions);
-        },
-        classLoaderExecutionContext.current());
+    if (!programService.isActiveCatalogSnapshotCached()) {
+      // Without the cache, a snapshot would sync the questions of every active program on each
+      // call, which listing the programs doesn't need.
+      CompletionStage<VersionModel> versionFuture = versionRepository.getActiveVersionAsync();
+      return versionFuture.thenApplyAsync(
+          version ->
+              relevantPublicPrograms(
+                  versionRepository.getProgramsForVersion(version).stream()
+                      .map(p -> programRepository.getShallowProgramDefinition(p))),
+          classLoaderExecutionContext.current());
+    }
+    return programService
+        .getActiveCatalogSnapshotAsync()
+        .thenApplyAsync(
+            activeCatalog -> relevantPublicPrograms(activeCatalog.getPrograms().stream()),
+            classLoaderExecutionContext.current());
+  }
+
+  private ApplicationPrograms relevantPublicPrograms(Stream<ProgramDefinition> activePrograms) {
+    ImmutableList<ProgramDefinition> activeProgramDefinitions =
+        activePrograms
+            .filter(pdef -> pdef.displayMode().equals(DisplayMode.PUBLIC))
+            .collect(ImmutableList.toImmutableList());
+    return relevantProgramsForApplicantInternal(
+        activeProgramDefinitions, ImmutableSet.of(), activeProgramDefinitions);
   }
 
   /**
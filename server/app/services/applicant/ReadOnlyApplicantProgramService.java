@@ -8,16 +8,16 @@ import com.google.common.collect.ImmutableMap;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import models.ApplicantModel;
 import services.LocalizedStrings;
 import services.Path;
-import services.applicant.predicate.JsonPathPredicateGenerator;
 import services.applicant.predicate.JsonPathPredicateGeneratorFactory;
-import services.applicant.predicate.PredicateEvaluator;
 import services.applicant.question.ApplicantQuestion;
 import services.applicant.question.FileUploadQuestion;
 import services.program.BlockDefinition;
@@ -46,10 +46,23 @@ public final class ReadOnlyApplicantProgramService {
 
   private final ProgramDefinition programDefinition;
   private final JsonPathPredicateGeneratorFactory jsonPathPredicateGeneratorFactory;
+
+  /**
+   * Every block in the program for this applicant, including hidden blocks, built once and shared
+   * by all the accessors below. Like the other memoized lists, this relies on {@link
+   * ApplicantData} being locked.
+   */
+  private ImmutableList<Block> allBlockList;
+
   private ImmutableList<Block> allActiveBlockList;
   private ImmutableList<Block> allHiddenBlockList;
   private ImmutableList<Block> currentBlockList;
 
+  /** Memoized results of {@link #showBlock} and {@link #isBlockEligible}, keyed by block ID. */
+  private final Map<String, Boolean> blockVisibilityById = new HashMap<>();
+
+  private final Map<String, Boolean> blockEligibilityById = new HashMap<>();
+
   public ReadOnlyApplicantProgramService(
       JsonPathPredicateGeneratorFactory jsonPathPredicateGeneratorFactory,
       ApplicantModel applicant,
@@ -182,6 +195,11 @@ public final class ReadOnlyApplicantProgramService {
 
   /** Helper functions returning if the block eligibility criteria are met. */
   private boolean isBlockEligible(Block block) {
+    return blockEligibilityById.computeIfAbsent(
+        block.getId(), id -> evaluateBlockEligibility(block));
+  }
+
+  private boolean evaluateBlockEligibility(Block block) {
     Optional<PredicateDefinition> predicate =
         block.getEligibilityDefinition().map(EligibilityDefinition::predicate);
     // No eligibility criteria means the block is eligible.
@@ -197,8 +215,7 @@ public final class ReadOnlyApplicantProgramService {
    * @return A stream of the questions in the program.
    */
   public Stream<ApplicantQuestion> getAllQuestions() {
-    return getBlocks((block) -> true).stream()
-        .flatMap((block) -> block.getVisibleQuestions().stream());
+    return getAllBlocks().stream().flatMap((block) -> block.getVisibleQuestions().stream());
   }
 
   /**
@@ -209,7 +226,7 @@ public final class ReadOnlyApplicantProgramService {
    * @return A stream of all questions in the program, including hidden questions.
    */
   public Stream<ApplicantQuestion> getAllQuestionsIncludingHidden() {
-    return getBlocks((block) -> true).stream().flatMap((block) -> block.getAllQuestions().stream());
+    return getAllBlocks().stream().flatMap((block) -> block.getAllQuestions().stream());
   }
 
   /**
@@ -220,7 +237,7 @@ public final class ReadOnlyApplicantProgramService {
    */
   public ImmutableList<Block> getAllActiveBlocks() {
     if (allActiveBlockList == null) {
-      allActiveBlockList = getBlocks((block) -> showBlock(block));
+      allActiveBlockList = filterBlocks((block) -> showBlock(block));
     }
     return allActiveBlockList;
   }
@@ -231,7 +248,7 @@ public final class ReadOnlyApplicantProgramService {
    */
   public ImmutableList<Block> getAllHiddenBlocks() {
     if (allHiddenBlockList == null) {
-      allHiddenBlockList = getBlocks((block) -> !showBlock(block));
+      allHiddenBlockList = filterBlocks((block) -> !showBlock(block));
     }
     return allHiddenBlockList;
   }
@@ -265,7 +282,7 @@ public final class ReadOnlyApplicantProgramService {
   public ImmutableList<Block> getInProgressBlocks() {
     if (currentBlockList == null) {
       currentBlockList =
-          getBlocks(
+          filterBlocks(
               block ->
                   // Return all blocks that contain errors, were answered in this program,
                   // contain a static question, or have an address needing correction.
@@ -423,7 +440,7 @@ public final class ReadOnlyApplicantProgramService {
    */
   public ImmutableList<AnswerData> getSummaryDataAllQuestions() {
     ImmutableList.Builder<AnswerData> builder = new ImmutableList.Builder<>();
-    ImmutableList<Block> blocks = getBlocks((block) -> true);
+    ImmutableList<Block> blocks = getAllBlocks();
     addDataToBuilder(
         blocks, builder, /* showAnswerText= */ true, /* includeHiddenQuestions= */ false);
     return builder.build();
@@ -569,18 +586,25 @@ public final class ReadOnlyApplicantProgramService {
   }
 
   /**
-   * Gets {@link Block}s for this program and applicant. If {@code onlyIncludeInProgressBlocks} is
-   * true, then only the current blocks will be included in the list. A block is "in progress" if it
-   * has yet to be filled out by the applicant, or if it was filled out in the context of this
-   * program.
+   * Gets all {@link Block}s for this program and applicant, in program order, including blocks that
+   * are hidden from the applicant. The blocks and the repeated entities they are built from are
+   * computed once per instance.
    */
-  private ImmutableList<Block> getBlocks(Predicate<Block> includeBlockIfTrue) {
-    String emptyBlockIdSuffix = "";
-    return getBlocks(
-        programDefinition.getNonRepeatedBlockDefinitions(),
-        emptyBlockIdSuffix,
-        Optional.empty(),
-        includeBlockIfTrue);
+  private ImmutableList<Block> getAllBlocks() {
+    if (allBlockList == null) {
+      String emptyBlockIdSuffix = "";
+      allBlockList =
+          getBlocks(
+              programDefinition.getNonRepeatedBlockDefinitions(),
+              emptyBlockIdSuffix,
+              Optional.empty());
+    }
+    return allBlockList;
+  }
+
+  /** Returns the blocks from {@link #getAllBlocks()} that satisfy {@code includeBlockIfTrue}. */
+  private ImmutableList<Block> filterBlocks(Predicate<Block> includeBlockIfTrue) {
+    return getAllBlocks().stream().filter(includeBlockIfTrue).collect(toImmutableList());
   }
 
   /**
@@ -597,12 +621,11 @@ public final class ReadOnlyApplicantProgramService {
             .contains(question.getQuestionDefinition().getId());
   }
 
-  /** Recursive helper method for {@link ReadOnlyApplicantProgramService#getBlocks(Predicate)}. */
+  /** Recursive helper method for {@link ReadOnlyApplicantProgramService#getAllBlocks()}. */
   private ImmutableList<Block> getBlocks(
       ImmutableList<BlockDefinition> blockDefinitions,
       String blockIdSuffix,
-      Optional<RepeatedEntity> maybeRepeatedEntity,
-      Predicate<Block> includeBlockIfTrue) {
+      Optional<RepeatedEntity> maybeRepeatedEntity) {
     ImmutableList.Builder<Block> blockListBuilder = ImmutableList.builder();
 
     for (BlockDefinition blockDefinition : blockDefinitions) {
@@ -614,9 +637,7 @@ public final class ReadOnlyApplicantProgramService {
               applicant,
               applicantData,
               maybeRepeatedEntity);
-      if (includeBlockIfTrue.test(block)) {
-        blockListBuilder.add(block);
-      }
+      blockListBuilder.add(block);
 
       // For an enumeration block definition, build blocks for its repeated questions
       if (blockDefinition.hasEnumeratorQuestion()) {
@@ -646,8 +667,7 @@ public final class ReadOnlyApplicantProgramService {
               getBlocks(
                   repeatedBlockDefinitions,
                   nextBlockIdSuffix,
-                  Optional.of(repeatedEntities.get(i)),
-                  includeBlockIfTrue));
+                  Optional.of(repeatedEntities.get(i))));
         }
       }
     }
@@ -656,6 +676,10 @@ public final class ReadOnlyApplicantProgramService {
   }
 
   private boolean showBlock(Block block) {
+    return blockVisibilityById.computeIfAbsent(block.getId(), id -> evaluateShowBlock(block));
+  }
+
+  private boolean evaluateShowBlock(Block block) {
     if (block.getRepeatedEntity().isPresent()) {
       // In repeated blocks, test if this block's parents are visible.
       ImmutableList<PredicateDefinition> nestedVisibility =
@@ -690,11 +714,11 @@ public final class ReadOnlyApplicantProgramService {
   }
 
   private boolean evaluatePredicate(Block block, PredicateDefinition predicate) {
-    JsonPathPredicateGenerator predicateGenerator =
-        jsonPathPredicateGeneratorFactory.create(
-            this.programDefinition.streamQuestionDefinitions().collect(toImmutableList()),
-            block.getRepeatedEntity());
-    return new PredicateEvaluator(this.applicantData, predicateGenerator)
+    return jsonPathPredicateGeneratorFactory
+        .createEvaluator(
+            this.applicantData,
+            this.programDefinition.getCompiledPredicates(),
+            block.getRepeatedEntity())
         .evaluate(predicate.rootNode());
   }
 }
@@ -0,0 +1,17 @@
+package services.applicant.predicate;
+
+/**
+ * A predicate expression tree that has been compiled by {@link PredicateCompiler} into evaluator
+ * objects which read the applicant's answers directly, rather than building and parsing a {@link
+ * JsonPathPredicate} for every evaluation.
+ *
+ * <p>Instances are immutable and hold no applicant state, so they can be shared across requests.
+ * Use {@link PredicateEvaluator} to evaluate them against an applicant's data.
+ */
+public abstract class CompiledPredicate {
+
+  CompiledPredicate() {}
+
+  /** Returns true if this predicate holds for the applicant data held by {@code evaluator}. */
+  abstract boolean evaluate(PredicateEvaluator evaluator);
+}
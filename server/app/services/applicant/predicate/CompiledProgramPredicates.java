@@ -0,0 +1,41 @@
+package services.applicant.predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import services.program.predicate.PredicateExpressionNode;
+import services.question.types.QuestionDefinition;
+
+/**
+ * Compiles and holds the {@link CompiledPredicate}s for the predicates of a single program
+ * version.
+ *
+ * <p>An instance is memoized on its {@link services.program.ProgramDefinition}, which is itself
+ * cached per program version, so each visibility or eligibility predicate is compiled at most once
+ * per version rather than on every block render. Instances are safe to share across threads.
+ */
+public final class CompiledProgramPredicates {
+
+  private final ImmutableMap<Long, QuestionDefinition> questionsById;
+  private final ConcurrentHashMap<PredicateExpressionNode, CompiledPredicate> compiledPredicates =
+      new ConcurrentHashMap<>();
+
+  public CompiledProgramPredicates(ImmutableList<QuestionDefinition> programQuestions) {
+    this(
+        checkNotNull(programQuestions).stream()
+            .collect(toImmutableMap(QuestionDefinition::getId, q -> q)));
+  }
+
+  CompiledProgramPredicates(ImmutableMap<Long, QuestionDefinition> questionsById) {
+    this.questionsById = checkNotNull(questionsById);
+  }
+
+  /** Returns the compiled form of the expression tree rooted at {@code rootNode}. */
+  public CompiledPredicate get(PredicateExpressionNode rootNode) {
+    return compiledPredicates.computeIfAbsent(
+        rootNode, node -> PredicateCompiler.compile(node, questionsById));
+  }
+}
@@ -6,10 +6,11 @@ import com.google.common.collect.ImmutableList;
 import java.util.Optional;
 import javax.inject.Inject;
 import services.DateConverter;
+import services.applicant.ApplicantData;
 import services.applicant.RepeatedEntity;
 import services.question.types.QuestionDefinition;
 
-/** Creates instances of {@link JsonPathPredicateGenerator}. */
+/** Creates instances of {@link JsonPathPredicateGenerator} and {@link PredicateEvaluator}. */
 public final class JsonPathPredicateGeneratorFactory {
 
   private final DateConverter dateConverter;
@@ -25,4 +26,16 @@ public final class JsonPathPredicateGeneratorFactory {
     return new JsonPathPredicateGenerator(
         dateConverter, checkNotNull(programQuestions), checkNotNull(currentRepeatedContext));
   }
+
+  /**
+   * Creates a {@link PredicateEvaluator} for {@code applicantData} that evaluates the program's
+   * already compiled predicates.
+   */
+  public PredicateEvaluator createEvaluator(
+      ApplicantData applicantData,
+      CompiledProgramPredicates compiledPredicates,
+      Optional<RepeatedEntity> currentRepeatedContext) {
+    return new PredicateEvaluator(
+        applicantData, dateConverter, compiledPredicates, currentRepeatedContext);
+  }
 }
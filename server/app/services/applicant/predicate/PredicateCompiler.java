@@ -0,0 +1,549 @@
+package services.applicant.predicate;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.DateConverter;
+import services.ObjectMapperSingleton;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.exception.InvalidPredicateException;
+import services.applicant.question.MapSelection;
+import services.applicant.question.Scalar;
+import services.geo.ServiceAreaState;
+import services.program.predicate.LeafAddressServiceAreaExpressionNode;
+import services.program.predicate.LeafExpressionNode;
+import services.program.predicate.LeafOperationExpressionNode;
+import services.program.predicate.Operator;
+import services.program.predicate.PredicateExpressionNode;
+import services.question.types.QuestionDefinition;
+import services.question.types.QuestionType;
+
+/**
+ * Compiles a predicate expression tree into a {@link CompiledPredicate}.
+ *
+ * <p>Everything that does not depend on the applicant is resolved once at compile time: the target
+ * question of each leaf, the scalar it reads, and the parsed value it is compared against. At
+ * evaluation time each leaf reads the answer directly from {@link ApplicantData} and compares it
+ * in Java.
+ *
+ * <p>Comparisons follow the semantics of the JsonPath filters produced by {@link
+ * JsonPathPredicateGenerator}, so a compiled predicate evaluates the same way as its {@link
+ * JsonPathPredicate} equivalent. In particular numbers are compared by value, a number and a
+ * string are equal if they have the same text, and a leaf whose answer is an array matches if any
+ * element matches.
+ */
+public final class PredicateCompiler {
+
+  private static final Logger logger = LoggerFactory.getLogger(PredicateCompiler.class);
+
+  /** Stands in for a property that is missing from an answer, as opposed to a JSON null. */
+  private static final Object UNDEFINED = new Object();
+
+  /** Stands in for a JSON null, so values can be held in immutable collections. */
+  private static final Object JSON_NULL = new Object();
+
+  private static final String SERVICE_AREA_STATE_KEY =
+      Scalar.SERVICE_AREA_STATE.name().toLowerCase(Locale.ROOT);
+  private static final String SERVICE_AREA_ID_KEY =
+      Scalar.SERVICE_AREA_ID.name().toLowerCase(Locale.ROOT);
+
+  private PredicateCompiler() {}
+
+  /**
+   * Compiles the expression tree rooted at {@code node}.
+   *
+   * @param node the root of the expression tree
+   * @param questionsById the questions in the program the predicate belongs to
+   */
+  public static CompiledPredicate compile(
+      PredicateExpressionNode node, ImmutableMap<Long, QuestionDefinition> questionsById) {
+    return switch (node.getType()) {
+      case LEAF_OPERATION -> compileLeafNode(node.getLeafOperationNode(), questionsById);
+      case LEAF_ADDRESS_SERVICE_AREA ->
+          compileLeafAddressServiceAreaNode(node.getLeafAddressNode(), questionsById);
+      case AND -> new AndPredicate(compileChildren(node.getAndNode().children(), questionsById));
+      case OR -> new OrPredicate(compileChildren(node.getOrNode().children(), questionsById));
+    };
+  }
+
+  private static ImmutableList<CompiledPredicate> compileChildren(
+      ImmutableList<PredicateExpressionNode> children,
+      ImmutableMap<Long, QuestionDefinition> questionsById) {
+    return children.stream().map(child -> compile(child, questionsById)).collect(toImmutableList());
+  }
+
+  private static CompiledPredicate compileLeafNode(
+      LeafOperationExpressionNode node, ImmutableMap<Long, QuestionDefinition> questionsById) {
+    try {
+      QuestionDefinition question = getTargetQuestion(node, questionsById);
+      return new LeafOperationPredicate(
+          node,
+          question,
+          node.scalar().name().toLowerCase(Locale.ROOT),
+          question.getQuestionType().equals(QuestionType.MAP),
+          compileCondition(node));
+    } catch (InvalidPredicateException e) {
+      return new InvalidLeafPredicate(node, e.getMessage());
+    }
+  }
+
+  private static CompiledPredicate compileLeafAddressServiceAreaNode(
+      LeafAddressServiceAreaExpressionNode node,
+      ImmutableMap<Long, QuestionDefinition> questionsById) {
+    try {
+      return new ServiceAreaPredicate(node, getTargetQuestion(node, questionsById));
+    } catch (InvalidPredicateException e) {
+      return new InvalidLeafPredicate(node, e.getMessage());
+    }
+  }
+
+  private static QuestionDefinition getTargetQuestion(
+      LeafExpressionNode node, ImmutableMap<Long, QuestionDefinition> questionsById)
+      throws InvalidPredicateException {
+    QuestionDefinition question = questionsById.get(node.questionId());
+    if (question == null) {
+      // This means a predicate was incorrectly configured - we are depending upon a question that
+      // does not appear anywhere in this program.
+      throw new InvalidPredicateException(
+          String.format(
+              "Tried to apply a predicate based on question %d, which is not found in this"
+                  + " program.",
+              node.questionId()));
+    }
+    return question;
+  }
+
+  /** Compiles the operator and compared value of a leaf into a test on a single answer value. */
+  private static ValueCondition compileCondition(LeafOperationExpressionNode node)
+      throws InvalidPredicateException {
+    String comparedValue = node.comparedValue().value();
+    try {
+      return switch (node.operator()) {
+        case AGE_BETWEEN -> {
+          // Value is stored as "[18, 30]"
+          ImmutableList<Long> ageRange = parsePair(comparedValue);
+          // The younger age maps to the later birth date, so it is the upper bound.
+          yield (value, dateConverter) ->
+              isAtMost(value, dateConverter.getDateTimestampFromAge(ageRange.get(0)))
+                  && isAtLeast(value, dateConverter.getDateTimestampFromAge(ageRange.get(1)));
+        }
+        case AGE_OLDER_THAN -> {
+          Double age = Double.parseDouble(comparedValue);
+          yield (value, dateConverter) ->
+              isAtMost(value, dateConverter.getDateTimestampFromAge(age));
+        }
+        case AGE_YOUNGER_THAN -> {
+          Double age = Double.parseDouble(comparedValue);
+          yield (value, dateConverter) ->
+              compare(value, toValue(dateConverter.getDateTimestampFromAge(age)))
+                  .map(comparison -> comparison > 0)
+                  .orElse(false);
+        }
+        case BETWEEN -> {
+          // Value is stored as "[123, 456]"
+          ImmutableList<Long> range = parsePair(comparedValue);
+          yield (value, dateConverter) ->
+              isAtLeast(value, range.get(0)) && isAtMost(value, range.get(1));
+        }
+        case EQUAL_TO -> {
+          Object expected = parseLiteral(comparedValue);
+          yield (value, dateConverter) -> valueEquals(value, expected);
+        }
+        case NOT_EQUAL_TO -> {
+          Object expected = parseLiteral(comparedValue);
+          yield (value, dateConverter) -> !valueEquals(value, expected);
+        }
+        case GREATER_THAN, IS_AFTER -> compileComparison(comparedValue, c -> c > 0);
+        case GREATER_THAN_OR_EQUAL_TO, IS_ON_OR_AFTER ->
+            compileComparison(comparedValue, c -> c >= 0);
+        case LESS_THAN, IS_BEFORE -> compileComparison(comparedValue, c -> c < 0);
+        case LESS_THAN_OR_EQUAL_TO, IS_ON_OR_BEFORE ->
+            compileComparison(comparedValue, c -> c <= 0);
+        case IN -> {
+          ImmutableList<Object> expected = parseListLiteral(comparedValue);
+          yield (value, dateConverter) -> contains(expected, value);
+        }
+        case NOT_IN -> {
+          ImmutableList<Object> expected = parseListLiteral(comparedValue);
+          yield (value, dateConverter) -> !contains(expected, value);
+        }
+        case ANY_OF -> {
+          ImmutableList<Object> expected = parseListLiteral(comparedValue);
+          yield (value, dateConverter) ->
+              value instanceof List<?> answers
+                  && answers.stream().anyMatch(answer -> contains(expected, toValue(answer)));
+        }
+        case NONE_OF -> {
+          ImmutableList<Object> expected = parseListLiteral(comparedValue);
+          yield (value, dateConverter) ->
+              value instanceof List<?> answers
+                  && answers.stream().noneMatch(answer -> contains(expected, toValue(answer)));
+        }
+        case SUBSET_OF -> {
+          ImmutableList<Object> expected = parseListLiteral(comparedValue);
+          yield (value, dateConverter) ->
+              value instanceof List<?> answers
+                  && answers.stream().allMatch(answer -> contains(expected, toValue(answer)));
+        }
+        case IN_SERVICE_AREA, NOT_IN_SERVICE_AREA ->
+            throw new InvalidPredicateException(
+                String.format(
+                    "%s is only supported on address service area predicates", node.operator()));
+      };
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidPredicateException(
+          String.format(
+              "Could not parse value %s for operator %s: %s",
+              comparedValue, node.operator(), e.getMessage()));
+    }
+  }
+
+  private static ValueCondition compileComparison(
+      String comparedValue, Predicate<Integer> comparisonMatches) throws InvalidPredicateException {
+    Object expected = parseLiteral(comparedValue);
+    return (value, dateConverter) ->
+        compare(value, expected).map(comparisonMatches::test).orElse(false);
+  }
+
+  /** Parses a stored pair such as "[18, 30]" into its two values, in ascending order. */
+  private static ImmutableList<Long> parsePair(String arrayString) {
+    ImmutableList<Long> values =
+        Splitter.on(", ")
+            .splitToStream(arrayString.substring(1, arrayString.length() - 1))
+            .map(Long::parseLong)
+            .sorted()
+            .collect(toImmutableList());
+    if (values.size() != 2) {
+      throw new IllegalArgumentException("Expected exactly two values");
+    }
+    return values;
+  }
+
+  /** Parses a single compared value: either a quoted string or a number. */
+  private static Object parseLiteral(String literal) throws InvalidPredicateException {
+    String trimmed = literal.trim();
+    if (trimmed.length() >= 2
+        && (trimmed.startsWith("\"") && trimmed.endsWith("\"")
+            || trimmed.startsWith("'") && trimmed.endsWith("'"))) {
+      return trimmed.substring(1, trimmed.length() - 1);
+    }
+    try {
+      return new BigDecimal(trimmed);
+    } catch (NumberFormatException e) {
+      throw new InvalidPredicateException(
+          String.format("Expected a string or number but found %s", literal));
+    }
+  }
+
+  /** Parses a compared list such as {@code ["a", "b"]} or {@code [1, 2]}. */
+  private static ImmutableList<Object> parseListLiteral(String literal)
+      throws InvalidPredicateException {
+    try {
+      Object parsed = ObjectMapperSingleton.instance().readValue(literal, Object.class);
+      if (parsed instanceof List<?> list) {
+        return list.stream().map(PredicateCompiler::toValue).collect(toImmutableList());
+      }
+    } catch (JsonProcessingException e) {
+      // Fall through to the exception below.
+    }
+    throw new InvalidPredicateException(String.format("Expected a list but found %s", literal));
+  }
+
+  /**
+   * Normalizes a value read from JSON for comparison: numbers become {@link BigDecimal}s so they
+   * compare by value regardless of how they were stored, and nulls become {@link #JSON_NULL}.
+   */
+  private static Object toValue(Object raw) {
+    if (raw == null) {
+      return JSON_NULL;
+    }
+    if (raw instanceof Number number) {
+      try {
+        return new BigDecimal(number.toString());
+      } catch (NumberFormatException e) {
+        return raw;
+      }
+    }
+    return raw;
+  }
+
+  /** Returns the normalized value of {@code key} in a JSON object, or {@link #UNDEFINED}. */
+  private static Object readProperty(Object candidate, String key) {
+    if (candidate instanceof Map<?, ?> map && map.containsKey(key)) {
+      return toValue(map.get(key));
+    }
+    return UNDEFINED;
+  }
+
+  /**
+   * Applies {@code test} to the answer at a question's path: a JSON object is tested directly,
+   * and a JSON array matches if any of its elements does.
+   */
+  private static boolean anyCandidateMatches(Object answer, Predicate<Object> test) {
+    if (answer instanceof Map) {
+      return test.test(answer);
+    }
+    if (answer instanceof List<?> list) {
+      return list.stream().anyMatch(test);
+    }
+    return false;
+  }
+
+  private static boolean contains(ImmutableList<Object> values, Object value) {
+    return values.stream().anyMatch(expected -> valueEquals(value, expected));
+  }
+
+  private static boolean valueEquals(Object left, Object right) {
+    if (left instanceof BigDecimal leftNumber) {
+      if (right instanceof BigDecimal rightNumber) {
+        return leftNumber.compareTo(rightNumber) == 0;
+      }
+      if (right instanceof String rightString) {
+        try {
+          return leftNumber.compareTo(new BigDecimal(rightString)) == 0;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+      return false;
+    }
+    if (left instanceof String leftString) {
+      if (right instanceof BigDecimal) {
+        // Like JsonPath, compare a string with a number by value whichever side the number is on.
+        return valueEquals(right, leftString);
+      }
+      return leftString.equals(right);
+    }
+    if (left == JSON_NULL || left instanceof Boolean) {
+      return left.equals(right);
+    }
+    // Missing values, arrays and objects are never equal to a compared value.
+    return false;
+  }
+
+  /**
+   * Compares two values of the same kind. Returns empty if they cannot be ordered, in which case
+   * every ordering comparison is false.
+   */
+  private static Optional<Integer> compare(Object left, Object right) {
+    if (left instanceof BigDecimal leftNumber && right instanceof BigDecimal rightNumber) {
+      return Optional.of(leftNumber.compareTo(rightNumber));
+    }
+    if (left instanceof String leftString && right instanceof String rightString) {
+      return Optional.of(leftString.compareTo(rightString));
+    }
+    return Optional.empty();
+  }
+
+  private static boolean isAtLeast(Object value, long bound) {
+    return compare(value, toValue(bound)).map(comparison -> comparison >= 0).orElse(false);
+  }
+
+  private static boolean isAtMost(Object value, long bound) {
+    return compare(value, toValue(bound)).map(comparison -> comparison <= 0).orElse(false);
+  }
+
+  /**
+   * Map questions store each selection as a JSON string containing both the featureId and the
+   * locationName. Predicates only compare feature IDs, so this extracts them from each selection.
+   */
+  private static ImmutableList<String> readMapSelectionFeatureIds(
+      ApplicantData applicantData, Path selectionsPath) {
+    return applicantData.readStringList(selectionsPath).stream()
+        .flatMap(Collection::stream)
+        .map(
+            jsonString -> {
+              try {
+                return ObjectMapperSingleton.instance()
+                    .readValue(jsonString, MapSelection.class)
+                    .featureId();
+              } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+              }
+            })
+        .collect(toImmutableList());
+  }
+
+  /** Tests a single normalized answer value. */
+  @FunctionalInterface
+  private interface ValueCondition {
+    boolean test(Object value, DateConverter dateConverter);
+  }
+
+  private static final class AndPredicate extends CompiledPredicate {
+    private final ImmutableList<CompiledPredicate> children;
+
+    AndPredicate(ImmutableList<CompiledPredicate> children) {
+      this.children = children;
+    }
+
+    @Override
+    boolean evaluate(PredicateEvaluator evaluator) {
+      for (CompiledPredicate child : children) {
+        if (!child.evaluate(evaluator)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class OrPredicate extends CompiledPredicate {
+    private final ImmutableList<CompiledPredicate> children;
+
+    OrPredicate(ImmutableList<CompiledPredicate> children) {
+      this.children = children;
+    }
+
+    @Override
+    boolean evaluate(PredicateEvaluator evaluator) {
+      for (CompiledPredicate child : children) {
+        if (child.evaluate(evaluator)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Returns true if and only if there exists a value in {@link ApplicantData} that satisfies the
+   * leaf node operation.
+   */
+  private static final class LeafOperationPredicate extends CompiledPredicate {
+    private final LeafOperationExpressionNode node;
+    private final QuestionDefinition question;
+    private final String scalarKey;
+    private final boolean isMapQuestion;
+    private final ValueCondition condition;
+
+    LeafOperationPredicate(
+        LeafOperationExpressionNode node,
+        QuestionDefinition question,
+        String scalarKey,
+        boolean isMapQuestion,
+        ValueCondition condition) {
+      this.node = node;
+      this.question = question;
+      this.scalarKey = scalarKey;
+      this.isMapQuestion = isMapQuestion;
+      this.condition = condition;
+    }
+
+    @Override
+    boolean evaluate(PredicateEvaluator evaluator) {
+      Path questionPath;
+      try {
+        questionPath =
+            JsonPathPredicateGenerator.getPath(question, evaluator.getCurrentRepeatedContext());
+      } catch (InvalidPredicateException e) {
+        logger.error(
+            "InvalidPredicateException when evaluating LeafOperationExpressionNode {}: {}",
+            node,
+            e.getMessage());
+        return false;
+      }
+
+      DateConverter dateConverter = evaluator.getDateConverter();
+      if (isMapQuestion) {
+        ImmutableList<String> featureIds =
+            readMapSelectionFeatureIds(
+                evaluator.getApplicantData(), questionPath.join(node.scalar()));
+        return condition.test(featureIds, dateConverter);
+      }
+
+      return evaluator
+          .getApplicantData()
+          .readRaw(questionPath)
+          .map(
+              answer ->
+                  anyCandidateMatches(
+                      answer,
+                      candidate ->
+                          condition.test(readProperty(candidate, scalarKey), dateConverter)))
+          .orElse(false);
+    }
+  }
+
+  /**
+   * Returns true if and only if the answer for the address question has an in-area (or not in-area,
+   * depending on the operator) or failed service area with the node's service area ID.
+   */
+  private static final class ServiceAreaPredicate extends CompiledPredicate {
+    private final LeafAddressServiceAreaExpressionNode node;
+    private final QuestionDefinition question;
+    private final String expectedState;
+
+    ServiceAreaPredicate(LeafAddressServiceAreaExpressionNode node, QuestionDefinition question) {
+      this.node = node;
+      this.question = question;
+      this.expectedState =
+          node.operator() == Operator.IN_SERVICE_AREA
+              ? ServiceAreaState.IN_AREA.name()
+              : ServiceAreaState.NOT_IN_AREA.name();
+    }
+
+    @Override
+    boolean evaluate(PredicateEvaluator evaluator) {
+      Path serviceAreasPath;
+      try {
+        serviceAreasPath =
+            JsonPathPredicateGenerator.getPath(question, evaluator.getCurrentRepeatedContext())
+                .join(Scalar.SERVICE_AREAS);
+      } catch (InvalidPredicateException e) {
+        logger.error(
+            "InvalidPredicateException when evaluating LeafAddressServiceAreaExpressionNode {}:"
+                + " {}",
+            node,
+            e.getMessage());
+        return false;
+      }
+
+      return evaluator
+          .getApplicantData()
+          .readRaw(serviceAreasPath)
+          .map(serviceAreas -> anyCandidateMatches(serviceAreas, this::matchesServiceArea))
+          .orElse(false);
+    }
+
+    private boolean matchesServiceArea(Object serviceArea) {
+      Object state = readProperty(serviceArea, SERVICE_AREA_STATE_KEY);
+      return (valueEquals(state, expectedState)
+              || valueEquals(state, ServiceAreaState.FAILED.name()))
+          && valueEquals(readProperty(serviceArea, SERVICE_AREA_ID_KEY), node.serviceAreaId());
+    }
+  }
+
+  /**
+   * A leaf that could not be compiled, for example because it references a question that is not
+   * in the program. It always evaluates to false.
+   */
+  private static final class InvalidLeafPredicate extends CompiledPredicate {
+    private final LeafExpressionNode node;
+    private final String message;
+
+    InvalidLeafPredicate(LeafExpressionNode node, String message) {
+      this.node = node;
+      this.message = message;
+    }
+
+    @Override
+    boolean evaluate(PredicateEvaluator evaluator) {
+      logger.error("InvalidPredicateException when evaluating {}: {}", node, message);
+      return false;
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -127,6 +128,35 @@ public final class MapQuestion extends AbstractQuestion {
     return tag != null ? tag.settingText() : "";
   }
 
+  /**
+   * Returns the feature properties that the location list filters on or tags by, as a JSON object.
+   * The map only loads the features in view, so the list carries these itself.
+   *
+   * @param properties the properties of the feature being listed
+   */
+  public String getListedPropertiesJson(Map<String, String> properties) {
+    Map<String, String> listedProperties = new HashMap<>();
+    getFilters().stream()
+        .map(LocalizedQuestionSetting::settingKey)
+        .forEach(key -> putIfPresent(listedProperties, properties, key));
+    if (hasTagSetting()) {
+      putIfPresent(listedProperties, properties, getTagKey());
+    }
+    try {
+      return ObjectMapperSingleton.instance().writeValueAsString(listedProperties);
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to serialize location properties to JSON", e);
+    }
+  }
+
+  private static void putIfPresent(
+      Map<String, String> target, Map<String, String> properties, String key) {
+    String value = properties.get(key);
+    if (value != null) {
+      target.put(key, value);
+    }
+  }
+
   public Path getSelectionPath() {
     return applicantQuestion.getContextualizedPath().join(Scalar.SELECTIONS);
   }
@@ -0,0 +1,22 @@
+package services.applications;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.libs.concurrent.CustomExecutionContext;
+
+/**
+ * Custom execution context wired to "bulk-status-updates.dispatcher" thread pool
+ *
+ * <p>The {@link BulkStatusUpdateNotifier} waits on database lookups for each applicant on this
+ * pool, rather than holding a thread of the database pool it is waiting on.
+ */
+@Singleton
+public class BulkStatusUpdateExecutionContext extends CustomExecutionContext {
+  @Inject
+  public BulkStatusUpdateExecutionContext(ActorSystem actorSystem) {
+    super(checkNotNull(actorSystem), "bulk-status-updates.dispatcher");
+  }
+}
@@ -0,0 +1,81 @@
+package services.applications;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.typesafe.config.Config;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Cancellable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.api.db.evolutions.ApplicationEvolutions;
+import play.inject.ApplicationLifecycle;
+
+/**
+ * Queues the applicant emails for bulk status updates in the background, so that the admin making
+ * the update doesn't wait for them.
+ *
+ * <p>Every {@code bulk-status-updates.poll-interval} the notifier works through the unfinished bulk
+ * status updates, queueing the emails for {@code bulk-status-updates.applications-per-transaction}
+ * applications at a time. Each transaction also records the update's progress, so an update
+ * interrupted by a restart continues where it left off, and the admin can watch it progress. An
+ * update whose emails fail to queue {@code bulk-status-updates.max-attempts} times is given up on.
+ */
+@Singleton
+public final class BulkStatusUpdateNotifier {
+  private static final Logger logger = LoggerFactory.getLogger(BulkStatusUpdateNotifier.class);
+
+  private final ProgramAdminApplicationService programAdminApplicationService;
+  private final int applicationsPerTransaction;
+  private final int maxAttempts;
+
+  @Inject
+  public BulkStatusUpdateNotifier(
+      ApplicationEvolutions applicationEvolutions,
+      ProgramAdminApplicationService programAdminApplicationService,
+      Config config,
+      ActorSystem actorSystem,
+      BulkStatusUpdateExecutionContext bulkStatusUpdateExecutionContext,
+      ApplicationLifecycle lifecycle) {
+    this.programAdminApplicationService = checkNotNull(programAdminApplicationService);
+
+    Config bulkStatusUpdatesConfig = checkNotNull(config).getConfig("bulk-status-updates");
+    this.applicationsPerTransaction =
+        bulkStatusUpdatesConfig.getInt("applications-per-transaction");
+    this.maxAttempts = bulkStatusUpdatesConfig.getInt("max-attempts");
+
+    // Like the durable job runner, wait until the bulk status update table exists before polling.
+    if (applicationEvolutions.upToDate()) {
+      Duration pollInterval = bulkStatusUpdatesConfig.getDuration("poll-interval");
+      Cancellable scheduledRun =
+          actorSystem
+              .scheduler()
+              .scheduleWithFixedDelay(
+                  pollInterval, pollInterval, this::run, bulkStatusUpdateExecutionContext);
+      lifecycle.addStopHook(
+          () -> {
+            scheduledRun.cancel();
+            return CompletableFuture.completedFuture(null);
+          });
+    }
+  }
+
+  /** Queues the emails for every unfinished bulk status update. */
+  @VisibleForTesting
+  public synchronized void run() {
+    try {
+      boolean queued;
+      do {
+        queued =
+            programAdminApplicationService.queueNextBulkStatusUpdateEmails(
+                applicationsPerTransaction, maxAttempts);
+      } while (queued);
+    } catch (RuntimeException e) {
+      logger.error("Error queueing bulk status update emails, will retry: {}", e.toString());
+    }
+  }
+}
@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.typesafe.config.Config;
+import java.time.Clock;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -14,6 +15,9 @@ import java.util.stream.Collectors;
 import models.AccountModel;
 import models.ApplicantModel;
 import models.ApplicationModel;
+import models.BulkStatusUpdateModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import play.i18n.Lang;
 import play.i18n.Messages;
 import play.i18n.MessagesApi;
@@ -21,7 +25,9 @@ import repository.AccountRepository;
 import repository.ApplicationEventRepository;
 import repository.ApplicationRepository;
 import repository.ApplicationStatusesRepository;
+import repository.BulkStatusUpdateRepository;
 import repository.ProgramRepository;
+import repository.TransactionManager;
 import services.DeploymentType;
 import services.LocalizedStrings;
 import services.MessageKey;
@@ -39,6 +45,8 @@ import services.statuses.StatusNotFoundException;
 
 /** The service responsible for mediating a program admin's access to the Application resource. */
 public final class ProgramAdminApplicationService {
+  private static final Logger logger =
+      LoggerFactory.getLogger(ProgramAdminApplicationService.class);
 
   private final ApplicantService applicantService;
   private final ApplicationEventRepository eventRepository;
@@ -53,6 +61,9 @@ public final class ProgramAdminApplicationService {
   private final MessagesApi messagesApi;
   private final ApplicationRepository applicationRepository;
   private final ApplicationStatusesRepository applicationStatusesRepository;
+  private final BulkStatusUpdateRepository bulkStatusUpdateRepository;
+  private final TransactionManager transactionManager;
+  private final Clock clock;
 
   @Inject
   ProgramAdminApplicationService(
@@ -65,7 +76,10 @@ public final class ProgramAdminApplicationService {
       DeploymentType deploymentType,
       MessagesApi messagesApi,
       ApplicationRepository applicationRepository,
-      ApplicationStatusesRepository applicationStatusesRepository) {
+      ApplicationStatusesRepository applicationStatusesRepository,
+      BulkStatusUpdateRepository bulkStatusUpdateRepository,
+      TransactionManager transactionManager,
+      Clock clock) {
     this.applicantService = checkNotNull(applicantService);
     this.applicationRepository = checkNotNull(applicationRepository);
     this.accountRepository = checkNotNull(accountRepository);
@@ -74,6 +88,9 @@ public final class ProgramAdminApplicationService {
     this.emailClient = checkNotNull(emailClient);
     this.messagesApi = checkNotNull(messagesApi);
     this.applicationStatusesRepository = checkNotNull(applicationStatusesRepository);
+    this.bulkStatusUpdateRepository = checkNotNull(bulkStatusUpdateRepository);
+    this.transactionManager = checkNotNull(transactionManager);
+    this.clock = checkNotNull(clock);
 
     checkNotNull(configuration);
     checkNotNull(deploymentType);
@@ -314,12 +331,19 @@ public final class ProgramAdminApplicationService {
    * Sets the status on the give applications. Also verifies if the application all belong to the
    * same program.
    *
+   * <p>The status events are inserted and the applications updated in one transaction. If emails
+   * were requested, a bulk status update recording them is inserted in the same transaction. The
+   * {@link BulkStatusUpdateNotifier} queues the emails afterwards, so that updating hundreds of
+   * applications doesn't keep the admin waiting.
+   *
    * @param applicationIds the application ids which needs the new status
    * @param programDef the program that the applications belong to
    * @param newStatusEvent the StatusEvent carrying the new status
    * @param admin the admin account initiating the request
+   * @return the ID of the bulk status update whose emails are being queued, if emails were
+   *     requested
    */
-  public void setStatuses(
+  public Optional<Long> setStatuses(
       ImmutableList<Long> applicationIds,
       ProgramDefinition programDef,
       StatusEvent newStatusEvent,
@@ -331,24 +355,116 @@ public final class ProgramAdminApplicationService {
     // and reality.
     boolean sendEmail = newStatusEvent.emailSent();
 
-    Optional<Status> statusDefMaybe =
-        applicationStatusesRepository
-            .lookupActiveStatusDefinitions(programDef.adminName())
-            .getStatuses()
-            .stream()
-            .filter(s -> s.statusText().equals(newStatusText))
-            .findFirst();
+    Optional<Status> statusDefMaybe = lookupActiveStatus(programDef, newStatusText);
     if (statusDefMaybe.isEmpty()) {
       throw new StatusNotFoundException(newStatusText, programDef.id());
     }
-    Status statusDef = statusDefMaybe.get();
+    // Check for the email before changing anything, since it's sent after the statuses are set.
+    if (sendEmail && statusDefMaybe.get().localizedEmailBodyText().isEmpty()) {
+      throw new StatusEmailNotFoundException(newStatusText, programDef.id());
+    }
     ImmutableList<ApplicationModel> applications = getApplications(applicationIds, programDef);
 
-    // Send email if requested and present.
-    if (sendEmail) {
-      sendEmail(applications, statusDef, newStatusText, programDef);
+    // Record the emails to send in the same transaction as the statuses, so that neither can be
+    // saved without the other.
+    return transactionManager.execute(
+        () -> {
+          Optional<Long> bulkStatusUpdateId = Optional.empty();
+          if (sendEmail && !applications.isEmpty()) {
+            BulkStatusUpdateModel update =
+                bulkStatusUpdateRepository.insert(
+                    programDef.id(),
+                    newStatusText,
+                    applications.stream()
+                        .map(app -> app.id)
+                        .collect(ImmutableList.toImmutableList()));
+            bulkStatusUpdateId = Optional.of(update.id);
+          }
+          eventRepository.insertStatusEvents(applications, Optional.of(admin), newStatusEvent);
+          return bulkStatusUpdateId;
+        });
+  }
+
+  /**
+   * Returns the bulk status update with ID {@code bulkStatusUpdateId}, if it was made to the given
+   * program.
+   */
+  public Optional<BulkStatusUpdateModel> getBulkStatusUpdate(
+      long bulkStatusUpdateId, ProgramDefinition program) {
+    return bulkStatusUpdateRepository
+        .lookup(bulkStatusUpdateId)
+        .filter(update -> update.getProgramId() == program.id());
+  }
+
+  /**
+   * Queues the emails for up to {@code maxApplications} more applications of the oldest bulk status
+   * update that still has emails to queue, and records its progress.
+   *
+   * <p>If queueing the emails fails, the attempt and its error are recorded on the update and the
+   * exception is rethrown. After {@code maxAttempts} failed attempts the update is finished without
+   * queueing the rest of its emails, so that it doesn't hold up the updates after it.
+   *
+   * @return false if no bulk status update had emails left to queue
+   */
+  public boolean queueNextBulkStatusUpdateEmails(int maxApplications, int maxAttempts) {
+    return bulkStatusUpdateRepository.updateNextUnfinished(
+        update -> queueBulkStatusUpdateEmails(update, maxApplications),
+        (update, e) -> recordBulkStatusUpdateFailure(update, e, maxAttempts));
+  }
+
+  private void recordBulkStatusUpdateFailure(
+      BulkStatusUpdateModel update, RuntimeException e, int maxAttempts) {
+    update.incrementAttempts().setLastError(e.toString());
+    if (update.getAttempts() >= maxAttempts) {
+      logger.error(
+          "Giving up on bulk status update {} after {} failed attempts to queue its emails: {}",
+          update.id,
+          update.getAttempts(),
+          e.toString());
+      update.finish(clock.instant());
     }
-    eventRepository.insertStatusEvents(applications, Optional.of(admin), newStatusEvent);
+  }
+
+  private void queueBulkStatusUpdateEmails(BulkStatusUpdateModel update, int maxApplications) {
+    Optional<ProgramDefinition> programDef =
+        programRepository
+            .lookupProgram(update.getProgramId())
+            .toCompletableFuture()
+            .join()
+            .map(programRepository::getShallowProgramDefinition);
+    Optional<Status> statusDef =
+        programDef.flatMap(program -> lookupActiveStatus(program, update.getStatusText()));
+    if (statusDef.isEmpty() || statusDef.get().localizedEmailBodyText().isEmpty()) {
+      // The status or its email was removed after the statuses were set.
+      logger.warn(
+          "Not sending emails for bulk status update {}: status \"{}\" has no email",
+          update.id,
+          update.getStatusText());
+      update.finish(clock.instant());
+      return;
+    }
+
+    ImmutableList<Long> applicationIds = update.getNextApplicationIdsToNotify(maxApplications);
+    try {
+      sendEmail(
+          applicationRepository.getApplications(applicationIds),
+          statusDef.get(),
+          update.getStatusText(),
+          programDef.get());
+    } catch (StatusEmailNotFoundException e) {
+      // Checked above.
+      throw new IllegalStateException(e);
+    }
+    update.recordNotified(applicationIds.size(), clock.instant());
+  }
+
+  private Optional<Status> lookupActiveStatus(ProgramDefinition programDef, String statusText) {
+    return applicationStatusesRepository
+        .lookupActiveStatusDefinitions(programDef.adminName())
+        .getStatuses()
+        .stream()
+        .filter(s -> s.statusText().equals(statusText))
+        .findFirst();
   }
 
   private void sendEmail(
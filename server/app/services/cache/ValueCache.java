@@ -0,0 +1,121 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory cache of immutable values, bounded by the total weight of its entries rather than
+ * by the number of entries.
+ *
+ * <p>Values must be immutable, since they are shared by every caller that reads them. Caches are
+ * created and configured by {@link ValueCaches}.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class ValueCache<V> {
+
+  private final String name;
+  private final long maximumWeight;
+  private final Cache<String, V> cache;
+
+  ValueCache(String name, long maximumWeight, Weigher<String, V> weigher) {
+    this(name, maximumWeight, weigher, /* expireAfterWrite= */ Optional.empty());
+  }
+
+  /**
+   * @param expireAfterWrite if present, entries are removed this long after they are written. This
+   *     bounds how stale a value can be when it can't be invalidated on every server.
+   */
+  ValueCache(
+      String name,
+      long maximumWeight,
+      Weigher<String, V> weigher,
+      Optional<Duration> expireAfterWrite) {
+    this.name = checkNotNull(name);
+    this.maximumWeight = maximumWeight;
+    Caffeine<String, V> builder =
+        Caffeine.newBuilder().maximumWeight(maximumWeight).weigher(checkNotNull(weigher));
+    expireAfterWrite.ifPresent(builder::expireAfterWrite);
+    this.cache = builder.recordStats().build();
+  }
+
+  /** Returns the cached value for {@code key}, if present. */
+  public Optional<V> get(String key) {
+    return Optional.ofNullable(cache.getIfPresent(key));
+  }
+
+  /**
+   * Returns the cached value for {@code key}, or loads it with {@code loader} and caches it if it
+   * is not present.
+   *
+   * <p>The loader is not run under the cache's lock, so concurrent callers may each load the value
+   * and the last one to finish wins. This is fine since every load produces an equal value.
+   */
+  public V getOrElseUpdate(String key, Supplier<V> loader) {
+    V cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    V loaded = loader.get();
+    cache.put(key, loaded);
+    return loaded;
+  }
+
+  public void set(String key, V value) {
+    cache.put(key, value);
+  }
+
+  /** Removes the entry for {@code key}, if present. */
+  public void remove(String key) {
+    cache.invalidate(key);
+  }
+
+  /** Removes the entries whose keys match {@code keyPredicate}. */
+  public void removeIf(Predicate<String> keyPredicate) {
+    cache.asMap().keySet().removeIf(checkNotNull(keyPredicate));
+  }
+
+  /** Removes all entries from the cache. */
+  public void removeAll() {
+    cache.invalidateAll();
+  }
+
+  /** The name of the cache, used to configure it and to label its metrics. */
+  public String getName() {
+    return name;
+  }
+
+  /** The maximum total weight of the entries, in estimated bytes. */
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  /** The current total weight of the entries, in estimated bytes. */
+  public long getWeightedSize() {
+    // Apply any pending writes and evictions first, which Caffeine otherwise does asynchronously.
+    cache.cleanUp();
+    return cache
+        .policy()
+        .eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  /** The number of entries in the cache. */
+  public long getEntryCount() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+}
@@ -0,0 +1,124 @@
+package services.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.monitoring.ValueCacheMetricsCollector;
+import services.program.ProgramDefinition;
+import services.question.types.QuestionDefinition;
+
+/**
+ * Creates the application's {@link ValueCache}s and keeps track of them so they can all be cleared.
+ *
+ * <p>Each cache is bounded by the {@code value_caches.<name>.maximum-weight} config value, in
+ * bytes, and its entries expire after {@code value_caches.<name>.expire-after-write} if that is
+ * set. Each cache reports its hits, misses, evictions and weight to Prometheus.
+ *
+ * <p>Features create the caches they use with {@link #create} and keep them in a field. The
+ * version caches shared by the program and version repositories are held here.
+ */
+@Singleton
+public final class ValueCaches {
+
+  private static final Logger logger = LoggerFactory.getLogger(ValueCaches.class);
+
+  /** Rough heap size of a String, excluding its characters. */
+  public static final int STRING_WEIGHT = 40;
+
+  // Weight used for a value that can't be serialized, so that it still counts toward the maximum.
+  private static final int UNSERIALIZABLE_VALUE_WEIGHT = 64 * 1024;
+  // Rough heap size of each boxed Long held in a list, including the list's reference to it.
+  private static final int BOXED_LONG_WEIGHT = 24;
+
+  private final Config config;
+  private final ObjectMapper objectMapper;
+  private final ConcurrentHashMap<String, ValueCache<?>> caches = new ConcurrentHashMap<>();
+
+  private final ValueCache<ImmutableList<ProgramDefinition>> programsByVersion;
+  private final ValueCache<ImmutableList<QuestionDefinition>> questionsByVersion;
+  private final ValueCache<ImmutableList<Long>> versionIdsByProgram;
+
+  @Inject
+  public ValueCaches(Config config, ObjectMapper objectMapper) {
+    this.config = checkNotNull(config);
+    this.objectMapper = checkNotNull(objectMapper);
+    this.programsByVersion = create("version-programs", serializedSizeWeigher());
+    this.questionsByVersion = create("version-questions", serializedSizeWeigher());
+    this.versionIdsByProgram =
+        create(
+            "program-versions",
+            (programId, versionIds) -> programId.length() + BOXED_LONG_WEIGHT * versionIds.size());
+  }
+
+  /** The shallow definitions of the programs in each active or obsolete version, by version ID. */
+  public ValueCache<ImmutableList<ProgramDefinition>> programsByVersion() {
+    return programsByVersion;
+  }
+
+  /** The definitions of the questions in each active or obsolete version, by version ID. */
+  public ValueCache<ImmutableList<QuestionDefinition>> questionsByVersion() {
+    return questionsByVersion;
+  }
+
+  /** The IDs of the versions each program belongs to, by program ID. */
+  public ValueCache<ImmutableList<Long>> versionIdsByProgram() {
+    return versionIdsByProgram;
+  }
+
+  /**
+   * Creates the cache configured under {@code value_caches.<name>}, whose entries are weighed by
+   * {@code weigher}.
+   *
+   * <p>If a cache with this name was already created it is returned instead, so classes that
+   * aren't singletons share one cache however many times they are created. The caller must use the
+   * same value type for a name each time.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> ValueCache<V> create(String name, Weigher<String, V> weigher) {
+    return (ValueCache<V>) caches.computeIfAbsent(name, unused -> newCache(name, weigher));
+  }
+
+  /**
+   * Weighs entries by the size of their value's JSON serialization, which tracks the heap
+   * footprint of definitions closely enough to size the caches.
+   */
+  public <V> Weigher<String, V> serializedSizeWeigher() {
+    return (key, value) -> {
+      try {
+        return key.length() + objectMapper.writeValueAsBytes(value).length;
+      } catch (JsonProcessingException e) {
+        logger.warn("Unable to serialize a cache value to weigh it.", e);
+        return UNSERIALIZABLE_VALUE_WEIGHT;
+      }
+    };
+  }
+
+  /** Removes all entries from every cache. */
+  public void removeAll() {
+    caches.values().forEach(ValueCache::removeAll);
+  }
+
+  private <V> ValueCache<V> newCache(String name, Weigher<String, V> weigher) {
+    String path = "value_caches." + name;
+    Optional<Duration> expireAfterWrite =
+        config.hasPath(path + ".expire-after-write")
+            ? Optional.of(config.getDuration(path + ".expire-after-write"))
+            : Optional.empty();
+    ValueCache<V> cache =
+        new ValueCache<>(
+            name, config.getBytes(path + ".maximum-weight"), weigher, expireAfterWrite);
+    ValueCacheMetricsCollector.addCache(cache);
+    return cache;
+  }
+}
@@ -1,39 +1,82 @@
 package services.docs;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static services.export.JsonPrettifier.asPrettyJsonString;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.inject.Inject;
 import models.LifecycleStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.mvc.Http;
+import repository.DatabaseExecutionContext;
 import repository.ExportServiceRepository;
+import services.DeploymentType;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
 import services.export.ProgramJsonSampler;
+import services.openapi.OpenApiSchemaGeneratorFactory;
+import services.openapi.OpenApiSchemaSettings;
+import services.openapi.OpenApiVersion;
 import services.program.ProgramDefinition;
 import services.program.ProgramDraftNotFoundException;
 import services.program.ProgramService;
 import services.question.types.MultiOptionQuestionDefinition;
 import services.question.types.QuestionDefinition;
+import services.settings.SettingsManifest;
 
 /**
  * Service that encapsulates the service and repository calls required to render API docs and the
  * API schema viewer. Keeps mappers free of data access so they remain pure property mappers.
+ *
+ * <p>A published program's definition doesn't change, so the schemas, samples and historic options
+ * generated for {@link LifecycleStage#ACTIVE} programs are cached by program ID. They are generated
+ * ahead of time when programs are published. Draft programs are edited in place, so their docs are
+ * generated on every request.
  */
 public final class ApiDocsService {
+  private static final Logger logger = LoggerFactory.getLogger(ApiDocsService.class);
 
   private final ProgramService programService;
   private final ProgramJsonSampler programJsonSampler;
   private final ExportServiceRepository exportServiceRepository;
+  private final SettingsManifest settingsManifest;
+  private final DeploymentType deploymentType;
+  private final ValueCache<GeneratedApiDoc> apiDocsCache;
+  private final ValueCache<ImmutableMap<String, ImmutableList<String>>> historicOptionsCache;
+  private final DatabaseExecutionContext dbExecutionContext;
 
   @Inject
   public ApiDocsService(
       ProgramService programService,
       ProgramJsonSampler programJsonSampler,
-      ExportServiceRepository exportServiceRepository) {
+      ExportServiceRepository exportServiceRepository,
+      SettingsManifest settingsManifest,
+      DeploymentType deploymentType,
+      ValueCaches valueCaches,
+      DatabaseExecutionContext dbExecutionContext) {
     this.programService = programService;
     this.programJsonSampler = programJsonSampler;
     this.exportServiceRepository = exportServiceRepository;
+    this.settingsManifest = checkNotNull(settingsManifest);
+    this.deploymentType = checkNotNull(deploymentType);
+    this.apiDocsCache =
+        checkNotNull(valueCaches)
+            .create(
+                "api-docs",
+                (key, doc) -> key.length() + doc.content().length() + doc.etag().length());
+    this.historicOptionsCache =
+        valueCaches.create(
+            "api-docs-historic-options",
+            (programId, optionsByQuestion) ->
+                programId.length() + historicOptionsWeight(optionsByQuestion));
+    this.dbExecutionContext = checkNotNull(dbExecutionContext);
   }
 
   public ImmutableSet<String> getAllNonExternalProgramSlugs() {
@@ -66,9 +109,52 @@ public final class ApiDocsService {
     }
   }
 
+  /** Returns the settings for generating schemas in response to {@code request}. */
+  public OpenApiSchemaSettings getSchemaSettings(Http.RequestHeader request) {
+    // Prefer the IT email address, falling back to the support email address.
+    Optional<String> contactEmailAddress =
+        settingsManifest.getItEmailAddress().isPresent()
+                && !settingsManifest.getItEmailAddress().get().isBlank()
+            ? settingsManifest.getItEmailAddress()
+            : settingsManifest.getSupportEmailAddress(request);
+    return new OpenApiSchemaSettings(
+        settingsManifest.getBaseUrl().orElse(""),
+        contactEmailAddress.orElse(""),
+        deploymentType.isDev());
+  }
+
+  /** Returns the program's schema in the given OpenAPI version. */
+  public GeneratedApiDoc getSchema(
+      ProgramDefinition programDefinition,
+      LifecycleStage lifecycleStage,
+      OpenApiVersion openApiVersion,
+      OpenApiSchemaSettings openApiSchemaSettings) {
+    return getCachedIfActive(
+        apiDocsCache,
+        lifecycleStage,
+        String.join(
+            ":",
+            String.valueOf(programDefinition.id()),
+            "schema",
+            openApiVersion.toString(),
+            openApiSchemaSettings.toString()),
+        () ->
+            GeneratedApiDoc.of(
+                OpenApiSchemaGeneratorFactory.createGenerator(openApiVersion, openApiSchemaSettings)
+                    .createSchema(programDefinition)));
+  }
+
   /** Returns a pretty-printed JSON sample of the program's API response. */
-  public String getSampleJsonPreview(ProgramDefinition programDefinition) {
-    return asPrettyJsonString(programJsonSampler.getSampleJson(programDefinition));
+  public String getSampleJsonPreview(
+      ProgramDefinition programDefinition, LifecycleStage lifecycleStage) {
+    return getCachedIfActive(
+            apiDocsCache,
+            lifecycleStage,
+            programDefinition.id() + ":sample-json",
+            () ->
+                GeneratedApiDoc.of(
+                    asPrettyJsonString(programJsonSampler.getSampleJson(programDefinition))))
+        .content();
   }
 
   /**
@@ -76,15 +162,84 @@ public final class ApiDocsService {
    * keyed by the question's name key.
    */
   public ImmutableMap<String, ImmutableList<String>> getHistoricOptionsByQuestionNameKey(
-      ProgramDefinition programDefinition) {
-    return programDefinition
-        .streamQuestionDefinitions()
-        .filter(qd -> qd.getQuestionType().isMultiOptionType())
-        .collect(
-            ImmutableMap.toImmutableMap(
-                QuestionDefinition::getQuestionNameKey,
-                qd ->
-                    exportServiceRepository.getAllHistoricMultiOptionAdminNames(
-                        (MultiOptionQuestionDefinition) qd)));
+      ProgramDefinition programDefinition, LifecycleStage lifecycleStage) {
+    return getCachedIfActive(
+        historicOptionsCache,
+        lifecycleStage,
+        String.valueOf(programDefinition.id()),
+        () ->
+            programDefinition
+                .streamQuestionDefinitions()
+                .filter(qd -> qd.getQuestionType().isMultiOptionType())
+                .collect(
+                    ImmutableMap.toImmutableMap(
+                        QuestionDefinition::getQuestionNameKey,
+                        qd ->
+                            exportServiceRepository.getAllHistoricMultiOptionAdminNames(
+                                (MultiOptionQuestionDefinition) qd))));
+  }
+
+  /**
+   * Generates and caches the docs of every active program in the background, so that they are
+   * ready for the integrations that fetch them after a publish.
+   *
+   * <p>The programs are generated one after another. Each program definition is loaded
+   * asynchronously and its docs are generated once it is ready, so no database thread waits on
+   * another one.
+   */
+  public CompletionStage<Void> pregenerateActiveDocs(OpenApiSchemaSettings openApiSchemaSettings) {
+    return CompletableFuture.supplyAsync(this::getAllNonExternalProgramSlugs, dbExecutionContext)
+        .thenCompose(
+            programSlugs -> {
+              CompletionStage<Void> pregenerated = CompletableFuture.completedFuture(null);
+              for (String programSlug : programSlugs) {
+                pregenerated =
+                    pregenerated
+                        .thenCompose(
+                            unused ->
+                                programService
+                                    .getActiveFullProgramDefinitionAsync(programSlug)
+                                    .thenAcceptAsync(
+                                        program -> pregenerate(program, openApiSchemaSettings),
+                                        dbExecutionContext))
+                        .exceptionally(
+                            e -> {
+                              // The docs are generated again when they are requested.
+                              logger.warn(
+                                  "Unable to generate the API docs for program {}", programSlug, e);
+                              return null;
+                            });
+              }
+              return pregenerated;
+            });
+  }
+
+  private void pregenerate(
+      ProgramDefinition programDefinition, OpenApiSchemaSettings openApiSchemaSettings) {
+    for (OpenApiVersion openApiVersion : OpenApiVersion.values()) {
+      getSchema(programDefinition, LifecycleStage.ACTIVE, openApiVersion, openApiSchemaSettings);
+    }
+    getSampleJsonPreview(programDefinition, LifecycleStage.ACTIVE);
+    getHistoricOptionsByQuestionNameKey(programDefinition, LifecycleStage.ACTIVE);
+  }
+
+  private static <V> V getCachedIfActive(
+      ValueCache<V> cache, LifecycleStage lifecycleStage, String key, Supplier<V> generator) {
+    return lifecycleStage == LifecycleStage.ACTIVE
+        ? cache.getOrElseUpdate(key, generator)
+        : generator.get();
+  }
+
+  private static int historicOptionsWeight(
+      ImmutableMap<String, ImmutableList<String>> optionsByQuestion) {
+    return optionsByQuestion.entrySet().stream()
+        .mapToInt(
+            entry ->
+                ValueCaches.STRING_WEIGHT
+                    + entry.getKey().length()
+                    + entry.getValue().stream()
+                        .mapToInt(option -> ValueCaches.STRING_WEIGHT + option.length())
+                        .sum())
+        .sum();
   }
 }
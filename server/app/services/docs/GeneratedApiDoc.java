@@ -0,0 +1,43 @@
+package services.docs;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * A generated API schema or sample, with a strong ETag derived from its content so that clients
+ * polling for it can revalidate with {@code If-None-Match} instead of downloading it again.
+ */
+public record GeneratedApiDoc(String content, String etag) {
+
+  public GeneratedApiDoc {
+    checkNotNull(content);
+    checkNotNull(etag);
+  }
+
+  public static GeneratedApiDoc of(String content) {
+    return new GeneratedApiDoc(
+        content,
+        "\"" + Hashing.sha256().hashString(content, StandardCharsets.UTF_8) + "\"");
+  }
+
+  /**
+   * Returns true if an {@code If-None-Match} header value names this document's ETag, so the client
+   * already has it. As the header requires, weak validators are compared by their opaque tag.
+   */
+  public boolean matchesAnyOf(Optional<String> ifNoneMatch) {
+    return ifNoneMatch
+        .map(
+            header ->
+                Splitter.on(',')
+                    .trimResults()
+                    .omitEmptyStrings()
+                    .splitToStream(header)
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(etag)))
+        .orElse(false);
+  }
+}
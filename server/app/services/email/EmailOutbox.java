@@ -0,0 +1,41 @@
+package services.email;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Clock;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import repository.EmailOutboxRepository;
+
+/**
+ * Queues emails in the outbox table for the {@link EmailOutboxWorker} to send, so that sending
+ * emails doesn't hold up the request or job that sends them, and emails that fail to send are
+ * retried.
+ *
+ * <p>Emails queued in a transaction are only sent if the transaction commits.
+ */
+@Singleton
+public final class EmailOutbox implements EmailSendClient {
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final Clock clock;
+
+  @Inject
+  public EmailOutbox(EmailOutboxRepository emailOutboxRepository, Clock clock) {
+    this.emailOutboxRepository = checkNotNull(emailOutboxRepository);
+    this.clock = checkNotNull(clock);
+  }
+
+  @Override
+  public void send(String toAddress, String subject, String bodyText) {
+    send(ImmutableList.of(toAddress), subject, bodyText);
+  }
+
+  @Override
+  public void send(ImmutableList<String> toAddresses, String subject, String bodyText) {
+    if (toAddresses.isEmpty()) {
+      return;
+    }
+    emailOutboxRepository.enqueue(toAddresses, subject, bodyText, clock.instant());
+  }
+}
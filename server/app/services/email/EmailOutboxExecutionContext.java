@@ -0,0 +1,22 @@
+package services.email;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.libs.concurrent.CustomExecutionContext;
+
+/**
+ * Custom execution context wired to "email.outbox.dispatcher" thread pool
+ *
+ * <p>The {@link EmailOutboxWorker} waits on the email provider and its rate limit on this pool,
+ * rather than on the database or default pools.
+ */
+@Singleton
+public class EmailOutboxExecutionContext extends CustomExecutionContext {
+  @Inject
+  public EmailOutboxExecutionContext(ActorSystem actorSystem) {
+    super(checkNotNull(actorSystem), "email.outbox.dispatcher");
+  }
+}
@@ -0,0 +1,166 @@
+package services.email;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import annotations.BindingAnnotations.EmailProviderClient;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import com.typesafe.config.Config;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import models.OutboxEmailModel;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Cancellable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.api.db.evolutions.ApplicationEvolutions;
+import play.inject.ApplicationLifecycle;
+import repository.EmailOutboxRepository;
+import services.monitoring.EmailSendMetrics;
+
+/**
+ * Sends the emails queued by the {@link EmailOutbox} through the configured email provider.
+ *
+ * <p>Every {@code email.outbox.poll-interval} the worker claims the emails that are due in batches
+ * of {@code email.outbox.batch-size} and sends them, no faster than {@code
+ * email.outbox.max-sends-per-second} from this server. The limit is per server, so the outbox as a
+ * whole sends up to that many emails per second for each server running. Servers claim emails with
+ * {@code SKIP LOCKED}, so each email is sent by one server.
+ *
+ * <p>A claim lasts for {@code email.outbox.claim-lease}, after which another server may claim the
+ * email again. Since a batch is sent one email at a time, the claim on each email is renewed just
+ * before it is sent, and an email whose claim has already lapsed is left to whichever server holds
+ * it now. The lease only has to cover a single send however slow the provider is for the rest of
+ * the batch.
+ *
+ * <p>An email that fails to send is retried after a backoff that starts at {@code
+ * email.outbox.initial-backoff} and doubles with each attempt, up to {@code
+ * email.outbox.max-backoff}. After {@code email.outbox.max-attempts} failed attempts it is dropped.
+ */
+@Singleton
+public final class EmailOutboxWorker {
+  private static final Logger logger = LoggerFactory.getLogger(EmailOutboxWorker.class);
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final EmailSendClient emailProviderClient;
+  private final EmailSendMetrics emailSendMetrics;
+  private final Clock clock;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration claimLease;
+  private final RateLimiter rateLimiter;
+
+  @Inject
+  public EmailOutboxWorker(
+      ApplicationEvolutions applicationEvolutions,
+      EmailOutboxRepository emailOutboxRepository,
+      @EmailProviderClient EmailSendClient emailProviderClient,
+      EmailSendMetrics emailSendMetrics,
+      Clock clock,
+      Config config,
+      ActorSystem actorSystem,
+      EmailOutboxExecutionContext emailOutboxExecutionContext,
+      ApplicationLifecycle lifecycle) {
+    this.emailOutboxRepository = checkNotNull(emailOutboxRepository);
+    this.emailProviderClient = checkNotNull(emailProviderClient);
+    this.emailSendMetrics = checkNotNull(emailSendMetrics);
+    this.clock = checkNotNull(clock);
+
+    Config outboxConfig = checkNotNull(config).getConfig("email.outbox");
+    this.batchSize = outboxConfig.getInt("batch-size");
+    this.maxAttempts = outboxConfig.getInt("max-attempts");
+    this.initialBackoff = outboxConfig.getDuration("initial-backoff");
+    this.maxBackoff = outboxConfig.getDuration("max-backoff");
+    this.claimLease = outboxConfig.getDuration("claim-lease");
+    this.rateLimiter = RateLimiter.create(outboxConfig.getDouble("max-sends-per-second"));
+
+    // Like the durable job runner, wait until the outbox table exists before polling it.
+    if (applicationEvolutions.upToDate()) {
+      Duration pollInterval = outboxConfig.getDuration("poll-interval");
+      Cancellable scheduledDrain =
+          actorSystem
+              .scheduler()
+              .scheduleWithFixedDelay(
+                  pollInterval, pollInterval, this::drain, emailOutboxExecutionContext);
+      lifecycle.addStopHook(
+          () -> {
+            scheduledDrain.cancel();
+            return CompletableFuture.completedFuture(null);
+          });
+    }
+  }
+
+  /** Sends the emails that are due, a batch at a time, until there are none left. */
+  @VisibleForTesting
+  public synchronized void drain() {
+    try {
+      ImmutableList<OutboxEmailModel> batch;
+      do {
+        Instant now = clock.instant();
+        batch = emailOutboxRepository.claimDueEmails(batchSize, now, leaseExpiry(now));
+        batch.forEach(this::send);
+      } while (batch.size() == batchSize);
+      emailSendMetrics.getOutboxQueueDepth().set(emailOutboxRepository.countQueued());
+    } catch (RuntimeException e) {
+      logger.error("Error sending emails from the outbox, will retry: {}", e.toString());
+    }
+  }
+
+  private void send(OutboxEmailModel email) {
+    rateLimiter.acquire();
+    if (!emailOutboxRepository.renewClaim(email, leaseExpiry(clock.instant()))) {
+      logger.warn("Skipping outbox email {} since its claim lapsed before it was sent", email.id);
+      return;
+    }
+    try {
+      emailProviderClient.send(email.getToAddresses(), email.getSubject(), email.getBodyText());
+    } catch (RuntimeException e) {
+      recordFailure(email, e);
+      return;
+    }
+    emailOutboxRepository.delete(email);
+    emailSendMetrics
+        .getOutboxDeliveryDelay()
+        .observe(Duration.between(email.getCreateTime(), clock.instant()).toMillis() / 1000.0);
+  }
+
+  private Instant leaseExpiry(Instant now) {
+    // Truncated to the database's precision so that the stored time matches when renewing.
+    return now.plus(claimLease).truncatedTo(ChronoUnit.MICROS);
+  }
+
+  private void recordFailure(OutboxEmailModel email, RuntimeException e) {
+    email.incrementAttempts().setLastError(e.toString());
+    if (email.getAttempts() >= maxAttempts) {
+      emailSendMetrics.getOutboxAbandonedCount().inc();
+      logger.error(
+          "Dropping outbox email {} after {} failed attempts to send it: {}",
+          email.id,
+          email.getAttempts(),
+          e.toString());
+      emailOutboxRepository.delete(email);
+      return;
+    }
+
+    emailSendMetrics.getOutboxRetryCount().inc();
+    email.setNextAttemptTime(
+        clock.instant().plus(backoff(email.getAttempts(), initialBackoff, maxBackoff)));
+    emailOutboxRepository.update(email);
+  }
+
+  /** Returns how long to wait before the next attempt after {@code attempts} failed attempts. */
+  @VisibleForTesting
+  static Duration backoff(int attempts, Duration initialBackoff, Duration maxBackoff) {
+    // Stop doubling well before the multiplication could overflow.
+    Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+}
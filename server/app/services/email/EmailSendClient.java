@@ -2,7 +2,13 @@ package services.email;
 
 import com.google.common.collect.ImmutableList;
 
-/** Interface for sending emails from CiviForm. */
+/**
+ * Interface for sending emails from CiviForm.
+ *
+ * <p>The client injected by default is the {@link EmailOutbox}, which queues emails to be sent in
+ * the background. Clients for email providers throw {@link EmailSendException} when they fail to
+ * send an email.
+ */
 public interface EmailSendClient {
 
   /**
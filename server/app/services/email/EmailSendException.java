@@ -0,0 +1,8 @@
+package services.email;
+
+/** Thrown by an email provider's {@link EmailSendClient} when it fails to send an email. */
+public final class EmailSendException extends RuntimeException {
+  public EmailSendException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -5,7 +5,8 @@ import java.util.Optional;
 /** Enum representing supported options for email providers. */
 public enum EmailSendProvider {
   AWS_SES("aws-ses"),
-  GRAPH_API("graph-api");
+  GRAPH_API("graph-api"),
+  FAKE("fake");
 
   private final String emailProvider;
 
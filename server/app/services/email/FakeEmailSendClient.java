@@ -0,0 +1,64 @@
+package services.email;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import io.prometheus.client.Histogram;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.monitoring.EmailSendMetrics;
+
+/**
+ * Pretends to send emails, for load testing email sending without an email provider.
+ *
+ * <p>Each send takes {@code email.fake.send-latency}, and fails with probability {@code
+ * email.fake.failure-rate}, so that the outbox's throughput and retries can be measured.
+ */
+@Singleton
+public final class FakeEmailSendClient implements EmailSendClient {
+  private static final Logger logger = LoggerFactory.getLogger(FakeEmailSendClient.class);
+
+  private final EmailSendMetrics emailSendMetrics;
+  private final Duration sendLatency;
+  private final double failureRate;
+
+  @Inject
+  public FakeEmailSendClient(Config config, EmailSendMetrics emailSendMetrics) {
+    this.emailSendMetrics = checkNotNull(emailSendMetrics);
+    this.sendLatency = checkNotNull(config).getDuration("email.fake.send-latency");
+    this.failureRate = config.getDouble("email.fake.failure-rate");
+  }
+
+  @Override
+  public void send(String toAddress, String subject, String bodyText) {
+    send(ImmutableList.of(toAddress), subject, bodyText);
+  }
+
+  @Override
+  public void send(ImmutableList<String> toAddresses, String subject, String bodyText) {
+    if (toAddresses.isEmpty()) {
+      return;
+    }
+    Histogram.Timer timer = emailSendMetrics.getEmailExecutionTime().startTimer();
+    try {
+      Thread.sleep(sendLatency);
+      if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+        emailSendMetrics.getEmailFailCount().inc();
+        throw new EmailSendException(
+            "Fake email provider failed", new IllegalStateException("Simulated failure"));
+      }
+      emailSendMetrics.getEmailSendCount().labels("200").inc();
+      logger.debug("Fake email sent to {} recipients: {}", toAddresses.size(), subject);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EmailSendException("Interrupted while sending fake email", e);
+    } finally {
+      timer.observeDuration();
+    }
+  }
+}
@@ -17,6 +17,7 @@ import play.Environment;
 import play.inject.ApplicationLifecycle;
 import services.cloud.aws.AwsRegion;
 import services.email.EmailSendClient;
+import services.email.EmailSendException;
 import services.monitoring.EmailSendMetrics;
 import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.ses.SesClient;
@@ -116,14 +117,14 @@ public final class SimpleEmail implements EmailSendClient {
       SendEmailRequest emailRequest =
           SendEmailRequest.builder().destination(destination).message(msg).source(sender).build();
       client.get().sendEmail(emailRequest);
+      // Increase the count of emails sent.
+      emailSendMetrics.getEmailSendCount().labels(String.valueOf(HttpStatusCode.OK)).inc();
     } catch (SesException e) {
       logger.error(e.toString());
-      e.printStackTrace();
       emailSendMetrics.getEmailFailCount().inc();
       emailSendMetrics.getEmailSendCount().labels(String.valueOf(e.statusCode())).inc();
+      throw new EmailSendException("Failed to send email with AWS SES", e);
     } finally {
-      // Increase the count of emails sent.
-      emailSendMetrics.getEmailSendCount().labels(String.valueOf(HttpStatusCode.OK)).inc();
       // Record the execution time of the email sending process.
       timer.observeDuration();
     }
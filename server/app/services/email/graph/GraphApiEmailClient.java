@@ -21,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import play.Environment;
 import services.cloud.azure.Credentials;
 import services.email.EmailSendClient;
+import services.email.EmailSendException;
 import services.monitoring.EmailSendMetrics;
 import services.settings.SettingsManifest;
 import software.amazon.awssdk.http.HttpStatusCode;
@@ -128,14 +129,14 @@ public class GraphApiEmailClient implements EmailSendClient {
             .sendMail()
             .post(sendMailPostRequestBody);
       }
+      // Increase the count of emails sent.
+      emailSendMetrics.getEmailSendCount().labels(String.valueOf(HttpStatusCode.OK)).inc();
     } catch (ApiException e) {
       logger.error(e.toString());
-      e.printStackTrace();
       emailSendMetrics.getEmailFailCount().inc();
       emailSendMetrics.getEmailSendCount().labels(String.valueOf(e.getResponseStatusCode())).inc();
+      throw new EmailSendException("Failed to send email with Graph API", e);
     } finally {
-      // Increase the count of emails sent.
-      emailSendMetrics.getEmailSendCount().labels(String.valueOf(HttpStatusCode.OK)).inc();
       // Record the execution time of the email sending process.
       timer.observeDuration();
     }
@@ -10,17 +10,23 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import javax.inject.Inject;
 import models.ApplicantModel;
 import models.ApplicationModel;
 import models.QuestionTag;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
 import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
 import services.DateConverter;
@@ -30,7 +36,7 @@ import services.applicant.ApplicantService;
 import services.applicant.ReadOnlyApplicantProgramService;
 import services.applicant.question.ApplicantQuestion;
 import services.export.enums.ColumnType;
-import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
+import services.program.BlockDefinition;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramQuestionDefinition;
@@ -73,47 +79,90 @@ public final class CsvExporterService {
   /** Return a string containing a CSV of all applications at all versions of particular program. */
   public String getProgramAllVersionsCsv(long programId, SubmittedApplicationFilter filters)
       throws ProgramNotFoundException {
+    StringBuilder csv = new StringBuilder();
+    try (ProgramCsvPageWriter pageWriter = newProgramCsvPageWriter(programId, filters)) {
+      for (Optional<String> chunk = pageWriter.writeNextPage();
+          chunk.isPresent();
+          chunk = pageWriter.writeNextPage()) {
+        csv.append(chunk.get());
+      }
+    }
+    return csv.toString();
+  }
+
+  /**
+   * Return a {@link Source} that emits a CSV of all applications at all versions of a particular
+   * program, one page of applications at a time.
+   *
+   * <p>Applications are read from the database lazily as the stream is pulled, so memory use is
+   * bounded by the page size rather than by the number of applications to the program. The columns
+   * are computed up front, before the stream is returned.
+   */
+  public Source<ByteString, NotUsed> streamProgramAllVersionsCsv(
+      long programId, SubmittedApplicationFilter filters) throws ProgramNotFoundException {
+    ProgramCsvPageWriter pageWriter = newProgramCsvPageWriter(programId, filters);
+    // unfoldResource runs on Pekko's blocking IO dispatcher, which is where the page queries
+    // belong.
+    return Source.unfoldResource(
+            () -> pageWriter, ProgramCsvPageWriter::writeNextPage, ProgramCsvPageWriter::close)
+        .map(ByteString::fromString);
+  }
+
+  private ProgramCsvPageWriter newProgramCsvPageWriter(
+      long programId, SubmittedApplicationFilter filters) throws ProgramNotFoundException {
     ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions =
         programService.getAllVersionsFullProgramDefinition(programId).stream()
             .collect(ImmutableMap.toImmutableMap(ProgramDefinition::id, pd -> pd));
     ProgramDefinition currentProgram = programDefinitionsForAllVersions.get(programId);
 
-    ImmutableList<ApplicationModel> applications =
-        programService
-            .getSubmittedProgramApplicationsAllVersions(
-                programId,
-                SubmitTimeSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
-                filters)
-            .getPageContents();
-
     CsvExportConfig exportConfig =
         generateCsvConfig(
-            applications, programDefinitionsForAllVersions, currentProgram.hasEligibilityEnabled());
+            programId,
+            filters,
+            programDefinitionsForAllVersions,
+            currentProgram.hasEligibilityEnabled());
 
-    return exportCsv(
-        exportConfig,
-        applications,
-        // Use our local program definition cache when exporting applications,
-        // it's faster then the cache in the ProgramRepository.
-        programDefinitionsForAllVersions::get,
-        Optional.of(currentProgram));
+    return new ProgramCsvPageWriter(
+        programId, filters, exportConfig, programDefinitionsForAllVersions, currentProgram);
   }
 
+  /**
+   * Builds the column headers for an export of the applications matching {@code filters}.
+   *
+   * <p>The set of questions for a program version only depends on the applicant's answers when the
+   * version has enumerator blocks, since each repeated entity adds its own questions. For all other
+   * versions the questions come straight from the program definition, so we only build a {@link
+   * ReadOnlyApplicantProgramService} for the first application we see to that version. Pages are
+   * read without the applicant and account, and are discarded as soon as they are processed.
+   */
   private CsvExportConfig generateCsvConfig(
-      ImmutableList<ApplicationModel> applications,
+      long programId,
+      SubmittedApplicationFilter filters,
       ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions,
-      boolean showEligibilityColumn)
-      throws ProgramNotFoundException {
+      boolean showEligibilityColumn) {
     Map<Path, ApplicantQuestion> uniqueQuestions = new HashMap<>();
+    Set<Long> versionsWithKnownQuestions = new HashSet<>();
 
-    applications.stream()
-        .flatMap(
-            app ->
-                applicantService
-                    .getReadOnlyApplicantProgramService(
-                        app, programDefinitionsForAllVersions.get(app.getProgram().id))
-                    .getAllQuestions())
-        .forEach(aq -> uniqueQuestions.putIfAbsent(aq.getContextualizedPath(), aq));
+    ProgramApplicationPager pager =
+        new ProgramApplicationPager(
+            programService, programId, filters, /* fetchApplicant= */ false);
+    while (pager.hasMorePages()) {
+      for (ApplicationModel app : pager.nextPage()) {
+        long versionId = app.getProgram().id;
+        if (versionsWithKnownQuestions.contains(versionId)) {
+          continue;
+        }
+        ProgramDefinition programDefinition = programDefinitionsForAllVersions.get(versionId);
+        applicantService
+            .getReadOnlyApplicantProgramService(app, programDefinition)
+            .getAllQuestions()
+            .forEach(aq -> uniqueQuestions.putIfAbsent(aq.getContextualizedPath(), aq));
+        if (programDefinition.blockDefinitions().stream()
+            .noneMatch(BlockDefinition::hasEnumeratorQuestion)) {
+          versionsWithKnownQuestions.add(versionId);
+        }
+      }
+    }
 
     ImmutableList<ApplicantQuestion> sortedUniqueQuestions =
         uniqueQuestions.values().stream()
@@ -127,6 +176,95 @@ public final class CsvExporterService {
     return buildColumnHeaders(sortedUniqueQuestions, showEligibilityColumn);
   }
 
+  /**
+   * Writes the CSV for a program export one page of applications at a time. The header row is
+   * included in the first page. Each page is returned as a string and cleared from the buffer, so
+   * only one page of rows is held in memory at any time.
+   */
+  private final class ProgramCsvPageWriter implements AutoCloseable {
+    private final ProgramApplicationPager pager;
+    private final ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions;
+    private final boolean shouldCheckEligibility;
+    private final StringWriter buffer = new StringWriter();
+    private final CsvExporter csvExporter;
+
+    ProgramCsvPageWriter(
+        long programId,
+        SubmittedApplicationFilter filters,
+        CsvExportConfig exportConfig,
+        ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions,
+        ProgramDefinition currentProgram) {
+      this.pager =
+          new ProgramApplicationPager(
+              programService, programId, filters, /* fetchApplicant= */ true);
+      this.programDefinitionsForAllVersions = checkNotNull(programDefinitionsForAllVersions);
+      this.shouldCheckEligibility = currentProgram.hasEligibilityEnabled();
+      try {
+        this.csvExporter =
+            new CsvExporter(
+                exportConfig.columns(),
+                config.getString("play.http.secret.key"),
+                buffer,
+                dateConverter);
+      } catch (IOException e) {
+        // Since it's an in-memory writer, this shouldn't happen.
+        throw new RuntimeException(e);
+      }
+    }
+
+    /**
+     * Writes the next page of applications and returns the CSV text for it, or empty once all
+     * applications have been written.
+     */
+    Optional<String> writeNextPage() {
+      if (pager.hasMorePages()) {
+        try {
+          for (ApplicationModel application : pager.nextPage()) {
+            exportApplication(application);
+          }
+        } catch (IOException e) {
+          // Since it's an in-memory writer, this shouldn't happen.  Catch so that callers don't
+          // have to deal with it.
+          throw new RuntimeException(e);
+        }
+      }
+
+      // The header row is written when the exporter is created, so the first page is never empty.
+      if (buffer.getBuffer().length() == 0) {
+        return Optional.empty();
+      }
+      String chunk = buffer.toString();
+      buffer.getBuffer().setLength(0);
+      return Optional.of(chunk);
+    }
+
+    private void exportApplication(ApplicationModel application) throws IOException {
+      ProgramDefinition programDefForApplication =
+          programDefinitionsForAllVersions.get(application.getProgram().id);
+      ReadOnlyApplicantProgramService roApplicantService =
+          applicantService.getReadOnlyApplicantProgramService(
+              application, programDefForApplication);
+
+      Optional<Boolean> optionalEligibilityStatus =
+          shouldCheckEligibility
+              ? applicantService.getApplicationEligibilityStatus(
+                  application, programDefForApplication)
+              : Optional.empty();
+
+      csvExporter.exportRecord(
+          application, roApplicantService, optionalEligibilityStatus, programDefForApplication);
+    }
+
+    @Override
+    public void close() {
+      try {
+        csvExporter.close();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   /**
    * Export a CSV using the provided CsvExportConfig and applications.
    *
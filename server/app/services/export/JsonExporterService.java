@@ -2,12 +2,17 @@ package services.export;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.jayway.jsonpath.DocumentContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -16,6 +21,9 @@ import models.ApplicationModel;
 import models.LifecycleStage;
 import models.TrustedIntermediaryGroupModel;
 import org.apache.commons.lang3.NotImplementedException;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
 import repository.SubmittedApplicationFilter;
 import services.CfJsonDocumentContext;
 import services.DateConverter;
@@ -39,6 +47,7 @@ public final class JsonExporterService {
   private final ProgramService programService;
   private final DateConverter dateConverter;
   private final QuestionJsonPresenter.Factory presenterFactory;
+  private final ObjectMapper objectMapper;
   private static final String EMPTY_VALUE = "";
 
   @Inject
@@ -46,11 +55,13 @@ public final class JsonExporterService {
       ApplicantService applicantService,
       ProgramService programService,
       DateConverter dateConverter,
-      QuestionJsonPresenter.Factory presenterFactory) {
+      QuestionJsonPresenter.Factory presenterFactory,
+      ObjectMapper objectMapper) {
     this.applicantService = checkNotNull(applicantService);
     this.programService = checkNotNull(programService);
     this.dateConverter = dateConverter;
     this.presenterFactory = checkNotNull(presenterFactory);
+    this.objectMapper = checkNotNull(objectMapper);
   }
 
   /**
@@ -84,12 +95,54 @@ public final class JsonExporterService {
   public String exportPage(
       ProgramDefinition programDefinition, PaginationResult<ApplicationModel> paginationResult) {
     ImmutableList<ApplicationModel> applications = paginationResult.getPageContents();
+    ExportTemplate exportTemplate = buildExportTemplate(programDefinition.id());
 
+    // Then use the template when exporting each application.
+    DocumentContext jsonData =
+        applications.stream()
+            .map(app -> buildApplicationExportData(app, exportTemplate))
+            .collect(
+                Collectors.collectingAndThen(
+                    ImmutableList.toImmutableList(),
+                    appDataList ->
+                        convertApplicationExportDataListToJsonArray(
+                            appDataList, exportTemplate.jsonTemplate())));
+
+    return jsonData.jsonString();
+  }
+
+  /**
+   * Returns a {@link Source} that emits a JSON list of all applications to all versions of the
+   * given program matching {@code filters}, most recently submitted first.
+   *
+   * <p>Applications are read from the database a page at a time as the stream is pulled and each
+   * one is written to the output with a {@link JsonGenerator} as soon as it is converted, so memory
+   * use is bounded by the page size rather than by the number of applications to the program.
+   *
+   * @param programDefinition the program definition of the exported applications
+   * @param filters the filters to apply
+   */
+  public Source<ByteString, NotUsed> streamExport(
+      ProgramDefinition programDefinition, SubmittedApplicationFilter filters) {
+    return Source.unfoldResource(
+        () ->
+            new JsonPageWriter(
+                new ProgramApplicationPager(
+                    programService, programDefinition.id(), filters, /* fetchApplicant= */ true),
+                buildExportTemplate(programDefinition.id())),
+        JsonPageWriter::writeNextPage,
+        JsonPageWriter::close);
+  }
+
+  /**
+   * Builds a template JSON document of all possible questions that have ever been in the program,
+   * so that questions an application doesn't include are still exported as unanswered.
+   */
+  private ExportTemplate buildExportTemplate(long programId) {
     ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions =
-        programService.getAllVersionsFullProgramDefinition(programDefinition.id()).stream()
+        programService.getAllVersionsFullProgramDefinition(programId).stream()
             .collect(ImmutableMap.toImmutableMap(ProgramDefinition::id, pd -> pd));
 
-    // Build a template JSON document of all possible questions that have ever been in the program.
     // TODO(#8147): Reduce code duplication once we find a long term solution. Here we've moved the
     // template creation outside of the loop, so we don't rebuild it for each application, but as a
     // result we've duplicated the ApplicantQuestion -> questionEntries map -> add to JSON document
@@ -120,23 +173,7 @@ public final class JsonExporterService {
     // TODO(#8147): I'm not sure if reading the template out into a string, just to re-parse it into
     // a JsonData for each application, is more or less efficient than trying to clone a JsonData
     // object.
-    String jsonStringTemplate = template.asJsonString();
-
-    // Then use the template when exporting each application.
-    DocumentContext jsonData =
-        applications.stream()
-            .map(
-                app ->
-                    buildApplicationExportData(
-                        app, programDefinitionsForAllVersions.get(app.getProgram().id)))
-            .collect(
-                Collectors.collectingAndThen(
-                    ImmutableList.toImmutableList(),
-                    appDataList ->
-                        convertApplicationExportDataListToJsonArray(
-                            appDataList, jsonStringTemplate)));
-
-    return jsonData.jsonString();
+    return new ExportTemplate(programDefinitionsForAllVersions, template.asJsonString());
   }
 
   /**
@@ -159,6 +196,13 @@ public final class JsonExporterService {
     return applications;
   }
 
+  private ApplicationExportData buildApplicationExportData(
+      ApplicationModel application, ExportTemplate exportTemplate) {
+    return buildApplicationExportData(
+        application,
+        exportTemplate.programDefinitionsForAllVersions().get(application.getProgram().id));
+  }
+
   private ApplicationExportData buildApplicationExportData(
       ApplicationModel application, ProgramDefinition programDefinition) {
     ImmutableMap.Builder<Path, Optional<?>> entriesBuilder = ImmutableMap.builder();
@@ -216,58 +260,56 @@ public final class JsonExporterService {
       ApplicationExportData applicationExportData, String jsonTemplate) {
     CfJsonDocumentContext jsonApplication = new CfJsonDocumentContext(jsonTemplate);
 
-    jsonApplication.putString(Path.create("program_name"), applicationExportData.adminName());
-    jsonApplication.putLong(Path.create("program_version_id"), applicationExportData.programId());
-    jsonApplication.putLong(Path.create("applicant_id"), applicationExportData.applicantId());
-    jsonApplication.putLong(Path.create("application_id"), applicationExportData.applicationId());
-    jsonApplication.putString(Path.create("language"), applicationExportData.languageTag());
-    jsonApplication.putString(
-        Path.create("create_time"),
-        dateConverter.renderDateTimeIso8601ExtendedOffset(applicationExportData.createTime()));
-    jsonApplication.putString(
-        Path.create("submitter_type"), applicationExportData.submitterType().toString());
-    jsonApplication.putString(Path.create("ti_email"), applicationExportData.tiEmail());
-    jsonApplication.putString(
-        Path.create("ti_organization"), applicationExportData.tiOrganization());
-    Path submitTimePath = Path.create("submit_time");
-    Optional.ofNullable(applicationExportData.submitTime())
-        .ifPresentOrElse(
-            submitTime ->
-                jsonApplication.putString(
-                    submitTimePath, dateConverter.renderDateTimeIso8601ExtendedOffset(submitTime)),
-            () -> jsonApplication.putNull(submitTimePath));
-    jsonApplication.putString(
-        Path.create("revision_state"), applicationExportData.revisionState().toString());
-
-    Path statusPath = Path.create("status");
-    applicationExportData
-        .status()
-        .ifPresentOrElse(
-            status -> jsonApplication.putString(statusPath, status),
-            () -> jsonApplication.putNull(statusPath));
-
-    Path notePath = Path.create("application_note");
-    applicationExportData
-        .applicationNote()
-        .ifPresentOrElse(
-            applicationNote -> jsonApplication.putString(notePath, applicationNote),
-            () -> jsonApplication.putNull(notePath));
-
-    Path statusLastModiedTimePath = Path.create("status_last_modified_time");
-    applicationExportData
-        .statusLastModifiedTime()
-        .ifPresentOrElse(
-            statusLastModifiedTime ->
-                jsonApplication.putString(
-                    statusLastModiedTimePath,
-                    dateConverter.renderDateTimeIso8601ExtendedOffset(statusLastModifiedTime)),
-            () -> jsonApplication.putNull(statusLastModiedTimePath));
+    for (Map.Entry<String, Object> field : exportMetadata(applicationExportData).entrySet()) {
+      Path path = Path.create(field.getKey());
+      if (field.getValue() instanceof Long l) {
+        jsonApplication.putLong(path, l);
+      } else if (field.getValue() instanceof String str) {
+        jsonApplication.putString(path, str);
+      } else {
+        jsonApplication.putNull(path);
+      }
+    }
 
     exportApplicationEntriesToJsonApplication(
         jsonApplication, applicationExportData.applicationEntries());
     return jsonApplication;
   }
 
+  /**
+   * Returns the top level fields of an exported application, in the order they are written. Values
+   * are {@link String}s, {@link Long}s or null.
+   */
+  private Map<String, Object> exportMetadata(ApplicationExportData applicationExportData) {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("program_name", applicationExportData.adminName());
+    fields.put("program_version_id", applicationExportData.programId());
+    fields.put("applicant_id", applicationExportData.applicantId());
+    fields.put("application_id", applicationExportData.applicationId());
+    fields.put("language", applicationExportData.languageTag());
+    fields.put(
+        "create_time",
+        dateConverter.renderDateTimeIso8601ExtendedOffset(applicationExportData.createTime()));
+    fields.put("submitter_type", applicationExportData.submitterType().toString());
+    fields.put("ti_email", applicationExportData.tiEmail());
+    fields.put("ti_organization", applicationExportData.tiOrganization());
+    fields.put(
+        "submit_time",
+        Optional.ofNullable(applicationExportData.submitTime())
+            .map(dateConverter::renderDateTimeIso8601ExtendedOffset)
+            .orElse(null));
+    fields.put("revision_state", applicationExportData.revisionState().toString());
+    fields.put("status", applicationExportData.status().orElse(null));
+    fields.put("application_note", applicationExportData.applicationNote().orElse(null));
+    fields.put(
+        "status_last_modified_time",
+        applicationExportData
+            .statusLastModifiedTime()
+            .map(dateConverter::renderDateTimeIso8601ExtendedOffset)
+            .orElse(null));
+    return fields;
+  }
+
   private static void exportApplicationEntriesToJsonApplication(
       CfJsonDocumentContext jsonApplication, ImmutableMap<Path, Optional<?>> entries) {
     for (Map.Entry<Path, Optional<?>> entry : entries.entrySet()) {
@@ -326,6 +368,71 @@ public final class JsonExporterService {
     };
   }
 
+  /** The program definitions and JSON template shared by every application in one export. */
+  private record ExportTemplate(
+      ImmutableMap<Long, ProgramDefinition> programDefinitionsForAllVersions,
+      String jsonTemplate) {}
+
+  /**
+   * Writes a JSON array of applications one page at a time. The opening bracket is included in the
+   * first page and the closing bracket in the last. Each page is returned as bytes and cleared from
+   * the buffer, so only one page of applications is held in memory at any time.
+   */
+  private final class JsonPageWriter implements AutoCloseable {
+    private final ProgramApplicationPager pager;
+    private final ExportTemplate exportTemplate;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final JsonGenerator generator;
+    private boolean finished = false;
+
+    JsonPageWriter(ProgramApplicationPager pager, ExportTemplate exportTemplate)
+        throws IOException {
+      this.pager = checkNotNull(pager);
+      this.exportTemplate = checkNotNull(exportTemplate);
+      this.generator = objectMapper.getFactory().createGenerator(buffer);
+      generator.writeStartArray();
+    }
+
+    /**
+     * Writes the next page of applications and returns the bytes for it, or empty once the whole
+     * array has been written.
+     */
+    Optional<ByteString> writeNextPage() throws IOException {
+      // A page can have no applications, such as the last one when the number of applications is a
+      // multiple of the page size, so keep going until there is something to return.
+      while (buffer.size() == 0 && !finished) {
+        if (pager.hasMorePages()) {
+          for (ApplicationModel application : pager.nextPage()) {
+            // Each application's document is built exactly as export() builds it, and its tree is
+            // written straight to the buffer.
+            generator.writeObject(
+                convertExportDataToJson(
+                        buildApplicationExportData(application, exportTemplate),
+                        exportTemplate.jsonTemplate())
+                    .getDocumentContext()
+                    .json());
+          }
+        } else {
+          generator.writeEndArray();
+          finished = true;
+        }
+        generator.flush();
+      }
+
+      if (buffer.size() == 0) {
+        return Optional.empty();
+      }
+      ByteString chunk = ByteString.fromArray(buffer.toByteArray());
+      buffer.reset();
+      return Optional.of(chunk);
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
+
   @AutoValue
   public abstract static class ApplicationExportData {
     public abstract String adminName();
@@ -0,0 +1,22 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.pekko.actor.ActorSystem;
+import play.libs.concurrent.CustomExecutionContext;
+
+/**
+ * Custom execution context wired to "pdf-export.dispatcher" thread pool
+ *
+ * <p>Bulk PDF exports render applications on this pool, so a large export can't take over the
+ * threads that serve requests.
+ */
+@Singleton
+public class PdfExportExecutionContext extends CustomExecutionContext {
+  @Inject
+  public PdfExportExecutionContext(ActorSystem actorSystem) {
+    super(checkNotNull(actorSystem), "pdf-export.dispatcher");
+  }
+}
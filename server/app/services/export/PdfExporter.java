@@ -21,6 +21,7 @@ import com.itextpdf.text.pdf.draw.LineSeparator;
 import com.typesafe.config.Config;
 import controllers.admin.PredicateUtils;
 import controllers.admin.ReadablePredicate;
+import io.prometheus.client.Histogram;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
@@ -70,6 +71,19 @@ public final class PdfExporter {
   private static final Font LINK_FONT =
       FontFactory.getFont(FontFactory.HELVETICA, 11, Font.UNDERLINE, new BaseColor(0, 94, 162));
 
+  // Fonts for application PDFs. They're looked up once rather than for every answer, and are only
+  // ever read, so applications can be rendered on several threads at once.
+  private static final Font SECTION_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15);
+  private static final Font LABEL_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+  private static final Font ANSWER_FONT = FontFactory.getFont(FontFactory.HELVETICA, 11);
+  private static final Font DETAIL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10);
+
+  private static final Histogram APPLICATION_RENDER_TIME =
+      Histogram.build()
+          .name("pdf_export_application_render_seconds")
+          .help("Time to render the PDF of a single application")
+          .register();
+
   /**
    * Similar to {@link views.admin.programs.ProgramBlocksView#INDENTATION_FACTOR_INCREASE_ON_LEVEL}:
    * For each level of enumerator question, add another layer of indentation so it's easier to
@@ -99,6 +113,16 @@ public final class PdfExporter {
    */
   public InMemoryPdf exportApplication(ApplicationModel application, boolean isAdmin)
       throws DocumentException, IOException {
+    Histogram.Timer timer = APPLICATION_RENDER_TIME.startTimer();
+    try {
+      return renderApplication(application, isAdmin);
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
+  private InMemoryPdf renderApplication(ApplicationModel application, boolean isAdmin)
+      throws DocumentException, IOException {
     ReadOnlyApplicantProgramService roApplicantService =
         applicantService
             .getReadOnlyApplicantProgramService(application)
@@ -161,30 +185,19 @@ public final class PdfExporter {
       document.open();
 
       Paragraph applicant =
-          new Paragraph(
-              applicantNameWithApplicationId, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16));
+          new Paragraph(applicantNameWithApplicationId, H2_FONT);
       Paragraph program =
-          new Paragraph(
-              "Program Name : " + programDefinition.adminName(),
-              FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15));
+          new Paragraph("Program Name : " + programDefinition.adminName(), SECTION_FONT);
       document.add(applicant);
       document.add(program);
-      Paragraph status =
-          new Paragraph(
-              "Status: " + statusValue.orElse("none"),
-              FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12));
+      Paragraph status = new Paragraph("Status: " + statusValue.orElse("none"), LABEL_FONT);
       document.add(status);
-      Paragraph submitTimeInformation =
-          new Paragraph(
-              "Submit Time: " + submitTime, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12));
+      Paragraph submitTimeInformation = new Paragraph("Submit Time: " + submitTime, LABEL_FONT);
       document.add(submitTimeInformation);
       document.add(Chunk.NEWLINE);
       boolean isEligibilityEnabledInProgram = programDefinition.hasEligibilityEnabled();
       for (AnswerData answerData : answersOnlyActive) {
-        Paragraph question =
-            new Paragraph(
-                answerData.questionDefinition().getName(),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12));
+        Paragraph question = new Paragraph(answerData.questionDefinition().getName(), LABEL_FONT);
         final Paragraph answer;
         if (!answerData.encodedFileKeys().isEmpty()) {
           answer = new Paragraph();
@@ -215,16 +228,13 @@ public final class PdfExporter {
           answer = new Paragraph();
           answer.add(anchor);
         } else {
-          answer =
-              new Paragraph(
-                  answerData.answerText(), FontFactory.getFont(FontFactory.HELVETICA, 11));
+          answer = new Paragraph(answerData.answerText(), ANSWER_FONT);
         }
         LocalDate date =
             Instant.ofEpochMilli(answerData.timestamp())
                 .atZone(ZoneId.systemDefault())
                 .toLocalDate();
-        Paragraph time =
-            new Paragraph("Answered on : " + date, FontFactory.getFont(FontFactory.HELVETICA, 10));
+        Paragraph time = new Paragraph("Answered on : " + date, DETAIL_FONT);
         time.setAlignment(Paragraph.ALIGN_RIGHT);
         Paragraph eligibility = new Paragraph();
         if (isAdmin && isEligibilityEnabledInProgram) {
@@ -242,8 +252,7 @@ public final class PdfExporter {
 
               String eligibilityText =
                   answerData.isEligible() ? "Meets eligibility" : "Doesn't meet eligibility";
-              eligibility =
-                  new Paragraph(eligibilityText, FontFactory.getFont(FontFactory.HELVETICA, 10));
+              eligibility = new Paragraph(eligibilityText, DETAIL_FONT);
               eligibility.setAlignment(Paragraph.ALIGN_RIGHT);
             }
           } catch (ProgramBlockDefinitionNotFoundException e) {
@@ -260,20 +269,12 @@ public final class PdfExporter {
       }
       if (!answersOnlyHidden.isEmpty()) {
         document.add(Chunk.NEWLINE);
-        Paragraph hiddenText =
-            new Paragraph(
-                "Hidden Questions : ", FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15));
+        Paragraph hiddenText = new Paragraph("Hidden Questions : ", SECTION_FONT);
         document.add(hiddenText);
         document.add(Chunk.NEWLINE);
         for (AnswerData answerData : answersOnlyHidden) {
-          Paragraph question =
-              new Paragraph(
-                  answerData.questionDefinition().getName(),
-                  FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12));
-          final Paragraph answer;
-          answer =
-              new Paragraph(
-                  answerData.answerText(), FontFactory.getFont(FontFactory.HELVETICA, 11));
+          Paragraph question = new Paragraph(answerData.questionDefinition().getName(), LABEL_FONT);
+          Paragraph answer = new Paragraph(answerData.answerText(), ANSWER_FONT);
           document.add(question);
           document.add(answer);
         }
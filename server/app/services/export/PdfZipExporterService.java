@@ -0,0 +1,147 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.itextpdf.text.DocumentException;
+import com.typesafe.config.Config;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.inject.Inject;
+import models.ApplicationModel;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
+import repository.SubmittedApplicationFilter;
+import services.program.ProgramDefinition;
+import services.program.ProgramService;
+
+/** Exports the applications to a program as a ZIP file of one admin PDF per application. */
+public final class PdfZipExporterService {
+
+  private final ProgramService programService;
+  private final PdfExporter pdfExporter;
+  private final PdfExportExecutionContext pdfExportExecutionContext;
+  private final int maxPdfsInFlight;
+
+  @Inject
+  PdfZipExporterService(
+      ProgramService programService,
+      PdfExporter pdfExporter,
+      PdfExportExecutionContext pdfExportExecutionContext,
+      Config config) {
+    this.programService = checkNotNull(programService);
+    this.pdfExporter = checkNotNull(pdfExporter);
+    this.pdfExportExecutionContext = checkNotNull(pdfExportExecutionContext);
+    // Keep the next few PDFs rendering while the writer adds the oldest one to the ZIP.
+    this.maxPdfsInFlight = 2 * checkNotNull(config).getInt("pdf-export.parallelism");
+  }
+
+  /**
+   * Returns a {@link Source} that emits a ZIP file with the PDF of each application to all versions
+   * of the given program matching {@code filters}, most recently submitted first.
+   *
+   * <p>Applications are read from the database a page at a time as the stream is pulled, and their
+   * PDFs are rendered in parallel on the {@link PdfExportExecutionContext}. Each PDF is written to
+   * the ZIP and emitted as soon as it and the ones before it are rendered, so memory use is bounded
+   * by the page size and the number of PDFs in flight rather than by the number of applications.
+   *
+   * @param programDefinition the program definition of the exported applications
+   * @param filters the filters to apply
+   */
+  public Source<ByteString, NotUsed> streamExport(
+      ProgramDefinition programDefinition, SubmittedApplicationFilter filters) {
+    return Source.unfoldResource(
+        () ->
+            new ZipEntryWriter(
+                new ProgramApplicationPager(
+                    programService, programDefinition.id(), filters, /* fetchApplicant= */ true)),
+        ZipEntryWriter::writeNextEntry,
+        ZipEntryWriter::close);
+  }
+
+  /** Returns a ZIP entry name for the PDF, without characters that would make it a path. */
+  static String entryName(PdfExporter.InMemoryPdf pdf) {
+    return pdf.getFileName().replaceAll("[\\\\/:*?\"<>|]", "_");
+  }
+
+  /**
+   * Writes rendered PDFs to a ZIP one entry at a time, keeping up to {@link #maxPdfsInFlight}
+   * PDFs rendering ahead of the entry being written.
+   */
+  private final class ZipEntryWriter implements AutoCloseable {
+    private final ProgramApplicationPager pager;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final ZipOutputStream zip = new ZipOutputStream(buffer);
+    private final Deque<CompletableFuture<PdfExporter.InMemoryPdf>> inFlight = new ArrayDeque<>();
+    private Iterator<ApplicationModel> currentPage = Collections.emptyIterator();
+    private boolean finished = false;
+
+    ZipEntryWriter(ProgramApplicationPager pager) {
+      this.pager = checkNotNull(pager);
+    }
+
+    /**
+     * Writes the next PDF to the ZIP and returns the bytes for it, or the end of the ZIP once every
+     * PDF has been written, or empty after that.
+     */
+    Optional<ByteString> writeNextEntry() throws IOException {
+      startRendering();
+      if (inFlight.isEmpty()) {
+        if (finished) {
+          return Optional.empty();
+        }
+        zip.finish();
+        finished = true;
+      } else {
+        PdfExporter.InMemoryPdf pdf = inFlight.removeFirst().join();
+        zip.putNextEntry(new ZipEntry(entryName(pdf)));
+        zip.write(pdf.getByteArray());
+        zip.closeEntry();
+      }
+      zip.flush();
+
+      ByteString chunk = ByteString.fromArray(buffer.toByteArray());
+      buffer.reset();
+      return Optional.of(chunk);
+    }
+
+    /** Starts rendering applications until {@link #maxPdfsInFlight} are in flight. */
+    private void startRendering() {
+      while (inFlight.size() < maxPdfsInFlight) {
+        if (!currentPage.hasNext()) {
+          if (!pager.hasMorePages()) {
+            return;
+          }
+          currentPage = pager.nextPage().iterator();
+          continue;
+        }
+        ApplicationModel application = currentPage.next();
+        inFlight.addLast(
+            CompletableFuture.supplyAsync(
+                () -> renderPdf(application), pdfExportExecutionContext.current()));
+      }
+    }
+
+    private PdfExporter.InMemoryPdf renderPdf(ApplicationModel application) {
+      try {
+        return pdfExporter.exportApplication(application, /* isAdmin= */ true);
+      } catch (DocumentException | IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      inFlight.forEach(pdf -> pdf.cancel(/* mayInterruptIfRunning= */ false));
+      zip.close();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import models.ApplicationModel;
+import repository.SubmittedApplicationFilter;
+import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
+import services.program.ProgramService;
+
+/**
+ * Reads the submitted applications to every version of a program one page at a time, most recently
+ * submitted first.
+ *
+ * <p>Each page is located using the submit time and id of the last application on the previous
+ * page, so every page costs the same to read no matter how far into the results it is. Callers
+ * should process and drop each page before requesting the next one so memory use stays bounded by
+ * the page size.
+ */
+final class ProgramApplicationPager {
+
+  /** The number of applications loaded from the database at a time. */
+  @VisibleForTesting static final int PAGE_SIZE = 250;
+
+  private final ProgramService programService;
+  private final long programId;
+  private final SubmittedApplicationFilter filters;
+  private final boolean fetchApplicant;
+  private SubmitTimeSequentialAccessPaginationSpec paginationSpec =
+      new SubmitTimeSequentialAccessPaginationSpec(PAGE_SIZE, Instant.MAX, Long.MAX_VALUE);
+  private boolean hasMorePages = true;
+
+  /**
+   * @param fetchApplicant whether to eagerly load the applicant and account of each application.
+   *     Passes that only need the application's own columns should pass false.
+   */
+  ProgramApplicationPager(
+      ProgramService programService,
+      long programId,
+      SubmittedApplicationFilter filters,
+      boolean fetchApplicant) {
+    this.programService = checkNotNull(programService);
+    this.programId = programId;
+    this.filters = checkNotNull(filters);
+    this.fetchApplicant = fetchApplicant;
+  }
+
+  /** Returns false once a page shorter than {@link #PAGE_SIZE} has been read. */
+  boolean hasMorePages() {
+    return hasMorePages;
+  }
+
+  /** Reads the next page of applications, which is empty once every application has been read. */
+  ImmutableList<ApplicationModel> nextPage() {
+    if (!hasMorePages) {
+      return ImmutableList.of();
+    }
+    ImmutableList<ApplicationModel> page =
+        programService.getSubmittedProgramApplicationsPageAllVersions(
+            programId, paginationSpec, filters, fetchApplicant);
+    hasMorePages = page.size() == PAGE_SIZE;
+    if (!page.isEmpty()) {
+      ApplicationModel last = page.get(page.size() - 1);
+      paginationSpec =
+          new SubmitTimeSequentialAccessPaginationSpec(PAGE_SIZE, last.getSubmitTime(), last.id);
+    }
+    return page;
+  }
+}
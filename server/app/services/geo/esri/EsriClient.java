@@ -7,12 +7,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.ReadContext;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import java.time.Clock;
-import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -20,6 +18,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.libs.Json;
 import services.Address;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
 import services.geo.AddressLocation;
 import services.geo.AddressSuggestion;
 import services.geo.AddressSuggestionGroup;
@@ -29,10 +29,21 @@ import services.geo.esri.models.Attributes;
 import services.geo.esri.models.Candidate;
 import services.geo.esri.models.FindAddressCandidatesResponse;
 
-/** An abstract class for working with external Esri services. */
+/**
+ * An abstract class for working with external Esri services.
+ *
+ * <p>Successful lookups are cached: address suggestions by normalized address, and service area
+ * features by service area URL and location. Hits and misses are reported with the other value
+ * caches, under the {@code esri-address-candidates} and {@code esri-service-area-features} caches.
+ */
 public abstract class EsriClient {
+  // Rough heap size of an address candidate, with its address and attributes.
+  private static final int CANDIDATE_WEIGHT = 1024;
+
   private final Clock clock;
   private final EsriServiceAreaValidationConfig esriServiceAreaValidationConfig;
+  private final ValueCache<FindAddressCandidatesResponse> addressCandidatesCache;
+  private final ValueCache<ImmutableList<String>> serviceAreaFeaturesCache;
   private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
   protected final ObjectMapper mapper;
@@ -59,10 +70,29 @@ public abstract class EsriClient {
   public EsriClient(
       Clock clock,
       EsriServiceAreaValidationConfig esriServiceAreaValidationConfig,
-      ObjectMapper mapper) {
+      ObjectMapper mapper,
+      ValueCaches valueCaches) {
     this.clock = checkNotNull(clock);
     this.esriServiceAreaValidationConfig = checkNotNull(esriServiceAreaValidationConfig);
     this.mapper = checkNotNull(mapper);
+    this.addressCandidatesCache =
+        valueCaches.create(
+            "esri-address-candidates",
+            (address, response) ->
+                address.length() + CANDIDATE_WEIGHT * (1 + response.candidates().size()));
+    this.serviceAreaFeaturesCache =
+        valueCaches.create(
+            "esri-service-area-features",
+            (key, features) ->
+                key.length()
+                    + features.stream()
+                        .mapToInt(value -> ValueCaches.STRING_WEIGHT + value.length())
+                        .sum());
+  }
+
+  @VisibleForTesting
+  ValueCache<ImmutableList<String>> getServiceAreaFeaturesCache() {
+    return serviceAreaFeaturesCache;
   }
 
   /**
@@ -102,8 +132,7 @@ public abstract class EsriClient {
     addressJson.put("state", address.getState());
     addressJson.put("zip", address.getZip());
 
-    Histogram.Timer timer = ESRI_LOOKUP_TIME.startTimer();
-    return fetchAddressSuggestions(addressJson)
+    return fetchCachedAddressSuggestions(address, addressJson)
         .thenApply(
             (optionalFindAddressCandidatesResponse) -> {
               if (optionalFindAddressCandidatesResponse.isEmpty()) {
@@ -166,8 +195,6 @@ public abstract class EsriClient {
                         .setOriginalAddress(address)
                         .build();
 
-                // Record the execution time of the esri lookup process.
-                timer.observeDuration();
                 return addressCandidates;
               } catch (RuntimeException e) {
                 String errmsg =
@@ -179,6 +206,51 @@ public abstract class EsriClient {
             });
   }
 
+  /**
+   * Returns the cached findAddressCandidates response for the address, or fetches it and caches it
+   * if it was successful.
+   */
+  private CompletionStage<Optional<FindAddressCandidatesResponse>> fetchCachedAddressSuggestions(
+      Address address, ObjectNode addressJson) {
+    String key = addressCacheKey(address);
+    Optional<FindAddressCandidatesResponse> cachedResponse = addressCandidatesCache.get(key);
+    if (cachedResponse.isPresent()) {
+      return CompletableFuture.completedFuture(cachedResponse);
+    }
+
+    // Only lookups that reach Esri are timed, so that cache hits don't hide how long Esri takes.
+    Histogram.Timer timer = ESRI_LOOKUP_TIME.startTimer();
+    return fetchAddressSuggestions(addressJson)
+        .thenApply(
+            response -> {
+              timer.observeDuration();
+              // Errors aren't cached, so the next lookup of the address tries Esri again.
+              response
+                  .filter(r -> r.error().isEmpty() && r.spatialReference().isPresent())
+                  .ifPresent(r -> addressCandidatesCache.set(key, r));
+              return response;
+            });
+  }
+
+  /**
+   * Returns a key that is the same for addresses that differ only in case or whitespace, which Esri
+   * ignores.
+   */
+  @VisibleForTesting
+  static String addressCacheKey(Address address) {
+    return String.join(
+        "\n",
+        normalizeAddressPart(address.getStreet()),
+        normalizeAddressPart(address.getLine2()),
+        normalizeAddressPart(address.getCity()),
+        normalizeAddressPart(address.getState()),
+        normalizeAddressPart(address.getZip()));
+  }
+
+  private static String normalizeAddressPart(String part) {
+    return part == null ? "" : part.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
   static Address mapAddressAttributesJson(Attributes attributes, Address address) {
     return Address.builder()
         .setStreet(attributes.address())
@@ -257,10 +329,13 @@ public abstract class EsriClient {
         esriServiceAreaValidationConfig.getOptionsWithSharedBackend(
             esriServiceAreaValidationOption.getUrl());
 
-    return fetchServiceAreaFeatures(location, esriServiceAreaValidationOption.getUrl())
+    return fetchCachedServiceAreaFeatures(
+            location,
+            esriServiceAreaValidationOption.getUrl(),
+            esriServiceAreaValidationOption.getAttribute())
         .thenApply(
-            (maybeJson) -> {
-              if (maybeJson.isEmpty()) {
+            (maybeFeatures) -> {
+              if (maybeFeatures.isEmpty()) {
                 logger.error(
                     "EsriClient.fetchServiceAreaFeatures JSON response is empty. Called by"
                         + " EsriClient.isAddressLocationInServiceArea."
@@ -280,23 +355,7 @@ public abstract class EsriClient {
                 return inclusionListBuilder.build();
               }
 
-              JsonNode json = maybeJson.get();
-              ReadContext ctx = JsonPath.parse(json.toString());
-
-              // Earlier this was just using the results of read directly. While the list
-              // was explicitly typed for String it still had some values as non-strings
-              // which was preventing the later contains check from correctly matching.
-              // This creates a copy of the results because trying to directly stream
-              // from it results in json array errors.
-              ImmutableList<String> features =
-                  List.copyOf(
-                          ctx.read(
-                              "features[*].attributes."
-                                  + esriServiceAreaValidationOption.getAttribute()))
-                      .stream()
-                      .map(Object::toString)
-                      .collect(ImmutableList.toImmutableList());
-
+              ImmutableList<String> features = maybeFeatures.get();
               for (EsriServiceAreaValidationOption option : optionList) {
                 inclusionListBuilder.add(
                     serviceAreaInclusionBuilder
@@ -312,4 +371,65 @@ public abstract class EsriClient {
               return inclusionListBuilder.build();
             });
   }
+
+  /**
+   * Returns the cached values of {@code attribute} for the features at the location, or fetches
+   * them from the service area at {@code validationUrl} and caches them if the call succeeded.
+   */
+  private CompletionStage<Optional<ImmutableList<String>>> fetchCachedServiceAreaFeatures(
+      AddressLocation location, String validationUrl, String attribute) {
+    String key = serviceAreaCacheKey(location, validationUrl, attribute);
+    Optional<ImmutableList<String>> cachedFeatures = serviceAreaFeaturesCache.get(key);
+    if (cachedFeatures.isPresent()) {
+      return CompletableFuture.completedFuture(cachedFeatures);
+    }
+
+    return fetchServiceAreaFeatures(location, validationUrl)
+        .thenApply(
+            maybeJson -> {
+              Optional<ImmutableList<String>> features =
+                  maybeJson.flatMap(json -> readFeatureAttributes(json, attribute));
+              features.ifPresent(values -> serviceAreaFeaturesCache.set(key, values));
+              return features;
+            });
+  }
+
+  /**
+   * Returns a key for the service area lookup. The location is rounded to 5 decimal places, about a
+   * meter in degrees, so repeated lookups of the same geocoded address share an entry.
+   */
+  @VisibleForTesting
+  static String serviceAreaCacheKey(
+      AddressLocation location, String validationUrl, String attribute) {
+    return String.format(
+        Locale.ROOT,
+        "%s\n%s\n%d:%.5f,%.5f",
+        validationUrl,
+        attribute,
+        location.getWellKnownId(),
+        location.getLongitude(),
+        location.getLatitude());
+  }
+
+  /**
+   * Reads {@code features[*].attributes.<attribute>} from a query response, as strings so that
+   * numeric IDs match the configured IDs. Returns an empty optional if the response has no
+   * features, such as when Esri returns an error.
+   */
+  private Optional<ImmutableList<String>> readFeatureAttributes(JsonNode json, String attribute) {
+    JsonNode features = json.path("features");
+    if (!features.isArray()) {
+      logger.error("Esri service area response has no features: {}", json);
+      return Optional.empty();
+    }
+
+    ImmutableList.Builder<String> values = ImmutableList.builder();
+    for (JsonNode feature : features) {
+      JsonNode value = feature.path("attributes").path(attribute);
+      if (!value.isMissingNode() && !value.isNull()) {
+        values.add(value.asText());
+      }
+    }
+    return Optional.of(values.build());
+  }
 }
@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.libs.Json;
 import services.AddressField;
+import services.cache.ValueCaches;
 import services.geo.AddressLocation;
 import services.geo.esri.models.FindAddressCandidatesResponse;
 
@@ -36,8 +37,9 @@ public final class FakeEsriClient extends EsriClient {
   public FakeEsriClient(
       Clock clock,
       EsriServiceAreaValidationConfig esriServiceAreaValidationConfig,
-      ObjectMapper mapper) {
-    super(clock, esriServiceAreaValidationConfig, mapper);
+      ObjectMapper mapper,
+      ValueCaches valueCaches) {
+    super(clock, esriServiceAreaValidationConfig, mapper, valueCaches);
   }
 
   /**
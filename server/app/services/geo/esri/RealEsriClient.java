@@ -24,6 +24,7 @@ import play.libs.ws.WSClient;
 import play.libs.ws.WSRequest;
 import play.libs.ws.WSResponse;
 import services.AddressField;
+import services.cache.ValueCaches;
 import services.geo.AddressLocation;
 import services.geo.esri.models.FindAddressCandidatesResponse;
 import services.settings.SettingsManifest;
@@ -84,8 +85,9 @@ public final class RealEsriClient extends EsriClient implements WSBodyReadables,
       Clock clock,
       EsriServiceAreaValidationConfig esriServiceAreaValidationConfig,
       WSClient ws,
-      ObjectMapper mapper) {
-    super(clock, esriServiceAreaValidationConfig, mapper);
+      ObjectMapper mapper,
+      ValueCaches valueCaches) {
+    super(clock, esriServiceAreaValidationConfig, mapper, valueCaches);
     checkNotNull(settingsManifest);
     this.ws = checkNotNull(ws);
 
@@ -61,4 +61,21 @@ public record FeatureCollection(
             });
     return values;
   }
+
+  /**
+   * Calculates the geographic centroid (average position) of all features, which is where the map
+   * is first centered. A centroid is used rather than the middle of the bounding box so that a
+   * single erroneous location has less impact on the center.
+   *
+   * @return the center as {@code [longitude, latitude]}
+   */
+  public ImmutableList<Double> getCenter() {
+    double longitudeSum = 0;
+    double latitudeSum = 0;
+    for (Feature feature : features()) {
+      longitudeSum += feature.geometry().coordinates().get(0);
+      latitudeSum += feature.geometry().coordinates().get(1);
+    }
+    return ImmutableList.of(longitudeSum / features().size(), latitudeSum / features().size());
+  }
 }
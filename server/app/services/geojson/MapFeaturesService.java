@@ -0,0 +1,160 @@
+package services.geojson;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import models.GeoJsonDataModel;
+import repository.GeoJsonDataRepository;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
+
+/**
+ * Serves the GeoJSON features shown by map questions.
+ *
+ * <p>The most recent data for each endpoint is read from the database once, prepared for display
+ * and then kept in memory until {@link #invalidateAll()} is called by the map refresh job, or until
+ * it expires on servers that don't run the job.
+ */
+@Singleton
+public final class MapFeaturesService {
+
+  /**
+   * The feature property holding the feature's ID. MapLibre only preserves properties when
+   * processing click events, so the ID is copied into them.
+   */
+  public static final String ORIGINAL_ID_PROPERTY = "originalId";
+
+  private final GeoJsonDataRepository geoJsonDataRepository;
+  private final ValueCache<FeatureCollection> featuresByEndpoint;
+
+  @Inject
+  public MapFeaturesService(GeoJsonDataRepository geoJsonDataRepository, ValueCaches valueCaches) {
+    this.geoJsonDataRepository = checkNotNull(geoJsonDataRepository);
+    this.featuresByEndpoint =
+        checkNotNull(valueCaches).create("geojson", valueCaches.serializedSizeWeigher());
+  }
+
+  /**
+   * Returns the most recent features for {@code endpoint}, with {@link #ORIGINAL_ID_PROPERTY} set
+   * on each, or empty if no data has been saved for it.
+   */
+  public CompletionStage<Optional<FeatureCollection>> getFeatures(String endpoint) {
+    Optional<FeatureCollection> cached = featuresByEndpoint.get(endpoint);
+    if (cached.isPresent()) {
+      return CompletableFuture.completedFuture(cached);
+    }
+
+    return geoJsonDataRepository
+        .getMostRecentGeoJsonDataRowForEndpoint(endpoint)
+        .thenApply(
+            maybeRow -> {
+              Optional<FeatureCollection> loaded =
+                  maybeRow
+                      .map(GeoJsonDataModel::getGeoJson)
+                      .map(MapFeaturesService::withOriginalIds);
+              // Missing data isn't cached, so that it is picked up as soon as it is saved.
+              loaded.ifPresent(features -> featuresByEndpoint.set(endpoint, features));
+              return loaded;
+            });
+  }
+
+  /**
+   * Returns the most recent features for {@code endpoint} that lie within {@code boundingBox}, or
+   * empty if no data has been saved for the endpoint.
+   */
+  public CompletionStage<Optional<ImmutableList<Feature>>> getFeaturesWithin(
+      String endpoint, BoundingBox boundingBox) {
+    return getFeatures(endpoint)
+        .thenApply(
+            maybeFeatures ->
+                maybeFeatures.map(
+                    features ->
+                        features.features().stream()
+                            .filter(feature -> boundingBox.contains(feature.geometry()))
+                            .collect(ImmutableList.toImmutableList())));
+  }
+
+  /** Removes the cached features for {@code endpoint}, so that the next read reloads them. */
+  public void invalidate(String endpoint) {
+    featuresByEndpoint.remove(endpoint);
+  }
+
+  /** Removes the cached features for every endpoint. */
+  public void invalidateAll() {
+    featuresByEndpoint.removeAll();
+  }
+
+  private static FeatureCollection withOriginalIds(FeatureCollection geoJson) {
+    ImmutableList<Feature> features =
+        geoJson.features().stream()
+            .map(
+                feature -> {
+                  Map<String, String> properties = new HashMap<>(feature.properties());
+                  properties.put(ORIGINAL_ID_PROPERTY, feature.id());
+                  return new Feature(
+                      feature.type(),
+                      feature.geometry(),
+                      ImmutableMap.copyOf(properties),
+                      feature.id());
+                })
+            .collect(ImmutableList.toImmutableList());
+    return new FeatureCollection(geoJson.type(), features);
+  }
+
+  /**
+   * An area of the map, in WGS 84 longitude and latitude as used by GeoJSON.
+   *
+   * <p>Boxes that cross the antimeridian have a minimum longitude greater than their maximum.
+   */
+  public record BoundingBox(
+      double minLongitude, double minLatitude, double maxLongitude, double maxLatitude) {
+
+    /**
+     * Parses a bounding box in the {@code minLongitude,minLatitude,maxLongitude,maxLatitude} form
+     * used by GeoJSON and MapLibre.
+     *
+     * @throws IllegalArgumentException if {@code value} is not a valid bounding box
+     */
+    public static BoundingBox parse(String value) {
+      List<String> parts = Splitter.on(',').trimResults().splitToList(value);
+      if (parts.size() != 4) {
+        throw new IllegalArgumentException("Bounding box must have exactly four coordinates");
+      }
+      try {
+        BoundingBox boundingBox =
+            new BoundingBox(
+                Double.parseDouble(parts.get(0)),
+                Double.parseDouble(parts.get(1)),
+                Double.parseDouble(parts.get(2)),
+                Double.parseDouble(parts.get(3)));
+        if (boundingBox.minLatitude() > boundingBox.maxLatitude()) {
+          throw new IllegalArgumentException("Bounding box minimum latitude is above its maximum");
+        }
+        return boundingBox;
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Bounding box coordinates must be numbers", e);
+      }
+    }
+
+    boolean contains(Geometry geometry) {
+      double longitude = geometry.coordinates().get(0);
+      double latitude = geometry.coordinates().get(1);
+      if (latitude < minLatitude || latitude > maxLatitude) {
+        return false;
+      }
+      return minLongitude <= maxLongitude
+          ? longitude >= minLongitude && longitude <= maxLongitude
+          : longitude >= minLongitude || longitude <= maxLongitude;
+    }
+  }
+}
@@ -3,6 +3,7 @@ package services.monitoring;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 @Singleton
@@ -10,6 +11,10 @@ public final class EmailSendMetrics {
   private final Histogram emailExecutionTime;
   private final Counter emailSendCount;
   private final Counter emailFailCount;
+  private final Gauge outboxQueueDepth;
+  private final Histogram outboxDeliveryDelay;
+  private final Counter outboxRetryCount;
+  private final Counter outboxAbandonedCount;
 
   @Inject
   public EmailSendMetrics() {
@@ -31,6 +36,31 @@ public final class EmailSendMetrics {
             .name("email_fail_total")
             .help("Number of emails that failed to send")
             .register();
+
+    outboxQueueDepth =
+        Gauge.build()
+            .name("email_outbox_queued_emails")
+            .help("Number of emails in the outbox waiting to be sent or retried")
+            .register();
+
+    outboxDeliveryDelay =
+        Histogram.build()
+            .name("email_outbox_delivery_delay_seconds")
+            .help("Time from an email being added to the outbox until it was sent")
+            .buckets(0.5, 1, 2, 5, 10, 30, 60, 300, 900, 3600, 21600)
+            .register();
+
+    outboxRetryCount =
+        Counter.build()
+            .name("email_outbox_retries_total")
+            .help("Number of failed sends of outbox emails that will be retried")
+            .register();
+
+    outboxAbandonedCount =
+        Counter.build()
+            .name("email_outbox_abandoned_total")
+            .help("Number of outbox emails dropped after failing every attempt to send them")
+            .register();
   }
 
   public Histogram getEmailExecutionTime() {
@@ -44,4 +74,20 @@ public final class EmailSendMetrics {
   public Counter getEmailFailCount() {
     return emailFailCount;
   }
+
+  public Gauge getOutboxQueueDepth() {
+    return outboxQueueDepth;
+  }
+
+  public Histogram getOutboxDeliveryDelay() {
+    return outboxDeliveryDelay;
+  }
+
+  public Counter getOutboxRetryCount() {
+    return outboxRetryCount;
+  }
+
+  public Counter getOutboxAbandonedCount() {
+    return outboxAbandonedCount;
+  }
 }
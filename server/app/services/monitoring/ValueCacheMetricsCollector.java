@@ -0,0 +1,70 @@
+package services.monitoring;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableList;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import services.cache.ValueCache;
+
+/**
+ * Exports the statistics of each {@link ValueCache} to Prometheus, labelled by cache name.
+ *
+ * <p>The collector is registered once per JVM. Caches are keyed by name, so when a new application
+ * instance creates its caches, as happens between tests, they replace the previous ones.
+ */
+public final class ValueCacheMetricsCollector extends Collector {
+
+  private static final ImmutableList<String> LABEL_NAMES = ImmutableList.of("cache");
+  private static final ValueCacheMetricsCollector INSTANCE =
+      new ValueCacheMetricsCollector().register();
+
+  private final ConcurrentHashMap<String, ValueCache<?>> caches = new ConcurrentHashMap<>();
+
+  private ValueCacheMetricsCollector() {}
+
+  /** Adds {@code cache} to the exported metrics, replacing any cache with the same name. */
+  public static void addCache(ValueCache<?> cache) {
+    INSTANCE.caches.put(cache.getName(), cache);
+  }
+
+  @Override
+  public List<MetricFamilySamples> collect() {
+    CounterMetricFamily hits =
+        new CounterMetricFamily("value_cache_hits", "Count of value cache hits", LABEL_NAMES);
+    CounterMetricFamily misses =
+        new CounterMetricFamily("value_cache_misses", "Count of value cache misses", LABEL_NAMES);
+    CounterMetricFamily evictions =
+        new CounterMetricFamily(
+            "value_cache_evictions", "Count of entries evicted from value caches", LABEL_NAMES);
+    GaugeMetricFamily entries =
+        new GaugeMetricFamily(
+            "value_cache_entries", "Estimated number of entries in value caches", LABEL_NAMES);
+    GaugeMetricFamily weight =
+        new GaugeMetricFamily(
+            "value_cache_weight_bytes",
+            "Estimated size in bytes of the entries in value caches",
+            LABEL_NAMES);
+    GaugeMetricFamily maximumWeight =
+        new GaugeMetricFamily(
+            "value_cache_maximum_weight_bytes",
+            "Configured maximum size in bytes of value caches",
+            LABEL_NAMES);
+
+    caches.forEach(
+        (name, cache) -> {
+          ImmutableList<String> labelValues = ImmutableList.of(name);
+          CacheStats stats = cache.getStats();
+          hits.addMetric(labelValues, stats.hitCount());
+          misses.addMetric(labelValues, stats.missCount());
+          evictions.addMetric(labelValues, stats.evictionCount());
+          entries.addMetric(labelValues, cache.getEntryCount());
+          weight.addMetric(labelValues, cache.getWeightedSize());
+          maximumWeight.addMetric(labelValues, cache.getMaximumWeight());
+        });
+
+    return ImmutableList.of(hits, misses, evictions, entries, weight, maximumWeight);
+  }
+}
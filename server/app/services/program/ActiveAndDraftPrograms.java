@@ -97,12 +97,12 @@ public final class ActiveAndDraftPrograms {
       Optional<ProgramService> service,
       VersionModel versionModel,
       Optional<DisplayMode> excludeDisplayMode) {
-    return repository.getProgramsForVersion(checkNotNull(versionModel)).stream()
+    return repository.getProgramDefinitionsForVersion(checkNotNull(versionModel)).stream()
         .map(
             program ->
                 service.isPresent()
-                    ? getFullProgramDefinition(service.get(), program.id)
-                    : program.getProgramDefinition())
+                    ? getFullProgramDefinition(service.get(), program.id())
+                    : program)
         .filter(
             program ->
                 excludeDisplayMode.isPresent()
@@ -0,0 +1,80 @@
+package services.program;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
+import java.util.function.Function;
+import services.question.types.QuestionDefinition;
+
+/**
+ * An immutable view of the programs and questions in a single active version.
+ *
+ * <p>Program definitions are fully synced with their question definitions and have their blocks
+ * ordered, so read-only applicant code can use them directly without touching the database. A
+ * snapshot is built once per published version by {@link ProgramService#getActiveCatalogSnapshot()}
+ * and shared across requests until another version is published.
+ */
+public final class ActiveCatalogSnapshot {
+
+  private final long versionId;
+  private final ImmutableList<ProgramDefinition> programs;
+  private final ImmutableMap<Long, ProgramDefinition> programsById;
+  private final ImmutableMap<String, ProgramDefinition> programsBySlug;
+  private final ImmutableMap<String, ProgramDefinition> programsByAdminName;
+  private final ImmutableMap<Long, QuestionDefinition> questionsById;
+  private final ImmutableMap<String, QuestionDefinition> questionsByName;
+
+  ActiveCatalogSnapshot(
+      long versionId,
+      ImmutableList<ProgramDefinition> programs,
+      ImmutableList<QuestionDefinition> questions) {
+    this.versionId = versionId;
+    this.programs = checkNotNull(programs);
+    // A version holds at most one program per admin name, and so one per slug, and at most one
+    // question per name. buildKeepingLast is used anyway so that bad data can't fail every request.
+    this.programsById = index(programs, ProgramDefinition::id);
+    this.programsBySlug = index(programs, ProgramDefinition::slug);
+    this.programsByAdminName = index(programs, ProgramDefinition::adminName);
+    this.questionsById = index(checkNotNull(questions), QuestionDefinition::getId);
+    this.questionsByName = index(questions, QuestionDefinition::getName);
+  }
+
+  private static <K, V> ImmutableMap<K, V> index(
+      ImmutableList<V> values, Function<V, K> keyFunction) {
+    ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
+    values.forEach(value -> builder.put(keyFunction.apply(value), value));
+    return builder.buildKeepingLast();
+  }
+
+  /** The ID of the active version this snapshot was built from. */
+  public long getVersionId() {
+    return versionId;
+  }
+
+  /** All programs in the active version, including disabled programs. */
+  public ImmutableList<ProgramDefinition> getPrograms() {
+    return programs;
+  }
+
+  public Optional<ProgramDefinition> getProgramById(long programId) {
+    return Optional.ofNullable(programsById.get(programId));
+  }
+
+  public Optional<ProgramDefinition> getProgramBySlug(String slug) {
+    return Optional.ofNullable(programsBySlug.get(slug));
+  }
+
+  public Optional<ProgramDefinition> getProgramByAdminName(String adminName) {
+    return Optional.ofNullable(programsByAdminName.get(adminName));
+  }
+
+  public Optional<QuestionDefinition> getQuestionById(long questionId) {
+    return Optional.ofNullable(questionsById.get(questionId));
+  }
+
+  public Optional<QuestionDefinition> getQuestionByName(String questionName) {
+    return Optional.ofNullable(questionsByName.get(questionName));
+  }
+}
@@ -0,0 +1,64 @@
+package services.program;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import services.settings.SettingsManifest;
+
+/**
+ * Holds the {@link ActiveCatalogSnapshot} for the current active version.
+ *
+ * <p>Active versions are never modified once published, so a snapshot stays valid until a new
+ * version is published, at which point it is replaced atomically by one for the new version.
+ * Snapshots are only kept when the version cache is enabled, which is also what makes the active
+ * version ID cheap to look up.
+ */
+@Singleton
+public final class ActiveCatalogSnapshotCache {
+
+  private final SettingsManifest settingsManifest;
+  private final AtomicReference<ActiveCatalogSnapshot> current = new AtomicReference<>();
+
+  @Inject
+  public ActiveCatalogSnapshotCache(SettingsManifest settingsManifest) {
+    this.settingsManifest = checkNotNull(settingsManifest);
+  }
+
+  /** Returns whether snapshots are kept between calls, which needs the version cache. */
+  boolean isEnabled() {
+    return settingsManifest.getVersionCacheEnabled();
+  }
+
+  /**
+   * Returns the snapshot for the active version with the given ID, using {@code builder} to build
+   * it if the held snapshot is for another version or caching is disabled.
+   */
+  ActiveCatalogSnapshot get(long activeVersionId, Supplier<ActiveCatalogSnapshot> builder) {
+    if (!isEnabled()) {
+      return builder.get();
+    }
+
+    ActiveCatalogSnapshot snapshot = current.get();
+    if (snapshot != null && snapshot.getVersionId() == activeVersionId) {
+      return snapshot;
+    }
+
+    // Only one request builds the snapshot for a newly published version, the rest wait for it.
+    synchronized (this) {
+      snapshot = current.get();
+      if (snapshot == null || snapshot.getVersionId() != activeVersionId) {
+        snapshot = builder.get();
+        current.set(snapshot);
+      }
+      return snapshot;
+    }
+  }
+
+  /** Drops the held snapshot, so that the next read rebuilds it. */
+  public void clear() {
+    current.set(null);
+  }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
@@ -37,6 +38,7 @@ import models.ProgramModel;
 import models.ProgramNotificationPreference;
 import modules.MainModule;
 import services.LocalizedStrings;
+import services.applicant.predicate.CompiledProgramPredicates;
 import services.question.types.QuestionDefinition;
 import services.question.types.QuestionType;
 
@@ -815,6 +817,17 @@ public abstract class ProgramDefinition {
                     .map(ProgramQuestionDefinition::getQuestionDefinition));
   }
 
+  /**
+   * Returns the compiled form of this program's predicates. Program definitions are cached per
+   * program version, so memoizing here means each predicate is compiled at most once per version.
+   * Requires a fully hydrated ProgramDefinition with all questions.
+   */
+  @JsonIgnore
+  @Memoized
+  public CompiledProgramPredicates getCompiledPredicates() {
+    return new CompiledProgramPredicates(streamQuestionDefinitions().collect(toImmutableList()));
+  }
+
   @JsonIgnore
   public boolean isPreScreenerForm() {
     return this.programType() == ProgramType.PRE_SCREENER_FORM;
@@ -44,6 +44,7 @@ import play.mvc.Http.Request;
 import repository.AccountRepository;
 import repository.ApplicationStatusesRepository;
 import repository.CategoryRepository;
+import repository.DatabaseExecutionContext;
 import repository.ProgramRepository;
 import repository.SubmittedApplicationFilter;
 import repository.VersionRepository;
@@ -54,7 +55,9 @@ import services.ProgramBlockValidation.AddQuestionResult;
 import services.ProgramBlockValidationFactory;
 import services.TranslationLocales;
 import services.pagination.BasePaginationSpec;
+import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
+import services.pagination.SubmitTimeSequentialAccessPaginationSpec;
 import services.program.predicate.PredicateDefinition;
 import services.question.QuestionService;
 import services.question.ReadOnlyQuestionService;
@@ -99,12 +102,14 @@ public final class ProgramService {
   private final ProgramRepository programRepository;
   private final QuestionService questionService;
   private final ClassLoaderExecutionContext classLoaderExecutionContext;
+  private final DatabaseExecutionContext dbExecutionContext;
   private final AccountRepository accountRepository;
   private final VersionRepository versionRepository;
   private final CategoryRepository categoryRepository;
   private final ProgramBlockValidationFactory programBlockValidationFactory;
   private final ApplicationStatusesRepository applicationStatusesRepository;
   private final TranslationLocales translationLocales;
+  private final ActiveCatalogSnapshotCache activeCatalogSnapshotCache;
 
   @Inject
   public ProgramService(
@@ -114,18 +119,22 @@ public final class ProgramService {
       VersionRepository versionRepository,
       CategoryRepository categoryRepository,
       ClassLoaderExecutionContext classLoaderExecutionContext,
+      DatabaseExecutionContext dbExecutionContext,
       ProgramBlockValidationFactory programBlockValidationFactory,
       ApplicationStatusesRepository applicationStatusesRepository,
-      TranslationLocales translationLocales) {
+      TranslationLocales translationLocales,
+      ActiveCatalogSnapshotCache activeCatalogSnapshotCache) {
     this.programRepository = checkNotNull(programRepository);
     this.questionService = checkNotNull(questionService);
     this.classLoaderExecutionContext = checkNotNull(classLoaderExecutionContext);
+    this.dbExecutionContext = checkNotNull(dbExecutionContext);
     this.accountRepository = checkNotNull(accountRepository);
     this.versionRepository = checkNotNull(versionRepository);
     this.categoryRepository = checkNotNull(categoryRepository);
     this.programBlockValidationFactory = checkNotNull(programBlockValidationFactory);
     this.applicationStatusesRepository = checkNotNull(applicationStatusesRepository);
     this.translationLocales = checkNotNull(translationLocales);
+    this.activeCatalogSnapshotCache = checkNotNull(activeCatalogSnapshotCache);
   }
 
   /** Get the names for all programs. */
@@ -158,7 +167,57 @@ public final class ProgramService {
 
   /** Get the ID of the active program corresponding to the program slug */
   public CompletionStage<Long> getActiveProgramId(String programSlug) {
-    return programRepository.getActiveProgramFromSlug(programSlug).thenApply(program -> program.id);
+    return getActiveFullProgramDefinitionAsync(programSlug).thenApply(ProgramDefinition::id);
+  }
+
+  /**
+   * Get the {@link ActiveCatalogSnapshot} of the programs and questions in the active version.
+   *
+   * <p>When the version cache is enabled the snapshot is built once per published version and
+   * shared, otherwise it is built on each call.
+   */
+  public ActiveCatalogSnapshot getActiveCatalogSnapshot() {
+    VersionModel activeVersion = versionRepository.getActiveVersionForRead();
+    return activeCatalogSnapshotCache.get(
+        activeVersion.id, () -> buildActiveCatalogSnapshot(activeVersion));
+  }
+
+  /**
+   * Get the {@link ActiveCatalogSnapshot} asynchronously. Building the snapshot reads from the
+   * database, so it is done on the database execution context.
+   */
+  public CompletionStage<ActiveCatalogSnapshot> getActiveCatalogSnapshotAsync() {
+    return CompletableFuture.supplyAsync(
+        this::getActiveCatalogSnapshot, dbExecutionContext.current());
+  }
+
+  /**
+   * Returns whether the {@link ActiveCatalogSnapshot} is kept between calls. When it isn't, callers
+   * that only need some of the active programs, or don't need their questions, should load those
+   * directly rather than build a snapshot of every program.
+   */
+  public boolean isActiveCatalogSnapshotCached() {
+    return activeCatalogSnapshotCache.isEnabled();
+  }
+
+  private ActiveCatalogSnapshot buildActiveCatalogSnapshot(VersionModel activeVersion) {
+    // All programs in the version are synced against the version's questions, which are loaded
+    // with a single query.
+    ReadOnlyQuestionService roQuestionService =
+        questionService.getReadOnlyVersionedQuestionService(activeVersion, versionRepository);
+    ImmutableList<ProgramDefinition> programs =
+        versionRepository.getProgramDefinitionsForVersion(activeVersion).stream()
+            .map(
+                program ->
+                    programRepository
+                        .getFullProgramDefinitionFromCache(program.id())
+                        .orElseGet(
+                            () ->
+                                syncProgramDefinitionQuestions(program, roQuestionService)
+                                    .orderBlockDefinitions()))
+            .collect(ImmutableList.toImmutableList());
+    return new ActiveCatalogSnapshot(
+        activeVersion.id, programs, roQuestionService.getAllQuestions());
   }
 
   /** Get the data object about the programs that are in the active or draft version. */
@@ -277,6 +336,10 @@ public final class ProgramService {
   /**
    * Get the definition of a given program asynchronously. Gets the active version for the slug.
    *
+   * <p>When the version cache is enabled the program is read from the {@link
+   * ActiveCatalogSnapshot}. Otherwise only the requested program is loaded, since building a
+   * snapshot for every lookup would load the whole active version each time.
+   *
    * @param programSlug the slug of the program to retrieve
    * @return the active {@link ProgramDefinition} for the given slug if it exists, or a {@link
    *     RuntimeException} is thrown when the future completes and slug does not correspond to a
@@ -284,9 +347,18 @@ public final class ProgramService {
    */
   public CompletionStage<ProgramDefinition> getActiveFullProgramDefinitionAsync(
       String programSlug) {
-    return programRepository
-        .getActiveProgramFromSlug(programSlug)
-        .thenComposeAsync(this::getFullProgramDefinition, classLoaderExecutionContext.current());
+    if (!isActiveCatalogSnapshotCached()) {
+      return programRepository
+          .getActiveProgramFromSlug(programSlug)
+          .thenComposeAsync(this::getFullProgramDefinition, classLoaderExecutionContext.current());
+    }
+    return getActiveCatalogSnapshotAsync()
+        .thenApply(
+            activeCatalog ->
+                activeCatalog
+                    .getProgramBySlug(programSlug)
+                    .orElseThrow(
+                        () -> new RuntimeException(new ProgramNotFoundException(programSlug))));
   }
 
   /**
@@ -2195,6 +2267,38 @@ public final class ProgramService {
         programId, paginationSpec, filters);
   }
 
+  /**
+   * Get a page of submitted applications for this program and all other previous and future
+   * versions of it that match the specified filters, using a cached count of the matching
+   * applications and keyset pagination for pages read in order.
+   *
+   * @param paginationSpec the page to read.
+   * @param filters a set of filters to apply to the examined applications.
+   */
+  public PaginationResult<ApplicationModel> getSubmittedProgramApplicationsPageWithCachedCount(
+      long programId, PageNumberPaginationSpec paginationSpec, SubmittedApplicationFilter filters) {
+    return programRepository.getApplicationsPageWithCachedCount(
+        programId, paginationSpec, filters);
+  }
+
+  /**
+   * Get a single page of submitted applications for this program and all other versions of it that
+   * match the specified filters, without counting the total number of results. Intended for
+   * exports that walk through every page in sequence.
+   *
+   * @param paginationSpec the cursor and page size to apply to the query.
+   * @param filters a set of filters to apply to the examined applications.
+   * @param fetchApplicant whether to eagerly load the applicant and account of each application.
+   */
+  public ImmutableList<ApplicationModel> getSubmittedProgramApplicationsPageAllVersions(
+      long programId,
+      SubmitTimeSequentialAccessPaginationSpec paginationSpec,
+      SubmittedApplicationFilter filters,
+      boolean fetchApplicant) {
+    return programRepository.getApplicationsPageForAllProgramVersions(
+        programId, paginationSpec, filters, fetchApplicant);
+  }
+
   private static ImmutableSet<CiviFormError> validateBlockDefinition(
       BlockDefinition blockDefinition) {
     ImmutableSet.Builder<CiviFormError> errors = ImmutableSet.builder();
@@ -0,0 +1,69 @@
+package services.session;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Instant;
+import java.util.Optional;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import services.cache.ValueCache;
+import services.cache.ValueCaches;
+
+/**
+ * Remembers which sessions were recently found to be active, so that validating the session on
+ * each request doesn't need to load the account.
+ *
+ * <p>Entries hold the session's start time, keyed by account and session ID. Only active sessions
+ * are cached, so a new session is always checked against the database first. Code that ends
+ * sessions or deletes accounts must remove the affected entries after saving. Entries on other
+ * servers expire after {@code value_caches.sessions.expire-after-write}.
+ */
+@Singleton
+public final class SessionValidityCache {
+
+  // Rough heap size of an Instant.
+  private static final int INSTANT_WEIGHT = 24;
+
+  private final ValueCache<Instant> sessionStartTimes;
+
+  @Inject
+  public SessionValidityCache(ValueCaches valueCaches) {
+    this.sessionStartTimes =
+        checkNotNull(valueCaches)
+            .create("sessions", (key, startTime) -> key.length() + INSTANT_WEIGHT);
+  }
+
+  /** Returns the start time of the session if it was recently found to be active. */
+  public Optional<Instant> getSessionStartTime(long accountId, String sessionId) {
+    return sessionStartTimes.get(key(accountId, sessionId));
+  }
+
+  /** Records that the session is active and started at {@code startTime}. */
+  public void putSessionStartTime(long accountId, String sessionId, Instant startTime) {
+    sessionStartTimes.set(key(accountId, sessionId), checkNotNull(startTime));
+  }
+
+  /** Removes the entry for a single session, after it has been ended. */
+  public void invalidateSession(long accountId, String sessionId) {
+    sessionStartTimes.remove(key(accountId, sessionId));
+  }
+
+  /** Removes the entries for every session of the account. */
+  public void invalidateAccount(long accountId) {
+    String prefix = accountPrefix(accountId);
+    sessionStartTimes.removeIf(key -> key.startsWith(prefix));
+  }
+
+  /** Removes every entry, for when accounts are deleted in bulk. */
+  public void invalidateAll() {
+    sessionStartTimes.removeAll();
+  }
+
+  private static String key(long accountId, String sessionId) {
+    return accountPrefix(accountId) + checkNotNull(sessionId);
+  }
+
+  private static String accountPrefix(long accountId) {
+    return accountId + ":";
+  }
+}
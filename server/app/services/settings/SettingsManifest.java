@@ -527,6 +527,20 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getInt("AKKA_THROUGHPUT");
   }
 
+  /**
+   * When true, the default, database and durable job dispatchers run tasks on JDK virtual threads
+   * instead of their thread pools. Database tasks are still limited to one per database
+   * connection.
+   */
+  public boolean getVirtualThreadsEnabled() {
+    return getBool("VIRTUAL_THREADS_ENABLED");
+  }
+
+  /** The number of application PDFs rendered at once by a bulk PDF export. The default is 4. */
+  public Optional<Integer> getPdfExportParallelism() {
+    return getInt("PDF_EXPORT_PARALLELISM");
+  }
+
   /**
    * Region where the AWS SES service exists. If STORAGE_SERVICE_NAME is set to 'aws', it is also
    * the region where the AWS s3 service exists.
@@ -553,6 +567,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getString("EMAIL_PROVIDER");
   }
 
+  /**
+   * The most emails each server sends per second from the email outbox. Set it to the email
+   * provider's sending rate quota. The default is 14.
+   */
+  public Optional<Integer> getEmailOutboxMaxSendsPerSecond() {
+    return getInt("EMAIL_OUTBOX_MAX_SENDS_PER_SECOND");
+  }
+
   /** The email or account ID that graph API should use to send the email. */
   public Optional<String> getGraphApiEmailAccount() {
     return getString("GRAPH_API_EMAIL_ACCOUNT");
@@ -1072,6 +1094,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
     return getBool("REMOVE_DOWNLOAD_FOR_PROGRAM_ADMINS_ENABLED", request);
   }
 
+  /**
+   * Pages through the admin application table using cursors and a cached application count,
+   * instead of counting every matching application on each page.
+   */
+  public boolean getAdminApplicationTableKeysetPaginationEnabled(RequestHeader request) {
+    return getBool("ADMIN_APPLICATION_TABLE_KEYSET_PAGINATION_ENABLED", request);
+  }
+
   /**
    * Enables new visibility/eligibility condition editing UI and expanded logic capabilities for
    * admin.
@@ -1785,6 +1815,22 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                                       + " possible.",
                                   /* isRequired= */ false,
                                   SettingType.INT,
+                                  SettingMode.HIDDEN),
+                              SettingDescription.create(
+                                  "VIRTUAL_THREADS_ENABLED",
+                                  "When true, the default, database and durable job dispatchers"
+                                      + " run tasks on JDK virtual threads instead of their thread"
+                                      + " pools. Database tasks are still limited to one per"
+                                      + " database connection.",
+                                  /* isRequired= */ false,
+                                  SettingType.BOOLEAN,
+                                  SettingMode.HIDDEN),
+                              SettingDescription.create(
+                                  "PDF_EXPORT_PARALLELISM",
+                                  "The number of application PDFs rendered at once by a bulk PDF"
+                                      + " export. The default is 4.",
+                                  /* isRequired= */ false,
+                                  SettingType.INT,
                                   SettingMode.HIDDEN))),
                       SettingsSection.create(
                           "Application File Upload Storage",
@@ -2034,7 +2080,15 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                           /* isRequired= */ false,
                           SettingType.ENUM,
                           SettingMode.HIDDEN,
-                          ImmutableList.of("aws-ses", "graph-api")),
+                          ImmutableList.of("aws-ses", "graph-api", "fake")),
+                      SettingDescription.create(
+                          "EMAIL_OUTBOX_MAX_SENDS_PER_SECOND",
+                          "The most emails each server sends per second from the email outbox. Set"
+                              + " it to the email provider's sending rate quota. The default is"
+                              + " 14.",
+                          /* isRequired= */ false,
+                          SettingType.INT,
+                          SettingMode.HIDDEN),
                       SettingDescription.create(
                           "GRAPH_API_EMAIL_ACCOUNT",
                           "The email or account ID that graph API should use to send the email.",
@@ -2359,6 +2413,14 @@ public final class SettingsManifest extends AbstractSettingsManifest {
                           /* isRequired= */ false,
                           SettingType.BOOLEAN,
                           SettingMode.ADMIN_WRITEABLE),
+                      SettingDescription.create(
+                          "ADMIN_APPLICATION_TABLE_KEYSET_PAGINATION_ENABLED",
+                          "Pages through the admin application table using cursors and a cached"
+                              + " application count, instead of counting every matching"
+                              + " application on each page.",
+                          /* isRequired= */ false,
+                          SettingType.BOOLEAN,
+                          SettingMode.ADMIN_WRITEABLE),
                       SettingDescription.create(
                           "EXPANDED_FORM_LOGIC_ENABLED",
                           "Enables new visibility/eligibility condition editing UI and expanded"
@@ -8,7 +8,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import javax.inject.Inject;
 import models.AccountModel;
@@ -226,6 +225,19 @@ public final class TrustedIntermediaryService {
   /**
    * Gets all the TrustedIntermediaryAccount managed by the given TI Group with/without filtering
    *
+   * @see #getManagedAccounts(SearchParameters, TrustedIntermediaryGroupModel, int, int)
+   */
+  public TrustedIntermediarySearchResult getManagedAccounts(
+      SearchParameters searchParameters, TrustedIntermediaryGroupModel tiGroup) {
+    return getManagedAccounts(
+        searchParameters, tiGroup, /* pageSize= */ Integer.MAX_VALUE, /* page= */ 1);
+  }
+
+  /**
+   * Gets one page of the TrustedIntermediaryAccounts managed by the given TI Group with/without
+   * filtering, sorted by the account holder's name. The filtering, sorting and paging are done by
+   * the database.
+   *
    * @param searchParameters - This object contains a nameQuery, a dayQuery, a monthQuery and a
    *     yearQuery String. If all are empty, an unfiltered list of accounts is returned. If
    *     nameQuery is present, a match between the Account holder's name and the nameQuery is
@@ -234,51 +246,60 @@ public final class TrustedIntermediaryService {
    *     and sent as an Immutable List. If name query is empty and only some of the date queries are
    *     present, but not all, an empty list is returned.
    * @param tiGroup - this is TrustedIntermediaryGroup for which the list of associated account is
-   *     requested. This is needed to fetch all the accounts from the user repository.
-   * @return a result object containing the ListOfAccounts which may be filtered by the Search
-   *     Parameter and an optional errorMessage which is generated if the filtering has failed.
+   *     requested.
+   * @param pageSize - the maximum number of accounts to return.
+   * @param page - the 1-indexed page of accounts to return.
+   * @return a result object containing the page of accounts which may be filtered by the Search
+   *     Parameter, the total number of matching accounts, and an optional errorMessage which is
+   *     generated if the filtering has failed.
    */
   public TrustedIntermediarySearchResult getManagedAccounts(
-      SearchParameters searchParameters, TrustedIntermediaryGroupModel tiGroup) {
-    ImmutableList<AccountModel> allAccounts = tiGroup.getManagedAccounts();
+      SearchParameters searchParameters,
+      TrustedIntermediaryGroupModel tiGroup,
+      int pageSize,
+      int page) {
     List<SearchParameters.ParamTypes> missingParams = findMissingSearchParams(searchParameters);
     if (missingParams.size() == 4) {
-      return new TrustedIntermediarySearchResult(allAccounts);
+      return searchAccounts(tiGroup, Optional.empty(), Optional.empty(), pageSize, page);
     }
-    final ImmutableList<AccountModel> searchedResult;
+    final Optional<LocalDate> maybeDOB;
     try {
-      searchedResult = searchAccounts(searchParameters, allAccounts, missingParams);
+      maybeDOB = validateAndConvertSearchParamDOB(searchParameters, missingParams);
     } catch (DateTimeParseException e) {
+      TrustedIntermediarySearchResult allAccounts =
+          searchAccounts(tiGroup, Optional.empty(), Optional.empty(), pageSize, page);
       return new TrustedIntermediarySearchResult(
-          allAccounts, Optional.of("Please enter a valid birth date."));
+          allAccounts.accounts(),
+          allAccounts.totalCount(),
+          Optional.of("Please enter a valid birth date."));
     }
-    return new TrustedIntermediarySearchResult(searchedResult);
+    Optional<String> maybeName =
+        missingParams.contains(SearchParameters.ParamTypes.NAME)
+            ? Optional.empty()
+            : searchParameters.nameQuery();
+    if (maybeName.isEmpty() && maybeDOB.isEmpty()) {
+      // Only part of the date of birth was given, so nothing can match.
+      return new TrustedIntermediarySearchResult(ImmutableList.of(), /* totalCount= */ 0);
+    }
+    return searchAccounts(tiGroup, maybeName, maybeDOB, pageSize, page);
   }
 
-  private ImmutableList<AccountModel> searchAccounts(
-      SearchParameters searchParameters,
-      ImmutableList<AccountModel> allAccounts,
-      List<SearchParameters.ParamTypes> missingParams) {
-    Optional<LocalDate> maybeDOB =
-        validateAndConvertSearchParamDOB(searchParameters, missingParams);
-    return allAccounts.stream()
-        .filter(
-            account ->
-                ((account.representativeApplicant().get().getDateOfBirth().isPresent()
-                        && maybeDOB.isPresent()
-                        && account
-                            .representativeApplicant()
-                            .get()
-                            .getDateOfBirth()
-                            .get()
-                            .equals(maybeDOB.get()))
-                    || (!missingParams.contains(SearchParameters.ParamTypes.NAME)
-                        && account
-                            .getApplicantDisplayName()
-                            .toLowerCase(Locale.ROOT)
-                            .contains(
-                                searchParameters.nameQuery().get().toLowerCase(Locale.ROOT)))))
-        .collect(ImmutableList.toImmutableList());
+  private TrustedIntermediarySearchResult searchAccounts(
+      TrustedIntermediaryGroupModel tiGroup,
+      Optional<String> nameQuery,
+      Optional<LocalDate> dateOfBirth,
+      int pageSize,
+      int page) {
+    ImmutableList<AccountModel> accounts =
+        accountRepository.searchTrustedIntermediaryClients(
+            tiGroup.id, nameQuery, dateOfBirth, pageSize, page);
+    // The page holds every match when it isn't full, so only count when there may be more.
+    int totalCount =
+        page == 1 && accounts.size() < pageSize
+            ? accounts.size()
+            : accountRepository.countTrustedIntermediaryClients(
+                tiGroup.id, nameQuery, dateOfBirth);
+    return new TrustedIntermediarySearchResult(accounts, totalCount);
   }
 
   public static List<SearchParameters.ParamTypes> findMissingSearchParams(
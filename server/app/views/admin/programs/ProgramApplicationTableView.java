@@ -26,6 +26,7 @@ import auth.CiviFormProfile;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
+import controllers.FlashKey;
 import controllers.admin.routes;
 import j2html.TagCreator;
 import j2html.tags.specialized.ATag;
@@ -38,6 +39,7 @@ import j2html.tags.specialized.TheadTag;
 import j2html.tags.specialized.TrTag;
 import java.util.Optional;
 import models.ApplicationModel;
+import models.BulkStatusUpdateModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.i18n.Messages;
@@ -77,6 +79,7 @@ public class ProgramApplicationTableView extends BaseHtmlView {
   private static final String APPLICATION_STATUS_PARAM = "applicationStatus";
   private static final String IGNORE_FILTERS_PARAM = "ignoreFilters";
   private static final String SHOW_DOWNLOAD_MODAL = "showDownloadModal";
+  private static final String BULK_STATUS_UPDATE_PROGRESS_ID = "bulk-status-update-progress";
 
   private final AdminLayout layout;
   private final ApplicantUtils applicantUtils;
@@ -367,6 +370,22 @@ public class ProgramApplicationTableView extends BaseHtmlView {
                                                 /* applicationStatus= */ Optional.empty(),
                                                 /* ignoreFilters= */ Optional.empty())
                                             .url())
+                                    .withType("submit"),
+                                TagCreator.button("Download PDFs")
+                                    .withClasses(
+                                        ReferenceClasses.DOWNLOAD_ALL_BUTTON,
+                                        ReferenceClasses.MODAL_CLOSE,
+                                        ButtonStyles.SOLID_BLUE_WITH_ICON)
+                                    .withFormaction(
+                                        controllers.admin.routes.AdminApplicationController
+                                            .downloadAllPdfs(
+                                                program.id(),
+                                                /* search= */ Optional.empty(),
+                                                /* fromDate= */ Optional.empty(),
+                                                /* untilDate= */ Optional.empty(),
+                                                /* applicationStatus= */ Optional.empty(),
+                                                /* ignoreFilters= */ Optional.empty())
+                                            .url())
                                     .withType("submit"))));
     return Modal.builder()
         .setModalId(modalId)
@@ -421,6 +440,22 @@ public class ProgramApplicationTableView extends BaseHtmlView {
                     /* hidden= */ false))
                 .withClasses("my-5")
             : div();
+    // After a bulk status update that sends emails, show the progress of sending them.
+    DivTag bulkStatusUpdateProgressTag =
+        request
+            .flash()
+            .get(FlashKey.BULK_STATUS_UPDATE_ID)
+            .map(
+                bulkStatusUpdateId ->
+                    div()
+                        .withId(BULK_STATUS_UPDATE_PROGRESS_ID)
+                        .attr(
+                            "hx-get",
+                            routes.AdminApplicationController.hxBulkStatusUpdateProgress(
+                                program.id(), Long.parseLong(bulkStatusUpdateId)))
+                        .attr("hx-trigger", "load")
+                        .attr("hx-swap", "outerHTML"))
+            .orElse(div());
 
     TableTag applicationTable =
         table()
@@ -461,11 +496,43 @@ public class ProgramApplicationTableView extends BaseHtmlView {
                               .withClasses(BaseStyles.CHECKBOX),
                           submitButton("Status change").withClasses("usa-button"),
                           alertTag,
+                          bulkStatusUpdateProgressTag,
                           applicationTable)));
     }
     return div(applicationTable).withData("testid", "application-table");
   }
 
+  /**
+   * Renders how many applications of a bulk status update have had their emails queued to send.
+   * Until they all have, the progress replaces itself with an updated copy every couple of seconds.
+   */
+  public DivTag renderBulkStatusUpdateProgress(
+      ProgramDefinition program, BulkStatusUpdateModel update) {
+    if (update.isFinished()) {
+      return AlertComponent.renderSlimAlert(
+              AlertType.SUCCESS,
+              String.format(
+                  "Status update emails queued for %d of %d applications",
+                  update.getNotifiedCount(), update.getApplicationCount()),
+              /* hidden= */ false,
+              "my-5")
+          .withId(BULK_STATUS_UPDATE_PROGRESS_ID);
+    }
+    return AlertComponent.renderSlimAlert(
+            AlertType.INFO,
+            String.format(
+                "Queueing status update emails: %d of %d applications done",
+                update.getNotifiedCount(), update.getApplicationCount()),
+            /* hidden= */ false,
+            "my-5")
+        .withId(BULK_STATUS_UPDATE_PROGRESS_ID)
+        .attr(
+            "hx-get",
+            routes.AdminApplicationController.hxBulkStatusUpdateProgress(program.id(), update.id))
+        .attr("hx-trigger", "every 2s")
+        .attr("hx-swap", "outerHTML");
+  }
+
   private TheadTag renderGroupTableHeader(boolean displayStatus, boolean hasEligibilityEnabled) {
     return thead(
         tr().condWith(
@@ -8,28 +8,23 @@ import controllers.LanguageUtils;
 import controllers.applicant.ApplicantRequestedAction;
 import controllers.applicant.ApplicantRoutes;
 import forms.questions.EnumeratorQuestionForm;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import models.ApplicantModel.Suffix;
-import models.GeoJsonDataModel;
 import modules.ThymeleafModule;
 import org.thymeleaf.TemplateEngine;
 import play.mvc.Http.Request;
-import repository.GeoJsonDataRepository;
 import services.BundledAssetsFinder;
 import services.DeploymentType;
 import services.MessageKey;
 import services.applicant.question.AddressQuestion;
 import services.applicant.question.ApplicantQuestion;
-import services.applicant.question.MapQuestion;
 import services.cloud.ApplicantFileNameFormatter;
 import services.cloud.StorageUploadRequest;
-import services.geojson.Feature;
 import services.geojson.FeatureCollection;
+import services.geojson.MapFeaturesService;
 import services.question.types.MapQuestionDefinition.MapValidationPredicates;
 import services.question.types.QuestionType;
 import services.settings.SettingsManifest;
@@ -50,7 +45,7 @@ public final class ApplicantProgramBlockEditView extends ApplicantBaseView {
   private static final String ALLOWED_FILE_TYPE_SPECIFIERS_FALLBACK = "image/*,.pdf";
 
   private final FileUploadViewStrategy fileUploadViewStrategy;
-  private final GeoJsonDataRepository mapDataRepository;
+  private final MapFeaturesService mapFeaturesService;
 
   @Inject
   ApplicantProgramBlockEditView(
@@ -62,7 +57,7 @@ public final class ApplicantProgramBlockEditView extends ApplicantBaseView {
       SettingsManifest settingsManifest,
       LanguageUtils languageUtils,
       DeploymentType deploymentType,
-      GeoJsonDataRepository mapDataRepository) {
+      MapFeaturesService mapFeaturesService) {
     super(
         templateEngine,
         playThymeleafContextFactory,
@@ -72,7 +67,7 @@ public final class ApplicantProgramBlockEditView extends ApplicantBaseView {
         languageUtils,
         deploymentType);
     this.fileUploadViewStrategy = fileUploadViewStrategy;
-    this.mapDataRepository = mapDataRepository;
+    this.mapFeaturesService = mapFeaturesService;
   }
 
   public String render(Request request, ApplicationBaseViewParams applicationParams) {
@@ -356,7 +351,12 @@ public final class ApplicantProgramBlockEditView extends ApplicantBaseView {
                                   params.block().hasErrors(),
                                   ordinalErrorCount.get()));
                   if (question.getType().equals(QuestionType.MAP)) {
-                    paramsBuilder.setGeoJson(getQuestionGeoJsonData(question));
+                    paramsBuilder
+                        .setGeoJson(getQuestionGeoJsonData(question))
+                        .setMapFeaturesUrl(
+                            controllers.geojson.routes.GeoJsonApiController.getFeatures(
+                                    question.getQuestionDefinition().getId(), Optional.empty())
+                                .url());
                   }
 
                   if (params.block().isFileUpload()) {
@@ -376,13 +376,12 @@ public final class ApplicantProgramBlockEditView extends ApplicantBaseView {
         ((MapValidationPredicates) question.getQuestionDefinition().getValidationPredicates())
             .geoJsonEndpoint();
 
-    Optional<GeoJsonDataModel> maybeExistingGeoJsonDataRow =
-        mapDataRepository
-            .getMostRecentGeoJsonDataRowForEndpoint(geoJsonEndpoint)
-            .toCompletableFuture()
-            .join();
+    // The view renders synchronously. The features are almost always cached, in which case this
+    // doesn't block.
+    Optional<FeatureCollection> maybeGeoJson =
+        mapFeaturesService.getFeatures(geoJsonEndpoint).toCompletableFuture().join();
 
-    if (maybeExistingGeoJsonDataRow.isEmpty()) {
+    if (maybeGeoJson.isEmpty()) {
       // TODO(#11078): Failure state for missing GeoJSON data
       throw new IllegalStateException(
           String.format(
@@ -390,25 +389,9 @@ public final class ApplicantProgramBlockEditView extends ApplicantBaseView {
               question.getQuestionDefinition().getName()));
     }
 
-    FeatureCollection geoJson = maybeExistingGeoJsonDataRow.get().getGeoJson();
-
-    // Preserve original IDs and selected state in properties because MapLibre
-    // only preserves properties when processing click events
-    MapQuestion mapQuestion = question.createMapQuestion();
-    List<Feature> geoJsonWithUpdatedProperties =
-        geoJson.features().stream()
-            .map(
-                feature -> {
-                  HashMap<String, String> updatedProperties = new HashMap<>(feature.properties());
-                  updatedProperties.put("originalId", feature.id());
-                  updatedProperties.put(
-                      "selected", String.valueOf(mapQuestion.locationIsSelected(feature.id())));
-                  return new Feature(
-                      feature.type(), feature.geometry(), updatedProperties, feature.id());
-                })
-            .collect(Collectors.toList());
-
-    return new FeatureCollection(geoJson.type(), geoJsonWithUpdatedProperties);
+    // Only the location list is rendered from these. The map fetches the features in view itself
+    // and marks the ones checked in the list as selected.
+    return maybeGeoJson.get();
   }
 
   private String getGoBackToAdminUrl(ApplicationBaseViewParams params) {
@@ -20,11 +20,11 @@ import static j2html.TagCreator.select;
 import static j2html.TagCreator.span;
 import static j2html.TagCreator.text;
 import static j2html.TagCreator.ul;
-import static services.export.JsonPrettifier.asPrettyJsonString;
 
 import auth.CiviFormProfile;
 import auth.ProfileUtils;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import j2html.tags.DomContent;
 import j2html.tags.specialized.AsideTag;
@@ -41,9 +41,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.mvc.Http;
 import play.twirl.api.Content;
-import repository.ExportServiceRepository;
 import services.TranslationNotFoundException;
-import services.export.ProgramJsonSampler;
 import services.program.ProgramDefinition;
 import services.question.types.MultiOptionQuestionDefinition;
 import services.question.types.QuestionDefinition;
@@ -59,10 +57,6 @@ import views.style.AdminStyles;
 import views.style.BaseStyles;
 import views.style.StyleUtils;
 
-// TODO: If we're being strict about code organization, access to the ProgramJsonSampler and
-// ExportServiceRepository should be brokered by an ApiDocsService, instead of accessed directly
-// from the view.
-
 public class ApiDocsView extends BaseHtmlView {
   private static final Logger logger = LoggerFactory.getLogger(ApiDocsView.class);
   private static final String CODE_STYLES =
@@ -71,28 +65,24 @@ public class ApiDocsView extends BaseHtmlView {
   private final ProfileUtils profileUtils;
   private final BaseHtmlLayout unauthenticatedlayout;
   private final AdminLayout authenticatedlayout;
-  private final ProgramJsonSampler programJsonSampler;
-  private final ExportServiceRepository exportServiceRepository;
 
   @Inject
   public ApiDocsView(
       ProfileUtils profileUtils,
       BaseHtmlLayout unauthenticatedlayout,
-      AdminLayoutFactory layoutFactory,
-      ProgramJsonSampler programJsonSampler,
-      ExportServiceRepository exportServiceRepository) {
+      AdminLayoutFactory layoutFactory) {
     this.profileUtils = profileUtils;
     this.unauthenticatedlayout = unauthenticatedlayout;
     this.authenticatedlayout = layoutFactory.getLayout(NavPage.API_DOCS);
-    this.programJsonSampler = programJsonSampler;
-    this.exportServiceRepository = exportServiceRepository;
   }
 
   public Content render(
       Http.Request request,
       String selectedProgramSlug,
       Optional<ProgramDefinition> programDefinition,
-      ImmutableSet<String> allProgramSlugs) {
+      ImmutableSet<String> allProgramSlugs,
+      String jsonPreview,
+      ImmutableMap<String, ImmutableList<String>> historicOptionsByQuestionNameKey) {
     BaseHtmlLayout layout;
 
     Optional<CiviFormProfile> currentUserProfile = profileUtils.optionalCurrentUserProfile(request);
@@ -110,7 +100,13 @@ public class ApiDocsView extends BaseHtmlView {
             .getBundle(request)
             .setTitle("API docs")
             .addMainContent(
-                contentDiv(selectedProgramSlug, programDefinition, allProgramSlugs, request))
+                contentDiv(
+                    selectedProgramSlug,
+                    programDefinition,
+                    allProgramSlugs,
+                    jsonPreview,
+                    historicOptionsByQuestionNameKey,
+                    request))
             .addMainStyles("overflow-hidden");
 
     return layout.render(bundle);
@@ -120,6 +116,8 @@ public class ApiDocsView extends BaseHtmlView {
       String selectedProgramSlug,
       Optional<ProgramDefinition> programDefinition,
       ImmutableSet<String> allProgramSlugs,
+      String jsonPreview,
+      ImmutableMap<String, ImmutableList<String>> historicOptionsByQuestionNameKey,
       Http.Request request) {
 
     SelectTag slugsDropdown =
@@ -186,11 +184,11 @@ public class ApiDocsView extends BaseHtmlView {
 
       DivTag leftSide = div().withClasses("w-full", "flex-grow");
       leftSide.with(h2("Questions").withClasses("pl-4"));
-      leftSide.with(programDocsDiv(programDefinition.get()));
+      leftSide.with(programDocsDiv(programDefinition.get(), historicOptionsByQuestionNameKey));
 
       AsideTag rightSide = aside().withClasses("w-full flex-grow");
       rightSide.with(h2("API response preview").withClasses("pl-4"));
-      rightSide.with(apiResponseSampleDiv(programDefinition.get()));
+      rightSide.with(apiResponseSampleDiv(jsonPreview));
 
       fullProgramDiv.with(leftSide);
       fullProgramDiv.with(rightSide);
@@ -217,13 +215,11 @@ public class ApiDocsView extends BaseHtmlView {
         .withClasses("my-4", BaseStyles.LINK_TEXT, BaseStyles.LINK_HOVER_TEXT);
   }
 
-  private DivTag apiResponseSampleDiv(ProgramDefinition programDefinition) {
+  private DivTag apiResponseSampleDiv(String jsonPreview) {
     DivTag apiResponseSampleDiv = div();
-    String fullJsonResponsePreview = programJsonSampler.getSampleJson(programDefinition);
-    String fullJsonResponsePreviewPretty = asPrettyJsonString(fullJsonResponsePreview);
 
     apiResponseSampleDiv.with(
-        pre(code(fullJsonResponsePreviewPretty))
+        pre(code(jsonPreview))
             .withClasses(
                 "m-4",
                 "p-2",
@@ -236,7 +232,9 @@ public class ApiDocsView extends BaseHtmlView {
     return apiResponseSampleDiv;
   }
 
-  private DivTag programDocsDiv(ProgramDefinition programDefinition) {
+  private DivTag programDocsDiv(
+      ProgramDefinition programDefinition,
+      ImmutableMap<String, ImmutableList<String>> historicOptionsByQuestionNameKey) {
     DivTag programDocsDiv = div().withClasses("flex", "flex-col", "m-4");
 
     for (QuestionDefinition questionDefinition :
@@ -244,13 +242,15 @@ public class ApiDocsView extends BaseHtmlView {
             .streamQuestionDefinitions()
             .sorted(Comparator.comparing(QuestionDefinition::getQuestionNameKey))
             .collect(toImmutableList())) {
-      programDocsDiv.with(questionDocsDiv(questionDefinition));
+      programDocsDiv.with(questionDocsDiv(questionDefinition, historicOptionsByQuestionNameKey));
     }
 
     return programDocsDiv;
   }
 
-  private DivTag questionDocsDiv(QuestionDefinition questionDefinition) {
+  private DivTag questionDocsDiv(
+      QuestionDefinition questionDefinition,
+      ImmutableMap<String, ImmutableList<String>> historicOptionsByQuestionNameKey) {
     DivTag divTag =
         div()
             .withClasses(
@@ -303,7 +303,8 @@ public class ApiDocsView extends BaseHtmlView {
 
       Stream<DomContent> allPossibleOptionElements =
           asCommaSeparatedCodeElementStream(
-              exportServiceRepository.getAllHistoricMultiOptionAdminNames(multiOptionQD));
+              historicOptionsByQuestionNameKey.getOrDefault(
+                  questionDefinition.getQuestionNameKey(), ImmutableList.of()));
 
       questionCardBodyBottom.with(
           div()
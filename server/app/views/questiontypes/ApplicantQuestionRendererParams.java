@@ -69,6 +69,9 @@ public abstract class ApplicantQuestionRendererParams {
 
   public abstract Optional<FeatureCollection> geoJson();
 
+  /** The URL the map fetches the features in view from. Only present for map questions. */
+  public abstract Optional<String> mapFeaturesUrl();
+
   public abstract Optional<StorageUploadRequest> signedFileUploadRequest();
 
   public abstract Optional<Boolean> isNameSuffixEnabled();
@@ -122,6 +125,8 @@ public abstract class ApplicantQuestionRendererParams {
 
     public abstract Builder setGeoJson(FeatureCollection geoJson);
 
+    public abstract Builder setMapFeaturesUrl(String mapFeaturesUrl);
+
     public abstract ApplicantQuestionRendererParams build();
   }
 
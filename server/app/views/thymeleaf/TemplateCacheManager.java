@@ -0,0 +1,134 @@
+package views.thymeleaf;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import java.util.Set;
+import org.thymeleaf.cache.AbstractCacheManager;
+import org.thymeleaf.cache.ExpressionCacheKey;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheEntryValidityChecker;
+import org.thymeleaf.cache.StandardParsedTemplateEntryValidator;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.engine.TemplateModel;
+
+/**
+ * Caches parsed templates and expressions for the Thymeleaf engine, bounded by the number of
+ * entries and exported to Prometheus.
+ *
+ * <p>This replaces Thymeleaf's default cache manager so that cache use can be monitored. Templates
+ * are only cached when the template resolver marks them cacheable, which is only in prod.
+ */
+public final class TemplateCacheManager extends AbstractCacheManager {
+
+  private static final Counter HITS =
+      Counter.build()
+          .name("thymeleaf_cache_hits_total")
+          .help("Count of Thymeleaf cache hits")
+          .labelNames("cache")
+          .register();
+
+  private static final Counter MISSES =
+      Counter.build()
+          .name("thymeleaf_cache_misses_total")
+          .help("Count of Thymeleaf cache misses")
+          .labelNames("cache")
+          .register();
+
+  private static final Gauge ENTRIES =
+      Gauge.build()
+          .name("thymeleaf_cache_entries")
+          .help("Estimated number of entries in Thymeleaf caches")
+          .labelNames("cache")
+          .register();
+
+  private final long templateCacheMaximumSize;
+  private final long expressionCacheMaximumSize;
+
+  public TemplateCacheManager(long templateCacheMaximumSize, long expressionCacheMaximumSize) {
+    this.templateCacheMaximumSize = templateCacheMaximumSize;
+    this.expressionCacheMaximumSize = expressionCacheMaximumSize;
+  }
+
+  @Override
+  protected ICache<TemplateCacheKey, TemplateModel> initializeTemplateCache() {
+    // Checks that the template's cache validity, as set by the resolver, hasn't expired.
+    return new MeteredCache<>(
+        "template", templateCacheMaximumSize, new StandardParsedTemplateEntryValidator());
+  }
+
+  @Override
+  protected ICache<ExpressionCacheKey, Object> initializeExpressionCache() {
+    return new MeteredCache<>(
+        "expression", expressionCacheMaximumSize, /* validityChecker= */ null);
+  }
+
+  /** A Thymeleaf cache backed by Caffeine that records its use in Prometheus. */
+  private static final class MeteredCache<K, V> implements ICache<K, V> {
+
+    private final String name;
+    private final Cache<K, V> cache;
+    private final ICacheEntryValidityChecker<? super K, ? super V> validityChecker;
+
+    MeteredCache(
+        String name,
+        long maximumSize,
+        ICacheEntryValidityChecker<? super K, ? super V> validityChecker) {
+      this.name = name;
+      this.cache =
+          Caffeine.newBuilder()
+              .maximumSize(maximumSize)
+              // Evict on the writing thread, so that the entries gauge is updated right away.
+              .executor(Runnable::run)
+              .removalListener((K key, V value, RemovalCause cause) -> updateEntries())
+              .build();
+      this.validityChecker = validityChecker;
+    }
+
+    @Override
+    public void put(K key, V value) {
+      cache.put(key, value);
+      updateEntries();
+    }
+
+    @Override
+    public V get(K key) {
+      return get(key, validityChecker);
+    }
+
+    @Override
+    public V get(K key, ICacheEntryValidityChecker<? super K, ? super V> validityChecker) {
+      V value = cache.getIfPresent(key);
+      if (value != null
+          && validityChecker != null
+          && !validityChecker.checkIsValueStillValid(key, value)) {
+        cache.invalidate(key);
+        value = null;
+      }
+      (value == null ? MISSES : HITS).labels(name).inc();
+      return value;
+    }
+
+    @Override
+    public void clear() {
+      cache.invalidateAll();
+      updateEntries();
+    }
+
+    @Override
+    public void clearKey(K key) {
+      cache.invalidate(key);
+    }
+
+    @Override
+    public Set<K> keySet() {
+      return cache.asMap().keySet();
+    }
+
+    private void updateEntries() {
+      ENTRIES.labels(name).set(cache.estimatedSize());
+    }
+  }
+}
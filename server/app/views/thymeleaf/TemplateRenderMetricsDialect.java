@@ -0,0 +1,76 @@
+package views.thymeleaf;
+
+import io.prometheus.client.Histogram;
+import java.util.Set;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.dialect.AbstractDialect;
+import org.thymeleaf.dialect.IPostProcessorDialect;
+import org.thymeleaf.engine.AbstractTemplateHandler;
+import org.thymeleaf.model.ITemplateEnd;
+import org.thymeleaf.model.ITemplateStart;
+import org.thymeleaf.postprocessor.IPostProcessor;
+import org.thymeleaf.postprocessor.PostProcessor;
+import org.thymeleaf.templatemode.TemplateMode;
+
+/**
+ * Records how long each template takes to render in Prometheus, labelled by template name.
+ *
+ * <p>The time runs from the template's start event to its end event, so it covers processing the
+ * whole template, including the fragments it inserts. A cacheable template is parsed into the cache
+ * before its events are processed, so the time doesn't include parsing it. Templates that aren't
+ * cacheable, as in dev, are parsed as their events are processed, so their time does.
+ */
+public final class TemplateRenderMetricsDialect extends AbstractDialect
+    implements IPostProcessorDialect {
+
+  private static final Histogram RENDER_TIME =
+      Histogram.build()
+          .name("thymeleaf_template_render_seconds")
+          .help("Time taken to render a Thymeleaf template")
+          .labelNames("template")
+          .register();
+
+  public TemplateRenderMetricsDialect() {
+    super("TemplateRenderMetrics");
+  }
+
+  @Override
+  public int getDialectPostProcessorPrecedence() {
+    return 1000;
+  }
+
+  @Override
+  public Set<IPostProcessor> getPostProcessors() {
+    return Set.of(new PostProcessor(TemplateMode.HTML, RenderTimer.class, 1000));
+  }
+
+  /**
+   * Times each template as its events pass through. A new instance is created by Thymeleaf for
+   * every template it processes.
+   */
+  public static final class RenderTimer extends AbstractTemplateHandler {
+
+    private String templateName = "";
+    private long startNanos;
+
+    @Override
+    public void setContext(ITemplateContext context) {
+      super.setContext(context);
+      this.templateName = context.getTemplateData().getTemplate();
+    }
+
+    @Override
+    public void handleTemplateStart(ITemplateStart templateStart) {
+      startNanos = System.nanoTime();
+      super.handleTemplateStart(templateStart);
+    }
+
+    @Override
+    public void handleTemplateEnd(ITemplateEnd templateEnd) {
+      super.handleTemplateEnd(templateEnd);
+      RENDER_TIME
+          .labels(templateName)
+          .observe((System.nanoTime() - startNanos) / (double) 1_000_000_000L);
+    }
+  }
+}
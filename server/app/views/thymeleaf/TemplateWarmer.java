@@ -0,0 +1,101 @@
+package views.thymeleaf;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.engine.TemplateManager;
+import org.thymeleaf.templatemode.TemplateMode;
+import play.Application;
+import play.Environment;
+
+/**
+ * Parses every Thymeleaf template under {@code app/views} into the template cache at startup, so
+ * that the first requests after a deploy don't pay for parsing.
+ *
+ * <p>Templates are only cached in prod, so this does nothing elsewhere.
+ */
+@Singleton
+public final class TemplateWarmer {
+  private static final Logger logger = LoggerFactory.getLogger(TemplateWarmer.class);
+
+  private static final String TEMPLATE_SUFFIX = ".html";
+  // Twirl templates share the views directory but aren't Thymeleaf templates.
+  private static final String TWIRL_SUFFIX = ".scala.html";
+
+  @Inject
+  public TemplateWarmer(
+      TemplateEngine templateEngine, Application application, Environment environment) {
+    if (!environment.isProd()) {
+      return;
+    }
+
+    long startMillis = System.currentTimeMillis();
+    int templateCount = warm(templateEngine, application.path().toPath().resolve("app/views"));
+    logger.info(
+        "Parsed {} templates in {}ms", templateCount, System.currentTimeMillis() - startMillis);
+  }
+
+  /**
+   * Parses each template under {@code viewsDirectory} into the engine's template cache, if the
+   * engine's resolver marks it cacheable.
+   *
+   * @return the number of templates found
+   */
+  @VisibleForTesting
+  static int warm(TemplateEngine templateEngine, Path viewsDirectory) {
+    ImmutableList<String> templateNames = findTemplateNames(viewsDirectory);
+    TemplateManager templateManager = templateEngine.getConfiguration().getTemplateManager();
+    for (String templateName : templateNames) {
+      // Templates are parsed and cached before they are processed, so it doesn't matter that
+      // processing fails without the variables the template needs. The template manager is called
+      // directly rather than through the engine so that those failures aren't logged as errors.
+      try {
+        templateManager.parseAndProcess(
+            new TemplateSpec(
+                templateName,
+                /* templateSelectors= */ (Set<String>) null,
+                /* templateMode= */ (TemplateMode) null,
+                /* templateResolutionAttributes= */ (Map<String, Object>) null),
+            new Context(Locale.getDefault()),
+            Writer.nullWriter());
+      } catch (RuntimeException e) {
+        logger.trace("Warm-up processing of template {} failed", templateName, e);
+      }
+    }
+    return templateNames.size();
+  }
+
+  /** Returns the names the views use for each template, which are their paths without a suffix. */
+  private static ImmutableList<String> findTemplateNames(Path viewsDirectory) {
+    if (!Files.isDirectory(viewsDirectory)) {
+      logger.warn("Not warming templates, {} is not a directory", viewsDirectory);
+      return ImmutableList.of();
+    }
+    try (Stream<Path> paths = Files.walk(viewsDirectory)) {
+      return paths
+          .filter(Files::isRegularFile)
+          .map(path -> viewsDirectory.relativize(path).toString())
+          .filter(name -> name.endsWith(TEMPLATE_SUFFIX) && !name.endsWith(TWIRL_SUFFIX))
+          .map(name -> name.substring(0, name.length() - TEMPLATE_SUFFIX.length()))
+          .sorted()
+          .collect(ImmutableList.toImmutableList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -27,7 +27,6 @@ import j2html.tags.specialized.ATag;
 import j2html.tags.specialized.DivTag;
 import j2html.tags.specialized.H3Tag;
 import j2html.tags.specialized.LiTag;
-import java.util.Comparator;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import models.AccountModel;
@@ -78,6 +77,7 @@ public class TrustedIntermediaryClientListView extends TrustedIntermediaryDashbo
       TrustedIntermediaryGroupModel tiGroup,
       ApplicantPersonalInfo personalInfo,
       ImmutableList<AccountModel> managedAccounts,
+      int totalClientCount,
       int totalPageCount,
       int page,
       SearchParameters searchParameters,
@@ -98,8 +98,7 @@ public class TrustedIntermediaryClientListView extends TrustedIntermediaryDashbo
                     .withClasses(BaseStyles.TI_HEADER_BAND_H2, "justify-between"),
                 div(
                         h4(messages.at(MessageKey.HEADER_SEARCH.getKeyName())),
-                        renderSearchForm(
-                            request, searchParameters, messages, managedAccounts.size()),
+                        renderSearchForm(request, searchParameters, messages, totalClientCount),
                         renderClientList(
                             managedAccounts, searchParameters, page, totalPageCount, messages))
                     .withClasses("px-20"))
@@ -229,11 +228,8 @@ public class TrustedIntermediaryClientListView extends TrustedIntermediaryDashbo
             .with(
                 ul().withClass("usa-card-group")
                     .with(
-                        each(
-                            managedAccounts.stream()
-                                .sorted(Comparator.comparing(AccountModel::getApplicantDisplayName))
-                                .collect(Collectors.toList()),
-                            account -> renderClientCard(account, messages))));
+                        // The accounts are already sorted by the database.
+                        each(managedAccounts, account -> renderClientCard(account, messages))));
 
     return clientsList.condWith(
         managedAccounts.size() > 0,
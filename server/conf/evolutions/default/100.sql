@@ -0,0 +1,6 @@
+# --- Store a hash of application answers for detecting duplicate submissions
+# --- !Ups
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS answers_content_hash VARCHAR;
+
+# --- !Downs
+ALTER TABLE applications DROP COLUMN IF EXISTS answers_content_hash;
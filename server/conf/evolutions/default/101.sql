@@ -0,0 +1,6 @@
+# --- Let durable jobs record how far they got, so that a retry can resume from there
+# --- !Ups
+ALTER TABLE persisted_durable_jobs ADD COLUMN IF NOT EXISTS progress_checkpoint VARCHAR;
+
+# --- !Downs
+ALTER TABLE persisted_durable_jobs DROP COLUMN IF EXISTS progress_checkpoint;
@@ -0,0 +1,6 @@
+# --- Index the accounts without a last activity time, so they can be reconciled without a table scan
+# --- !Ups
+CREATE INDEX IF NOT EXISTS index_accounts_without_last_activity_time ON accounts (id) WHERE last_activity_time IS NULL;
+
+# --- !Downs
+DROP INDEX IF EXISTS index_accounts_without_last_activity_time;
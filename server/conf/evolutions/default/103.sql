@@ -0,0 +1,38 @@
+# --- Denormalize the program family of each application, so applications to every version of a program can be read from one index
+# --- !Ups
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS program_family_id BIGINT;
+
+-- A program family is every version of a program, which share an admin name. It is identified by
+-- the ID of its first version.
+CREATE OR REPLACE FUNCTION set_application_program_family_id() RETURNS TRIGGER AS $$
+BEGIN
+  NEW.program_family_id := (
+    SELECT MIN(family.id)
+    FROM programs program
+    INNER JOIN programs family ON family.name = program.name
+    WHERE program.id = NEW.program_id);;
+  RETURN NEW;;
+END;;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER applications_program_family_id_trigger
+  BEFORE INSERT OR UPDATE OF program_id
+  ON applications
+  FOR EACH ROW
+  EXECUTE PROCEDURE set_application_program_family_id();
+
+UPDATE applications
+SET program_family_id = families.program_family_id
+FROM (
+  SELECT id, MIN(id) OVER (PARTITION BY name) AS program_family_id
+  FROM programs
+) families
+WHERE applications.program_id = families.id;
+
+CREATE INDEX IF NOT EXISTS index_applications_by_program_family_and_submit_time ON applications (program_family_id, submit_time DESC, id DESC);
+
+# --- !Downs
+DROP INDEX IF EXISTS index_applications_by_program_family_and_submit_time;
+DROP TRIGGER IF EXISTS applications_program_family_id_trigger ON applications;
+DROP FUNCTION IF EXISTS set_application_program_family_id();
+ALTER TABLE applications DROP COLUMN IF EXISTS program_family_id;
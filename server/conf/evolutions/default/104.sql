@@ -0,0 +1,19 @@
+# --- Queue outgoing emails so they are sent in the background instead of inline
+# --- !Ups
+CREATE TABLE IF NOT EXISTS email_outbox (
+  id BIGSERIAL PRIMARY KEY NOT NULL,
+  to_addresses VARCHAR[] NOT NULL,
+  subject VARCHAR NOT NULL,
+  body_text VARCHAR NOT NULL,
+  attempts INT NOT NULL,
+  next_attempt_time TIMESTAMP NOT NULL,
+  last_error VARCHAR,
+  create_time TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS index_email_outbox_by_next_attempt_time
+  ON email_outbox (next_attempt_time);
+
+# --- !Downs
+DROP INDEX IF EXISTS index_email_outbox_by_next_attempt_time;
+DROP TABLE IF EXISTS email_outbox;
@@ -0,0 +1,18 @@
+# --- Record bulk status updates so their applicant emails are queued in the background
+# --- !Ups
+CREATE TABLE IF NOT EXISTS bulk_status_updates (
+  id BIGSERIAL PRIMARY KEY NOT NULL,
+  program_id BIGINT NOT NULL,
+  status_text VARCHAR NOT NULL,
+  application_ids BIGINT[] NOT NULL,
+  notified_count INT NOT NULL,
+  create_time TIMESTAMP NOT NULL,
+  finish_time TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS index_bulk_status_updates_unfinished
+  ON bulk_status_updates (id) WHERE finish_time IS NULL;
+
+# --- !Downs
+DROP INDEX IF EXISTS index_bulk_status_updates_unfinished;
+DROP TABLE IF EXISTS bulk_status_updates;
@@ -0,0 +1,6 @@
+# --- Index the display name that a trusted intermediary's clients are sorted by
+# --- !Ups
+CREATE INDEX IF NOT EXISTS index_applicants_display_name ON applicants ((COALESCE(last_name || ', ' || first_name, first_name, email_address)) COLLATE "C");
+
+# --- !Downs
+DROP INDEX IF EXISTS index_applicants_display_name;
@@ -0,0 +1,6 @@
+# --- Index the active applications without an answers content hash, so the recurring backfill can find them without a table scan
+# --- !Ups
+CREATE INDEX IF NOT EXISTS index_applications_without_answers_content_hash ON applications (id) WHERE answers_content_hash IS NULL AND lifecycle_stage = 'active';
+
+# --- !Downs
+DROP INDEX IF EXISTS index_applications_without_answers_content_hash;
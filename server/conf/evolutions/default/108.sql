@@ -0,0 +1,11 @@
+# --- Save durable job checkpoints in their own table, since the job runner keeps a job's row locked while it runs
+# --- !Ups
+CREATE TABLE IF NOT EXISTS durable_job_checkpoints (
+  job_id BIGINT PRIMARY KEY,
+  checkpoint VARCHAR NOT NULL
+);
+ALTER TABLE persisted_durable_jobs DROP COLUMN IF EXISTS progress_checkpoint;
+
+# --- !Downs
+ALTER TABLE persisted_durable_jobs ADD COLUMN IF NOT EXISTS progress_checkpoint VARCHAR;
+DROP TABLE IF EXISTS durable_job_checkpoints;
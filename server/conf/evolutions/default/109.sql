@@ -0,0 +1,8 @@
+# --- Record failed attempts to queue bulk status update emails, so that an update that keeps failing is given up on
+# --- !Ups
+ALTER TABLE bulk_status_updates ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE bulk_status_updates ADD COLUMN IF NOT EXISTS last_error VARCHAR;
+
+# --- !Downs
+ALTER TABLE bulk_status_updates DROP COLUMN IF EXISTS last_error;
+ALTER TABLE bulk_status_updates DROP COLUMN IF EXISTS attempts;
@@ -0,0 +1,22 @@
+-- Notify servers of version changes so they can clear their version pointer cache
+
+# --- !Ups
+
+CREATE OR REPLACE FUNCTION notify_versions_update() RETURNS TRIGGER AS $$
+BEGIN
+  -- Payload is unused, but may be used/changed in the future.
+  PERFORM pg_notify('versions_update', TG_OP);;
+  RETURN NEW;;
+END;;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER versions_update_trigger
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+  ON versions
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE notify_versions_update();
+
+# --- !Downs
+
+DROP TRIGGER IF EXISTS versions_update_trigger ON versions;
+DROP FUNCTION IF EXISTS notify_versions_update();
@@ -0,0 +1,8 @@
+# --- Add indexes for searching the clients of a trusted intermediary group
+# --- !Ups
+CREATE INDEX IF NOT EXISTS index_accounts_managed_by_group_id ON accounts (managed_by_group_id);
+CREATE INDEX IF NOT EXISTS index_applicants_account_id_when_created ON applicants (account_id, when_created);
+
+# --- !Downs
+DROP INDEX IF EXISTS index_applicants_account_id_when_created;
+DROP INDEX IF EXISTS index_accounts_managed_by_group_id;
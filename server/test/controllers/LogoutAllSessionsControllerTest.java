@@ -24,6 +24,7 @@ import org.junit.Test;
 import play.mvc.Http;
 import play.mvc.Result;
 import repository.AccountRepository;
+import services.session.SessionValidityCache;
 import services.settings.SettingsManifest;
 
 public class LogoutAllSessionsControllerTest extends WithMockedProfiles {
@@ -48,7 +49,11 @@ public class LogoutAllSessionsControllerTest extends WithMockedProfiles {
 
     controller =
         new LogoutAllSessionsController(
-            profileUtils, accountRepository, settingsManifest, clientIpResolver);
+            profileUtils,
+            accountRepository,
+            settingsManifest,
+            clientIpResolver,
+            instanceOf(SessionValidityCache.class));
   }
 
   @Test
@@ -3,9 +3,11 @@ package controllers.admin;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static play.mvc.Http.Status.BAD_REQUEST;
+import static play.mvc.Http.Status.NOT_FOUND;
 import static play.mvc.Http.Status.OK;
 import static play.mvc.Http.Status.SEE_OTHER;
 import static play.mvc.Http.Status.UNAUTHORIZED;
+import static play.test.Helpers.contentAsBytes;
 import static play.test.Helpers.contentAsString;
 import static support.FakeRequestBuilder.fakeRequest;
 import static support.FakeRequestBuilder.fakeRequestBuilder;
@@ -17,7 +19,9 @@ import auth.ProfileUtils;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.util.Providers;
+import controllers.FlashKey;
 import controllers.admin.AdminApplicationControllerTest.ProfileUtilsNoOpTester.ProfileTester;
+import java.io.ByteArrayInputStream;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -27,6 +31,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import models.AccountModel;
 import models.ApplicantModel;
 import models.ApplicationEventModel;
@@ -52,10 +58,12 @@ import services.LocalizedStrings;
 import services.applicant.ApplicantService;
 import services.application.ApplicationEventDetails;
 import services.application.ApplicationEventDetails.StatusEvent;
+import services.applications.BulkStatusUpdateNotifier;
 import services.applications.PdfExporterService;
 import services.applications.ProgramAdminApplicationService;
 import services.export.CsvExporterService;
 import services.export.JsonExporterService;
+import services.export.PdfZipExporterService;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
 import services.settings.SettingsManifest;
@@ -192,6 +200,63 @@ public class AdminApplicationControllerTest extends ResetPostgres {
     assertThat(contentAsString(result)).contains("bulk-status-update");
   }
 
+  @Test
+  public void downloadAllPdfs_noUser_unauthorized() throws Exception {
+    long programId = ProgramBuilder.newActiveProgram().buildDefinition().id();
+
+    Result result =
+        controller.downloadAllPdfs(
+            fakeRequest(),
+            programId,
+            /* search= */ Optional.empty(),
+            /* fromDate= */ Optional.empty(),
+            /* untilDate= */ Optional.empty(),
+            /* applicationStatus= */ Optional.empty(),
+            /* ignoreFilters= */ Optional.empty());
+
+    assertThat(result.status()).isEqualTo(UNAUTHORIZED);
+  }
+
+  @Test
+  public void downloadAllPdfs_streamsZipWithPdfOfEachApplication() throws Exception {
+    controller = makeNoOpProfileController(/* adminAccount= */ Optional.empty());
+    ProgramModel program = ProgramBuilder.newActiveProgram("pdf-program").build();
+    for (int i = 0; i < 2; i++) {
+      ApplicantModel applicant = resourceCreator.insertApplicantWithAccount();
+      ApplicationModel.create(applicant, program, LifecycleStage.ACTIVE)
+          .setSubmitTimeToNow()
+          .save();
+    }
+
+    Result result =
+        controller.downloadAllPdfs(
+            fakeRequest(),
+            program.id,
+            /* search= */ Optional.empty(),
+            /* fromDate= */ Optional.empty(),
+            /* untilDate= */ Optional.empty(),
+            /* applicationStatus= */ Optional.empty(),
+            /* ignoreFilters= */ Optional.of("1"));
+
+    assertThat(result.status()).isEqualTo(OK);
+    assertThat(result.contentType()).hasValue("application/zip");
+    assertThat(result.header("Content-Disposition"))
+        .hasValueSatisfying(
+            disposition ->
+                assertThat(disposition)
+                    .startsWith("attachment; filename=\"pdf-program-")
+                    .endsWith(".zip\""));
+    List<String> entryNames = new ArrayList<>();
+    try (ZipInputStream zip =
+        new ZipInputStream(new ByteArrayInputStream(contentAsBytes(result, mat).toArray()))) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        entryNames.add(entry.getName());
+      }
+    }
+    assertThat(entryNames).hasSize(2).allSatisfy(name -> assertThat(name).endsWith(".pdf"));
+  }
+
   @Test
   public void updateStatus_programNotFound() {
     ProgramModel program = ProgramBuilder.newActiveProgram("test name", "test description").build();
@@ -240,7 +305,7 @@ public class AdminApplicationControllerTest extends ResetPostgres {
                     "shouldSendEmail",
                     "false"))
             .build();
-    Result result = controller.updateStatuses(request, program.id);
+    Result result = controller.updateStatuses(request, program.id).toCompletableFuture().join();
     assertThat(result.status()).isEqualTo(UNAUTHORIZED);
   }
 
@@ -279,8 +344,9 @@ public class AdminApplicationControllerTest extends ResetPostgres {
             .build();
 
     // Execute
-    assertThatThrownBy(() -> controller.updateStatuses(request, program.id))
-        .isInstanceOf(StatusNotFoundException.class);
+    assertThatThrownBy(
+            () -> controller.updateStatuses(request, program.id).toCompletableFuture().join())
+        .hasRootCauseInstanceOf(StatusNotFoundException.class);
   }
 
   @Test
@@ -378,8 +444,9 @@ public class AdminApplicationControllerTest extends ResetPostgres {
                     "false"))
             .build();
 
-    assertThatThrownBy(() -> controller.updateStatuses(request, program.id))
-        .isInstanceOf(StatusNotFoundException.class);
+    assertThatThrownBy(
+            () -> controller.updateStatuses(request, program.id).toCompletableFuture().join())
+        .hasRootCauseInstanceOf(StatusNotFoundException.class);
   }
 
   @Test
@@ -629,10 +696,11 @@ public class AdminApplicationControllerTest extends ResetPostgres {
             .build();
 
     // Execute
-    Result result = controller.updateStatuses(request, program.id);
+    Result result = controller.updateStatuses(request, program.id).toCompletableFuture().join();
 
     // Evaluate
     assertThat(result.status()).isEqualTo(SEE_OTHER);
+    assertThat(result.flash().get(FlashKey.BULK_STATUS_UPDATE_ID)).isPresent();
     verifyApplicationStatusChange(application, Optional.of(adminAccount), Optional.of(start));
     appIdList.stream()
         .forEach(
@@ -678,7 +746,7 @@ public class AdminApplicationControllerTest extends ResetPostgres {
             .build();
 
     // Execute
-    Result result = controller.updateStatuses(request, program.id);
+    Result result = controller.updateStatuses(request, program.id).toCompletableFuture().join();
 
     // Evaluate
     assertThat(result.status()).isEqualTo(SEE_OTHER);
@@ -689,6 +757,65 @@ public class AdminApplicationControllerTest extends ResetPostgres {
     assertThat(gotEvent.getDetails().statusEvent().get().emailSent()).isFalse();
   }
 
+  @Test
+  public void hxBulkStatusUpdateProgress_showsProgressUntilFinished() throws Exception {
+    // Setup
+    AccountModel adminAccount = resourceCreator.insertAccount();
+    controller = makeNoOpProfileController(Optional.of(adminAccount));
+    ProgramModel program = ProgramBuilder.newActiveProgram("test name", "test description").build();
+    repo.createOrUpdateStatusDefinitions(
+        program.getProgramDefinition().adminName(), new StatusDefinitions(ORIGINAL_STATUSES));
+    List<String> appIdList = createApplicationList(2, program);
+    Request request =
+        fakeRequestBuilder()
+            .bodyForm(
+                ImmutableMap.of(
+                    "applicationsIds[0]",
+                    appIdList.get(0),
+                    "applicationsIds[1]",
+                    appIdList.get(1),
+                    "statusText",
+                    APPROVED_STATUS.statusText(),
+                    "shouldSendEmail",
+                    "true"))
+            .build();
+    long bulkStatusUpdateId =
+        Long.parseLong(
+            controller
+                .updateStatuses(request, program.id)
+                .toCompletableFuture()
+                .join()
+                .flash()
+                .get(FlashKey.BULK_STATUS_UPDATE_ID)
+                .orElseThrow());
+
+    // Execute, Evaluate
+    Result result =
+        controller.hxBulkStatusUpdateProgress(fakeRequest(), program.id, bulkStatusUpdateId);
+    assertThat(result.status()).isEqualTo(OK);
+    assertThat(contentAsString(result)).contains("0 of 2 applications done");
+    assertThat(contentAsString(result)).contains("hx-trigger=\"every 2s\"");
+
+    instanceOf(BulkStatusUpdateNotifier.class).run();
+
+    result = controller.hxBulkStatusUpdateProgress(fakeRequest(), program.id, bulkStatusUpdateId);
+    assertThat(result.status()).isEqualTo(OK);
+    assertThat(contentAsString(result)).contains("sent for 2 of 2 applications");
+    assertThat(contentAsString(result)).doesNotContain("hx-trigger");
+  }
+
+  @Test
+  public void hxBulkStatusUpdateProgress_notFound() throws Exception {
+    AccountModel adminAccount = resourceCreator.insertAccount();
+    controller = makeNoOpProfileController(Optional.of(adminAccount));
+    ProgramModel program = ProgramBuilder.newActiveProgram("test name", "test description").build();
+
+    Result result =
+        controller.hxBulkStatusUpdateProgress(fakeRequest(), program.id, Long.MAX_VALUE);
+
+    assertThat(result.status()).isEqualTo(NOT_FOUND);
+  }
+
   @Test
   public void updateStatus_emptySendEmail_succeeds() throws Exception {
     // Setup
@@ -846,6 +973,7 @@ public class AdminApplicationControllerTest extends ResetPostgres {
         instanceOf(FormFactory.class),
         instanceOf(JsonExporterService.class),
         instanceOf(PdfExporterService.class),
+        instanceOf(PdfZipExporterService.class),
         instanceOf(ProgramApplicationView.class),
         instanceOf(ProgramAdminApplicationService.class),
         profileUtilsNoOpTester,
@@ -855,7 +983,8 @@ public class AdminApplicationControllerTest extends ResetPostgres {
         instanceOf(VersionRepository.class),
         instanceOf(StatusService.class),
         instanceOf(ProgramApplicationTableView.class),
-        instanceOf(SettingsManifest.class));
+        instanceOf(SettingsManifest.class),
+        instanceOf(ClassLoaderExecutionContext.class));
   }
 
   private List<String> createApplicationList(int count, ProgramModel program) {
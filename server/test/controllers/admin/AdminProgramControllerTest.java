@@ -26,6 +26,7 @@ import play.mvc.Result;
 import repository.ProgramRepository;
 import repository.ResetPostgres;
 import repository.VersionRepository;
+import services.docs.ApiDocsService;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
 import services.program.ProgramType;
@@ -87,7 +88,8 @@ public class AdminProgramControllerTest extends ResetPostgres {
             instanceOf(ProfileUtils.class),
             instanceOf(FormFactory.class),
             instanceOf(RequestChecker.class),
-            instanceOf(SettingsManifest.class));
+            instanceOf(SettingsManifest.class),
+            instanceOf(ApiDocsService.class));
   }
 
   @Test
@@ -12,20 +12,18 @@ import org.junit.After;
 import org.junit.Test;
 import play.Application;
 import play.Mode;
-import play.cache.NamedCacheImpl;
-import play.cache.SyncCacheApi;
-import play.inject.BindingKey;
 import play.inject.guice.GuiceApplicationBuilder;
 import play.mvc.Result;
 import play.test.Helpers;
 import repository.VersionRepository;
+import services.cache.ValueCaches;
 
 public class DevToolsControllerTest {
 
   private Optional<Application> maybeApp = Optional.empty();
   private DevToolsController controller;
   private VersionRepository versionRepo;
-  private SyncCacheApi programsByVersionCache;
+  private ValueCaches valueCaches;
 
   @After
   public void stopApplication() {
@@ -67,7 +65,8 @@ public class DevToolsControllerTest {
     controller.clear();
     // Ensure the cache is clear at the beginning of the test
     assertThat(
-            programsByVersionCache
+            valueCaches
+                .programsByVersion()
                 .get(String.valueOf(versionRepo.getActiveVersion().id))
                 .isPresent())
         .isFalse();
@@ -87,13 +86,14 @@ public class DevToolsControllerTest {
 
     // Load the data, which sets the cache and ensure it is present
     VersionModel activeVersion = versionRepo.getActiveVersion();
+    versionRepo.getProgramDefinitionsForVersion(activeVersion);
     String cacheKey = String.valueOf(activeVersion.id);
-    assertThat(programsByVersionCache.get(cacheKey).isPresent()).isTrue();
+    assertThat(valueCaches.programsByVersion().get(cacheKey).isPresent()).isTrue();
 
     // Clear the data and ensure the cache is cleared
     controller.clearCache();
     assertThat(result.status()).isEqualTo(OK);
-    assertThat(programsByVersionCache.get(cacheKey).isPresent()).isFalse();
+    assertThat(valueCaches.programsByVersion().get(cacheKey).isPresent()).isFalse();
   }
 
   private void setupControllerInMode(Mode mode) {
@@ -104,9 +104,7 @@ public class DevToolsControllerTest {
                 .configure("version_cache_enabled", true)
                 .build());
     controller = maybeApp.get().injector().instanceOf(DevToolsController.class);
-    BindingKey<SyncCacheApi> versionProgramsKey =
-        new BindingKey<>(SyncCacheApi.class).qualifiedWith(new NamedCacheImpl("version-programs"));
-    programsByVersionCache = maybeApp.get().injector().instanceOf(versionProgramsKey.asScala());
+    valueCaches = maybeApp.get().injector().instanceOf(ValueCaches.class);
     versionRepo = maybeApp.get().injector().instanceOf(VersionRepository.class);
   }
 }
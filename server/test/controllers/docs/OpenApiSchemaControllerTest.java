@@ -3,14 +3,17 @@ package controllers.docs;
 import static org.assertj.core.api.Assertions.assertThat;
 import static play.mvc.Http.Status.BAD_REQUEST;
 import static play.mvc.Http.Status.NOT_FOUND;
+import static play.mvc.Http.Status.NOT_MODIFIED;
 import static play.mvc.Http.Status.OK;
 import static play.test.Helpers.contentAsString;
 import static support.FakeRequestBuilder.fakeRequest;
+import static support.FakeRequestBuilder.fakeRequestBuilder;
 
 import java.util.Optional;
 import models.LifecycleStage;
 import org.junit.Before;
 import org.junit.Test;
+import play.mvc.Http;
 import play.mvc.Http.Request;
 import play.mvc.Result;
 import repository.ResetPostgres;
@@ -64,6 +67,68 @@ public class OpenApiSchemaControllerTest extends ResetPostgres {
     assertThat(result.status()).isEqualTo(OK);
   }
 
+  @Test
+  public void getSchemaByProgramSlug_setsETag() {
+    Result result =
+        instanceOf(OpenApiSchemaController.class)
+            .getSchemaByProgramSlug(
+                fakeRequest(),
+                "test-program-1",
+                Optional.of(LifecycleStage.ACTIVE.getValue()),
+                Optional.of(OpenApiVersion.OPENAPI_V3_0.toString()));
+
+    assertThat(result.status()).isEqualTo(OK);
+    assertThat(result.header(Http.HeaderNames.ETAG)).isPresent();
+  }
+
+  @Test
+  public void getSchemaByProgramSlug_matchingIfNoneMatch_isNotModified() {
+    OpenApiSchemaController controller = instanceOf(OpenApiSchemaController.class);
+    String etag =
+        controller
+            .getSchemaByProgramSlug(
+                fakeRequest(),
+                "test-program-1",
+                Optional.of(LifecycleStage.ACTIVE.getValue()),
+                Optional.of(OpenApiVersion.OPENAPI_V3_0.toString()))
+            .header(Http.HeaderNames.ETAG)
+            .orElseThrow();
+
+    Result result =
+        controller.getSchemaByProgramSlug(
+            fakeRequestBuilder().header(Http.HeaderNames.IF_NONE_MATCH, etag).build(),
+            "test-program-1",
+            Optional.of(LifecycleStage.ACTIVE.getValue()),
+            Optional.of(OpenApiVersion.OPENAPI_V3_0.toString()));
+
+    assertThat(result.status()).isEqualTo(NOT_MODIFIED);
+    assertThat(result.header(Http.HeaderNames.ETAG)).contains(etag);
+  }
+
+  @Test
+  public void getSchemaByProgramSlug_otherSpecVersion_hasDifferentETag() {
+    OpenApiSchemaController controller = instanceOf(OpenApiSchemaController.class);
+    String etag =
+        controller
+            .getSchemaByProgramSlug(
+                fakeRequest(),
+                "test-program-1",
+                Optional.of(LifecycleStage.ACTIVE.getValue()),
+                Optional.of(OpenApiVersion.OPENAPI_V3_0.toString()))
+            .header(Http.HeaderNames.ETAG)
+            .orElseThrow();
+
+    Result result =
+        controller.getSchemaByProgramSlug(
+            fakeRequestBuilder().header(Http.HeaderNames.IF_NONE_MATCH, etag).build(),
+            "test-program-1",
+            Optional.of(LifecycleStage.ACTIVE.getValue()),
+            Optional.of(OpenApiVersion.SWAGGER_V2.toString()));
+
+    assertThat(result.status()).isEqualTo(OK);
+    assertThat(result.header(Http.HeaderNames.ETAG)).isPresent().doesNotContain(etag);
+  }
+
   @Test
   public void getSchemaByProgramSlug_cannotFindProgram() {
     Request request = fakeRequest();
@@ -0,0 +1,69 @@
+package durablejobs.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import durablejobs.DurableJobName;
+import io.ebean.DB;
+import java.time.Instant;
+import models.ApplicantModel;
+import models.ApplicationModel;
+import models.JobType;
+import models.LifecycleStage;
+import models.PersistedDurableJobModel;
+import models.ProgramModel;
+import org.junit.Test;
+import repository.ResetPostgres;
+import services.applicant.ApplicantData;
+
+public class BackfillAnswersContentHashJobTest extends ResetPostgres {
+
+  private final PersistedDurableJobModel jobModel =
+      new PersistedDurableJobModel(
+          DurableJobName.BACKFILL_ANSWERS_CONTENT_HASH.toString(),
+          JobType.RECURRING,
+          Instant.now());
+
+  @Test
+  public void run_storesHashesForActiveApplications() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    ApplicationModel first = insertApplicationWithoutHash(program, LifecycleStage.ACTIVE, "First");
+    ApplicationModel second =
+        insertApplicationWithoutHash(program, LifecycleStage.ACTIVE, "Second");
+
+    new BackfillAnswersContentHashJob(jobModel).run();
+
+    first.refresh();
+    second.refresh();
+    assertThat(first.getAnswersContentHash())
+        .hasValue(first.getApplicantData().computeContentHash());
+    assertThat(second.getAnswersContentHash())
+        .hasValue(second.getApplicantData().computeContentHash());
+    assertThat(first.getAnswersContentHash()).isNotEqualTo(second.getAnswersContentHash());
+  }
+
+  @Test
+  public void run_skipsApplicationsThatAreNotActive() {
+    ProgramModel program = resourceCreator.insertActiveProgram("program");
+    ApplicationModel draft = insertApplicationWithoutHash(program, LifecycleStage.DRAFT, "Draft");
+
+    new BackfillAnswersContentHashJob(jobModel).run();
+
+    draft.refresh();
+    assertThat(draft.getAnswersContentHash()).isEmpty();
+  }
+
+  private ApplicationModel insertApplicationWithoutHash(
+      ProgramModel program, LifecycleStage lifecycleStage, String firstName) {
+    ApplicantModel applicant = resourceCreator.insertApplicantWithAccount();
+    ApplicationModel application =
+        resourceCreator.insertApplication(applicant, program, lifecycleStage);
+    application.setApplicantData(
+        new ApplicantData(
+            String.format("{\"applicant\":{\"name\":{\"first_name\":\"%s\"}}}", firstName)));
+    application.save();
+    DB.sqlUpdate("UPDATE applications SET answers_content_hash = NULL WHERE id = :id")
+        .setParameter("id", application.id)
+        .execute();
+    return application;
+  }
+}
@@ -20,6 +20,7 @@ import services.geojson.Feature;
 import services.geojson.FeatureCollection;
 import services.geojson.GeoJsonClient;
 import services.geojson.Geometry;
+import services.geojson.MapFeaturesService;
 
 public class MapRefreshJobTest extends ResetPostgres {
   private DatabaseExecutionContext dbExecutionContext;
@@ -77,6 +78,31 @@ public class MapRefreshJobTest extends ResetPostgres {
     assertThat(geoJsonData.getConfirmTime()).isAfter(originalConfirmTime);
   }
 
+  @Test
+  public void run_invalidatesCachedFeatures() {
+    MapFeaturesService mapFeaturesService = instanceOf(MapFeaturesService.class);
+    FeatureCollection differentData =
+        new FeatureCollection(
+            "FeatureCollection",
+            List.of(
+                new Feature(
+                    "Feature",
+                    new Geometry("Point", List.of(-122.0, 37.0)),
+                    Map.of("name", "Different Test Location", "prop1", "value1", "prop2", "value2"),
+                    "test-different")));
+    geoJsonData.setGeoJson(differentData);
+    CompletableFuture.runAsync(geoJsonData::save, dbExecutionContext).join();
+    assertThat(mapFeaturesService.getFeatures(geoJsonData.getEndpoint()).get().features())
+        .extracting(Feature::id)
+        .containsExactly("test-different");
+
+    runJob();
+
+    assertThat(mapFeaturesService.getFeatures(geoJsonData.getEndpoint()).get().features())
+        .extracting(Feature::id)
+        .doesNotContain("test-different");
+  }
+
   private int getGeoJsonDataCount() {
     return CompletableFuture.supplyAsync(
             () -> DB.find(GeoJsonDataModel.class).findCount(), dbExecutionContext)
@@ -88,7 +114,8 @@ public class MapRefreshJobTest extends ResetPostgres {
         new MapRefreshJob(
             new PersistedDurableJobModel("fake-job", JobType.RUN_ONCE, Instant.now()),
             instanceOf(GeoJsonDataRepository.class),
-            instanceOf(GeoJsonClient.class));
+            instanceOf(GeoJsonClient.class),
+            instanceOf(MapFeaturesService.class));
     job.run();
   }
 }
@@ -0,0 +1,131 @@
+package durablejobs.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import durablejobs.DurableJobName;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import models.ApplicantModel;
+import models.JobType;
+import models.PersistedDurableJobModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.AccountRepository;
+import repository.PersistedDurableJobRepository;
+import repository.ResetPostgres;
+import services.session.SessionValidityCache;
+
+public class UnusedAccountCleanupJobTest extends ResetPostgres {
+  private static final Instant LONG_AGO = Instant.now().minus(100, ChronoUnit.DAYS);
+
+  private AccountRepository accountRepository;
+  private PersistedDurableJobRepository persistedDurableJobRepository;
+  private PersistedDurableJobModel jobModel;
+
+  @Before
+  public void setUp() {
+    accountRepository = instanceOf(AccountRepository.class);
+    persistedDurableJobRepository = instanceOf(PersistedDurableJobRepository.class);
+    jobModel =
+        new PersistedDurableJobModel(
+            DurableJobName.UNUSED_ACCOUNT_CLEANUP.toString(), JobType.RECURRING, Instant.now());
+    jobModel.save();
+  }
+
+  @Test
+  public void run_batched_deletesUnusedGuestsAndClearsCheckpoint() {
+    ApplicantModel first = insertOldGuest();
+    ApplicantModel second = insertOldGuest();
+    ApplicantModel recent = resourceCreator.insertApplicantWithAccount();
+
+    createJob(/* batchSize= */ 1).run();
+
+    assertThat(accountRepository.lookupApplicantSync(first.id)).isEmpty();
+    assertThat(accountRepository.lookupApplicantSync(second.id)).isEmpty();
+    assertThat(accountRepository.lookupApplicantSync(recent.id)).isPresent();
+    assertThat(accountRepository.lookupAccount(first.getAccount().id)).isEmpty();
+    assertThat(persistedDurableJobRepository.getCheckpoint(jobModel.id)).isEmpty();
+  }
+
+  @Test
+  public void run_batched_interrupted_failsAfterSavingCheckpoint() {
+    insertOldGuest();
+
+    // The pause after the first batch throws since the thread is interrupted.
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(() -> createJob(/* batchSize= */ 1).run())
+          .isInstanceOf(IllegalStateException.class)
+          .hasCauseInstanceOf(InterruptedException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertThat(persistedDurableJobRepository.getCheckpoint(jobModel.id)).hasValue("1");
+  }
+
+  @Test
+  public void run_batched_resumesFromCheckpoint() {
+    ApplicantModel alreadyConsidered = insertOldGuest();
+    ApplicantModel notYetConsidered = insertOldGuest();
+    persistedDurableJobRepository.saveCheckpoint(
+        jobModel.id, Long.toString(notYetConsidered.id));
+
+    createJob(/* batchSize= */ 10).run();
+
+    assertThat(accountRepository.lookupApplicantSync(alreadyConsidered.id)).isPresent();
+    assertThat(accountRepository.lookupApplicantSync(notYetConsidered.id)).isEmpty();
+  }
+
+  @Test
+  public void run_unbatched_deletesUnusedGuestsAndCountsThem() {
+    ApplicantModel unused = insertOldGuest();
+    double applicantsDeleted = deletedCount("unused_guest_applicants_deleted_total");
+    double accountsDeleted = deletedCount("unused_guest_accounts_deleted_total");
+
+    createJob(/* batchSize= */ 0).run();
+
+    assertThat(accountRepository.lookupApplicantSync(unused.id)).isEmpty();
+    assertThat(deletedCount("unused_guest_applicants_deleted_total"))
+        .isEqualTo(applicantsDeleted + 1);
+    assertThat(deletedCount("unused_guest_accounts_deleted_total"))
+        .isEqualTo(accountsDeleted + 1);
+    assertThat(persistedDurableJobRepository.getCheckpoint(jobModel.id)).isEmpty();
+  }
+
+  private static double deletedCount(String metricName) {
+    Double value = CollectorRegistry.defaultRegistry.getSampleValue(metricName);
+    return value == null ? 0 : value;
+  }
+
+  private ApplicantModel insertOldGuest() {
+    ApplicantModel applicant = resourceCreator.insertApplicantWithAccount();
+    applicant.setWhenCreated(LONG_AGO).save();
+    return applicant;
+  }
+
+  private UnusedAccountCleanupJob createJob(int batchSize) {
+    Config config =
+        ConfigFactory.parseMap(
+            ImmutableMap.of(
+                "durable_jobs.unused_account_cleanup.batch_size",
+                batchSize,
+                "durable_jobs.unused_account_cleanup.pause_between_batches",
+                "0 seconds"));
+    return new UnusedAccountCleanupJob(
+        accountRepository,
+        persistedDurableJobRepository,
+        instanceOf(SessionValidityCache.class),
+        () -> LocalDateTime.now(Clock.systemUTC()),
+        config,
+        jobModel);
+  }
+}
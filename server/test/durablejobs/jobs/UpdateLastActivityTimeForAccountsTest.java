@@ -18,6 +18,7 @@ import org.junit.Test;
 import repository.ApplicationEventRepository;
 import repository.ResetPostgres;
 import services.DateConverter;
+import services.applicant.AccountActivityRecorder;
 import services.application.ApplicationEventDetails;
 
 public class UpdateLastActivityTimeForAccountsTest extends ResetPostgres {
@@ -135,6 +136,7 @@ public class UpdateLastActivityTimeForAccountsTest extends ResetPostgres {
         .toCompletableFuture()
         .join();
     application.refresh();
+    instanceOf(AccountActivityRecorder.class).flush();
     resourceCreator.setLastActivityTimeToNull();
     TimeUnit.MILLISECONDS.sleep(5);
     applicant.getAccount().refresh();
@@ -169,6 +171,7 @@ public class UpdateLastActivityTimeForAccountsTest extends ResetPostgres {
         .toCompletableFuture()
         .join();
     application.refresh();
+    instanceOf(AccountActivityRecorder.class).flush();
     TimeUnit.MILLISECONDS.sleep(5);
     applicant.getAccount().refresh();
     var timeBeforeJobRun = applicant.getAccount().getLastActivityTime();
@@ -182,4 +185,23 @@ public class UpdateLastActivityTimeForAccountsTest extends ResetPostgres {
     var timeAfterJobRun = applicant.getAccount().getLastActivityTime();
     assertThat(timeAfterJobRun).isEqualTo(timeBeforeJobRun);
   }
+
+  @Test
+  public void run_asRecurringReconciliation_populatesEveryAccountWithoutTime() {
+    AccountModel first = resourceCreator.insertAccount();
+    AccountModel second = resourceCreator.insertAccount();
+    resourceCreator.setLastActivityTimeToNull();
+
+    new UpdateLastActivityTimeForAccounts(
+            new PersistedDurableJobModel(
+                DurableJobName.RECONCILE_LAST_ACTIVITY_TIME_FOR_ACCOUNTS.toString(),
+                JobType.RECURRING,
+                Instant.now()))
+        .run();
+
+    first.refresh();
+    second.refresh();
+    assertThat(first.getLastActivityTime()).isNotNull();
+    assertThat(second.getLastActivityTime()).isNotNull();
+  }
 }
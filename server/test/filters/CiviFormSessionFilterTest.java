@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static support.FakeRequestBuilder.fakeRequestBuilder;
@@ -34,12 +35,14 @@ import play.mvc.Result;
 import play.test.WithApplication;
 import repository.DatabaseExecutionContext;
 import services.session.SessionTimeoutService;
+import services.session.SessionValidityCache;
 import services.settings.SettingsManifest;
 
 public class CiviFormSessionFilterTest extends WithApplication {
   private static final String TIMEOUT_COOKIE_NAME = "session_timeout_data";
   private static final long CURRENT_TIME = 1000000000L;
   private static final String SESSION_ID = "test-session-id";
+  private static final long ACCOUNT_ID = 1L;
 
   private ProfileUtils profileUtils;
   private SettingsManifest settingsManifest;
@@ -49,6 +52,7 @@ public class CiviFormSessionFilterTest extends WithApplication {
   private CiviFormProfileData mockProfileData;
   private AccountModel mockAccount;
   private Clock clock;
+  private SessionValidityCache sessionValidityCache;
 
   private final SessionTimeoutService.TimeoutData defaultTimeoutData =
       new SessionTimeoutService.TimeoutData(
@@ -64,6 +68,8 @@ public class CiviFormSessionFilterTest extends WithApplication {
     settingsManifest = mock(SettingsManifest.class);
     sessionTimeoutService = mock(SessionTimeoutService.class);
     clock = mock(Clock.class);
+    sessionValidityCache = instanceOf(SessionValidityCache.class);
+    sessionValidityCache.invalidateAll();
 
     filter =
         new CiviFormSessionFilter(
@@ -72,7 +78,8 @@ public class CiviFormSessionFilterTest extends WithApplication {
             clock,
             () -> settingsManifest,
             () -> sessionTimeoutService,
-            () -> instanceOf(DatabaseExecutionContext.class));
+            () -> instanceOf(DatabaseExecutionContext.class),
+            () -> sessionValidityCache);
 
     mockProfile = mock(CiviFormProfile.class);
     mockProfileData = mock(CiviFormProfileData.class);
@@ -80,6 +87,7 @@ public class CiviFormSessionFilterTest extends WithApplication {
     SessionDetails sessionDetails = new SessionDetails();
     sessionDetails.setCreationTime(Instant.ofEpochMilli(CURRENT_TIME * 1000));
 
+    when(mockProfile.getId()).thenReturn(String.valueOf(ACCOUNT_ID));
     when(mockProfile.getProfileData()).thenReturn(mockProfileData);
     when(mockProfile.getAccount()).thenReturn(CompletableFuture.completedFuture(mockAccount));
     when(mockProfileData.getSessionId()).thenReturn(SESSION_ID);
@@ -252,6 +260,52 @@ public class CiviFormSessionFilterTest extends WithApplication {
     verify(mockAccount).save();
   }
 
+  @Test
+  public void testValidSession_isCachedAndNotLoadedAgain() throws Exception {
+    RequestHeader request = fakeRequestBuilder().method("GET").uri("/programs/1").build();
+    when(profileUtils.optionalCurrentUserProfile(request)).thenReturn(Optional.of(mockProfile));
+    when(settingsManifest.getSessionTimeoutEnabled()).thenReturn(false);
+
+    assertThat(executeFilter(request).status()).isEqualTo(200);
+    assertThat(executeFilter(request).status()).isEqualTo(200);
+
+    verify(mockProfile, times(1)).getAccount();
+    assertThat(sessionValidityCache.getSessionStartTime(ACCOUNT_ID, SESSION_ID))
+        .hasValue(Instant.ofEpochMilli(CURRENT_TIME * 1000));
+  }
+
+  @Test
+  public void testInvalidSession_isNotCached() throws Exception {
+    RequestHeader request = fakeRequestBuilder().method("GET").uri("/programs/1").build();
+    when(profileUtils.optionalCurrentUserProfile(request)).thenReturn(Optional.of(mockProfile));
+    when(settingsManifest.getSessionTimeoutEnabled()).thenReturn(false);
+    when(mockAccount.getActiveSession(SESSION_ID)).thenReturn(Optional.empty());
+
+    assertThat(executeFilter(request).status()).isEqualTo(303);
+    assertThat(executeFilter(request).status()).isEqualTo(303);
+
+    verify(mockProfile, times(2)).getAccount();
+    assertThat(sessionValidityCache.getSessionStartTime(ACCOUNT_ID, SESSION_ID)).isEmpty();
+  }
+
+  @Test
+  public void testCachedSessionTimedOut_removesSessionAndRedirectsToLogout() throws Exception {
+    RequestHeader request = fakeRequestBuilder().method("GET").uri("/programs/1").build();
+    when(profileUtils.optionalCurrentUserProfile(request)).thenReturn(Optional.of(mockProfile));
+    when(settingsManifest.getSessionTimeoutEnabled()).thenReturn(true);
+    when(sessionTimeoutService.isSessionTimedOut(eq(mockProfile), anyLong())).thenReturn(true);
+    sessionValidityCache.putSessionStartTime(
+        ACCOUNT_ID, SESSION_ID, Instant.ofEpochMilli(CURRENT_TIME * 1000));
+
+    Result result = executeFilter(request);
+
+    assertThat(result.status()).isEqualTo(303);
+    assertThat(result.redirectLocation()).hasValue("/logout");
+    verify(mockAccount).removeActiveSession(SESSION_ID);
+    verify(mockAccount).save();
+    assertThat(sessionValidityCache.getSessionStartTime(ACCOUNT_ID, SESSION_ID)).isEmpty();
+  }
+
   private Result executeFilter(RequestHeader request) throws Exception {
     EssentialAction action =
         filter.apply(
@@ -0,0 +1,64 @@
+package modules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import modules.VirtualThreadExecutorConfigurator.BoundedVirtualThreadExecutor;
+import org.junit.Test;
+
+public class VirtualThreadExecutorConfiguratorTest {
+
+  @Test
+  public void boundedExecutor_runsAtMostMaxConcurrencyTasksAtOnce() throws Exception {
+    BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(5);
+
+    for (int i = 0; i < 5; i++) {
+      executor.execute(
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            done.countDown();
+          });
+    }
+    // Give every task the chance to start if the limit weren't enforced.
+    Thread.sleep(100);
+    assertThat(running.get()).isEqualTo(2);
+
+    release.countDown();
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isEqualTo(2);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void boundedExecutor_runsTasksOnVirtualThreads() throws Exception {
+    BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 0);
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicInteger virtual = new AtomicInteger();
+
+    executor.execute(
+        () -> {
+          if (Thread.currentThread().isVirtual()) {
+            virtual.incrementAndGet();
+          }
+          done.countDown();
+        });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(virtual.get()).isEqualTo(1);
+    executor.shutdown();
+  }
+}
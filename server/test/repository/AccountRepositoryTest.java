@@ -13,6 +13,7 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.PlainJWT;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -621,12 +622,94 @@ public class AccountRepositoryTest extends ResetPostgres {
     assertThat(tiGroups.get(3).getName()).isEqualTo("zbc");
   }
 
+  @Test
+  public void searchTrustedIntermediaryClients_sortsAndPagesByDisplayName() {
+    TrustedIntermediaryGroupModel tiGroup = repo.createNewTrustedIntermediaryGroup("org", "desc");
+    TrustedIntermediaryGroupModel otherGroup =
+        repo.createNewTrustedIntermediaryGroup("other", "desc");
+    AccountModel carol = saveTiClient(tiGroup, "Carol", "2001-01-01");
+    AccountModel alice = saveTiClient(tiGroup, "Alice", "2002-02-02");
+    AccountModel bob = saveTiClient(tiGroup, "Bob", "2003-03-03");
+    saveTiClient(otherGroup, "Aaron", "2004-04-04");
+
+    assertThat(
+            repo.searchTrustedIntermediaryClients(
+                tiGroup.id, Optional.empty(), Optional.empty(), /* pageSize= */ 2, /* page= */ 1))
+        .containsExactly(alice, bob);
+    assertThat(
+            repo.searchTrustedIntermediaryClients(
+                tiGroup.id, Optional.empty(), Optional.empty(), /* pageSize= */ 2, /* page= */ 2))
+        .containsExactly(carol);
+    assertThat(
+            repo.countTrustedIntermediaryClients(tiGroup.id, Optional.empty(), Optional.empty()))
+        .isEqualTo(3);
+  }
+
+  @Test
+  public void searchTrustedIntermediaryClients_matchesNameOrDateOfBirth() {
+    TrustedIntermediaryGroupModel tiGroup = repo.createNewTrustedIntermediaryGroup("org", "desc");
+    AccountModel alice = saveTiClient(tiGroup, "Alice", "2002-02-02");
+    AccountModel bob = saveTiClient(tiGroup, "Bob", "2003-03-03");
+    saveTiClient(tiGroup, "Carol", "2001-01-01");
+
+    assertThat(
+            repo.searchTrustedIntermediaryClients(
+                tiGroup.id,
+                Optional.of("aLi"),
+                Optional.of(LocalDate.of(2003, 3, 3)),
+                /* pageSize= */ 10,
+                /* page= */ 1))
+        .containsExactly(alice, bob);
+    assertThat(
+            repo.countTrustedIntermediaryClients(
+                tiGroup.id, Optional.of("aLi"), Optional.of(LocalDate.of(2003, 3, 3))))
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void searchTrustedIntermediaryClients_matchesDisplayedLastCommaFirstName() {
+    TrustedIntermediaryGroupModel tiGroup = repo.createNewTrustedIntermediaryGroup("org", "desc");
+    AccountModel jane = saveTiClient(tiGroup, "Jane", Optional.of("Doe"), "2002-02-02");
+    saveTiClient(tiGroup, "John", "2003-03-03");
+
+    assertThat(
+            repo.searchTrustedIntermediaryClients(
+                tiGroup.id,
+                Optional.of("oe, ja"),
+                Optional.empty(),
+                /* pageSize= */ 10,
+                /* page= */ 1))
+        .containsExactly(jane);
+    assertThat(
+            repo.countTrustedIntermediaryClients(tiGroup.id, Optional.of("100%"), Optional.empty()))
+        .isEqualTo(0);
+  }
+
   private JWT getJwtWithExpirationTime(Instant expirationTime) {
     JWTClaimsSet claims =
         new JWTClaimsSet.Builder().expirationTime(Date.from(expirationTime)).build();
     return new PlainJWT(claims);
   }
 
+  private AccountModel saveTiClient(
+      TrustedIntermediaryGroupModel tiGroup, String name, String dob) {
+    return saveTiClient(tiGroup, name, /* lastName= */ Optional.empty(), dob);
+  }
+
+  private AccountModel saveTiClient(
+      TrustedIntermediaryGroupModel tiGroup, String name, Optional<String> lastName, String dob) {
+    AccountModel account = new AccountModel().setEmailAddress(name + "@email.com");
+    account.setManagedByGroup(tiGroup);
+    account.save();
+    ApplicantModel applicant = new ApplicantModel();
+    applicant.setAccount(account);
+    applicant.setUserName(
+        name, /* middleName= */ Optional.empty(), lastName, /* nameSuffix= */ Optional.empty());
+    applicant.setDateOfBirth(dob);
+    applicant.save();
+    return account;
+  }
+
   private ApplicantModel saveApplicantWithDob(String name, String dob) {
     ApplicantModel applicant = new ApplicantModel();
     AccountModel account = new AccountModel().setEmailAddress(String.format("%s@email.com", name));
@@ -4,12 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import auth.ApiKeyGrants;
+import com.google.common.collect.ImmutableList;
 import io.ebean.DataIntegrityException;
 import java.time.Instant;
 import java.util.concurrent.CompletionException;
 import models.ApiKeyModel;
 import org.junit.Before;
 import org.junit.Test;
+import services.apikey.ApiKeyUsage;
 import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
 
@@ -274,4 +276,28 @@ public class ApiKeyRepositoryTest extends ResetPostgres {
         .isInstanceOf(DataIntegrityException.class)
         .hasMessageContaining("violates not-null constraint");
   }
+
+  @Test
+  public void recordApiKeyUsage_addsCallsAndIgnoresUnknownKeys() {
+    ApiKeyModel apiKey =
+        new ApiKeyModel(new ApiKeyGrants())
+            .setName("key name")
+            .setKeyId("key-id")
+            .setCreatedBy("test@example.com")
+            .setSaltedKeySecret("secret")
+            .setSubnet("0.0.0.0/32")
+            .setExpiration(Instant.now().plusSeconds(60 * 60 * 24));
+    repo.insert(apiKey).toCompletableFuture().join();
+    Instant callTime = Instant.now();
+
+    repo.recordApiKeyUsage(
+        ImmutableList.of(
+            new ApiKeyUsage("unknown-key-id", 5, "2.2.2.2", callTime),
+            new ApiKeyUsage("key-id", 3, "1.1.1.1", callTime)));
+    repo.recordApiKeyUsage(ImmutableList.of(new ApiKeyUsage("key-id", 2, "3.3.3.3", callTime)));
+
+    ApiKeyModel saved = repo.lookupApiKey("key-id").toCompletableFuture().join().get();
+    assertThat(saved.getCallCount()).isEqualTo(5L);
+    assertThat(saved.getLastCallIpAddress()).hasValue("3.3.3.3");
+  }
 }
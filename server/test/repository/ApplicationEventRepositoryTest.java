@@ -14,6 +14,7 @@ import models.ApplicationModel;
 import models.ProgramModel;
 import org.junit.Before;
 import org.junit.Test;
+import services.applicant.AccountActivityRecorder;
 import services.application.ApplicationEventDetails;
 import services.application.ApplicationEventDetails.StatusEvent;
 
@@ -102,6 +103,7 @@ public class ApplicationEventRepositoryTest extends ResetPostgres {
         ImmutableList.of(application1), Optional.empty(), initialStatus.statusEvent().get());
 
     // check if accounts table is updated
+    instanceOf(AccountActivityRecorder.class).flush();
     applicant1.getAccount().refresh();
     Instant activitytimeAfterUpdate = applicant1.getAccount().getLastActivityTime();
     assertThat(activitytimeAfterUpdate).isNotEqualTo(activitytimeBeforeUpdate);
@@ -350,6 +352,7 @@ public class ApplicationEventRepositoryTest extends ResetPostgres {
     assertThat(application.getLatestNote()).isNotEmpty();
     assertThat(application.getLatestNote().get()).isEqualTo("some note");
     // Check if activity time is updated in Accounts
+    instanceOf(AccountActivityRecorder.class).flush();
     applicant.getAccount().refresh();
     Instant activitytimeAfterUpdate = applicant.getAccount().getLastActivityTime();
     assertThat(activitytimeAfterUpdate).isNotEqualTo(activitytimeBeforeUpdate);
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import auth.ProgramAcls;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import io.ebean.DB;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
@@ -23,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 import services.DateConverter;
 import services.Path;
+import services.applicant.AccountActivityRecorder;
 import services.applicant.exception.DuplicateApplicationException;
 import services.program.ProgramType;
 import support.CfTestHelpers;
@@ -191,8 +193,10 @@ public class ApplicationRepositoryTest extends ResetPostgres {
             .toCompletableFuture()
             .join();
     app.refresh();
+    instanceOf(AccountActivityRecorder.class).flush();
 
     // Check if the account activity time has changed
+    applicant.getAccount().refresh();
     Instant activitytimeAfterUpdate = applicant.getAccount().getLastActivityTime();
     assertThat(activitytimeAfterUpdate).isNotEqualTo(activitytimeBeforeUpdate);
   }
@@ -229,6 +233,46 @@ public class ApplicationRepositoryTest extends ResetPostgres {
         .isInstanceOf(DuplicateApplicationException.class);
   }
 
+  @Test
+  public void submitApplication_storesAnswersContentHash() {
+    ApplicantModel applicant = saveApplicant("Alice");
+    ProgramModel program = createDraftProgram("Program");
+
+    ApplicationModel application =
+        repo.submitApplication(
+                applicant, program, Optional.empty(), EligibilityDetermination.NOT_COMPUTED)
+            .toCompletableFuture()
+            .join();
+
+    application.refresh();
+    assertThat(application.getAnswersContentHash())
+        .hasValue(applicant.getApplicantData().computeContentHash());
+  }
+
+  @Test
+  public void submitApplication_duplicateOfApplicationWithoutStoredHashThrowsException() {
+    ApplicantModel applicant = saveApplicant("Alice");
+    ProgramModel program = createDraftProgram("Program");
+    ApplicationModel application =
+        repo.submitApplication(
+                applicant, program, Optional.empty(), EligibilityDetermination.NOT_COMPUTED)
+            .toCompletableFuture()
+            .join();
+    // Simulate an application submitted before hashes were stored.
+    DB.sqlUpdate("UPDATE applications SET answers_content_hash = NULL WHERE id = :id")
+        .setParameter("id", application.id)
+        .execute();
+
+    assertThatThrownBy(
+            () ->
+                repo.submitApplication(
+                        applicant, program, Optional.empty(), EligibilityDetermination.NOT_COMPUTED)
+                    .toCompletableFuture()
+                    .join())
+        .cause()
+        .isInstanceOf(DuplicateApplicationException.class);
+  }
+
   @Test
   public void submitApplication_eligibilityDeterminationDefaultNotComputed() {
     ApplicantModel applicant = saveApplicant("Alice");
@@ -574,8 +618,10 @@ public class ApplicationRepositoryTest extends ResetPostgres {
     // Update the application program v2
     ProgramModel programV2 = createActiveProgram("Program");
     repo.updateDraftApplicationProgram(applicant.id, programV2.id);
+    instanceOf(AccountActivityRecorder.class).flush();
 
     // Check if the account activity time has changed
+    applicant.getAccount().refresh();
     Instant activitytimeAfterUpdate = applicant.getAccount().getLastActivityTime();
     assertThat(activitytimeAfterUpdate).isNotEqualTo(activitytimeBeforeUpdate);
   }
@@ -24,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import services.Path;
+import services.applicant.AccountActivityRecorder;
 import services.applicant.ApplicantData;
 import services.cloud.ApplicantFileNameFormatter;
 import services.settings.SettingsManifest;
@@ -49,6 +50,7 @@ public class CiviFormAccountMergerTest extends ResetPostgres {
         new ApplicationRepository(
             instanceOf(ProgramRepository.class),
             acctRepo,
+            instanceOf(AccountActivityRecorder.class),
             instanceOf(DatabaseExecutionContext.class));
   }
 
@@ -210,4 +210,35 @@ public class PersistedDurableJobRepositoryTest extends ResetPostgres {
     assertThat(remainingJobs.size()).isEqualTo(3);
     assertThat(remainingJobs.get(0)).isEqualTo(fiveMonthOldJob);
   }
+
+  @Test
+  public void saveCheckpoint_replacesEarlierCheckpoint() {
+    var job = new PersistedDurableJobModel("fake-name", JobType.RECURRING, Instant.now());
+    job.save();
+
+    assertThat(repo.getCheckpoint(job.id)).isEmpty();
+    repo.saveCheckpoint(job.id, "100");
+    repo.saveCheckpoint(job.id, "200");
+    assertThat(repo.getCheckpoint(job.id)).hasValue("200");
+
+    repo.deleteCheckpoint(job.id);
+    assertThat(repo.getCheckpoint(job.id)).isEmpty();
+  }
+
+  @Test
+  public void deleteJobsOlderThanSixMonths_deletesTheirCheckpoints() {
+    var oldJob =
+        new PersistedDurableJobModel(
+            "fake-name", JobType.RECURRING, Instant.now().minus(365, ChronoUnit.DAYS));
+    var newJob = new PersistedDurableJobModel("fake-name", JobType.RECURRING, Instant.now());
+    oldJob.save();
+    newJob.save();
+    repo.saveCheckpoint(oldJob.id, "100");
+    repo.saveCheckpoint(newJob.id, "200");
+
+    repo.deleteJobsOlderThanSixMonths();
+
+    assertThat(repo.getCheckpoint(oldJob.id)).isEmpty();
+    assertThat(repo.getCheckpoint(newJob.id)).hasValue("200");
+  }
 }
@@ -1,5 +1,6 @@
 package repository;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -31,6 +32,7 @@ import services.LocalizedStrings;
 import services.Path;
 import services.applicant.ApplicantData;
 import services.application.ApplicationEventDetails.StatusEvent;
+import services.cache.ValueCaches;
 import services.pagination.PageNumberPaginationSpec;
 import services.pagination.PaginationResult;
 import services.pagination.RowIdSequentialAccessPaginationSpec;
@@ -50,9 +52,8 @@ public class ProgramRepositoryTest extends ResetPostgres {
 
   private ProgramRepository repo;
   private VersionRepository versionRepo;
-  private SyncCacheApi programCache;
   private SyncCacheApi programDefCache;
-  private SyncCacheApi versionsByProgramCache;
+  private ValueCaches valueCaches;
   private SettingsManifest mockSettingsManifest;
   private ApplicationStatusesRepository appRepo;
   private ApplicationEventRepository eventRepo;
@@ -61,8 +62,7 @@ public class ProgramRepositoryTest extends ResetPostgres {
   public void setup() {
     versionRepo = instanceOf(VersionRepository.class);
     mockSettingsManifest = Mockito.mock(SettingsManifest.class);
-    programCache = instanceOf(SyncCacheApi.class);
-    versionsByProgramCache = instanceOf(SyncCacheApi.class);
+    valueCaches = instanceOf(ValueCaches.class);
     appRepo = instanceOf(ApplicationStatusesRepository.class);
     eventRepo = instanceOf(ApplicationEventRepository.class);
 
@@ -76,9 +76,8 @@ public class ProgramRepositoryTest extends ResetPostgres {
             instanceOf(DatabaseExecutionContext.class),
             Providers.of(versionRepo),
             mockSettingsManifest,
-            programCache,
             programDefCache,
-            versionsByProgramCache);
+            valueCaches);
   }
 
   @Test
@@ -99,18 +98,18 @@ public class ProgramRepositoryTest extends ResetPostgres {
   }
 
   @Test
-  public void lookupProgram_usesCacheWhenEnabled() {
+  public void lookupProgram_doesNotShareModelsWhenCacheEnabled() {
     Mockito.when(mockSettingsManifest.getProgramCacheEnabled()).thenReturn(true);
 
     resourceCreator.insertActiveProgram("one");
     ProgramModel two = resourceCreator.insertActiveProgram("two");
 
-    assertThat(programCache.get(String.valueOf(two.id))).isEmpty();
+    Optional<ProgramModel> first = repo.lookupProgram(two.id).toCompletableFuture().join();
+    Optional<ProgramModel> second = repo.lookupProgram(two.id).toCompletableFuture().join();
 
-    Optional<ProgramModel> found = repo.lookupProgram(two.id).toCompletableFuture().join();
-
-    assertThat(found).hasValue(two);
-    assertThat(programCache.get(String.valueOf(two.id))).hasValue(found);
+    assertThat(first).hasValue(two);
+    assertThat(second).hasValue(two);
+    assertThat(first.get()).isNotSameAs(second.get());
   }
 
   @Test
@@ -382,7 +381,9 @@ public class ProgramRepositoryTest extends ResetPostgres {
 
     ImmutableList<VersionModel> versions = repo.getVersionsForProgram(program);
 
-    assertThat(versionsByProgramCache.get(String.valueOf(program.id)).get()).isEqualTo(versions);
+    assertThat(valueCaches.versionIdsByProgram().get(String.valueOf(program.id)))
+        .hasValue(versions.stream().map(version -> version.id).collect(toImmutableList()));
+    assertThat(repo.getVersionsForProgram(program)).isEqualTo(versions);
   }
 
   @Test
@@ -1055,6 +1056,74 @@ public class ProgramRepositoryTest extends ResetPostgres {
     assertThat(paginationResult.getPageContents().get(0).getApplicant()).isEqualTo(applicantOne);
   }
 
+  @Test
+  public void getApplicationsPageWithCachedCount_multipleVersions() {
+    valueCaches.removeAll();
+    ApplicantModel applicantOne =
+        resourceCreator.insertApplicantWithAccount(Optional.of("one@example.com"));
+    ProgramModel originalVersion = resourceCreator.insertActiveProgram("test program");
+    resourceCreator.insertActiveApplication(applicantOne, originalVersion);
+    ProgramModel nextVersion = resourceCreator.insertDraftProgram("test program");
+    resourceCreator.publishNewSynchronizedVersion();
+    ApplicantModel applicantTwo =
+        resourceCreator.insertApplicantWithAccount(Optional.of("two@example.com"));
+    ApplicantModel applicantThree =
+        resourceCreator.insertApplicantWithAccount(Optional.of("three@example.com"));
+    resourceCreator.insertActiveApplication(applicantTwo, nextVersion);
+    resourceCreator.insertActiveApplication(applicantThree, nextVersion);
+
+    PaginationResult<ApplicationModel> firstPage =
+        repo.getApplicationsPageWithCachedCount(
+            originalVersion.id, tableSpec(/* currentPage= */ 1), SubmittedApplicationFilter.EMPTY);
+    PaginationResult<ApplicationModel> secondPage =
+        repo.getApplicationsPageWithCachedCount(
+            originalVersion.id, tableSpec(/* currentPage= */ 2), SubmittedApplicationFilter.EMPTY);
+
+    assertThat(firstPage.getNumPages()).isEqualTo(2);
+    assertThat(firstPage.hasMorePages()).isTrue();
+    assertThat(firstPage.getPageContents().stream().map(ApplicationModel::getApplicant))
+        .containsExactly(applicantThree, applicantTwo);
+    assertThat(secondPage.getNumPages()).isEqualTo(2);
+    assertThat(secondPage.hasMorePages()).isFalse();
+    assertThat(secondPage.getPageContents().stream().map(ApplicationModel::getApplicant))
+        .containsExactly(applicantOne);
+  }
+
+  @Test
+  public void getApplicationsPageWithCachedCount_nextPageContinuesAfterPreviousPage() {
+    valueCaches.removeAll();
+    ProgramModel program = resourceCreator.insertActiveProgram("test program");
+    ApplicantModel applicantOne =
+        resourceCreator.insertApplicantWithAccount(Optional.of("one@example.com"));
+    ApplicantModel applicantTwo =
+        resourceCreator.insertApplicantWithAccount(Optional.of("two@example.com"));
+    ApplicantModel applicantThree =
+        resourceCreator.insertApplicantWithAccount(Optional.of("three@example.com"));
+    resourceCreator.insertActiveApplication(applicantOne, program);
+    resourceCreator.insertActiveApplication(applicantTwo, program);
+    resourceCreator.insertActiveApplication(applicantThree, program);
+
+    repo.getApplicationsPageWithCachedCount(
+        program.id, tableSpec(/* currentPage= */ 1), SubmittedApplicationFilter.EMPTY);
+    // A new submission would shift every page by one if pages were read by offset.
+    ApplicantModel applicantFour =
+        resourceCreator.insertApplicantWithAccount(Optional.of("four@example.com"));
+    resourceCreator.insertActiveApplication(applicantFour, program);
+    PaginationResult<ApplicationModel> secondPage =
+        repo.getApplicationsPageWithCachedCount(
+            program.id, tableSpec(/* currentPage= */ 2), SubmittedApplicationFilter.EMPTY);
+
+    assertThat(secondPage.getPageContents().stream().map(ApplicationModel::getApplicant))
+        .containsExactly(applicantOne);
+    // The count from the first page is still cached.
+    assertThat(secondPage.getNumPages()).isEqualTo(2);
+  }
+
+  private static PageNumberPaginationSpec tableSpec(int currentPage) {
+    return new PageNumberPaginationSpec(
+        /* pageSize= */ 2, currentPage, PageNumberPaginationSpec.OrderByEnum.SUBMIT_TIME);
+  }
+
   @Test
   public void getApplicationsForAllProgramVersions_multipleVersions_offsetBasedPagination() {
     ApplicantModel applicantOne =
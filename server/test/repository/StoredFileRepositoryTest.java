@@ -46,6 +46,66 @@ public class StoredFileRepositoryTest extends ResetPostgres {
     assertThat(file.getAcls().getProgramReadAcls()).containsOnly("program-one");
   }
 
+  @Test
+  public void addProgramToReaders_updatesOnlyTheNamedFiles() {
+    file.getAcls().addApplicantToReaders(1L);
+    file.save();
+    var fileTwo = new StoredFileModel().setName("file-two");
+    fileTwo.getAcls()
+        .addProgramToReaders(ProgramBuilder.newDraftProgram("program-one").buildDefinition());
+    fileTwo.save();
+    var otherFile = new StoredFileModel().setName("other-file");
+    otherFile.save();
+
+    repo.addProgramToReaders(ImmutableList.of(file.getName(), fileTwo.getName()), "program-two")
+        .toCompletableFuture()
+        .join();
+
+    file = repo.lookupFile(file.id).toCompletableFuture().join().get();
+    assertThat(file.getAcls().getProgramReadAcls()).containsOnly("program-two");
+    assertThat(file.getAcls().getApplicantReadAcls()).containsOnly(1L);
+    fileTwo = repo.lookupFile(fileTwo.id).toCompletableFuture().join().get();
+    assertThat(fileTwo.getAcls().getProgramReadAcls()).containsOnly("program-one", "program-two");
+    otherFile = repo.lookupFile(otherFile.id).toCompletableFuture().join().get();
+    assertThat(otherFile.getAcls().getProgramReadAcls()).isEmpty();
+  }
+
+  @Test
+  public void addProgramToReaders_programAlreadyReader_isNotDuplicated() {
+    file.save();
+
+    repo.addProgramToReaders(ImmutableList.of(file.getName()), "program-one")
+        .toCompletableFuture()
+        .join();
+    repo.addProgramToReaders(ImmutableList.of(file.getName()), "program-one")
+        .toCompletableFuture()
+        .join();
+
+    String programReadAcls =
+        DB.getDefault()
+            .sqlQuery("SELECT acls ->> 'programReadAcls' AS readers FROM files WHERE id = :id")
+            .setParameter("id", file.id)
+            .findOne()
+            .getString("readers");
+    assertThat(programReadAcls).isEqualTo("[\"program-one\"]");
+  }
+
+  @Test
+  public void addProgramToReaders_fileHasDefaultAclsValue() {
+    var fileName = "default_acls_value_file";
+    DB.getDefault()
+        .sqlUpdate("INSERT INTO files(name, acls) VALUES (:name, '{}')")
+        .setParameter("name", fileName)
+        .execute();
+
+    repo.addProgramToReaders(ImmutableList.of(fileName), "program-one")
+        .toCompletableFuture()
+        .join();
+
+    StoredFileModel result = repo.lookupFile(fileName).toCompletableFuture().join().get();
+    assertThat(result.getAcls().getProgramReadAcls()).containsOnly("program-one");
+  }
+
   @Test
   public void lookupFiles() {
     file.save();
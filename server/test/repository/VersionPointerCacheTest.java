@@ -0,0 +1,41 @@
+package repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.Test;
+import repository.VersionPointerCache.VersionPointers;
+
+public class VersionPointerCacheTest {
+
+  private static final VersionPointers FIRST_POINTERS = new VersionPointers(1L, Optional.empty());
+  private static final VersionPointers SECOND_POINTERS = new VersionPointers(2L, Optional.of(3L));
+
+  @Test
+  public void get_loadsOnceUntilCleared() {
+    VersionPointerCache cache = new VersionPointerCache();
+
+    assertThat(cache.get(() -> FIRST_POINTERS)).isEqualTo(FIRST_POINTERS);
+    assertThat(cache.get(() -> SECOND_POINTERS)).isEqualTo(FIRST_POINTERS);
+
+    cache.clear();
+
+    assertThat(cache.get(() -> SECOND_POINTERS)).isEqualTo(SECOND_POINTERS);
+  }
+
+  @Test
+  public void get_doesNotCachePointersLoadedBeforeAClear() {
+    VersionPointerCache cache = new VersionPointerCache();
+
+    // Simulate the versions changing while the pointers are being loaded.
+    VersionPointers loaded =
+        cache.get(
+            () -> {
+              cache.clear();
+              return FIRST_POINTERS;
+            });
+
+    assertThat(loaded).isEqualTo(FIRST_POINTERS);
+    assertThat(cache.get(() -> SECOND_POINTERS)).isEqualTo(SECOND_POINTERS);
+  }
+}
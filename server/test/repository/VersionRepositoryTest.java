@@ -24,9 +24,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
-import play.cache.SyncCacheApi;
 import repository.VersionRepository.PublishProgramPreview;
 import services.applicant.question.Scalar;
+import services.cache.ValueCaches;
 import services.program.CantPublishProgramWithSharedQuestionsException;
 import services.program.EligibilityDefinition;
 import services.program.ProgramDefinition;
@@ -48,23 +48,21 @@ import support.ProgramBuilder;
 @RunWith(JUnitParamsRunner.class)
 public class VersionRepositoryTest extends ResetPostgres {
   private VersionRepository versionRepository;
-  private SyncCacheApi questionsByVersionCache;
-  private SyncCacheApi programsByVersionCache;
+  private ValueCaches valueCaches;
   private SettingsManifest mockSettingsManifest;
 
   @Before
   public void setupVersionRepository() {
     mockSettingsManifest = Mockito.mock(SettingsManifest.class);
-    questionsByVersionCache = instanceOf(SyncCacheApi.class);
-    programsByVersionCache = instanceOf(SyncCacheApi.class);
+    valueCaches = instanceOf(ValueCaches.class);
     versionRepository =
         new VersionRepository(
             instanceOf(ProgramRepository.class),
             instanceOf(QuestionRepository.class),
             instanceOf(DatabaseExecutionContext.class),
             mockSettingsManifest,
-            questionsByVersionCache,
-            programsByVersionCache);
+            valueCaches,
+            new VersionPointerCache());
   }
 
   @Test
@@ -1263,10 +1261,10 @@ public class VersionRepositoryTest extends ResetPostgres {
     QuestionModel firstQuestion = resourceCreator.insertQuestion("first-question");
     firstQuestion.addVersion(version1).save();
 
-    ImmutableList<QuestionModel> questionsForVersion =
-        versionRepository.getQuestionsForVersion(version1);
+    ImmutableList<QuestionDefinition> questionsForVersion =
+        versionRepository.getQuestionDefinitionsForVersion(version1);
 
-    assertThat(questionsByVersionCache.get(version1Key).get()).isEqualTo(questionsForVersion);
+    assertThat(valueCaches.questionsByVersion().get(version1Key)).hasValue(questionsForVersion);
   }
 
   @Test
@@ -1284,10 +1282,10 @@ public class VersionRepositoryTest extends ResetPostgres {
     QuestionModel firstQuestion = resourceCreator.insertQuestion("first-question");
     firstQuestion.addVersion(version1).save();
 
-    ImmutableList<QuestionModel> questionsForVersion =
-        versionRepository.getQuestionsForVersion(version1);
+    ImmutableList<QuestionDefinition> questionsForVersion =
+        versionRepository.getQuestionDefinitionsForVersion(version1);
 
-    assertThat(questionsByVersionCache.get(version1Key).get()).isEqualTo(questionsForVersion);
+    assertThat(valueCaches.questionsByVersion().get(version1Key)).hasValue(questionsForVersion);
   }
 
   @Test
@@ -1301,11 +1299,11 @@ public class VersionRepositoryTest extends ResetPostgres {
 
     String version1Key = String.valueOf(version1.id);
 
-    assertThat(questionsByVersionCache.get(version1Key).isPresent()).isFalse();
+    assertThat(valueCaches.questionsByVersion().get(version1Key)).isEmpty();
 
-    versionRepository.getQuestionsForVersion(version1);
+    versionRepository.getQuestionDefinitionsForVersion(version1);
 
-    assertThat(questionsByVersionCache.get(version1Key).isPresent()).isFalse();
+    assertThat(valueCaches.questionsByVersion().get(version1Key)).isEmpty();
   }
 
   @Test
@@ -1325,10 +1323,10 @@ public class VersionRepositoryTest extends ResetPostgres {
 
     String version1Key = String.valueOf(version1.id);
 
-    ImmutableList<ProgramModel> programsForVersion =
-        versionRepository.getProgramsForVersion(version1);
+    ImmutableList<ProgramDefinition> programsForVersion =
+        versionRepository.getProgramDefinitionsForVersion(version1);
 
-    assertThat(programsByVersionCache.get(version1Key).get()).isEqualTo(programsForVersion);
+    assertThat(valueCaches.programsByVersion().get(version1Key)).hasValue(programsForVersion);
   }
 
   @Test
@@ -1341,10 +1339,10 @@ public class VersionRepositoryTest extends ResetPostgres {
 
     String version1Key = String.valueOf(version1.id);
 
-    ImmutableList<ProgramModel> programsForVersion =
-        versionRepository.getProgramsForVersion(version1);
+    ImmutableList<ProgramDefinition> programsForVersion =
+        versionRepository.getProgramDefinitionsForVersion(version1);
 
-    assertThat(programsByVersionCache.get(version1Key).get()).isEqualTo(programsForVersion);
+    assertThat(valueCaches.programsByVersion().get(version1Key)).hasValue(programsForVersion);
   }
 
   @Test
@@ -1356,11 +1354,29 @@ public class VersionRepositoryTest extends ResetPostgres {
 
     String version1Key = String.valueOf(version1.id);
 
-    assertThat(programsByVersionCache.get(version1Key).isPresent()).isFalse();
+    assertThat(valueCaches.programsByVersion().get(version1Key)).isEmpty();
 
-    versionRepository.getProgramsForVersion(version1);
+    versionRepository.getProgramDefinitionsForVersion(version1);
 
-    assertThat(programsByVersionCache.get(version1Key).isPresent()).isFalse();
+    assertThat(valueCaches.programsByVersion().get(version1Key)).isEmpty();
+  }
+
+  @Test
+  public void versionPointers_reflectDraftCreationAndPublishWhenCacheEnabled() {
+    Mockito.when(mockSettingsManifest.getVersionCacheEnabled()).thenReturn(true);
+    long initialActiveVersionId = versionRepository.getActiveVersion().id;
+
+    assertThat(versionRepository.hasDraftVersion()).isFalse();
+    assertThat(versionRepository.getActiveVersionForRead().id).isEqualTo(initialActiveVersionId);
+
+    VersionModel draft = versionRepository.getDraftVersionOrCreate();
+    assertThat(versionRepository.hasDraftVersion()).isTrue();
+
+    resourceCreator.insertDraftProgram("first-program");
+    versionRepository.publishNewSynchronizedVersion();
+
+    assertThat(versionRepository.hasDraftVersion()).isFalse();
+    assertThat(versionRepository.getActiveVersionForRead().id).isEqualTo(draft.id);
   }
 
   @Test
@@ -0,0 +1,63 @@
+package services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pekko.actor.ActorSystem;
+import org.junit.Test;
+import play.inject.ApplicationLifecycle;
+import play.test.WithApplication;
+import repository.DatabaseExecutionContext;
+
+public class BatchingRecorderTest extends WithApplication {
+
+  private final List<ImmutableMap<String, String>> writes = new ArrayList<>();
+  private boolean failWrites = false;
+
+  @Test
+  public void flush_writesCombinedValuesOnce() {
+    BatchingRecorder<String, String> recorder = createRecorder();
+
+    recorder.record("a", "1");
+    recorder.record("b", "2");
+    recorder.record("a", "3");
+    recorder.flush();
+    recorder.flush();
+
+    assertThat(writes).containsExactly(ImmutableMap.of("a", "1+3", "b", "2"));
+  }
+
+  @Test
+  public void flush_afterFailure_retriesAheadOfLaterValues() {
+    BatchingRecorder<String, String> recorder = createRecorder();
+    recorder.record("a", "1");
+    failWrites = true;
+    recorder.flush();
+
+    recorder.record("a", "2");
+    failWrites = false;
+    recorder.flush();
+
+    assertThat(writes).containsExactly(ImmutableMap.of("a", "1+2"));
+  }
+
+  private BatchingRecorder<String, String> createRecorder() {
+    return new BatchingRecorder<>(
+        "test",
+        // Long enough that the scheduled flush doesn't run during the test.
+        Duration.ofHours(1),
+        (earlier, later) -> earlier + "+" + later,
+        values -> {
+          if (failWrites) {
+            throw new RuntimeException("write failed");
+          }
+          writes.add(values);
+        },
+        instanceOf(ActorSystem.class),
+        instanceOf(DatabaseExecutionContext.class),
+        instanceOf(ApplicationLifecycle.class));
+  }
+}
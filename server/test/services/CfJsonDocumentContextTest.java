@@ -1261,4 +1261,50 @@ public class CfJsonDocumentContextTest {
     assertThatThrownBy(() -> target.mergeQuestionAnswersFrom(other))
         .isInstanceOf(IllegalArgumentException.class);
   }
+
+  @Test
+  public void readsAndWrites_matchJsonPath() {
+    CfJsonDocumentContext data = new CfJsonDocumentContext();
+    Path name = Path.create("applicant.household_members[1].name.first_name");
+    Path income = Path.create("applicant.household_members[1].income.cents");
+
+    data.putString(name, "Alice");
+    data.putLong(income, 12345L);
+
+    assertThat(data.readString(name)).contains("Alice");
+    assertThat(data.readLong(income)).contains(12345L);
+    // Reading a number as a string converts it, as JsonPath does.
+    assertThat(data.readString(income)).contains("12345");
+    assertThat(data.readLong(name)).isEmpty();
+    assertThat(data.hasPath(Path.create("applicant.household_members[0]"))).isTrue();
+    assertThat(data.hasPath(Path.create("applicant.household_members[2]"))).isFalse();
+    assertThat(data.hasPath(Path.create("applicant.household_members[1].name.last_name")))
+        .isFalse();
+    assertThat(data.hasPath(Path.create("applicant.household_members.name"))).isFalse();
+    assertThat(data.readRaw(Path.create("applicant.household_members[1].name")))
+        .contains(Map.of("first_name", "Alice"));
+  }
+
+  @Test
+  public void readsPathsWithJsonPathOperators() {
+    CfJsonDocumentContext data =
+        new CfJsonDocumentContext("{\"applicant\":{\"colors\":[\"red\",\"blue\"]}}");
+
+    assertThat(data.readStringList(Path.create("applicant.colors[*]")))
+        .contains(ImmutableList.of("red", "blue"));
+    assertThat(data.hasPath(Path.create("applicant.colors.length()"))).isTrue();
+  }
+
+  @Test
+  public void maybeDelete_arrayElementAndProperty() {
+    CfJsonDocumentContext data =
+        new CfJsonDocumentContext(
+            "{\"applicant\":{\"colors\":[\"red\",\"blue\"],\"name\":\"Alice\"}}");
+
+    data.maybeDelete(Path.create("applicant.colors[0]"));
+    data.maybeDelete(Path.create("applicant.name"));
+    data.maybeDelete(Path.create("applicant.missing"));
+
+    assertThat(data.asJsonString()).isEqualTo("{\"applicant\":{\"colors\":[\"blue\"]}}");
+  }
 }
@@ -2,7 +2,9 @@ package services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
+import services.Path.JsonTreeStep;
 import services.applicant.question.Scalar;
 import services.export.enums.ApiPathSegment;
 
@@ -281,4 +283,28 @@ public class PathTest {
 
     assertThat(path.startsWith(other)).isFalse();
   }
+
+  @Test
+  public void jsonTreeSteps() {
+    assertThat(Path.create("applicant.children[2].name").jsonTreeSteps())
+        .contains(
+            ImmutableList.of(
+                new JsonTreeStep.Property("applicant"),
+                new JsonTreeStep.Property("children"),
+                new JsonTreeStep.ArrayElement(2),
+                new JsonTreeStep.Property("name")));
+  }
+
+  @Test
+  public void jsonTreeSteps_emptyPath_isEmptyList() {
+    assertThat(Path.empty().jsonTreeSteps()).contains(ImmutableList.of());
+  }
+
+  @Test
+  public void jsonTreeSteps_jsonPathOperators_isEmpty() {
+    assertThat(Path.create("applicant.children[].name").jsonTreeSteps()).isEmpty();
+    assertThat(Path.create("applicant.children[*].name").jsonTreeSteps()).isEmpty();
+    assertThat(Path.create("applicant.*").jsonTreeSteps()).isEmpty();
+    assertThat(Path.create("applicant.children.length()").jsonTreeSteps()).isEmpty();
+  }
 }
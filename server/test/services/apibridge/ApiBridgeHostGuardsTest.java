@@ -0,0 +1,228 @@
+package services.apibridge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static play.mvc.Results.ok;
+import static play.mvc.Results.serviceUnavailable;
+
+import com.google.common.base.Stopwatch;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.pattern.CircuitBreakerOpenException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import play.BuiltInComponents;
+import play.libs.ws.WSClient;
+import play.libs.ws.WSResponse;
+import play.routing.Router;
+import play.routing.RoutingDsl;
+import play.server.Server;
+import play.test.WSTestClient;
+
+/**
+ * Checks how bridge calls behave while a partner is down or slow. Most calls' results are futures
+ * the test completes, or leaves pending to stand in for a slow partner. The outage tests call a
+ * local stub server instead, to check the latency applicants see.
+ */
+public class ApiBridgeHostGuardsTest {
+  private static final String URL = "http://partner.example.com/bridge";
+  private static final String SERVER_ERROR = "500";
+  private static final String CLIENT_ERROR = "400";
+
+  private static final Config CONFIG =
+      ConfigFactory.parseString(
+          """
+          api-bridge.host {
+            max-concurrent-calls = 2
+            circuit-breaker {
+              max-failures = 3
+              call-timeout = 100 milliseconds
+              reset-timeout = 1 minute
+            }
+          }
+          """);
+
+  private static ActorSystem actorSystem;
+
+  private final AtomicInteger callCount = new AtomicInteger();
+  private Server server;
+  private WSClient wsClient;
+
+  @BeforeClass
+  public static void startActorSystem() {
+    actorSystem = ActorSystem.create("ApiBridgeHostGuardsTest");
+  }
+
+  @AfterClass
+  public static void stopActorSystem() {
+    actorSystem.terminate();
+  }
+
+  @After
+  public void stopServer() throws IOException {
+    if (wsClient != null) {
+      wsClient.close();
+    }
+    if (server != null) {
+      server.stop();
+    }
+  }
+
+  @Test
+  public void failingHost_failsFastOnceCircuitOpens() {
+    ApiBridgeHostGuards hostGuards = new ApiBridgeHostGuards(actorSystem, CONFIG);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(call(hostGuards, respondWith(SERVER_ERROR)).toCompletableFuture().join())
+          .isEqualTo(SERVER_ERROR);
+    }
+    CompletableFuture<String> rejected =
+        call(hostGuards, respondWith(SERVER_ERROR)).toCompletableFuture();
+
+    // The circuit is open, so the call fails without being made.
+    assertThat(rejected).isCompletedExceptionally();
+    assertThatThrownBy(rejected::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+    assertThat(callCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void clientErrors_doNotOpenCircuit() {
+    ApiBridgeHostGuards hostGuards = new ApiBridgeHostGuards(actorSystem, CONFIG);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(call(hostGuards, respondWith(CLIENT_ERROR)).toCompletableFuture().join())
+          .isEqualTo(CLIENT_ERROR);
+    }
+
+    assertThat(callCount.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void slowHost_callsTimeOutAndExcessCallsAreRejected() {
+    ApiBridgeHostGuards hostGuards = new ApiBridgeHostGuards(actorSystem, CONFIG);
+    List<CompletableFuture<String>> pendingResponses = new ArrayList<>();
+    Supplier<CompletionStage<String>> slowCall =
+        () -> {
+          CompletableFuture<String> response = new CompletableFuture<>();
+          pendingResponses.add(response);
+          return response;
+        };
+
+    CompletableFuture<String> first = call(hostGuards, slowCall).toCompletableFuture();
+    CompletableFuture<String> second = call(hostGuards, slowCall).toCompletableFuture();
+
+    // Both calls are still in flight, so the bulkhead rejects a third without making it.
+    assertRejectedByBulkhead(call(hostGuards, slowCall));
+    // The calls give up after the call timeout rather than waiting for the host.
+    assertThatThrownBy(first::join).hasCauseInstanceOf(TimeoutException.class);
+    assertThatThrownBy(second::join).hasCauseInstanceOf(TimeoutException.class);
+    // The host is still working on the timed out calls, so they still count towards the limit.
+    assertRejectedByBulkhead(call(hostGuards, slowCall));
+    assertThat(callCount.get()).isEqualTo(2);
+
+    pendingResponses.forEach(response -> response.complete(CLIENT_ERROR));
+
+    assertThat(call(hostGuards, respondWith(CLIENT_ERROR)).toCompletableFuture().join())
+        .isEqualTo(CLIENT_ERROR);
+    assertThat(callCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void stubHostOutage_failsFastOnceCircuitOpens() {
+    startServer(
+        components ->
+            RoutingDsl.fromComponents(components)
+                .POST("/bridge")
+                .routingTo(
+                    request -> {
+                      callCount.incrementAndGet();
+                      return serviceUnavailable("{}");
+                    })
+                .build());
+    ApiBridgeHostGuards hostGuards = new ApiBridgeHostGuards(actorSystem, CONFIG);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(callServer(hostGuards).toCompletableFuture().join().getStatus()).isEqualTo(503);
+    }
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    CompletableFuture<WSResponse> rejected = callServer(hostGuards).toCompletableFuture();
+
+    // The circuit is open, so the call fails without waiting on the host.
+    assertThat(rejected).isCompletedExceptionally();
+    assertThatThrownBy(rejected::join).hasCauseInstanceOf(CircuitBreakerOpenException.class);
+    assertThat(stopwatch.elapsed(TimeUnit.MILLISECONDS)).isLessThan(1000);
+    assertThat(callCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void stubHostHanging_callsGiveUpAfterCallTimeout() {
+    startServer(
+        components ->
+            RoutingDsl.fromComponents(components)
+                .POST("/bridge")
+                .routingAsync(
+                    request -> {
+                      callCount.incrementAndGet();
+                      return CompletableFuture.supplyAsync(
+                          () -> ok("{}"), CompletableFuture.delayedExecutor(5, TimeUnit.SECONDS));
+                    })
+                .build());
+    ApiBridgeHostGuards hostGuards = new ApiBridgeHostGuards(actorSystem, CONFIG);
+    Stopwatch stopwatch = Stopwatch.createStarted();
+
+    CompletableFuture<WSResponse> result = callServer(hostGuards).toCompletableFuture();
+
+    assertThatThrownBy(result::join).hasCauseInstanceOf(TimeoutException.class);
+    // The call timeout is 100ms; this only checks the caller isn't held for the host's 5 seconds.
+    assertThat(stopwatch.elapsed(TimeUnit.MILLISECONDS)).isLessThan(2500);
+  }
+
+  private void startServer(Function<BuiltInComponents, Router> router) {
+    server = Server.forRouter(router);
+    wsClient = WSTestClient.newClient(server.httpPort());
+  }
+
+  private CompletionStage<WSResponse> callServer(ApiBridgeHostGuards hostGuards) {
+    return hostGuards.call(
+        String.format("http://localhost:%d/bridge", server.httpPort()),
+        () -> wsClient.url("/bridge").setContentType("application/json").post("{}"),
+        response -> response.getStatus() >= 500);
+  }
+
+  private void assertRejectedByBulkhead(CompletionStage<String> result) {
+    assertThatThrownBy(() -> result.toCompletableFuture().join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ApiBridgeProcessingException.class);
+  }
+
+  private static Supplier<CompletionStage<String>> respondWith(String status) {
+    return () -> CompletableFuture.completedFuture(status);
+  }
+
+  private CompletionStage<String> call(
+      ApiBridgeHostGuards hostGuards, Supplier<CompletionStage<String>> call) {
+    return hostGuards.call(
+        URL,
+        () -> {
+          callCount.incrementAndGet();
+          return call.get();
+        },
+        SERVER_ERROR::equals);
+  }
+}
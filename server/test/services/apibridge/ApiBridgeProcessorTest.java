@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static services.apibridge.ApiBridgeServiceDto.CompatibilityLevel;
 
@@ -28,6 +30,7 @@ import services.Path;
 import services.apibridge.ApiBridgeServiceDto.BridgeResponse;
 import services.applicant.ApplicantData;
 import services.applicant.question.Scalar;
+import services.cache.ValueCaches;
 
 @RunWith(JUnitParamsRunner.class)
 public class ApiBridgeProcessorTest extends ResetPostgres {
@@ -40,6 +43,7 @@ public class ApiBridgeProcessorTest extends ResetPostgres {
   @Before
   public void setup() {
     MockitoAnnotations.openMocks(this);
+    instanceOf(ValueCaches.class).removeAll();
     apiBridgeConfigurationRepository = instanceOf(ApiBridgeConfigurationRepository.class);
     addBridgeConfiguration1();
     addBridgeConfiguration2();
@@ -52,7 +56,8 @@ public class ApiBridgeProcessorTest extends ResetPostgres {
             instanceOf(ApiBridgeExecutionContext.class),
             instanceOf(ObjectMapper.class),
             instanceOf(RequestPayloadMapper.class),
-            instanceOf(ResponsePayloadMapper.class));
+            instanceOf(ResponsePayloadMapper.class),
+            instanceOf(ValueCaches.class));
 
     when(apiBridgeService.bridge(eq("%s%s".formatted(BASE_URL, SampleBridgeUrl.Success)), any()))
         .thenReturn(
@@ -402,6 +407,45 @@ public class ApiBridgeProcessorTest extends ResetPostgres {
     assertThat(resultApplicantData.readLong(SamplePath.IsValidPath)).hasValue(1L);
   }
 
+  @Test
+  public void unchangedRequest_usesCachedResponse() {
+    var bridgeFields =
+        new ApiBridgeDefinition(
+            ImmutableList.of(
+                new ApiBridgeDefinitionItem(
+                    SampleQuestionName.AddressName, Scalar.ZIP, SampleExternalName.ZipCodeName),
+                new ApiBridgeDefinitionItem(
+                    SampleQuestionName.AccountNumberName,
+                    Scalar.NUMBER,
+                    SampleExternalName.AccountNumberName)),
+            ImmutableList.of(
+                new ApiBridgeDefinitionItem(
+                    SampleQuestionName.IsValidName,
+                    Scalar.SELECTION,
+                    SampleExternalName.IsValidName)));
+    var applicantData = new ApplicantData();
+    applicantData.putString(SamplePath.AddressZipPath, "99999");
+    applicantData.putLong(SamplePath.AccountNumberPath, 1234);
+    var changedApplicantData = new ApplicantData();
+    changedApplicantData.putString(SamplePath.AddressZipPath, "11111");
+    changedApplicantData.putLong(SamplePath.AccountNumberPath, 1234);
+
+    for (ApplicantData data :
+        ImmutableList.of(applicantData, applicantData, changedApplicantData)) {
+      var resultApplicantData =
+          apiBridgeProcessor
+              .callApiBridgeEndpoints(
+                  data, ImmutableMap.of(SampleBridgeAdminName.AccountValidation, bridgeFields))
+              .toCompletableFuture()
+              .join();
+      assertThat(resultApplicantData.readLong(SamplePath.IsValidPath)).hasValue(1L);
+    }
+
+    // The second call was answered from the cache, the changed request was not.
+    verify(apiBridgeService, times(2))
+        .bridge(eq("%s%s".formatted(BASE_URL, SampleBridgeUrl.Success)), any());
+  }
+
   @Test
   public void runs_successfully_with_multiple_bridges() {
     // Define bridge configurations for each bridge
@@ -11,6 +11,7 @@ import static services.apibridge.ApiBridgeServiceDto.ValidationProblemDetail;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.Config;
 import io.prometheus.client.Collector;
 import io.prometheus.client.CollectorRegistry;
 import java.util.Collections;
@@ -19,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
+import org.apache.pekko.actor.ActorSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -43,8 +45,13 @@ public class ApiBridgeServiceTest extends ResetPostgres {
       wsClient.setHeaders(Map.of("Emulate-Response-Code", List.of(emulatedResponseCode)));
     }
 
+    // Each service gets its own host guards so that errors emulated by one test can't open the
+    // circuit breaker for the next.
     return new ApiBridgeService(
-        wsClient, instanceOf(ApiBridgeExecutionContext.class), instanceOf(ObjectMapper.class));
+        wsClient,
+        instanceOf(ApiBridgeExecutionContext.class),
+        instanceOf(ObjectMapper.class),
+        new ApiBridgeHostGuards(instanceOf(ActorSystem.class), instanceOf(Config.class)));
   }
 
   @Before
@@ -0,0 +1,71 @@
+package services.apikey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import models.ApiKeyModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.ApiKeyRepository;
+import repository.ResetPostgres;
+
+public class ApiKeyUsageRecorderTest extends ResetPostgres {
+
+  private ApiKeyUsageRecorder recorder;
+  private ApiKeyRepository repository;
+
+  @Before
+  public void setUp() {
+    recorder = instanceOf(ApiKeyUsageRecorder.class);
+    repository = instanceOf(ApiKeyRepository.class);
+  }
+
+  @Test
+  public void flush_writesAccumulatedUsageForEachKey() {
+    ApiKeyModel first = resourceCreator.createActiveApiKey("first", "first-key-id", "secret1");
+    ApiKeyModel second = resourceCreator.createActiveApiKey("second", "second-key-id", "secret2");
+    Instant originalUpdateTime = first.getUpdateTime();
+
+    recorder.record("first-key-id", "1.1.1.1");
+    recorder.record("second-key-id", "2.2.2.2");
+    recorder.record("first-key-id", "3.3.3.3");
+    recorder.flush();
+
+    ApiKeyModel updatedFirst = lookup(first);
+    assertThat(updatedFirst.getCallCount()).isEqualTo(2L);
+    assertThat(updatedFirst.getLastCallIpAddress()).hasValue("3.3.3.3");
+    assertThat(updatedFirst.getUpdateTime()).isAfterOrEqualTo(originalUpdateTime);
+    ApiKeyModel updatedSecond = lookup(second);
+    assertThat(updatedSecond.getCallCount()).isEqualTo(1L);
+    assertThat(updatedSecond.getLastCallIpAddress()).hasValue("2.2.2.2");
+  }
+
+  @Test
+  public void flush_addsToExistingCallCount() {
+    ApiKeyModel apiKey = resourceCreator.createActiveApiKey("key", "key-id", "secret");
+
+    recorder.record("key-id", "1.1.1.1");
+    recorder.flush();
+    recorder.record("key-id", "1.1.1.1");
+    recorder.flush();
+    // Nothing new has been recorded, so this writes nothing.
+    recorder.flush();
+
+    assertThat(lookup(apiKey).getCallCount()).isEqualTo(2L);
+  }
+
+  @Test
+  public void flush_ignoresUnknownKeys() {
+    ApiKeyModel apiKey = resourceCreator.createActiveApiKey("key", "key-id", "secret");
+
+    recorder.record("unknown-key-id", "1.1.1.1");
+    recorder.record("key-id", "1.1.1.1");
+    recorder.flush();
+
+    assertThat(lookup(apiKey).getCallCount()).isEqualTo(1L);
+  }
+
+  private ApiKeyModel lookup(ApiKeyModel apiKey) {
+    return repository.lookupApiKey(apiKey.id).toCompletableFuture().join().get();
+  }
+}
@@ -0,0 +1,65 @@
+package services.applicant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import models.AccountModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.AccountRepository;
+import repository.ResetPostgres;
+
+public class AccountActivityRecorderTest extends ResetPostgres {
+
+  private AccountActivityRecorder recorder;
+
+  @Before
+  public void setUp() {
+    recorder = instanceOf(AccountActivityRecorder.class);
+  }
+
+  @Test
+  public void flush_writesActivityForEachAccount() {
+    AccountModel first = resourceCreator.insertAccount();
+    AccountModel second = resourceCreator.insertAccount();
+    resourceCreator.setLastActivityTimeToNull();
+
+    recorder.record(first.id);
+    recorder.record(second.id);
+    recorder.record(first.id);
+    recorder.flush();
+
+    first.refresh();
+    second.refresh();
+    assertThat(first.getLastActivityTime()).isNotNull();
+    assertThat(second.getLastActivityTime()).isNotNull();
+  }
+
+  @Test
+  public void flush_doesNotMoveLastActivityTimeBackwards() {
+    AccountModel account = resourceCreator.insertAccount();
+    Instant future = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+    instanceOf(AccountRepository.class)
+        .recordLastActivityTimes(ImmutableMap.of(account.id, future));
+
+    recorder.record(account.id);
+    recorder.flush();
+
+    account.refresh();
+    assertThat(account.getLastActivityTime()).isEqualTo(future);
+  }
+
+  @Test
+  public void flush_ignoresUnknownAccounts() {
+    AccountModel account = resourceCreator.insertAccount();
+    resourceCreator.setLastActivityTimeToNull();
+
+    recorder.record(account.id + 1000);
+    recorder.flush();
+
+    account.refresh();
+    assertThat(account.getLastActivityTime()).isNull();
+  }
+}
@@ -98,6 +98,35 @@ public class ApplicantDataTest extends ResetPostgres {
     assertThat(data2.isDuplicateOf(data1)).isTrue();
   }
 
+  @Test
+  public void computeContentHash_ignoresKeyOrderAndUpdatedAt() {
+    ApplicantData data1 =
+        new ApplicantData(
+            "{\"applicant\":{\"name\":{\"first_name\":\"First\",\"last_name\":\"Last\",\"updated_at\":1690288712068}}}");
+    ApplicantData data2 =
+        new ApplicantData(
+            "{\"applicant\":{\"name\":{\"updated_at\":1690293297676,\"last_name\":\"Last\",\"first_name\":\"First\"}}}");
+
+    assertThat(data1.computeContentHash()).isEqualTo(data2.computeContentHash());
+  }
+
+  @Test
+  public void computeContentHash_differsForDifferentAnswers() {
+    ApplicantData data1 =
+        new ApplicantData(
+            "{\"applicant\":{\"name\":{\"first_name\":\"ab\",\"last_name\":\"c\"}}}");
+    ApplicantData data2 =
+        new ApplicantData(
+            "{\"applicant\":{\"name\":{\"first_name\":\"a\",\"last_name\":\"bc\"}}}");
+    ApplicantData data3 =
+        new ApplicantData(
+            "{\"applicant\":{\"name\":{\"first_name\":[\"ab\"],\"last_name\":\"c\"}}}");
+
+    assertThat(data1.computeContentHash())
+        .isNotEqualTo(data2.computeContentHash())
+        .isNotEqualTo(data3.computeContentHash());
+  }
+
   @Test
   public void putServiceAreaInclusionEntities_setsCorrectValues() {
     Path path = Path.create("applicant.address").join(Scalar.SERVICE_AREAS.name()).asArrayElement();
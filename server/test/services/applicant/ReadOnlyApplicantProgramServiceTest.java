@@ -15,6 +15,7 @@ import models.DisplayMode;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import repository.ResetPostgres;
 import services.LocalizedStrings;
 import services.Path;
@@ -375,6 +376,42 @@ public class ReadOnlyApplicantProgramServiceTest extends ResetPostgres {
     assertThat(allBlocks).hasSize(2);
   }
 
+  @Test
+  public void getAllBlocks_blocksAndPredicatesAreComputedOnce() {
+    PredicateDefinition predicate =
+        PredicateDefinition.create(
+            PredicateExpressionNode.create(
+                LeafOperationExpressionNode.create(
+                    colorQuestion.getId(),
+                    Scalar.TEXT,
+                    Operator.EQUAL_TO,
+                    PredicateValue.of("blue"))),
+            PredicateAction.HIDE_BLOCK);
+    ProgramDefinition program =
+        ProgramBuilder.newActiveProgram()
+            .withBlock() // Previous block with color question
+            .withRequiredQuestionDefinition(colorQuestion)
+            .withBlock() // Block with predicate
+            .withVisibilityPredicate(predicate)
+            .withRequiredQuestionDefinition(addressQuestion)
+            .buildDefinition();
+    answerColorQuestion(program.id(), "red");
+    JsonPathPredicateGeneratorFactory factorySpy = Mockito.spy(jsonPathPredicateGeneratorFactory);
+
+    ReadOnlyApplicantProgramService subject =
+        new ReadOnlyApplicantProgramService(factorySpy, applicant, applicantData, program);
+    ImmutableList<Block> activeBlocks = subject.getAllActiveBlocks();
+    ImmutableList<Block> inProgressBlocks = subject.getInProgressBlocks();
+    subject.getAllHiddenBlocks();
+    subject.getSummaryDataAllQuestions();
+
+    assertThat(activeBlocks).hasSize(2);
+    assertThat(inProgressBlocks).hasSize(2);
+    assertThat(inProgressBlocks.get(1)).isSameAs(activeBlocks.get(1));
+    Mockito.verify(factorySpy, Mockito.times(1))
+        .createEvaluator(Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
   @Test
   public void getAllBlocks_doesNotIncludeRepeatedEntitiesThatAreHidden() {
     PredicateDefinition predicate =
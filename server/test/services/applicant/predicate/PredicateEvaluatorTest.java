@@ -280,4 +280,149 @@ public class PredicateEvaluatorTest {
 
     assertThat(evaluator.evaluate(PredicateExpressionNode.create(andNode))).isFalse();
   }
+
+  @Test
+  public void evaluate_leafNodes_matchJsonPathPredicates() throws Exception {
+    QuestionDefinition numberQuestion =
+        questionBank.numberApplicantJugglingNumber().getQuestionDefinition();
+    QuestionDefinition checkboxQuestion =
+        questionBank.checkboxApplicantKitchenTools().getQuestionDefinition();
+    JsonPathPredicateGenerator jsonPathGenerator =
+        new JsonPathPredicateGenerator(
+            Mockito.mock(DateConverter.class),
+            ImmutableList.of(numberQuestion, checkboxQuestion),
+            Optional.empty());
+    PredicateEvaluator compiledEvaluator = new PredicateEvaluator(applicantData, jsonPathGenerator);
+
+    applicantData.putLong(
+        numberQuestion
+            .getContextualizedPath(Optional.empty(), ApplicantData.APPLICANT_PATH)
+            .join(Scalar.NUMBER),
+        42);
+    applicantData.putArray(
+        checkboxQuestion
+            .getContextualizedPath(Optional.empty(), ApplicantData.APPLICANT_PATH)
+            .join(Scalar.SELECTIONS),
+        ImmutableList.of(1L, 3L));
+
+    long numberId = numberQuestion.getId();
+    long checkboxId = checkboxQuestion.getId();
+    ImmutableList<LeafOperationExpressionNode> leafNodes =
+        ImmutableList.of(
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.EQUAL_TO, PredicateValue.of(42)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.NOT_EQUAL_TO, PredicateValue.of(42)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.GREATER_THAN, PredicateValue.of(41)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.LESS_THAN_OR_EQUAL_TO, PredicateValue.of(41)),
+            LeafOperationExpressionNode.create(
+                numberId,
+                Scalar.NUMBER,
+                Operator.IN,
+                PredicateValue.listOfLongs(ImmutableList.of(1L, 42L))),
+            LeafOperationExpressionNode.create(
+                numberId,
+                Scalar.NUMBER,
+                Operator.NOT_IN,
+                PredicateValue.listOfLongs(ImmutableList.of(1L, 42L))),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.BETWEEN, PredicateValue.pairOfLongs(40, 50)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.BETWEEN, PredicateValue.pairOfLongs(43, 50)),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.ANY_OF,
+                PredicateValue.listOfLongs(ImmutableList.of(3L, 5L))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.NONE_OF,
+                PredicateValue.listOfLongs(ImmutableList.of(3L, 5L))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.SUBSET_OF,
+                PredicateValue.listOfLongs(ImmutableList.of(1L, 2L, 3L))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.SUBSET_OF,
+                PredicateValue.listOfLongs(ImmutableList.of(1L, 2L))));
+
+    for (LeafOperationExpressionNode leafNode : leafNodes) {
+      assertThat(compiledEvaluator.evaluate(PredicateExpressionNode.create(leafNode)))
+          .as(leafNode.toString())
+          .isEqualTo(applicantData.evalPredicate(jsonPathGenerator.fromLeafNode(leafNode)));
+    }
+  }
+
+  @Test
+  public void evaluate_stringAndNumber_compareByValueOnEitherSide() {
+    QuestionDefinition numberQuestion =
+        questionBank.numberApplicantJugglingNumber().getQuestionDefinition();
+    PredicateEvaluator numberEvaluator =
+        new PredicateEvaluator(
+            applicantData,
+            new JsonPathPredicateGenerator(
+                Mockito.mock(DateConverter.class),
+                ImmutableList.of(addressQuestion, numberQuestion),
+                Optional.empty()));
+    applicantData.putString(applicantQuestion.createAddressQuestion().getCityPath(), "1.0");
+    applicantData.putLong(
+        numberQuestion
+            .getContextualizedPath(Optional.empty(), ApplicantData.APPLICANT_PATH)
+            .join(Scalar.NUMBER),
+        1);
+
+    LeafOperationExpressionNode stringAnswer =
+        LeafOperationExpressionNode.create(
+            addressQuestion.getId(), Scalar.CITY, Operator.EQUAL_TO, PredicateValue.of(1));
+    LeafOperationExpressionNode numberAnswer =
+        LeafOperationExpressionNode.create(
+            numberQuestion.getId(), Scalar.NUMBER, Operator.EQUAL_TO, PredicateValue.of("1.0"));
+
+    assertThat(numberEvaluator.evaluate(PredicateExpressionNode.create(stringAnswer))).isTrue();
+    assertThat(numberEvaluator.evaluate(PredicateExpressionNode.create(numberAnswer))).isTrue();
+  }
+
+  @Test
+  public void evaluate_unansweredQuestion_returnsFalse() {
+    LeafOperationExpressionNode leafNode =
+        LeafOperationExpressionNode.create(
+            addressQuestion.getId(),
+            Scalar.CITY,
+            Operator.NOT_EQUAL_TO,
+            PredicateValue.of("Seattle"));
+
+    assertThat(evaluator.evaluate(PredicateExpressionNode.create(leafNode))).isFalse();
+  }
+
+  @Test
+  public void compiledProgramPredicates_compilesEachPredicateOnce() {
+    CompiledProgramPredicates compiledPredicates =
+        new CompiledProgramPredicates(ImmutableList.of(addressQuestion));
+    PredicateExpressionNode node =
+        PredicateExpressionNode.create(
+            LeafOperationExpressionNode.create(
+                addressQuestion.getId(),
+                Scalar.CITY,
+                Operator.EQUAL_TO,
+                PredicateValue.of("Seattle")));
+    applicantData.putString(applicantQuestion.createAddressQuestion().getCityPath(), "Seattle");
+
+    CompiledPredicate compiled = compiledPredicates.get(node);
+
+    assertThat(compiledPredicates.get(node)).isSameAs(compiled);
+    assertThat(
+            new PredicateEvaluator(
+                    applicantData,
+                    Mockito.mock(DateConverter.class),
+                    compiledPredicates,
+                    Optional.empty())
+                .evaluate(compiled))
+        .isTrue();
+  }
 }
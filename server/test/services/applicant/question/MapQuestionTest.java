@@ -2,6 +2,8 @@ package services.applicant.question;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -11,6 +13,8 @@ import org.junit.Test;
 import repository.ResetPostgres;
 import services.LocalizedStrings;
 import services.applicant.ApplicantData;
+import services.question.MapSettingType;
+import services.question.QuestionSetting;
 import services.question.types.MapQuestionDefinition;
 import services.question.types.QuestionDefinitionConfig;
 
@@ -71,4 +75,42 @@ public class MapQuestionTest extends ResetPostgres {
     // Empty string is not null, so it should use the empty string
     assertThat(result).contains("\"locationName\":\"\"");
   }
+
+  @Test
+  public void getListedPropertiesJson_onlyIncludesFilterAndTagProperties() {
+    MapQuestionDefinition definition =
+        new MapQuestionDefinition(
+            QuestionDefinitionConfig.builder()
+                .setName("map question with settings")
+                .setDescription("map description")
+                .setQuestionText(LocalizedStrings.of(Locale.US, "What is your location?"))
+                .setQuestionHelpText(LocalizedStrings.of(Locale.US, "Select a location"))
+                .setId(OptionalLong.of(2))
+                .setLastModifiedTime(Optional.empty())
+                .setQuestionSettings(
+                    ImmutableSet.of(
+                        QuestionSetting.create("name", MapSettingType.LOCATION_NAME_GEO_JSON_KEY),
+                        QuestionSetting.create(
+                            "type",
+                            MapSettingType.LOCATION_FILTER_GEO_JSON_KEY,
+                            Optional.of(LocalizedStrings.of(Locale.US, "Type"))),
+                        QuestionSetting.create(
+                            "accessible",
+                            MapSettingType.LOCATION_TAG_GEO_JSON_KEY,
+                            Optional.of(LocalizedStrings.of(Locale.US, "Accessible")),
+                            Optional.of("true"),
+                            Optional.of(LocalizedStrings.of(Locale.US, "Step-free access")))))
+                .build());
+    MapQuestion mapQuestion =
+        new ApplicantQuestion(definition, applicant, applicantData, Optional.empty())
+            .createMapQuestion();
+
+    String result =
+        mapQuestion.getListedPropertiesJson(
+            ImmutableMap.of("name", "Library", "type", "Library", "accessible", "true"));
+
+    assertThat(result).contains("\"type\":\"Library\"");
+    assertThat(result).contains("\"accessible\":\"true\"");
+    assertThat(result).doesNotContain("\"name\"");
+  }
 }
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.typesafe.config.Config;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +23,7 @@ import models.AccountModel;
 import models.ApplicantModel;
 import models.ApplicationEventModel;
 import models.ApplicationModel;
+import models.BulkStatusUpdateModel;
 import models.LifecycleStage;
 import models.ProgramModel;
 import org.junit.Before;
@@ -35,8 +37,10 @@ import repository.AccountRepository;
 import repository.ApplicationEventRepository;
 import repository.ApplicationRepository;
 import repository.ApplicationStatusesRepository;
+import repository.BulkStatusUpdateRepository;
 import repository.ProgramRepository;
 import repository.ResetPostgres;
+import repository.TransactionManager;
 import services.DeploymentType;
 import services.LocalizedStrings;
 import services.MessageKey;
@@ -84,6 +88,7 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
                           Locale.KOREA, "A translatable email body (Korean)"))))
           .build();
 
+  private static final int MAX_ATTEMPTS = 3;
   private static final ImmutableList<StatusDefinitions.Status> ORIGINAL_STATUSES =
       ImmutableList.of(
           STATUS_WITH_ONLY_ENGLISH_EMAIL, STATUS_WITH_NO_EMAIL, STATUS_WITH_MULTI_LANGUAGE_EMAIL);
@@ -266,6 +271,8 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
             .build();
 
     service.setStatuses(builder.build(), program, event, adminAccount);
+    // The emails are queued after the statuses are set, in the background.
+    service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 10, MAX_ATTEMPTS);
 
     Messages messages =
         messagesApi.preferred(ImmutableList.of(Lang.forCode(Locale.US.toLanguageTag())));
@@ -440,6 +447,7 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
             .build();
 
     service.setStatuses(ImmutableList.of(application.id), program, event, account);
+    service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 10, MAX_ATTEMPTS);
 
     Messages messages =
         messagesApi.preferred(ImmutableList.of(Lang.forCode(Locale.US.toLanguageTag())));
@@ -551,6 +559,7 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
             .build();
 
     service.setStatuses(ImmutableList.of(application.id), program, event, account);
+    service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 10, MAX_ATTEMPTS);
 
     Messages enMessages =
         messagesApi.preferred(ImmutableList.of(Lang.forCode(Locale.US.toLanguageTag())));
@@ -808,7 +817,8 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
     // Do not request an email to be sent.
     StatusEvent event = StatusEvent.builder().setEmailSent(false).setStatusText(status).build();
 
-    service.setStatuses(ImmutableList.of(application.id), program, event, account);
+    assertThat(service.setStatuses(ImmutableList.of(application.id), program, event, account))
+        .isEmpty();
 
     verify(emailSendClient, never()).send(anyString(), anyString(), anyString());
 
@@ -823,6 +833,143 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
     assertThat(gotEvent.getCreateTime()).isAfter(start);
   }
 
+  @Test
+  public void setStatuses_sendsEmailsInTheBackground_aFewApplicationsAtATime() throws Exception {
+    EmailSendClient emailSendClient = Mockito.mock(EmailSendClient.class);
+    service = createServiceWithMockEmailSendClient(emailSendClient);
+    ProgramDefinition program = ProgramBuilder.newActiveProgram("some-program").buildDefinition();
+    repo.createOrUpdateStatusDefinitions(
+        program.adminName(), new StatusDefinitions(ORIGINAL_STATUSES));
+    AccountModel account = resourceCreator.insertAccount();
+    ImmutableList.Builder<Long> applicationIds = ImmutableList.builder();
+    for (int i = 0; i < 3; i++) {
+      ApplicantModel applicant =
+          resourceCreator.insertApplicantWithAccount(Optional.of("user" + i + "@example.com"));
+      applicationIds.add(
+          ApplicationModel.create(applicant, program.toProgram(), LifecycleStage.ACTIVE)
+              .setSubmitTimeToNow()
+              .id);
+    }
+    StatusEvent event =
+        StatusEvent.builder()
+            .setEmailSent(true)
+            .setStatusText(STATUS_WITH_ONLY_ENGLISH_EMAIL.statusText())
+            .build();
+
+    long bulkStatusUpdateId =
+        service.setStatuses(applicationIds.build(), program, event, account).orElseThrow();
+
+    // The statuses are set right away, and no emails are sent yet.
+    List<ApplicationModel> applications =
+        instanceOf(ApplicationRepository.class).getApplications(applicationIds.build());
+    assertThat(applications).hasSize(3);
+    assertThat(applications)
+        .allSatisfy(
+            application ->
+                assertThat(application.getLatestStatus())
+                    .contains(STATUS_WITH_ONLY_ENGLISH_EMAIL.statusText()));
+    verify(emailSendClient, never()).send(anyString(), anyString(), anyString());
+    BulkStatusUpdateModel update =
+        service.getBulkStatusUpdate(bulkStatusUpdateId, program).orElseThrow();
+    assertThat(update.getApplicationCount()).isEqualTo(3);
+    assertThat(update.getNotifiedCount()).isEqualTo(0);
+
+    assertThat(
+            service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 2, MAX_ATTEMPTS))
+        .isTrue();
+    verify(emailSendClient, times(2)).send(anyString(), anyString(), anyString());
+    update = service.getBulkStatusUpdate(bulkStatusUpdateId, program).orElseThrow();
+    assertThat(update.getNotifiedCount()).isEqualTo(2);
+    assertThat(update.isFinished()).isFalse();
+
+    assertThat(
+            service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 2, MAX_ATTEMPTS))
+        .isTrue();
+    verify(emailSendClient, times(3)).send(anyString(), anyString(), anyString());
+    update = service.getBulkStatusUpdate(bulkStatusUpdateId, program).orElseThrow();
+    assertThat(update.getNotifiedCount()).isEqualTo(3);
+    assertThat(update.isFinished()).isTrue();
+
+    assertThat(
+            service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 2, MAX_ATTEMPTS))
+        .isFalse();
+  }
+
+  @Test
+  public void queueNextBulkStatusUpdateEmails_failingUpdate_givesUpAfterMaxAttempts()
+      throws Exception {
+    EmailSendClient emailSendClient = Mockito.mock(EmailSendClient.class);
+    Mockito.doThrow(new IllegalStateException("provider down"))
+        .when(emailSendClient)
+        .send(anyString(), anyString(), anyString());
+    service = createServiceWithMockEmailSendClient(emailSendClient);
+    ProgramDefinition program = ProgramBuilder.newActiveProgram("some-program").buildDefinition();
+    repo.createOrUpdateStatusDefinitions(
+        program.adminName(), new StatusDefinitions(ORIGINAL_STATUSES));
+    AccountModel account = resourceCreator.insertAccount();
+    ApplicantModel applicant =
+        resourceCreator.insertApplicantWithAccount(Optional.of("user@example.com"));
+    ApplicationModel application =
+        ApplicationModel.create(applicant, program.toProgram(), LifecycleStage.ACTIVE)
+            .setSubmitTimeToNow();
+    StatusEvent event =
+        StatusEvent.builder()
+            .setEmailSent(true)
+            .setStatusText(STATUS_WITH_ONLY_ENGLISH_EMAIL.statusText())
+            .build();
+    long bulkStatusUpdateId =
+        service
+            .setStatuses(ImmutableList.of(application.id), program, event, account)
+            .orElseThrow();
+
+    for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+      assertThatThrownBy(
+              () ->
+                  service.queueNextBulkStatusUpdateEmails(
+                      /* maxApplications= */ 10, MAX_ATTEMPTS))
+          .isInstanceOf(IllegalStateException.class);
+      BulkStatusUpdateModel update =
+          service.getBulkStatusUpdate(bulkStatusUpdateId, program).orElseThrow();
+      assertThat(update.getAttempts()).isEqualTo(attempt);
+      assertThat(update.getLastError()).hasValueSatisfying(e -> assertThat(e).contains("down"));
+      assertThat(update.getNotifiedCount()).isEqualTo(0);
+      assertThat(update.isFinished()).isEqualTo(attempt == MAX_ATTEMPTS);
+    }
+
+    // The update was given up on, so there is nothing left to retry.
+    assertThat(
+            service.queueNextBulkStatusUpdateEmails(/* maxApplications= */ 10, MAX_ATTEMPTS))
+        .isFalse();
+  }
+
+  @Test
+  public void getBulkStatusUpdate_otherProgram_isEmpty() throws Exception {
+    ProgramDefinition program = ProgramBuilder.newActiveProgram("some-program").buildDefinition();
+    ProgramDefinition otherProgram =
+        ProgramBuilder.newActiveProgram("other-program").buildDefinition();
+    repo.createOrUpdateStatusDefinitions(
+        program.adminName(), new StatusDefinitions(ORIGINAL_STATUSES));
+    AccountModel account = resourceCreator.insertAccount();
+    ApplicantModel applicant =
+        resourceCreator.insertApplicantWithAccount(Optional.of("user@example.com"));
+    ApplicationModel application =
+        ApplicationModel.create(applicant, program.toProgram(), LifecycleStage.ACTIVE)
+            .setSubmitTimeToNow();
+    StatusEvent event =
+        StatusEvent.builder()
+            .setEmailSent(true)
+            .setStatusText(STATUS_WITH_ONLY_ENGLISH_EMAIL.statusText())
+            .build();
+
+    long bulkStatusUpdateId =
+        service
+            .setStatuses(ImmutableList.of(application.id), program, event, account)
+            .orElseThrow();
+
+    assertThat(service.getBulkStatusUpdate(bulkStatusUpdateId, program)).isPresent();
+    assertThat(service.getBulkStatusUpdate(bulkStatusUpdateId, otherProgram)).isEmpty();
+  }
+
   @Test
   public void setStatus_sentEmailFalse_doesNotSendEmail() throws Exception {
     Instant start = Instant.now();
@@ -883,6 +1030,9 @@ public class ProgramAdminApplicationServiceTest extends ResetPostgres {
         instanceOf(DeploymentType.class),
         instanceOf(MessagesApi.class),
         instanceOf(ApplicationRepository.class),
-        instanceOf(ApplicationStatusesRepository.class));
+        instanceOf(ApplicationStatusesRepository.class),
+        instanceOf(BulkStatusUpdateRepository.class),
+        instanceOf(TransactionManager.class),
+        instanceOf(Clock.class));
   }
 }
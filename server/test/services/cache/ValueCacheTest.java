@@ -0,0 +1,57 @@
+package services.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ValueCacheTest {
+
+  @Test
+  public void getOrElseUpdate_loadsOnceAndRecordsStats() {
+    ValueCache<String> cache = new ValueCache<>("test", 1000, (key, value) -> value.length());
+
+    assertThat(cache.getOrElseUpdate("key", () -> "first")).isEqualTo("first");
+    assertThat(cache.getOrElseUpdate("key", () -> "second")).isEqualTo("first");
+
+    assertThat(cache.get("key")).hasValue("first");
+    assertThat(cache.getStats().missCount()).isEqualTo(1);
+    assertThat(cache.getStats().hitCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void set_tracksWeightedSize() {
+    ValueCache<String> cache = new ValueCache<>("test", 1000, (key, value) -> value.length());
+
+    cache.set("one", "12345");
+    cache.set("two", "123");
+
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+    assertThat(cache.getWeightedSize()).isEqualTo(8);
+    assertThat(cache.getMaximumWeight()).isEqualTo(1000);
+  }
+
+  @Test
+  public void removeIf_removesMatchingEntries() {
+    ValueCache<String> cache = new ValueCache<>("test", 1000, (key, value) -> value.length());
+    cache.set("a:1", "12345");
+    cache.set("a:2", "12345");
+    cache.set("b:1", "12345");
+
+    cache.removeIf(key -> key.startsWith("a:"));
+
+    assertThat(cache.get("a:1")).isEmpty();
+    assertThat(cache.get("a:2")).isEmpty();
+    assertThat(cache.get("b:1")).hasValue("12345");
+  }
+
+  @Test
+  public void removeAll_removesEveryEntry() {
+    ValueCache<String> cache = new ValueCache<>("test", 1000, (key, value) -> value.length());
+    cache.set("one", "12345");
+
+    cache.removeAll();
+
+    assertThat(cache.get("one")).isEmpty();
+    assertThat(cache.getWeightedSize()).isEqualTo(0);
+  }
+}
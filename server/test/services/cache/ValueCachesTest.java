@@ -0,0 +1,42 @@
+package services.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Test;
+
+public class ValueCachesTest {
+
+  private static final Config CONFIG =
+      ConfigFactory.parseMap(
+          ImmutableMap.of(
+              "value_caches.test.maximum-weight", "1000",
+              "value_caches.version-programs.maximum-weight", "1000",
+              "value_caches.version-questions.maximum-weight", "1000",
+              "value_caches.program-versions.maximum-weight", "1000"));
+
+  @Test
+  public void create_sameName_returnsSameCache() {
+    ValueCaches valueCaches = new ValueCaches(CONFIG, new ObjectMapper());
+
+    ValueCache<String> first = valueCaches.create("test", (key, value) -> value.length());
+    ValueCache<String> second = valueCaches.create("test", (key, value) -> value.length());
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getMaximumWeight()).isEqualTo(1000);
+  }
+
+  @Test
+  public void removeAll_clearsCreatedCaches() {
+    ValueCaches valueCaches = new ValueCaches(CONFIG, new ObjectMapper());
+    ValueCache<String> cache = valueCaches.create("test", (key, value) -> value.length());
+    cache.set("key", "value");
+
+    valueCaches.removeAll();
+
+    assertThat(cache.get("key")).isEmpty();
+  }
+}
@@ -0,0 +1,39 @@
+package services.docs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.Test;
+
+public class GeneratedApiDocTest {
+
+  @Test
+  public void of_sameContent_hasSameStrongETag() {
+    GeneratedApiDoc doc = GeneratedApiDoc.of("openapi: 3.0.0");
+
+    assertThat(doc.etag()).startsWith("\"").endsWith("\"");
+    assertThat(doc.etag()).isEqualTo(GeneratedApiDoc.of("openapi: 3.0.0").etag());
+    assertThat(doc.etag()).isNotEqualTo(GeneratedApiDoc.of("swagger: 2.0").etag());
+  }
+
+  @Test
+  public void matchesAnyOf_noHeader_isFalse() {
+    assertThat(GeneratedApiDoc.of("content").matchesAnyOf(Optional.empty())).isFalse();
+  }
+
+  @Test
+  public void matchesAnyOf_listContainingETag_isTrue() {
+    GeneratedApiDoc doc = GeneratedApiDoc.of("content");
+
+    assertThat(doc.matchesAnyOf(Optional.of("\"other\", " + doc.etag()))).isTrue();
+    assertThat(doc.matchesAnyOf(Optional.of("W/" + doc.etag()))).isTrue();
+    assertThat(doc.matchesAnyOf(Optional.of("*"))).isTrue();
+  }
+
+  @Test
+  public void matchesAnyOf_otherETags_isFalse() {
+    GeneratedApiDoc doc = GeneratedApiDoc.of("content");
+
+    assertThat(doc.matchesAnyOf(Optional.of("\"other\", W/\"another\""))).isFalse();
+  }
+}
@@ -0,0 +1,40 @@
+package services.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import java.util.List;
+import models.OutboxEmailModel;
+import org.junit.Test;
+import repository.ResetPostgres;
+
+public class EmailOutboxTest extends ResetPostgres {
+
+  @Test
+  public void send_queuesEmail() {
+    EmailOutbox outbox = instanceOf(EmailOutbox.class);
+
+    outbox.send(ImmutableList.of("one@example.com", "two@example.com"), "Subject", "Body");
+
+    List<OutboxEmailModel> queued = DB.getDefault().find(OutboxEmailModel.class).findList();
+    assertThat(queued).hasSize(1);
+    assertThat(queued.get(0).getToAddresses())
+        .containsExactly("one@example.com", "two@example.com");
+    assertThat(queued.get(0).getSubject()).isEqualTo("Subject");
+    assertThat(queued.get(0).getBodyText()).isEqualTo("Body");
+    assertThat(queued.get(0).getAttempts()).isEqualTo(0);
+  }
+
+  @Test
+  public void send_noRecipients_doesNotQueueEmail() {
+    instanceOf(EmailOutbox.class).send(ImmutableList.of(), "Subject", "Body");
+
+    assertThat(DB.getDefault().find(OutboxEmailModel.class).findCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void injectedEmailSendClient_isOutbox() {
+    assertThat(instanceOf(EmailSendClient.class)).isInstanceOf(EmailOutbox.class);
+  }
+}
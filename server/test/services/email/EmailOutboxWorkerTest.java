@@ -0,0 +1,176 @@
+package services.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.ebean.DB;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import models.OutboxEmailModel;
+import org.apache.pekko.actor.ActorSystem;
+import org.junit.Before;
+import org.junit.Test;
+import play.api.db.evolutions.ApplicationEvolutions;
+import play.inject.ApplicationLifecycle;
+import repository.EmailOutboxRepository;
+import repository.ResetPostgres;
+import services.monitoring.EmailSendMetrics;
+
+public class EmailOutboxWorkerTest extends ResetPostgres {
+  private static final Config CONFIG =
+      ConfigFactory.parseString(
+          """
+          email.outbox {
+            poll-interval = 1 hour
+            batch-size = 2
+            max-sends-per-second = 1000
+            max-attempts = 2
+            initial-backoff = 30 seconds
+            max-backoff = 1 hour
+            claim-lease = 5 minutes
+          }
+          """);
+
+  private final EmailSendClient emailProviderClient = mock(EmailSendClient.class);
+  private EmailOutbox outbox;
+  private EmailOutboxWorker worker;
+
+  @Before
+  public void setUp() {
+    outbox = instanceOf(EmailOutbox.class);
+    worker =
+        new EmailOutboxWorker(
+            instanceOf(ApplicationEvolutions.class),
+            instanceOf(EmailOutboxRepository.class),
+            emailProviderClient,
+            instanceOf(EmailSendMetrics.class),
+            instanceOf(Clock.class),
+            CONFIG,
+            instanceOf(ActorSystem.class),
+            instanceOf(EmailOutboxExecutionContext.class),
+            instanceOf(ApplicationLifecycle.class));
+  }
+
+  @Test
+  public void drain_sendsEveryEmailInBatchesAndRemovesThem() {
+    for (int i = 0; i < 5; i++) {
+      outbox.send("applicant" + i + "@example.com", "Subject " + i, "Body");
+    }
+
+    worker.drain();
+
+    for (int i = 0; i < 5; i++) {
+      verify(emailProviderClient)
+          .send(ImmutableList.of("applicant" + i + "@example.com"), "Subject " + i, "Body");
+    }
+    assertThat(queuedEmails()).isEmpty();
+  }
+
+  @Test
+  public void drain_failedSend_isRetriedLater() {
+    doThrow(new EmailSendException("Provider down", new RuntimeException()))
+        .when(emailProviderClient)
+        .send(anyAddresses(), anyString(), anyString());
+    outbox.send("applicant@example.com", "Subject", "Body");
+    Instant beforeDrain = Instant.now();
+
+    worker.drain();
+
+    List<OutboxEmailModel> queued = queuedEmails();
+    assertThat(queued).hasSize(1);
+    assertThat(queued.get(0).getAttempts()).isEqualTo(1);
+    assertThat(queued.get(0).getLastError().orElseThrow()).contains("Provider down");
+    assertThat(queued.get(0).getNextAttemptTime()).isAfter(beforeDrain.plusSeconds(29));
+
+    // The email isn't due again until its backoff has passed.
+    worker.drain();
+    verify(emailProviderClient, times(1)).send(anyAddresses(), anyString(), anyString());
+  }
+
+  @Test
+  public void drain_emailFailingEveryAttempt_isDropped() {
+    doThrow(new EmailSendException("Provider down", new RuntimeException()))
+        .when(emailProviderClient)
+        .send(anyAddresses(), anyString(), anyString());
+    outbox.send("applicant@example.com", "Subject", "Body");
+
+    worker.drain();
+    makeQueuedEmailsDue();
+    worker.drain();
+
+    verify(emailProviderClient, times(2)).send(anyAddresses(), anyString(), anyString());
+    assertThat(queuedEmails()).isEmpty();
+  }
+
+  @Test
+  public void drain_emailReclaimedByAnotherServer_isNotSent() {
+    outbox.send("applicant@example.com", "First", "Body");
+    outbox.send("applicant@example.com", "Second", "Body");
+    // While the first email is being sent, the claim on the second lapses and another server
+    // claims it.
+    doAnswer(
+            invocation -> {
+              DB.getDefault()
+                  .sqlUpdate(
+                      "UPDATE email_outbox SET next_attempt_time = :otherLease"
+                          + " WHERE subject = 'Second'")
+                  .setParameter("otherLease", Instant.now().plus(Duration.ofHours(1)))
+                  .execute();
+              return null;
+            })
+        .when(emailProviderClient)
+        .send(anyAddresses(), eq("First"), anyString());
+
+    worker.drain();
+
+    verify(emailProviderClient, times(1)).send(anyAddresses(), anyString(), anyString());
+    assertThat(queuedEmails()).hasSize(1);
+  }
+
+  @Test
+  public void drain_emptyOutbox_sendsNothing() {
+    worker.drain();
+
+    verifyNoInteractions(emailProviderClient);
+  }
+
+  @Test
+  public void backoff_doublesUpToMax() {
+    Duration initial = Duration.ofSeconds(30);
+    Duration max = Duration.ofHours(1);
+
+    assertThat(EmailOutboxWorker.backoff(1, initial, max)).isEqualTo(Duration.ofSeconds(30));
+    assertThat(EmailOutboxWorker.backoff(2, initial, max)).isEqualTo(Duration.ofSeconds(60));
+    assertThat(EmailOutboxWorker.backoff(4, initial, max)).isEqualTo(Duration.ofSeconds(240));
+    assertThat(EmailOutboxWorker.backoff(8, initial, max)).isEqualTo(max);
+    assertThat(EmailOutboxWorker.backoff(100, initial, max)).isEqualTo(max);
+  }
+
+  private static ImmutableList<String> anyAddresses() {
+    return any();
+  }
+
+  private static List<OutboxEmailModel> queuedEmails() {
+    return DB.getDefault().find(OutboxEmailModel.class).orderBy("id").findList();
+  }
+
+  private static void makeQueuedEmailsDue() {
+    DB.getDefault()
+        .sqlUpdate("UPDATE email_outbox SET next_attempt_time = :now")
+        .setParameter("now", Instant.now().minusSeconds(1))
+        .execute();
+  }
+}
@@ -26,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import play.Environment;
 import repository.ResetPostgres;
 import services.cloud.azure.Credentials;
+import services.email.EmailSendException;
 import services.monitoring.EmailSendMetrics;
 import services.settings.SettingsManifest;
 
@@ -163,7 +164,7 @@ public class GraphApiEmailClientTest extends ResetPostgres {
     // Simulate an API exception
     when(graphClient.users().byUserId(GRAPH_ACCOUNT_ID).sendMail()).thenThrow(new ApiException());
 
-    emailClient.send(toAddress, subject, body);
+    assertThrows(EmailSendException.class, () -> emailClient.send(toAddress, subject, body));
 
     UserItemRequestBuilder userItemRequestBuilder = graphClient.users().byUserId(GRAPH_ACCOUNT_ID);
     assertThrows(ApiException.class, () -> userItemRequestBuilder.sendMail());
@@ -182,7 +183,7 @@ public class GraphApiEmailClientTest extends ResetPostgres {
     // Simulate an API exception
     when(graphClient.users().byUserId(GRAPH_ACCOUNT_ID).sendMail()).thenThrow(new ApiException());
 
-    emailClient.send(toAddress, subject, body);
+    assertThrows(EmailSendException.class, () -> emailClient.send(toAddress, subject, body));
 
     UserItemRequestBuilder userItemRequestBuilder = graphClient.users().byUserId(GRAPH_ACCOUNT_ID);
     assertThrows(ApiException.class, () -> userItemRequestBuilder.sendMail());
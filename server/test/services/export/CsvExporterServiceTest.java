@@ -644,6 +644,37 @@ public class CsvExporterServiceTest extends AbstractExporterTest {
     assertThat(records.get(2).get("Application ID")).isEqualTo(appC.id.toString());
   }
 
+  @Test
+  public void streamProgramAllVersionsCsv_matchesGetProgramAllVersionsCsv() throws Exception {
+    createFakeQuestions();
+    ProgramModel fakeProgram =
+        FakeProgramBuilder.newActiveProgram()
+            .withQuestion(testQuestionBank.nameApplicantName())
+            .build();
+    Instant firstSubmissionTime = Instant.parse("2022-12-09T10:30:30.00Z");
+    FakeApplicationFiller.newFillerFor(fakeProgram)
+        .answerNameQuestion(testQuestionBank.nameApplicantName(), "Jane", "", "Doe", "")
+        .atSubmitTime(firstSubmissionTime)
+        .submit();
+    FakeApplicationFiller.newFillerFor(fakeProgram)
+        .answerNameQuestion(testQuestionBank.nameApplicantName(), "John", "", "Doe", "")
+        .atSubmitTime(firstSubmissionTime.plusSeconds(5L))
+        .submit();
+
+    String streamedCsv =
+        exporterService
+            .streamProgramAllVersionsCsv(fakeProgram.id, SubmittedApplicationFilter.EMPTY)
+            .runFold("", (csv, chunk) -> csv + chunk.utf8String(), mat)
+            .toCompletableFuture()
+            .join();
+
+    assertThat(streamedCsv)
+        .isEqualTo(
+            exporterService.getProgramAllVersionsCsv(
+                fakeProgram.id, SubmittedApplicationFilter.EMPTY));
+    assertThat(CSVParser.parse(streamedCsv, DEFAULT_FORMAT).getRecords()).hasSize(2);
+  }
+
   @Test
   public void getDemographicsCsv_recordsExportedInAscendingIdOrder() throws Exception {
     ProgramModel fakeProgram = FakeProgramBuilder.newActiveProgram().build();
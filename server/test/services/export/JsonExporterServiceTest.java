@@ -3,10 +3,14 @@ package services.export;
 import static org.assertj.core.api.Assertions.assertThat;
 import static play.api.test.Helpers.testServerPort;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import models.ApplicantModel;
 import models.LifecycleStage;
 import models.ProgramModel;
@@ -68,6 +72,112 @@ public class JsonExporterServiceTest extends AbstractExporterTest {
     resultAsserter.assertValueAtPath(2, "application_id", firstApplication.id);
   }
 
+  @Test
+  public void streamExport_matchesExport() {
+    var fakeProgram = FakeProgramBuilder.newActiveProgram("fake-program").build();
+    FakeApplicationFiller.newFillerFor(fakeProgram).submit();
+    FakeApplicationFiller.newFillerFor(fakeProgram).submit();
+
+    JsonExporterService exporter = instanceOf(JsonExporterService.class);
+
+    String streamedJsonString =
+        exporter
+            .streamExport(fakeProgram.getProgramDefinition(), SubmittedApplicationFilter.EMPTY)
+            .runFold("", (json, chunk) -> json + chunk.utf8String(), mat)
+            .toCompletableFuture()
+            .join();
+
+    assertThat(streamedJsonString)
+        .isEqualTo(
+            exporter.export(
+                fakeProgram.getProgramDefinition(),
+                SubmitTimeSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
+                SubmittedApplicationFilter.EMPTY));
+  }
+
+  @Test
+  public void streamExport_withRepeatedAnswers_matchesExport() throws Exception {
+    createFakeQuestions();
+    var fakeProgram =
+        FakeProgramBuilder.newActiveProgram()
+            .withHouseholdMembersEnumeratorQuestion()
+            .withHouseholdMembersRepeatedQuestion(
+                testQuestionBank.checkboxRepeatedHouseholdMemberUsedAppliances())
+            .build();
+    FakeApplicationFiller.newFillerFor(fakeProgram)
+        .answerEnumeratorQuestion(ImmutableList.of("taylor", "sam"))
+        .answerCheckboxQuestion(
+            testQuestionBank.checkboxRepeatedHouseholdMemberUsedAppliances(),
+            "sam",
+            ImmutableList.of(1L))
+        .submit();
+    FakeApplicationFiller.newFillerFor(fakeProgram).submit();
+
+    JsonExporterService exporter = instanceOf(JsonExporterService.class);
+
+    String streamedJsonString =
+        exporter
+            .streamExport(fakeProgram.getProgramDefinition(), SubmittedApplicationFilter.EMPTY)
+            .runFold("", (json, chunk) -> json + chunk.utf8String(), mat)
+            .toCompletableFuture()
+            .join();
+
+    assertThat(streamedJsonString)
+        .isEqualTo(
+            exporter.export(
+                fakeProgram.getProgramDefinition(),
+                SubmitTimeSequentialAccessPaginationSpec.APPLICATION_MODEL_MAX_PAGE_SIZE_SPEC,
+                SubmittedApplicationFilter.EMPTY));
+  }
+
+  @Test
+  public void streamExport_noApplications_isEmptyArray() {
+    var fakeProgram = FakeProgramBuilder.newActiveProgram("fake-program").build();
+
+    String streamedJsonString =
+        instanceOf(JsonExporterService.class)
+            .streamExport(fakeProgram.getProgramDefinition(), SubmittedApplicationFilter.EMPTY)
+            .runFold("", (json, chunk) -> json + chunk.utf8String(), mat)
+            .toCompletableFuture()
+            .join();
+
+    assertThat(streamedJsonString).isEqualTo("[]");
+  }
+
+  @Test
+  public void streamExport_moreApplicationsThanPageSize_exportsEveryApplication() throws Exception {
+    assertStreamExportsEveryApplication(ProgramApplicationPager.PAGE_SIZE + 1);
+  }
+
+  @Test
+  public void streamExport_exactlyPageSizeApplications_exportsEveryApplication() throws Exception {
+    assertStreamExportsEveryApplication(ProgramApplicationPager.PAGE_SIZE);
+  }
+
+  private void assertStreamExportsEveryApplication(int applicationCount) throws Exception {
+    var fakeProgram = FakeProgramBuilder.newActiveProgram("fake-program").build();
+    Set<Long> applicationIds = new HashSet<>();
+    for (int i = 0; i < applicationCount; i++) {
+      applicationIds.add(
+          FakeApplicationFiller.newFillerFor(fakeProgram).submit().getApplication().id);
+    }
+
+    String streamedJsonString =
+        instanceOf(JsonExporterService.class)
+            .streamExport(fakeProgram.getProgramDefinition(), SubmittedApplicationFilter.EMPTY)
+            .runFold("", (json, chunk) -> json + chunk.utf8String(), mat)
+            .toCompletableFuture()
+            .join();
+
+    // The output must be a complete array, with each application in it once.
+    JsonNode exported = instanceOf(ObjectMapper.class).readTree(streamedJsonString);
+    assertThat(exported.isArray()).isTrue();
+    assertThat(exported.size()).isEqualTo(applicationCount);
+    Set<Long> exportedIds = new HashSet<>();
+    exported.forEach(application -> exportedIds.add(application.get("application_id").asLong()));
+    assertThat(exportedIds).isEqualTo(applicationIds);
+  }
+
   @Test
   public void export_testApplicationTopLevelFields() {
     // Times are expected to be exported in instance local time, so we choose
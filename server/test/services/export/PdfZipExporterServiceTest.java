@@ -0,0 +1,78 @@
+package services.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import models.ApplicationModel;
+import org.apache.pekko.util.ByteString;
+import org.junit.Test;
+import repository.SubmittedApplicationFilter;
+import services.program.ProgramDefinition;
+
+public class PdfZipExporterServiceTest extends AbstractExporterTest {
+
+  @Test
+  public void streamExport_containsPdfOfEachApplication() throws IOException {
+    var fakeProgram = FakeProgramBuilder.newActiveProgram("fake-program").build();
+    List<ApplicationModel> applications = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      applications.add(FakeApplicationFiller.newFillerFor(fakeProgram).submit().getApplication());
+    }
+
+    ByteString zip = streamZip(fakeProgram.getProgramDefinition());
+
+    List<String> entryNames = new ArrayList<>();
+    try (ZipInputStream zipInput = new ZipInputStream(new ByteArrayInputStream(zip.toArray()))) {
+      ZipEntry entry;
+      while ((entry = zipInput.getNextEntry()) != null) {
+        entryNames.add(entry.getName());
+        PdfReader pdfReader = new PdfReader(zipInput.readAllBytes());
+        assertThat(PdfTextExtractor.getTextFromPage(pdfReader, 1))
+            .contains("Program Name : fake-program");
+        pdfReader.close();
+      }
+    }
+    // Applications with the same submit time are exported newest first.
+    assertThat(entryNames).hasSize(applications.size());
+    for (int i = 0; i < applications.size(); i++) {
+      assertThat(entryNames.get(i))
+          .startsWith(String.format("name-unavailable (%d)-", applications.get(9 - i).id))
+          .endsWith(".pdf");
+    }
+  }
+
+  @Test
+  public void streamExport_noApplications_isEmptyZip() throws IOException {
+    var fakeProgram = FakeProgramBuilder.newActiveProgram("fake-program").build();
+
+    ByteString zip = streamZip(fakeProgram.getProgramDefinition());
+
+    try (ZipInputStream zipInput = new ZipInputStream(new ByteArrayInputStream(zip.toArray()))) {
+      assertThat(zipInput.getNextEntry()).isNull();
+    }
+  }
+
+  @Test
+  public void entryName_replacesPathCharacters() {
+    PdfExporter.InMemoryPdf pdf =
+        new PdfExporter.InMemoryPdf(new byte[0], "Last/First: \"Nick\" (1)-2026-01-01T10:00.pdf");
+
+    assertThat(PdfZipExporterService.entryName(pdf))
+        .isEqualTo("Last_First_ _Nick_ (1)-2026-01-01T10_00.pdf");
+  }
+
+  private ByteString streamZip(ProgramDefinition programDefinition) {
+    return instanceOf(PdfZipExporterService.class)
+        .streamExport(programDefinition, SubmittedApplicationFilter.EMPTY)
+        .runFold(ByteString.emptyByteString(), ByteString::concat, mat)
+        .toCompletableFuture()
+        .join();
+  }
+}
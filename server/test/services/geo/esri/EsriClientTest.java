@@ -17,6 +17,7 @@ import org.junit.After;
 import org.junit.Test;
 import play.test.WithApplication;
 import services.Address;
+import services.geo.AddressLocation;
 import services.geo.AddressSuggestion;
 import services.geo.AddressSuggestionGroup;
 import services.geo.ServiceAreaInclusion;
@@ -115,6 +116,91 @@ public class EsriClientTest extends WithApplication {
     assertThat(area.get().getTimeStamp()).isInstanceOf(Long.class);
   }
 
+  @Test
+  public void getServiceAreaInclusionGroup_repeatedLookupIsCached() throws Exception {
+    helper = new EsriTestHelper(TestType.SERVICE_AREA_VALIDATION, instanceOf(ObjectMapper.class));
+    EsriClient client = helper.getClient();
+    client
+        .getServiceAreaInclusionGroup(
+            EsriTestHelper.ESRI_SERVICE_AREA_VALIDATION_OPTION, EsriTestHelper.LOCATION)
+        .toCompletableFuture()
+        .join();
+    helper.stopServer();
+    helper = null;
+
+    ImmutableList<ServiceAreaInclusion> inclusionList =
+        client
+            .getServiceAreaInclusionGroup(
+                EsriTestHelper.ESRI_SERVICE_AREA_VALIDATION_OPTION, EsriTestHelper.LOCATION)
+            .toCompletableFuture()
+            .join();
+
+    assertThat(inclusionList).hasSize(1);
+    assertThat(inclusionList.get(0).getState()).isEqualTo(ServiceAreaState.IN_AREA);
+  }
+
+  @Test
+  public void getServiceAreaInclusionGroup_failedLookupIsNotCached() throws Exception {
+    helper =
+        new EsriTestHelper(TestType.SERVICE_AREA_VALIDATION_ERROR, instanceOf(ObjectMapper.class));
+    helper
+        .getClient()
+        .getServiceAreaInclusionGroup(
+            EsriTestHelper.ESRI_SERVICE_AREA_VALIDATION_OPTION, EsriTestHelper.LOCATION)
+        .toCompletableFuture()
+        .join();
+
+    assertThat(
+            helper
+                .getClient()
+                .getServiceAreaFeaturesCache()
+                .get(
+                    EsriClient.serviceAreaCacheKey(
+                        EsriTestHelper.LOCATION,
+                        EsriTestHelper.ESRI_SERVICE_AREA_VALIDATION_OPTION.getUrl(),
+                        EsriTestHelper.ESRI_SERVICE_AREA_VALIDATION_OPTION.getAttribute())))
+        .isEmpty();
+  }
+
+  @Test
+  public void serviceAreaCacheKey_roundsLocation() {
+    AddressLocation nearby =
+        AddressLocation.builder()
+            .setLongitude(EsriTestHelper.LOCATION.getLongitude() + 0.000001)
+            .setLatitude(EsriTestHelper.LOCATION.getLatitude() - 0.000001)
+            .setWellKnownId(EsriTestHelper.LOCATION.getWellKnownId())
+            .build();
+
+    assertThat(EsriClient.serviceAreaCacheKey(nearby, "/query", "CITYNAME"))
+        .isEqualTo(EsriClient.serviceAreaCacheKey(EsriTestHelper.LOCATION, "/query", "CITYNAME"));
+    assertThat(EsriClient.serviceAreaCacheKey(nearby, "/query", "JURIS"))
+        .isNotEqualTo(
+            EsriClient.serviceAreaCacheKey(EsriTestHelper.LOCATION, "/query", "CITYNAME"));
+  }
+
+  @Test
+  public void getAddressSuggestions_repeatedLookupIsCached() throws Exception {
+    helper = new EsriTestHelper(TestType.STANDARD, instanceOf(ObjectMapper.class));
+    EsriClient client = helper.getClient();
+    client.getAddressSuggestions(ADDRESS).toCompletableFuture().join();
+    helper.stopServer();
+    helper = null;
+    Address sameAddress =
+        Address.builder()
+            .setStreet(" 380  new york st")
+            .setLine2("")
+            .setCity("REDLANDS")
+            .setState("ca")
+            .setZip("92373 ")
+            .build();
+
+    AddressSuggestionGroup group =
+        client.getAddressSuggestions(sameAddress).toCompletableFuture().join();
+
+    assertThat(group.getAddressSuggestions()).hasSizeGreaterThan(0);
+    assertThat(group.getOriginalAddress()).isEqualTo(sameAddress);
+  }
+
   @Test
   public void getAddressSuggestions() throws Exception {
     helper = new EsriTestHelper(TestType.STANDARD, instanceOf(ObjectMapper.class));
@@ -11,6 +11,7 @@ import java.time.ZoneId;
 import org.junit.Before;
 import org.junit.Test;
 import play.test.WithApplication;
+import services.cache.ValueCaches;
 import services.geo.AddressLocation;
 import services.geo.ServiceAreaInclusion;
 
@@ -47,7 +48,11 @@ public class EsriServiceAreaValidationOptionTest extends WithApplication {
             .build();
 
     client =
-        new FakeEsriClient(clock, esriServiceAreaValidationConfig, instanceOf(ObjectMapper.class));
+        new FakeEsriClient(
+            clock,
+            esriServiceAreaValidationConfig,
+            instanceOf(ObjectMapper.class),
+            instanceOf(ValueCaches.class));
 
     inclusionGroup =
         client
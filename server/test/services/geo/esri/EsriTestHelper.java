@@ -22,6 +22,7 @@ import org.apache.commons.lang3.NotImplementedException;
 import play.libs.ws.WSClient;
 import play.routing.RoutingDsl;
 import play.server.Server;
+import services.cache.ValueCaches;
 import services.geo.AddressLocation;
 import services.settings.SettingsManifest;
 
@@ -98,9 +99,12 @@ public class EsriTestHelper {
   private final WSClient ws;
   private final EsriClient client;
   private final ObjectMapper mapper;
+  private final ValueCaches valueCaches;
 
   public EsriTestHelper(TestType testType, ObjectMapper mapper) {
     this.mapper = checkNotNull(mapper);
+    // Each helper gets its own caches, so lookups aren't served from another test's responses.
+    this.valueCaches = new ValueCaches(CONFIG, mapper);
 
     ServerSettings serverSettings =
         switch (testType) {
@@ -158,7 +162,12 @@ public class EsriTestHelper {
 
     RealEsriClient esriClient =
         new RealEsriClient(
-            SETTINGS_MANIFEST, CLOCK, ESRI_SERVICE_AREA_VALIDATION_CONFIG, wsClient, mapper);
+            SETTINGS_MANIFEST,
+            CLOCK,
+            ESRI_SERVICE_AREA_VALIDATION_CONFIG,
+            wsClient,
+            mapper,
+            valueCaches);
 
     // overwrite to not include base URL so it uses the mock service
     esriClient.ESRI_FIND_ADDRESS_CANDIDATES_URLS =
@@ -181,7 +190,12 @@ public class EsriTestHelper {
 
     RealEsriClient esriClient =
         new RealEsriClient(
-            SETTINGS_MANIFEST, CLOCK, ESRI_SERVICE_AREA_VALIDATION_CONFIG, wsClient, mapper);
+            SETTINGS_MANIFEST,
+            CLOCK,
+            ESRI_SERVICE_AREA_VALIDATION_CONFIG,
+            wsClient,
+            mapper,
+            valueCaches);
 
     // overwrite to not include base URL so it uses the mock service
     esriClient.ESRI_FIND_ADDRESS_CANDIDATES_URLS =
@@ -209,7 +223,12 @@ public class EsriTestHelper {
 
     RealEsriClient esriClient =
         new RealEsriClient(
-            mockSettingsManifest, CLOCK, ESRI_SERVICE_AREA_VALIDATION_CONFIG, wsClient, mapper);
+            mockSettingsManifest,
+            CLOCK,
+            ESRI_SERVICE_AREA_VALIDATION_CONFIG,
+            wsClient,
+            mapper,
+            valueCaches);
 
     return new ServerSettings(server, wsClient, esriClient);
   }
@@ -248,14 +267,21 @@ public class EsriTestHelper {
 
     RealEsriClient esriClient =
         new RealEsriClient(
-            mockSettingsManifest, CLOCK, ESRI_SERVICE_AREA_VALIDATION_CONFIG, wsClient, mapper);
+            mockSettingsManifest,
+            CLOCK,
+            ESRI_SERVICE_AREA_VALIDATION_CONFIG,
+            wsClient,
+            mapper,
+            valueCaches);
 
     return new ServerSettings(server, wsClient, esriClient);
   }
 
   private ServerSettings createServerSettingsThatReturnFakeClient() {
     return new ServerSettings(
-        null, null, new FakeEsriClient(CLOCK, ESRI_SERVICE_AREA_VALIDATION_CONFIG, mapper));
+        null,
+        null,
+        new FakeEsriClient(CLOCK, ESRI_SERVICE_AREA_VALIDATION_CONFIG, mapper, valueCaches));
   }
 
   public EsriClient getClient() {
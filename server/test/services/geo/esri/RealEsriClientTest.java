@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import play.libs.Json;
 import play.libs.ws.WSClient;
 import play.test.WithApplication;
+import services.cache.ValueCaches;
 import services.geo.esri.EsriTestHelper.TestType;
 import services.geo.esri.models.Candidate;
 import services.geo.esri.models.FindAddressCandidatesResponse;
@@ -173,7 +174,8 @@ public class RealEsriClientTest extends WithApplication {
             mockClock,
             mockEsriServiceAreaValidationConfig,
             mockWsClient,
-            instanceOf(ObjectMapper.class));
+            instanceOf(ObjectMapper.class),
+            instanceOf(ValueCaches.class));
 
     assertThat(client.ESRI_FIND_ADDRESS_CANDIDATES_URLS.size())
         .isEqualTo(testData.expectedUrlCount());
@@ -0,0 +1,44 @@
+package services.geojson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class FeatureCollectionTest {
+
+  @Test
+  public void getCenter_singleFeature_isItsLocation() {
+    FeatureCollection features =
+        new FeatureCollection("FeatureCollection", List.of(point("a", -122.3321, 47.6062)));
+
+    assertThat(features.getCenter()).containsExactly(-122.3321, 47.6062);
+  }
+
+  @Test
+  public void getCenter_multipleFeatures_isTheirCentroid() {
+    FeatureCollection features =
+        new FeatureCollection(
+            "FeatureCollection",
+            List.of(
+                point("a", -122.3321, 47.6062),
+                point("b", -122.3233, 47.5979),
+                point("c", -122.4, 47.7),
+                point("d", -122.3, 47.6),
+                point("e", -122.3, 47.6)));
+
+    // A bounding box center would be (-122.35, 47.649) and is pulled further by the outlier.
+    assertThat(features.getCenter().get(0)).isCloseTo(-122.33108, within(1e-5));
+    assertThat(features.getCenter().get(1)).isCloseTo(47.62082, within(1e-5));
+  }
+
+  private static Feature point(String id, double longitude, double latitude) {
+    return new Feature(
+        "Feature",
+        new Geometry("Point", List.of(longitude, latitude)),
+        Map.of("name", id, "address", id, "url", id),
+        id);
+  }
+}
@@ -0,0 +1,126 @@
+package services.geojson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import models.GeoJsonDataModel;
+import org.junit.Before;
+import org.junit.Test;
+import repository.DatabaseExecutionContext;
+import repository.GeoJsonDataRepository;
+import repository.ResetPostgres;
+import services.geojson.MapFeaturesService.BoundingBox;
+
+public class MapFeaturesServiceTest extends ResetPostgres {
+  private DatabaseExecutionContext dbExecutionContext;
+  private GeoJsonDataModel geoJsonData;
+  private MapFeaturesService service;
+
+  @Before
+  public void setup() throws IOException {
+    dbExecutionContext = instanceOf(DatabaseExecutionContext.class);
+    geoJsonData = resourceCreator.insertGeoJsonData(dbExecutionContext);
+    service = instanceOf(MapFeaturesService.class);
+    service.invalidateAll();
+  }
+
+  @Test
+  public void getFeatures_addsOriginalIds() {
+    FeatureCollection features = getFeatures(geoJsonData.getEndpoint()).get();
+
+    assertThat(features.features()).hasSize(7);
+    assertThat(features.features())
+        .allSatisfy(
+            feature ->
+                assertThat(feature.properties())
+                    .containsEntry(MapFeaturesService.ORIGINAL_ID_PROPERTY, feature.id()));
+  }
+
+  @Test
+  public void getFeatures_servesCachedFeaturesUntilInvalidated() {
+    String endpoint = geoJsonData.getEndpoint();
+    getFeatures(endpoint);
+    saveNewData(endpoint);
+
+    assertThat(getFeatures(endpoint).get().features()).hasSize(7);
+
+    service.invalidate(endpoint);
+
+    assertThat(getFeatures(endpoint).get().features())
+        .extracting(Feature::id)
+        .containsExactly("new-location");
+  }
+
+  @Test
+  public void getFeatures_missingEndpoint_isEmpty() {
+    assertThat(getFeatures("http://example.com/missing.json")).isEmpty();
+  }
+
+  @Test
+  public void getFeaturesWithin_onlyReturnsFeaturesInTheBox() {
+    // Covers downtown Seattle but not Ballard, Magnolia, the U District or Rainier Beach.
+    BoundingBox downtown = BoundingBox.parse("-122.34,47.59,-122.31,47.63");
+
+    assertThat(getFeaturesWithin(downtown).get())
+        .extracting(Feature::id)
+        .containsExactlyInAnyOrder(
+            "seattle-central-library",
+            "international-district-community-center",
+            "capitol-hill-health-center");
+  }
+
+  @Test
+  public void getFeaturesWithin_noFeaturesInTheBox_isEmptyList() {
+    BoundingBox elsewhere = BoundingBox.parse("0,0,1,1");
+
+    assertThat(getFeaturesWithin(elsewhere).get()).isEmpty();
+  }
+
+  @Test
+  public void boundingBox_crossingTheAntimeridian_containsBothSides() {
+    BoundingBox boundingBox = BoundingBox.parse("170, -10, -170, 10");
+
+    assertThat(boundingBox.contains(new Geometry("Point", List.of(175.0, 0.0)))).isTrue();
+    assertThat(boundingBox.contains(new Geometry("Point", List.of(-175.0, 0.0)))).isTrue();
+    assertThat(boundingBox.contains(new Geometry("Point", List.of(0.0, 0.0)))).isFalse();
+  }
+
+  @Test
+  public void boundingBox_parse_rejectsInvalidValues() {
+    assertThatThrownBy(() -> BoundingBox.parse("1,2,3"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BoundingBox.parse("a,b,c,d"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BoundingBox.parse("0,10,1,0"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Optional<FeatureCollection> getFeatures(String endpoint) {
+    return service.getFeatures(endpoint).toCompletableFuture().join();
+  }
+
+  private Optional<ImmutableList<Feature>> getFeaturesWithin(BoundingBox boundingBox) {
+    return service
+        .getFeaturesWithin(geoJsonData.getEndpoint(), boundingBox)
+        .toCompletableFuture()
+        .join();
+  }
+
+  private void saveNewData(String endpoint) {
+    FeatureCollection newData =
+        new FeatureCollection(
+            "FeatureCollection",
+            List.of(
+                new Feature(
+                    "Feature",
+                    new Geometry("Point", List.of(-122.0, 37.0)),
+                    Map.of("name", "New Location", "prop1", "value1", "prop2", "value2"),
+                    "new-location")));
+    instanceOf(GeoJsonDataRepository.class).saveGeoJson(endpoint, newData);
+  }
+}
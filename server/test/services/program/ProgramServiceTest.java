@@ -102,9 +102,11 @@ public class ProgramServiceTest extends ResetPostgres {
             instanceOf(repository.VersionRepository.class),
             instanceOf(repository.CategoryRepository.class),
             instanceOf(ClassLoaderExecutionContext.class),
+            instanceOf(repository.DatabaseExecutionContext.class),
             instanceOf(ProgramBlockValidationFactory.class),
             instanceOf(repository.ApplicationStatusesRepository.class),
-            translationLocales); // Inject the mock
+            translationLocales, // Inject the mock
+            instanceOf(ActiveCatalogSnapshotCache.class));
   }
 
   @Before
@@ -464,9 +466,11 @@ public class ProgramServiceTest extends ResetPostgres {
             instanceOf(repository.VersionRepository.class),
             instanceOf(repository.CategoryRepository.class),
             instanceOf(ClassLoaderExecutionContext.class),
+            instanceOf(repository.DatabaseExecutionContext.class),
             instanceOf(ProgramBlockValidationFactory.class),
             instanceOf(repository.ApplicationStatusesRepository.class),
-            translationLocales);
+            translationLocales,
+            instanceOf(ActiveCatalogSnapshotCache.class));
 
     QuestionDefinition question =
         testQuestionBank.textApplicantFavoriteColor().getQuestionDefinition();
@@ -2107,6 +2111,37 @@ public class ProgramServiceTest extends ResetPostgres {
         .hasMessageContaining("Program not found for slug: non-existent-program");
   }
 
+  @Test
+  public void getActiveCatalogSnapshot_indexesActiveProgramsAndQuestions() {
+    QuestionDefinition question = testQuestionBank.nameApplicantName().getQuestionDefinition();
+    ProgramDefinition activeProgram =
+        ProgramBuilder.newActiveProgram("Active Program")
+            .withBlock()
+            .withRequiredQuestionDefinition(question)
+            .buildDefinition();
+    ProgramBuilder.newDraftProgram("Draft Program").buildDefinition();
+
+    ActiveCatalogSnapshot snapshot = ps.getActiveCatalogSnapshot();
+
+    assertThat(snapshot.getPrograms())
+        .extracting(ProgramDefinition::id)
+        .containsExactly(activeProgram.id());
+    assertThat(snapshot.getProgramBySlug(activeProgram.slug()).get().id())
+        .isEqualTo(activeProgram.id());
+    assertThat(snapshot.getProgramByAdminName("Active Program")).isPresent();
+    assertThat(snapshot.getProgramByAdminName("Draft Program")).isEmpty();
+    // Program definitions in the snapshot are synced with their questions.
+    assertThat(
+            snapshot
+                .getProgramById(activeProgram.id())
+                .get()
+                .getQuestionDefinition(0, 0)
+                .getName())
+        .isEqualTo(question.getName());
+    assertThat(snapshot.getQuestionById(question.getId())).isPresent();
+    assertThat(snapshot.getQuestionByName(question.getName())).isPresent();
+  }
+
   @Test
   public void getDraftProgramDefinitionAsync_getsDraftProgram() throws Exception {
     ProgramDefinition programDefinition =
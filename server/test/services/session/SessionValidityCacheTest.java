@@ -0,0 +1,53 @@
+package services.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.Before;
+import org.junit.Test;
+import play.test.WithApplication;
+
+public class SessionValidityCacheTest extends WithApplication {
+  private static final Instant START_TIME = Instant.ofEpochSecond(1000);
+
+  private SessionValidityCache cache;
+
+  @Before
+  public void setUp() {
+    cache = instanceOf(SessionValidityCache.class);
+    cache.invalidateAll();
+  }
+
+  @Test
+  public void getSessionStartTime_returnsStoredStartTime() {
+    cache.putSessionStartTime(1L, "session", START_TIME);
+
+    assertThat(cache.getSessionStartTime(1L, "session")).hasValue(START_TIME);
+    assertThat(cache.getSessionStartTime(1L, "other-session")).isEmpty();
+    assertThat(cache.getSessionStartTime(2L, "session")).isEmpty();
+  }
+
+  @Test
+  public void invalidateSession_removesOnlyThatSession() {
+    cache.putSessionStartTime(1L, "session", START_TIME);
+    cache.putSessionStartTime(1L, "other-session", START_TIME);
+
+    cache.invalidateSession(1L, "session");
+
+    assertThat(cache.getSessionStartTime(1L, "session")).isEmpty();
+    assertThat(cache.getSessionStartTime(1L, "other-session")).hasValue(START_TIME);
+  }
+
+  @Test
+  public void invalidateAccount_removesOnlySessionsOfThatAccount() {
+    cache.putSessionStartTime(1L, "session", START_TIME);
+    cache.putSessionStartTime(1L, "other-session", START_TIME);
+    cache.putSessionStartTime(11L, "session", START_TIME);
+
+    cache.invalidateAccount(1L);
+
+    assertThat(cache.getSessionStartTime(1L, "session")).isEmpty();
+    assertThat(cache.getSessionStartTime(1L, "other-session")).isEmpty();
+    assertThat(cache.getSessionStartTime(11L, "session")).hasValue(START_TIME);
+  }
+}
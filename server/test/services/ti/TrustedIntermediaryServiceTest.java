@@ -248,6 +248,27 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
     assertThat(tiResultPrimary.accounts().get(0).getEmailAddress()).isEqualTo("email1");
   }
 
+  @Test
+  public void getManagedAccounts_returnsRequestedPageAndTotalCount() {
+    setupTiClientAccountWithApplicant("Emily", "2022-07-08", "email40", tiGroup);
+    setupTiClientAccountWithApplicant("Emma", "2022-07-08", "email50", tiGroup);
+    setupTiClientAccountWithApplicant("Third", "2022-07-10", "email60", tiGroup);
+    SearchParameters searchParameters =
+        SearchParameters.builder().setNameQuery(Optional.of("em")).build();
+
+    TrustedIntermediarySearchResult firstPage =
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 1, /* page= */ 1);
+    TrustedIntermediarySearchResult secondPage =
+        service.getManagedAccounts(searchParameters, tiGroup, /* pageSize= */ 1, /* page= */ 2);
+
+    assertThat(firstPage.totalCount()).isEqualTo(2);
+    assertThat(firstPage.accounts()).hasSize(1);
+    assertThat(firstPage.accounts().get(0).getEmailAddress()).isEqualTo("email40");
+    assertThat(secondPage.totalCount()).isEqualTo(2);
+    assertThat(secondPage.accounts()).hasSize(1);
+    assertThat(secondPage.accounts().get(0).getEmailAddress()).isEqualTo("email50");
+  }
+
   @Test
   public void getManagedAccounts_searchByDob() {
     setupTiClientAccountWithApplicant("First", "2022-07-08", "email1", tiGroup);
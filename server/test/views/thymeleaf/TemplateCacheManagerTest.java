@@ -0,0 +1,110 @@
+package views.thymeleaf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.ExpressionCacheKey;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.context.Context;
+
+public class TemplateCacheManagerTest {
+
+  @Test
+  public void expressionCache_cachesUntilCleared() {
+    ICache<ExpressionCacheKey, Object> cache =
+        new TemplateCacheManager(10, 10).getExpressionCache();
+    ExpressionCacheKey key = new ExpressionCacheKey("expr", "${foo}");
+
+    assertThat(cache.get(key)).isNull();
+    cache.put(key, "parsed");
+    assertThat(cache.get(key)).isEqualTo("parsed");
+    assertThat(cache.keySet()).containsExactly(key);
+
+    cache.clear();
+
+    assertThat(cache.get(key)).isNull();
+  }
+
+  @Test
+  public void templateEngine_rendersWithTheCacheManager() {
+    TemplateEngine templateEngine = new TemplateEngine();
+    templateEngine.setCacheManager(new TemplateCacheManager(10, 10));
+    templateEngine.addDialect(new TemplateRenderMetricsDialect());
+
+    String result =
+        templateEngine.process(
+            "<p th:text=\"${name}\"></p>", new Context(Locale.US, Map.of("name", "CiviForm")));
+
+    assertThat(result).isEqualTo("<p>CiviForm</p>");
+  }
+
+  @Test
+  public void expressionCache_updatesEntriesOnEvictionAndClear() {
+    ICache<ExpressionCacheKey, Object> cache = new TemplateCacheManager(10, 1).getExpressionCache();
+
+    cache.put(new ExpressionCacheKey("expr", "${a}"), "a");
+    assertThat(entries("expression")).isEqualTo(1);
+    cache.put(new ExpressionCacheKey("expr", "${b}"), "b");
+    // The cache holds one expression, so one of them is evicted.
+    assertThat(entries("expression")).isEqualTo(1);
+
+    cache.clear();
+    assertThat(entries("expression")).isEqualTo(0);
+
+    ExpressionCacheKey key = new ExpressionCacheKey("expr", "${c}");
+    cache.put(key, "c");
+    assertThat(entries("expression")).isEqualTo(1);
+    cache.clearKey(key);
+    assertThat(entries("expression")).isEqualTo(0);
+  }
+
+  @Test
+  public void expressionCache_countsHitsAndMisses() {
+    ICache<ExpressionCacheKey, Object> cache =
+        new TemplateCacheManager(10, 10).getExpressionCache();
+    ExpressionCacheKey key = new ExpressionCacheKey("expr", "${counted}");
+    double hits = sample("thymeleaf_cache_hits_total", "expression");
+    double misses = sample("thymeleaf_cache_misses_total", "expression");
+
+    cache.get(key);
+    cache.put(key, "parsed");
+    cache.get(key);
+    cache.get(key);
+
+    assertThat(sample("thymeleaf_cache_hits_total", "expression")).isEqualTo(hits + 2);
+    assertThat(sample("thymeleaf_cache_misses_total", "expression")).isEqualTo(misses + 1);
+  }
+
+  @Test
+  public void renderMetricsDialect_recordsRenderTimeByTemplate() {
+    TemplateEngine templateEngine = new TemplateEngine();
+    templateEngine.addDialect(new TemplateRenderMetricsDialect());
+    // Templates processed from a string are named by their content.
+    String template = "<p>Timed</p>";
+
+    templateEngine.process(template, new Context(Locale.US));
+    templateEngine.process(template, new Context(Locale.US));
+
+    assertThat(
+            CollectorRegistry.defaultRegistry.getSampleValue(
+                "thymeleaf_template_render_seconds_count",
+                new String[] {"template"},
+                new String[] {template}))
+        .isEqualTo(2);
+  }
+
+  private static double entries(String cacheName) {
+    return sample("thymeleaf_cache_entries", cacheName);
+  }
+
+  private static double sample(String metricName, String cacheName) {
+    Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            metricName, new String[] {"cache"}, new String[] {cacheName});
+    return value == null ? 0 : value;
+  }
+}
@@ -0,0 +1,56 @@
+package views.thymeleaf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
+
+public class TemplateWarmerTest {
+
+  @Test
+  public void warm_parsesThymeleafTemplatesIntoTheCache() throws IOException {
+    Path viewsDirectory = Files.createTempDirectory("views");
+    Files.writeString(viewsDirectory.resolve("Page.html"), "<p th:text=\"${name}\"></p>");
+    Files.createDirectories(viewsDirectory.resolve("admin"));
+    Files.writeString(viewsDirectory.resolve("admin/Fragment.html"), "<div>Admin</div>");
+    Files.writeString(viewsDirectory.resolve("Twirl.scala.html"), "@()\n<p>Twirl</p>");
+    TemplateCacheManager cacheManager = new TemplateCacheManager(10, 10);
+    TemplateEngine templateEngine = new TemplateEngine();
+    templateEngine.setTemplateResolver(cacheableResolver(viewsDirectory));
+    templateEngine.setCacheManager(cacheManager);
+
+    int templateCount = TemplateWarmer.warm(templateEngine, viewsDirectory);
+
+    assertThat(templateCount).isEqualTo(2);
+    assertThat(cacheManager.getTemplateCache().keySet())
+        .extracting(TemplateCacheKey::getTemplate)
+        .containsExactlyInAnyOrder("Page", "admin/Fragment");
+  }
+
+  @Test
+  public void warm_missingDirectory_parsesNothing() {
+    TemplateCacheManager cacheManager = new TemplateCacheManager(10, 10);
+    TemplateEngine templateEngine = new TemplateEngine();
+    templateEngine.setCacheManager(cacheManager);
+
+    int templateCount = TemplateWarmer.warm(templateEngine, Path.of("/does/not/exist"));
+
+    assertThat(templateCount).isEqualTo(0);
+    assertThat(cacheManager.getTemplateCache().keySet()).isEmpty();
+  }
+
+  private static FileTemplateResolver cacheableResolver(Path viewsDirectory) {
+    FileTemplateResolver resolver = new FileTemplateResolver();
+    resolver.setTemplateMode(TemplateMode.HTML);
+    resolver.setPrefix(viewsDirectory.toAbsolutePath() + "/");
+    resolver.setSuffix(".html");
+    resolver.setCacheable(true);
+    return resolver;
+  }
+}
@@ -123,6 +123,7 @@ public class TrustedIntermediaryClientListViewTest extends WithMockedProfiles {
                 tiGroup,
                 personalInfo,
                 /* managedAccounts= */ ImmutableList.of(tiClientAccount),
+                /* totalClientCount= */ 1,
                 /* totalPageCount= */ 1,
                 /* page= */ 1,
                 SearchParameters.builder().build(),
@@ -145,6 +146,7 @@ public class TrustedIntermediaryClientListViewTest extends WithMockedProfiles {
                 tiGroup,
                 personalInfo,
                 /* managedAccounts= */ ImmutableList.of(tiClientAccount),
+                /* totalClientCount= */ 1,
                 /* totalPageCount= */ 1,
                 /* page= */ 1,
                 SearchParameters.builder().build(),